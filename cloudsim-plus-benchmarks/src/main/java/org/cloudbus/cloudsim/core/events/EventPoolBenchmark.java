@@ -0,0 +1,137 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2018 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core.events;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudsimplus.util.Log;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * A benchmark for the {@link EventPool}, which runs a simulation where
+ * two entities keep sending events to each other.
+ * Each benchmark operation is a sent and processed event.
+ *
+ * <p>Run it through its {@link #main(String[])} method, which enables the GC profiler just for this benchmark,
+ * and check the <b>gc.alloc.rate.norm</b> metric, which shows the bytes allocated per event.
+ * When the pool is enabled, it gets close to zero
+ * (the remaining allocation is from the creation of the simulation itself).
+ * A {@link FutureQueueCalendar} is used since it doesn't create an object for every added event,
+ * as a {@link java.util.TreeSet} does.</p>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class EventPoolBenchmark {
+    private static final int EVENTS = 100_000;
+    private static final int TAG = 1;
+
+    @Param({"false", "true"})
+    private boolean pooled;
+
+    /**
+     * Runs just this benchmark, using the GC profiler
+     * to measure the memory allocated per event.
+     *
+     * @param args command line arguments (ignored)
+     * @throws RunnerException when the benchmark fails
+     */
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(EventPoolBenchmark.class.getSimpleName())
+                .forks(1)
+                .measurementIterations(5)
+                .measurementTime(TimeValue.milliseconds(100))
+                .threads(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void doSetup() {
+        Log.setLevel(Level.WARN);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public double testSendEvents() {
+        final CloudSim simulation = new CloudSim(new FutureQueueCalendar());
+        if(pooled) {
+            simulation.setEventPool(new EventPoolSimple());
+        }
+
+        final PingEntity entity1 = new PingEntity(simulation);
+        final PingEntity entity2 = new PingEntity(simulation);
+        entity1.peer = entity2;
+        entity2.peer = entity1;
+        entity1.initiator = true;
+        return simulation.start();
+    }
+
+    /**
+     * An entity that sends an event back to its peer
+     * every time it receives one, until {@link #EVENTS} are sent.
+     */
+    private static final class PingEntity extends CloudSimEntity {
+        private PingEntity peer;
+        private boolean initiator;
+        private int sentEvents;
+
+        private PingEntity(final Simulation simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startEntity() {
+            if(initiator) {
+                send(peer, 1, TAG);
+            }
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if(evt.getTag() == TAG && sentEvents++ < EVENTS/2) {
+                send(peer, 1, TAG);
+            }
+        }
+    }
+}
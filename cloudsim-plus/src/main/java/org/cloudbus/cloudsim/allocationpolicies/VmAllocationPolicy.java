@@ -8,10 +8,13 @@
 package org.cloudbus.cloudsim.allocationpolicies;
 
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.datacenters.HostCapacityIndex;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,7 +35,7 @@ import java.util.function.BiFunction;
  * @since CloudSim Plus 1.0
  * @see #setFindHostForVmFunction(BiFunction)
  */
-public interface VmAllocationPolicy {
+public interface VmAllocationPolicy extends Serializable {
     /**
      * Default minimum number of Hosts to start using parallel search.
      * @see #setHostCountForParallelSearch(int)
@@ -74,6 +77,18 @@ public interface VmAllocationPolicy {
      */
     boolean allocateHostForVm(Vm vm, Host host);
 
+    /**
+     * Allocates Hosts for a batch of VMs at once,
+     * enabling implementing classes to decide the placement of each VM
+     * knowing all the VMs that have to be placed.
+     *
+     * @param vmList the list of VMs to allocate Hosts to
+     * @param <T> the class of VMs in the list
+     * @return the list of VMs which couldn't be placed (which is empty if all VMs were placed)
+     * @see VmAllocationPolicyFirstFitDecreasing
+     */
+    <T extends Vm> List<T> allocateHostsForVms(List<T> vmList);
+
     /**
      * Try to scale some Vm's resource vertically up or down, respectively if:
      * <ul>
@@ -162,4 +177,22 @@ public interface VmAllocationPolicy {
      */
     void setHostCountForParallelSearch(int hostCountForParallelSearch);
 
+    /**
+     * Gets the index of Hosts by their capacity, which enables the policy
+     * to find a Host for a VM without going through all Hosts.
+     * The index is maintained by the {@link Datacenter} using the policy.
+     *
+     * @return the index or {@link HostCapacityIndex#NULL} if the Datacenter doesn't maintain one
+     * @see DatacenterSimple#setHostCapacityIndexEnabled(boolean)
+     */
+    HostCapacityIndex getHostCapacityIndex();
+
+    /**
+     * Sets the index of Hosts by their capacity.
+     * It's called by the {@link Datacenter} using the policy, which keeps the index up to date.
+     *
+     * @param hostCapacityIndex the index to set or {@link HostCapacityIndex#NULL} to not use an index
+     */
+    void setHostCapacityIndex(HostCapacityIndex hostCapacityIndex);
+
 }
@@ -9,6 +9,7 @@ package org.cloudbus.cloudsim.allocationpolicies;
 
 import org.cloudbus.cloudsim.allocationpolicies.migration.VmAllocationPolicyMigrationAbstract;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.HostCapacityIndex;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
 import org.cloudbus.cloudsim.resources.Pe;
@@ -19,6 +20,7 @@ import org.cloudsimplus.autoscaling.VerticalVmScaling;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +46,8 @@ import static java.util.stream.Collectors.toList;
  * @since CloudSim Toolkit 1.0
  */
 public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(VmAllocationPolicyAbstract.class.getSimpleName());
 
     /**
@@ -62,6 +66,9 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
     /**@see #getHostCountForParallelSearch() */
     private int hostCountForParallelSearch;
 
+    /** @see #getHostCapacityIndex() */
+    private HostCapacityIndex hostCapacityIndex;
+
     /**
      * Creates a VmAllocationPolicy.
      */
@@ -79,6 +86,7 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
         setDatacenter(Datacenter.NULL);
         setFindHostForVmFunction(findHostForVmFunction);
         this.hostCountForParallelSearch = DEF_HOST_COUNT_FOR_PARALLEL_SEARCH;
+        this.hostCapacityIndex = HostCapacityIndex.NULL;
     }
 
     @Override
@@ -305,6 +313,26 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * The VMs are placed one by one, in the order of the given list.
+     *
+     * @param vmList {@inheritDoc}
+     * @param <T> {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public <T extends Vm> List<T> allocateHostsForVms(final List<T> vmList) {
+        final List<T> failedVms = new ArrayList<>();
+        for (final T vm : vmList) {
+            if (!allocateHostForVm(vm)) {
+                failedVms.add(vm);
+            }
+        }
+
+        return failedVms;
+    }
+
     @Override
     public void deallocateHostForVm(final Vm vm) {
         vm.getHost().destroyVm(vm);
@@ -366,5 +394,15 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
     public void setHostCountForParallelSearch(final int hostCountForParallelSearch) {
         this.hostCountForParallelSearch = hostCountForParallelSearch;
     }
+
+    @Override
+    public HostCapacityIndex getHostCapacityIndex() {
+        return hostCapacityIndex;
+    }
+
+    @Override
+    public void setHostCapacityIndex(final HostCapacityIndex hostCapacityIndex) {
+        this.hostCapacityIndex = requireNonNull(hostCapacityIndex);
+    }
 }
 
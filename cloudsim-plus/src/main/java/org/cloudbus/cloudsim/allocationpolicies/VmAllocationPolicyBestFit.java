@@ -23,6 +23,7 @@
  */
 package org.cloudbus.cloudsim.allocationpolicies;
 
+import org.cloudbus.cloudsim.datacenters.HostCapacityIndex;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
@@ -50,6 +51,8 @@ import java.util.stream.Stream;
  * @see VmAllocationPolicyFirstFit
  */
 public class VmAllocationPolicyBestFit extends VmAllocationPolicyAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Instantiates a VmAllocationPolicyBestFit.
      */
@@ -71,10 +74,16 @@ public class VmAllocationPolicyBestFit extends VmAllocationPolicyAbstract {
     /**
      * Gets the first suitable host from the {@link #getHostList()}
      * that has the most number of PEs in use (i.e. the least number of free PEs).
+     * If the Datacenter maintains a {@link #getHostCapacityIndex() Host capacity index},
+     * the Host is found using it, instead of going through all Hosts.
      * @return an {@link Optional} containing a suitable Host to place the VM or an empty {@link Optional} if not found
      */
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
+        if(getHostCapacityIndex() != HostCapacityIndex.NULL) {
+            return getHostCapacityIndex().findBestFit(vm);
+        }
+
         /* Since it's being used the min operation, the active comparator must be reversed so that
          * we get active hosts with minimum number of free PEs. */
         final Comparator<Host> activeComparator = Comparator.comparing(Host::isActive).reversed();
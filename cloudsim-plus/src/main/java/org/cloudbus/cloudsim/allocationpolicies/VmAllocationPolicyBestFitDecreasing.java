@@ -0,0 +1,96 @@
+package org.cloudbus.cloudsim.allocationpolicies;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A <b>Best Fit Decreasing (BFD)</b> VmAllocationPolicy which, when
+ * {@link #allocateHostsForVms(List) a batch of VMs} is placed,
+ * sorts the VMs by decreasing size (as defined in {@link VmAllocationPolicyFirstFitDecreasing})
+ * and then places each one into the suitable Host that will have the least
+ * remaining capacity after the VM is placed.
+ *
+ * <p>The remaining capacity of a Host is the sum of its available MIPS, RAM, BW and storage,
+ * each one normalized by the largest capacity of such a resource among all Hosts.
+ * If multiple Hosts have the same remaining capacity, the first one in the
+ * {@link #getHostList() Host list} is selected.</p>
+ *
+ * <p>Since all Hosts are checked to place each VM, the complexity
+ * to allocate a Host for a VM is O(N), where N is the number of Hosts.
+ * The largest capacity of each resource is computed just once for an entire batch of VMs
+ * and the remaining capacity of each Host is computed just once for each VM.</p>
+ *
+ * <p><b>NOTE: This policy doesn't perform optimization of VM allocation by means of VM migration.</b></p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public class VmAllocationPolicyBestFitDecreasing extends VmAllocationPolicyFirstFitDecreasing {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Instantiates a VmAllocationPolicyBestFitDecreasing.
+     */
+    public VmAllocationPolicyBestFitDecreasing() {
+        super();
+    }
+
+    /**
+     * Instantiates a VmAllocationPolicyBestFitDecreasing, changing the {@link Function} to select a Host for a Vm.
+     * VMs in a batch are still sorted by decreasing size before being placed.
+     *
+     * @param findHostForVmFunction a {@link Function} to select a Host for a given Vm.
+     * @see VmAllocationPolicy#setFindHostForVmFunction(BiFunction)
+     */
+    public VmAllocationPolicyBestFitDecreasing(final BiFunction<VmAllocationPolicy, Vm, Optional<Host>> findHostForVmFunction) {
+        super(findHostForVmFunction);
+    }
+
+    /**
+     * Gets the suitable Host from the {@link #getHostList()} that will have the least
+     * remaining capacity after placing the VM.
+     * Since the VM demand is the same for every Host,
+     * that is the Host with the least available capacity.
+     *
+     * @return an {@link Optional} containing a suitable Host to place the VM or an empty {@link Optional} if not found
+     */
+    @Override
+    protected Optional<Host> defaultFindHostForVm(final Vm vm) {
+        final double[] maxCapacity = getMaxHostCapacity();
+        final Stream<Host> stream = isParallelHostSearchEnabled() ? getHostList().stream().parallel() : getHostList().stream();
+        return stream
+                .filter(host -> host.isSuitableForVm(vm))
+                .map(host -> new HostSize(host, getNormalizedSize(getAvailableResources(host), maxCapacity)))
+                .min(Comparator.comparingDouble(HostSize::getSize))
+                .map(HostSize::getHost);
+    }
+
+    /**
+     * A Host and its normalized available capacity,
+     * so that the capacity is computed just once when selecting a Host.
+     */
+    private static final class HostSize {
+        private final Host host;
+        private final double size;
+
+        private HostSize(final Host host, final double size) {
+            this.host = host;
+            this.size = size;
+        }
+
+        private Host getHost() {
+            return host;
+        }
+
+        private double getSize() {
+            return size;
+        }
+    }
+}
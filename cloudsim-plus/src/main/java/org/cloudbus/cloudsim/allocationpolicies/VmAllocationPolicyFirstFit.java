@@ -26,6 +26,8 @@ import java.util.Optional;
  * @since CloudSim Plus 1.0.0
  */
 public class VmAllocationPolicyFirstFit extends VmAllocationPolicyAbstract implements VmAllocationPolicy {
+    private static final long serialVersionUID = 1L;
+
     /**
      * The index of the last host used to place a VM.
      */
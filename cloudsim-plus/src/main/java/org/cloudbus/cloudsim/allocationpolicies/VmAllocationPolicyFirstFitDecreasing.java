@@ -0,0 +1,175 @@
+package org.cloudbus.cloudsim.allocationpolicies;
+
+import org.cloudbus.cloudsim.core.Machine;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A <b>First Fit Decreasing (FFD)</b> VmAllocationPolicy which, when
+ * {@link #allocateHostsForVms(List) a batch of VMs} is placed,
+ * sorts the VMs by decreasing size and then places each one into the first Host
+ * in the {@link #getHostList() Host list} that is suitable for it.
+ *
+ * <p>VMs are multi-dimensional items, requiring MIPS, RAM, BW and storage.
+ * The size of a VM is the sum of its demand for each resource,
+ * normalized by the largest capacity of such a resource among all Hosts.
+ * This way, no resource dominates the size just because it's measured in larger units.
+ * Placing larger VMs first leaves smaller ones to fill the gaps,
+ * usually packing VMs into fewer Hosts than placing them in the order they were submitted.</p>
+ *
+ * <p>When a single VM is placed, it's just allocated to the first suitable Host.</p>
+ *
+ * <p><b>NOTE: This policy doesn't perform optimization of VM allocation by means of VM migration.</b></p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see VmAllocationPolicyBestFitDecreasing
+ * @see org.cloudbus.cloudsim.brokers.DatacenterBroker#setBatchVmCreationEnabled(boolean)
+ */
+public class VmAllocationPolicyFirstFitDecreasing extends VmAllocationPolicyAbstract {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of resources (dimensions) considered to compute the size of VMs and Hosts.
+     */
+    private static final int RESOURCES = 4;
+
+    /**
+     * The largest capacity of each resource among all Hosts,
+     * computed once when {@link #allocateHostsForVms(List) a batch of VMs} starts to be placed
+     * and used to place all VMs in the batch. It's null when no batch is being placed.
+     * @see #getMaxHostCapacity()
+     */
+    private transient double[] batchMaxHostCapacity;
+
+    /**
+     * Instantiates a VmAllocationPolicyFirstFitDecreasing.
+     */
+    public VmAllocationPolicyFirstFitDecreasing() {
+        super();
+    }
+
+    /**
+     * Instantiates a VmAllocationPolicyFirstFitDecreasing, changing the {@link Function} to select a Host for a Vm.
+     * VMs in a batch are still sorted by decreasing size before being placed.
+     *
+     * @param findHostForVmFunction a {@link Function} to select a Host for a given Vm.
+     * @see VmAllocationPolicy#setFindHostForVmFunction(BiFunction)
+     */
+    public VmAllocationPolicyFirstFitDecreasing(final BiFunction<VmAllocationPolicy, Vm, Optional<Host>> findHostForVmFunction) {
+        super(findHostForVmFunction);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The VMs are placed by decreasing size.
+     *
+     * @param vmList {@inheritDoc}
+     * @param <T> {@inheritDoc}
+     * @return the list of VMs which couldn't be placed, sorted by decreasing size
+     */
+    @Override
+    public <T extends Vm> List<T> allocateHostsForVms(final List<T> vmList) {
+        final double[] maxCapacity = getMaxHostCapacity();
+        final List<T> sortedList = new ArrayList<>(vmList);
+        sortedList.sort(Comparator.comparingDouble((T vm) -> getNormalizedSize(getResources(vm), maxCapacity)).reversed());
+
+        batchMaxHostCapacity = maxCapacity;
+        try {
+            return super.allocateHostsForVms(sortedList);
+        } finally {
+            batchMaxHostCapacity = null;
+        }
+    }
+
+    /**
+     * Gets the first Host from the {@link #getHostList()} which is suitable for the VM.
+     * @return an {@link Optional} containing a suitable Host to place the VM or an empty {@link Optional} if not found
+     */
+    @Override
+    protected Optional<Host> defaultFindHostForVm(final Vm vm) {
+        for (final Host host : getHostList()) {
+            if (host.isSuitableForVm(vm)) {
+                return Optional.of(host);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the largest capacity of each resource among all Hosts,
+     * in the same order returned by {@link #getResources(Machine)}.
+     * While {@link #allocateHostsForVms(List) a batch of VMs} is placed,
+     * the capacities computed when the batch started are returned,
+     * instead of going through all Hosts for every VM.
+     * @return
+     */
+    protected final double[] getMaxHostCapacity() {
+        if(batchMaxHostCapacity != null) {
+            return batchMaxHostCapacity;
+        }
+
+        final double[] maxCapacity = new double[RESOURCES];
+        for (final Host host : getHostList()) {
+            final double[] capacity = getResources(host);
+            for (int i = 0; i < RESOURCES; i++) {
+                maxCapacity[i] = Math.max(maxCapacity[i], capacity[i]);
+            }
+        }
+
+        return maxCapacity;
+    }
+
+    /**
+     * Gets the capacity of the MIPS, RAM, BW and storage of a machine.
+     * @param machine the Host or VM to get its resources
+     * @return
+     */
+    protected final double[] getResources(final Machine machine) {
+        return new double[]{
+            machine.getTotalMipsCapacity(),
+            machine.getRam().getCapacity(),
+            machine.getBw().getCapacity(),
+            machine.getStorage().getCapacity()
+        };
+    }
+
+    /**
+     * Gets the amount of MIPS, RAM, BW and storage currently available at a Host.
+     * @param host the Host to get its available resources
+     * @return
+     */
+    protected final double[] getAvailableResources(final Host host) {
+        return new double[]{
+            host.getAvailableMips(),
+            host.getRam().getAvailableResource(),
+            host.getBw().getAvailableResource(),
+            host.getStorage().getAvailableResource()
+        };
+    }
+
+    /**
+     * Sums the amount of each resource, normalized by its largest capacity among all Hosts.
+     * @param resources the amount of each resource
+     * @param maxCapacity the largest capacity of each resource
+     * @return the normalized size, which ranges from 0 to the number of resources
+     */
+    protected final double getNormalizedSize(final double[] resources, final double[] maxCapacity) {
+        double size = 0;
+        for (int i = 0; i < RESOURCES; i++) {
+            if(maxCapacity[i] > 0) {
+                size += resources[i] / maxCapacity[i];
+            }
+        }
+
+        return size;
+    }
+}
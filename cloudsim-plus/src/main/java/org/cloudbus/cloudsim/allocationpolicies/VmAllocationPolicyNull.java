@@ -1,10 +1,12 @@
 package org.cloudbus.cloudsim.allocationpolicies;
 
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.HostCapacityIndex;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +21,8 @@ import java.util.function.BiFunction;
  * @see VmAllocationPolicy#NULL
  */
 final class VmAllocationPolicyNull implements VmAllocationPolicy {
+    private static final long serialVersionUID = 1L;
+
     @Override public Datacenter getDatacenter() {
         return Datacenter.NULL;
     }
@@ -32,12 +36,15 @@ final class VmAllocationPolicyNull implements VmAllocationPolicy {
     @Override public boolean allocateHostForVm(Vm vm, Host host) {
         return false;
     }
+    @Override public <T extends Vm> List<T> allocateHostsForVms(List<T> vmList) { return new ArrayList<>(vmList); }
     @Override public void deallocateHostForVm(Vm vm) {/**/}
     @Override public List<Host> getHostList() { return Collections.emptyList(); }
     @Override public Map<Vm, Host> getOptimizedAllocationMap(List<? extends Vm> vmList) { return Collections.emptyMap(); }
     @Override public Optional<Host> findHostForVm(Vm vm) { return Optional.empty(); }
     @Override public int getHostCountForParallelSearch() { return 0; }
     @Override public void setHostCountForParallelSearch(int hostCountForParallelSearch) {/**/}
+    @Override public HostCapacityIndex getHostCapacityIndex() { return HostCapacityIndex.NULL; }
+    @Override public void setHostCapacityIndex(HostCapacityIndex hostCapacityIndex) {/**/}
 
     @Override public void setFindHostForVmFunction(BiFunction<VmAllocationPolicy, Vm, Optional<Host>> findHostForVmFunction) {/**/}
 }
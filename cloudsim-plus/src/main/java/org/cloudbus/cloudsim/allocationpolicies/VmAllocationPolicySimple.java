@@ -7,6 +7,7 @@
  */
 package org.cloudbus.cloudsim.allocationpolicies;
 
+import org.cloudbus.cloudsim.datacenters.HostCapacityIndex;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
@@ -35,6 +36,8 @@ import java.util.stream.Stream;
  * @see VmAllocationPolicyFirstFit
  */
 public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Instantiates a VmAllocationPolicySimple.
      */
@@ -55,10 +58,16 @@ public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
 
     /**
      * Gets the first suitable host from the {@link #getHostList()} that has the fewest number of used PEs (i.e, higher free PEs).
+     * If the Datacenter maintains a {@link #getHostCapacityIndex() Host capacity index},
+     * the Host is found using it, instead of going through all Hosts.
      * @return an {@link Optional} containing a suitable Host to place the VM or an empty {@link Optional} if not found
      */
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
+        if(getHostCapacityIndex() != HostCapacityIndex.NULL) {
+            return getHostCapacityIndex().findWorstFit(vm);
+        }
+
         final Comparator<Host> comparator = Comparator.comparing(Host::isActive)
                                                       .thenComparingLong(Host::getFreePesNumber);
 
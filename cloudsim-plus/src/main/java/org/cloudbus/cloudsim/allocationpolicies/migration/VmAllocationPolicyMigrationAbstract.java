@@ -51,6 +51,8 @@ import static java.util.stream.Collectors.toSet;
  * @since CloudSim Toolkit 3.0
  */
 public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPolicyAbstract implements VmAllocationPolicyMigration {
+    private static final long serialVersionUID = 1L;
+
     public static final double DEF_UNDER_UTILIZATION_THRESHOLD = 0.35;
     private static final Logger LOGGER = LoggerFactory.getLogger(VmAllocationPolicyMigrationAbstract.class.getSimpleName());
 
@@ -61,9 +63,11 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     private VmSelectionPolicy vmSelectionPolicy;
 
     /**
-     * A map between a VM and the host where it is placed.
+     * Since the model is empty out of the planning of VM migrations,
+     * it isn't serialized and it's just created again when needed.
+     * @see #getPlacementModel()
      */
-    private final Map<Vm, Host> savedAllocation;
+    private transient VmPlacementModel placementModel;
 
     /**
      * Creates a VmAllocationPolicy.
@@ -91,7 +95,6 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     {
         super(findHostForVmFunction);
         this.underUtilizationThreshold = DEF_UNDER_UTILIZATION_THRESHOLD;
-        this.savedAllocation = new HashMap<>();
         setVmSelectionPolicy(vmSelectionPolicy);
     }
 
@@ -100,12 +103,39 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
         //@TODO See https://github.com/manoelcampos/cloudsim-plus/issues/94
         final Set<Host> overloadedHosts = getOverloadedHosts();
         printOverUtilizedHosts(overloadedHosts);
-        saveAllocation();
 
-        final Map<Vm, Host> migrationMap = getMigrationMapFromOverloadedHosts(overloadedHosts);
-        updateMigrationMapFromUnderloadedHosts(overloadedHosts, migrationMap);
-        restoreAllocation();
-        return migrationMap;
+        /* The new placement is planned in a new model, discarded at the end,
+         * so that Hosts are just changed when the returned migrations are performed. */
+        setPlacementModel(new VmPlacementModel());
+        try {
+            final Map<Vm, Host> migrationMap = getMigrationMapFromOverloadedHosts(overloadedHosts);
+            updateMigrationMapFromUnderloadedHosts(overloadedHosts, migrationMap);
+            return migrationMap;
+        } finally {
+            setPlacementModel(new VmPlacementModel());
+        }
+    }
+
+    /**
+     * Gets the model where the placement of VMs is changed while planning VM migrations.
+     * Out of such a planning, the model reflects the current placement of VMs.
+     *
+     * @return
+     */
+    protected VmPlacementModel getPlacementModel() {
+        if(placementModel == null) {
+            placementModel = new VmPlacementModel();
+        }
+
+        return placementModel;
+    }
+
+    /**
+     * Sets the model where the placement of VMs is changed while planning VM migrations.
+     * @param placementModel the model to set
+     */
+    protected void setPlacementModel(final VmPlacementModel placementModel) {
+        this.placementModel = Objects.requireNonNull(placementModel);
     }
 
     /**
@@ -125,9 +155,9 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
 
         /*
         During the computation of the new placement for VMs
-        the current VM placement is changed temporarily, before the actual migration of VMs.
+        the VM placement is changed in the placement model, before the actual migration of VMs.
         If VMs are being migrated from overloaded Hosts, they in fact already were removed
-        from such Hosts and moved to destination ones.
+        from such Hosts and moved to destination ones in the model.
         The target Host that maybe were shut down, might become underloaded too.
         This way, such Hosts are added to be ignored when
         looking for underloaded Hosts.
@@ -214,7 +244,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     protected double getPowerDifferenceAfterAllocation(final Host host, final Vm vm){
         final double powerAfterAllocation = getPowerAfterAllocation(host, vm);
         if (powerAfterAllocation > 0) {
-            return powerAfterAllocation - host.getPowerModel().getPower();
+            return powerAfterAllocation - host.getPowerModel().getPower(Math.min(1, getPlacementModel().getUtilizationOfCpu(host)));
         }
 
         return 0;
@@ -229,26 +259,21 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      *         false otherwise
      */
     private boolean isNotHostOverloadedAfterAllocation(final Host host, final Vm vm) {
-        if (!host.createTemporaryVm(vm)) {
-            return false;
-        }
-
-        final double usagePercent = getHostCpuPercentRequested(host);
-        final boolean notOverloadedAfterAllocation = !isHostOverloaded(host, usagePercent);
-        host.destroyTemporaryVm(vm);
-        return notOverloadedAfterAllocation;
+        final double usagePercent = (getHostTotalRequestedMips(host) + vm.getCurrentRequestedTotalMips()) / host.getTotalMipsCapacity();
+        return !isHostOverloaded(host, usagePercent);
     }
 
     /**
      * {@inheritDoc}
-     * It's based on current CPU usage.
+     * It's based on current CPU usage, considering the VMs placed into the Host
+     * in the {@link #getPlacementModel() placement model}.
      *
      * @param host {@inheritDoc}
      * @return {@inheritDoc}
      */
     @Override
     public boolean isHostOverloaded(final Host host) {
-        return isHostOverloaded(host, host.getUtilizationOfCpu());
+        return isHostOverloaded(host, getPlacementModel().getUtilizationOfCpu(host));
     }
 
     /**
@@ -257,11 +282,8 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      * @param cpuUsagePercent the Host's CPU utilization percent. The values may be:
      *                        <ul>
      *                          <li>the current CPU utilization if you want to check if the Host is overloaded right now;</li>
-     *                          <li>the requested CPU utilization after temporarily placing a VM into the Host
+     *                          <li>the requested CPU utilization after supposedly placing a VM into the Host
      *                          just to check if it supports that VM without being overloaded.
-     *                          In this case, if the Host doesn't support the already placed temporary VM,
-     *                          the method will return true to indicate the Host will be overloaded
-     *                          if the VM is actually placed into it.
      *                          </li>
      *                        </ul>
      * @return true if the Host is overloaded, false otherwise
@@ -325,7 +347,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     private Optional<Host> findHostForVm(final Vm vm, final Set<? extends Host> excludedHosts, final Predicate<Host> predicate) {
         final Stream<Host> stream = this.getHostList().stream()
             .filter(host -> !excludedHosts.contains(host))
-            .filter(host -> host.isSuitableForVm(vm))
+            .filter(host -> getPlacementModel().isSuitableForVm(host, vm))
             .filter(host -> isNotHostOverloadedAfterAllocation(host, vm))
             .filter(predicate);
 
@@ -436,6 +458,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
                 LOGGER.warn(
                     "A new Host, which isn't also underloaded or won't be overloaded, couldn't be found to migrate {}{}.Migration of VMs from the underloaded {} cancelled.",
                     vm, System.lineSeparator(), vm.getHost());
+                migrationMap.forEach((migratingVm, targetHost) -> getPlacementModel().removeVm(targetHost, migratingVm));
                 return new HashMap<>();
             }
             addVmToMigrationMap(migrationMap, vm, optional.get());
@@ -457,13 +480,13 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
 
     private <T extends Host> void addVmToMigrationMap(final Map<Vm, T> migrationMap, final Vm vm, final T targetHost) {
         /*
-        Temporarily creates the VM into the target Host so that
+        Places the VM into the target Host in the placement model so that
         when the next VM is got to be migrated, if the same Host
         is selected as destination, the resource to be
         used by the previous VM will be considered when
         assessing the suitability of such a Host for the next VM.
          */
-        targetHost.createTemporaryVm(vm);
+        getPlacementModel().addVm(targetHost, vm);
         migrationMap.put(vm, targetHost);
     }
 
@@ -485,14 +508,14 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     private List<Vm> getVmsToMigrateFromOverloadedHost(final Host host) {
         final List<Vm> vmsToMigrate = new LinkedList<>();
         while (true) {
-            final Vm vm = getVmSelectionPolicy().getVmToMigrate(host);
+            final Vm vm = getVmSelectionPolicy().getVmToMigrate(host, getPlacementModel().getMigratableVms(host));
             if (Vm.NULL == vm) {
                 break;
             }
             vmsToMigrate.add(vm);
-            /*Temporarily destroys the selected VM into the overloaded Host so that
+            /*Removes the selected VM from the overloaded Host in the placement model so that
             the loop gets VMs from such a Host until it is not overloaded anymore.*/
-            host.destroyTemporaryVm(vm);
+            getPlacementModel().removeVm(host, vm);
             if (!isHostOverloaded(host)) {
                 break;
             }
@@ -508,7 +531,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      * @return the vms to migrate from under utilized host
      */
     protected List<? extends Vm> getVmsToMigrateFromUnderUtilizedHost(final Host host) {
-        return host.getMigratableVms();
+        return getPlacementModel().getMigratableVms(host);
     }
 
     /**
@@ -562,7 +585,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
             .filter(this::isHostUnderloaded)
             .filter(host -> host.getVmsMigratingIn().isEmpty())
             .filter(this::notAllVmsAreMigratingOut)
-            .min(comparingDouble(Host::getUtilizationOfCpu))
+            .min(comparingDouble(getPlacementModel()::getUtilizationOfCpu))
             .orElse(Host.NULL);
     }
 
@@ -576,7 +599,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      * @return
      */
     private double getHostTotalRequestedMips(final Host host) {
-        return host.getVmList().stream()
+        return getPlacementModel().getVmList(host).stream()
             .mapToDouble(Vm::getCurrentRequestedTotalMips)
             .sum();
     }
@@ -590,43 +613,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      * @return true if at least one VM isn't migrating, false if all VMs are migrating
      */
     protected boolean notAllVmsAreMigratingOut(final Host host) {
-        return host.getVmList().stream().anyMatch(vm -> !vm.isInMigration());
-    }
-
-    /**
-     * Saves the current map between a VM and the host where it is placed.
-     *
-     * @see #savedAllocation
-     */
-    private void saveAllocation() {
-        savedAllocation.clear();
-        for (final Host host : getHostList()) {
-            for (final Vm vm : host.getVmList()) {
-                if (!host.getVmsMigratingIn().contains(vm)) {
-                    savedAllocation.put(vm, host);
-                }
-            }
-        }
-    }
-
-    /**
-     * Restore VM allocation from the allocation history.
-     *
-     * @see #savedAllocation
-     */
-    private void restoreAllocation() {
-        for (final Host host : getHostList()) {
-            host.destroyAllVms();
-            host.reallocateMigratingInVms();
-        }
-
-        for (final Vm vm : savedAllocation.keySet()) {
-            final Host host = savedAllocation.get(vm);
-            if (!host.createTemporaryVm(vm)) {
-                LOGGER.error("Couldn't restore {} on {}", vm, host);
-                return;
-            }
-        }
+        return getPlacementModel().getVmList(host).stream().anyMatch(vm -> !vm.isInMigration());
     }
 
     /**
@@ -667,7 +654,8 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
 
     /**
      * Gets the utilization of the CPU in MIPS for the current potentially
-     * allocated VMs.
+     * allocated VMs, including the ones placed into the Host in the {@link #getPlacementModel() placement model}.
+     * Since these VMs aren't actually placed into the Host, the MIPS they request are considered.
      *
      * @param host the host
      *
@@ -675,7 +663,12 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      */
     protected double getUtilizationOfCpuMips(final Host host) {
         double hostUtilizationMips = 0;
-        for (final Vm vm : host.getVmList()) {
+        for (final Vm vm : getPlacementModel().getVmList(host)) {
+            if(getPlacementModel().isVmAdded(host, vm)) {
+                hostUtilizationMips += vm.getCurrentRequestedTotalMips();
+                continue;
+            }
+
             final double additionalMips = additionalCpuUtilizationDuringMigration(host, vm);
             hostUtilizationMips += additionalMips + host.getTotalAllocatedMipsForVm(vm);
         }
@@ -724,12 +717,12 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     }
 
     /**
-     * Gets all CPU utilization values from the {@link Host#getUtilizationHistorySum()}
+     * Gets all CPU utilization values from the {@link Host#getUtilizationHistorySumValues()}
      * as an array.
      * @param host the Host to get the CPU utilization values
      * @return the utilization values array
      */
     protected double[] getHostCpuUsageArray(final Host host) {
-        return host.getUtilizationHistorySum().values().stream().mapToDouble(cpuUsage -> cpuUsage).toArray();
+        return host.getUtilizationHistorySumValues();
     }
 }
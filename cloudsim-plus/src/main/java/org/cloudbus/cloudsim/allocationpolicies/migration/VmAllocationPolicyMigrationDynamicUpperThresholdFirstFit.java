@@ -16,6 +16,7 @@ import java.util.Objects;
  */
 public abstract class VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit extends VmAllocationPolicyMigrationAbstract
     implements VmAllocationPolicyMigrationDynamicUpperThreshold {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getSafetyParameter()
@@ -27,6 +28,11 @@ public abstract class VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit e
      */
     private VmAllocationPolicyMigration fallbackVmAllocationPolicy;
 
+    /**
+     * @see #isStreamingStatistics()
+     */
+    private boolean streamingStatistics;
+
     /**
      * Creates a VmAllocationPolicyMigrationDynamicUpperThreshold
      * with a {@link #getSafetyParameter() safety parameter} equals to 0
@@ -118,4 +124,47 @@ public abstract class VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit e
     public VmAllocationPolicyMigration getFallbackVmAllocationPolicy() {
         return fallbackVmAllocationPolicy;
     }
+
+    /**
+     * {@inheritDoc}
+     * The model is also set to the {@link #getFallbackVmAllocationPolicy() fallback policy},
+     * so that it checks if a Host is overloaded considering the VMs planned to be migrated.
+     *
+     * @param placementModel {@inheritDoc}
+     */
+    @Override
+    protected void setPlacementModel(final VmPlacementModel placementModel) {
+        super.setPlacementModel(placementModel);
+        if(fallbackVmAllocationPolicy instanceof VmAllocationPolicyMigrationAbstract) {
+            ((VmAllocationPolicyMigrationAbstract) fallbackVmAllocationPolicy).setPlacementModel(placementModel);
+        }
+    }
+
+    /**
+     * Checks if the statistics of the Host CPU utilization history
+     * (used to compute the over utilization threshold) are read from
+     * the {@link org.cloudbus.cloudsim.util.TimeSeries#getStatistics() streaming statistics}
+     * of the {@link Host#getUtilizationHistorySumSeries()},
+     * which are updated incrementally as the history changes.
+     * Otherwise, they are computed from the entire history every time the threshold is requested.
+     *
+     * <p>Both ways give the same results, but the streaming statistics avoid copying and sorting
+     * the Host history for every Host at every scheduling interval.</p>
+     *
+     * @return true if streaming statistics are used, false otherwise (the default)
+     */
+    public boolean isStreamingStatistics() {
+        return streamingStatistics;
+    }
+
+    /**
+     * Defines if the statistics of the Host CPU utilization history
+     * are read from incrementally updated streaming statistics.
+     *
+     * @param streamingStatistics true to use streaming statistics, false to compute them from the entire history
+     * @see #isStreamingStatistics()
+     */
+    public void setStreamingStatistics(final boolean streamingStatistics) {
+        this.streamingStatistics = streamingStatistics;
+    }
 }
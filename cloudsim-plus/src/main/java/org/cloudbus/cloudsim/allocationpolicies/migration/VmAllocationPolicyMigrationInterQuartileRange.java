@@ -11,6 +11,7 @@ package org.cloudbus.cloudsim.allocationpolicies.migration;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.selectionpolicies.VmSelectionPolicy;
 import org.cloudbus.cloudsim.util.MathUtil;
+import org.cloudbus.cloudsim.util.TimeSeries;
 
 /**
  * A VM allocation policy that uses <a href="https://en.wikipedia.org/wiki/Interquartile_range">Inter Quartile Range (IQR)</a> to compute
@@ -31,6 +32,8 @@ import org.cloudbus.cloudsim.util.MathUtil;
  * @since CloudSim Toolkit 3.0
  */
 public class VmAllocationPolicyMigrationInterQuartileRange extends VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit {
+    private static final long serialVersionUID = 1L;
+
     /**
      * The minimum number of history entries required to compute
      * the Inter Quartile Range (IQR).
@@ -74,9 +77,16 @@ public class VmAllocationPolicyMigrationInterQuartileRange extends VmAllocationP
      */
     @Override
     public double computeHostUtilizationMeasure(final Host host) throws IllegalStateException {
-        final double[] cpuUsageArray = getHostCpuUsageArray(host);
-        if (MathUtil.countNonZeroBeginning(cpuUsageArray) >= MIN_HISTORY_ENTRIES_FOR_IRQ) {
-            return MathUtil.iqr(cpuUsageArray);
+        if (isStreamingStatistics()) {
+            final TimeSeries history = host.getUtilizationHistorySumSeries();
+            if (history.countUntilLastNonZero() >= MIN_HISTORY_ENTRIES_FOR_IRQ) {
+                return history.getStatistics().getIqr();
+            }
+        } else {
+            final double[] cpuUsageArray = getHostCpuUsageArray(host);
+            if (MathUtil.countNonZeroBeginning(cpuUsageArray) >= MIN_HISTORY_ENTRIES_FOR_IRQ) {
+                return MathUtil.iqr(cpuUsageArray);
+            }
         }
 
         throw new IllegalStateException("There is not enough Host history to compute Host utilization IRQ");
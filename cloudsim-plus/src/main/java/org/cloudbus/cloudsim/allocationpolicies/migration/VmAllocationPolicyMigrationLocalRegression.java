@@ -12,12 +12,9 @@ import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.Resource;
 import org.cloudbus.cloudsim.selectionpolicies.VmSelectionPolicy;
 import org.cloudbus.cloudsim.util.MathUtil;
+import org.cloudbus.cloudsim.util.StreamingLinearRegression;
 import org.cloudbus.cloudsim.vms.Vm;
 
-import java.util.Comparator;
-import java.util.DoubleSummaryStatistics;
-import java.util.Map;
-
 /**
  * A VM allocation policy that uses <a href="https://en.wikipedia.org/wiki/Local_regression">Local Regression (LR)</a> to predict host utilization (load)
  * and define if a host is overloaded or not.
@@ -39,6 +36,7 @@ import java.util.Map;
  * @since CloudSim Toolkit 3.0
  */
 public class VmAllocationPolicyMigrationLocalRegression extends VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getSchedulingInterval()
@@ -110,6 +108,11 @@ public class VmAllocationPolicyMigrationLocalRegression extends VmAllocationPoli
      * Computes a Local Regression of the host utilization history to <b>estimate</b> the current host utilization.
      * Such a value is used to generate the host over utilization threshold.
      *
+     * <p>If {@link #isStreamingStatistics() streaming statistics} are enabled,
+     * the regression is read from the {@link StreamingLinearRegression}
+     * of the {@link Host#getUtilizationHistorySumSeries()}, which is updated as new utilization
+     * entries are collected. Otherwise, a new regression is fit from the history every time.</p>
+     *
      * @param host the host
      * @return the host utilization Local Regression
      * @throws {@inheritDoc}
@@ -117,23 +120,47 @@ public class VmAllocationPolicyMigrationLocalRegression extends VmAllocationPoli
     @Override
     public double computeHostUtilizationMeasure(final Host host) throws IllegalStateException {
         final int length = 10; // we use 10 to make the regression responsive enough to latest values
+        final double[] estimates = isStreamingStatistics() ?
+                                        getStreamingParameterEstimates(host, length) :
+                                        getParameterEstimates(host, length);
+        final double migrationIntervals = Math.ceil(getMaximumVmMigrationTime(host) / getSchedulingInterval());
+        return estimates[0] + estimates[1] * (length + migrationIntervals);
+    }
 
-        final Comparator<Map.Entry<Double, DoubleSummaryStatistics>> keyComparator = Comparator.comparingDouble(Map.Entry::getKey);
-        final double[] utilizationHistoryReversed = host.getUtilizationHistory()
-            .entrySet()
-            .stream()
-            .sorted(keyComparator.reversed())
-            .limit(length)
-            .mapToDouble(entry -> entry.getValue().getSum())
-            .toArray();
+    private double[] getParameterEstimates(final Host host, final int length) {
+        final double[] utilizationHistory = host.getUtilizationHistorySumValues();
+        final double[] utilizationHistoryReversed = new double[Math.min(length, utilizationHistory.length)];
+        for (int i = 0; i < utilizationHistoryReversed.length; i++) {
+            utilizationHistoryReversed[i] = utilizationHistory[utilizationHistory.length - 1 - i];
+        }
 
         if (utilizationHistoryReversed.length < length) {
-            throw new IllegalStateException("There is not enough Host history to estimate its utilization using Local Regression");
+            throw notEnoughHistoryException();
         }
 
-        final double[] estimates = getParameterEstimates(utilizationHistoryReversed);
-        final double migrationIntervals = Math.ceil(getMaximumVmMigrationTime(host) / getSchedulingInterval());
-        return estimates[0] + estimates[1] * (length + migrationIntervals);
+        return getParameterEstimates(utilizationHistoryReversed);
+    }
+
+    /**
+     * Gets the utilization estimates from the regression kept by the Host utilization history,
+     * which are the same ones returned by the {@link MathUtil} Local Regression methods.
+     *
+     * @param host the host to get the estimates
+     * @param length the number of latest history entries to be considered
+     * @return the utilization estimates
+     * @see StreamingLinearRegression
+     */
+    private double[] getStreamingParameterEstimates(final Host host, final int length) {
+        final StreamingLinearRegression regression = host.getUtilizationHistorySumSeries().getRegression(length);
+        if (regression.getCount() < length) {
+            throw notEnoughHistoryException();
+        }
+
+        return regression.getParameterEstimates();
+    }
+
+    private IllegalStateException notEnoughHistoryException() {
+        return new IllegalStateException("There is not enough Host history to estimate its utilization using Local Regression");
     }
 
     /**
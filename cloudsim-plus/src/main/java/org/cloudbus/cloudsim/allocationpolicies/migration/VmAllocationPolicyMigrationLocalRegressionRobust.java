@@ -16,6 +16,12 @@ import org.cloudbus.cloudsim.util.MathUtil;
  * and define if a host is overloaded or not.
  * <b>It's a Best Fit policy which selects the Host with most efficient power usage to place a given VM.</b>
  *
+ * <p>The bisquare weights of the robust regression are all positive,
+ * so they are never applied (as happens with the tricube weights of the Local Regression).
+ * That is why, if {@link #isStreamingStatistics() streaming statistics} are enabled,
+ * the policy reads the same {@link org.cloudbus.cloudsim.util.StreamingLinearRegression}
+ * used by the Local Regression.</p>
+ *
  * <p>If you are using any algorithms, policies or workload included in the power package please cite
  * the following paper:</p>
  *
@@ -30,6 +36,7 @@ import org.cloudbus.cloudsim.util.MathUtil;
  * @since CloudSim Toolkit 3.0
  */
 public class VmAllocationPolicyMigrationLocalRegressionRobust extends VmAllocationPolicyMigrationLocalRegression {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Creates a VmAllocationPolicyMigrationLocalRegressionRobust
@@ -11,6 +11,7 @@ package org.cloudbus.cloudsim.allocationpolicies.migration;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.selectionpolicies.VmSelectionPolicy;
 import org.cloudbus.cloudsim.util.MathUtil;
+import org.cloudbus.cloudsim.util.TimeSeries;
 
 /**
  * A VM allocation policy that uses <a href="https://en.wikipedia.org/wiki/Median_absolute_deviation">Median Absolute Deviation (MAD)</a>
@@ -31,6 +32,8 @@ import org.cloudbus.cloudsim.util.MathUtil;
  * @since CloudSim Toolkit 3.0
  */
 public class VmAllocationPolicyMigrationMedianAbsoluteDeviation extends VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit {
+    private static final long serialVersionUID = 1L;
+
     /**
      * The minimum number of history entries required to compute
      * the Median Absolute Deviation (MAD).
@@ -74,9 +77,16 @@ public class VmAllocationPolicyMigrationMedianAbsoluteDeviation extends VmAlloca
      */
     @Override
     public double computeHostUtilizationMeasure(final Host host) throws IllegalStateException {
-        final double[] cpuUsageArray = getHostCpuUsageArray(host);
-        if (MathUtil.countNonZeroBeginning(cpuUsageArray) >= MIN_HISTORY_ENTRIES_FOR_MAD) {
-            return MathUtil.mad(cpuUsageArray);
+        if (isStreamingStatistics()) {
+            final TimeSeries history = host.getUtilizationHistorySumSeries();
+            if (history.countUntilLastNonZero() >= MIN_HISTORY_ENTRIES_FOR_MAD) {
+                return history.getStatistics().getMad();
+            }
+        } else {
+            final double[] cpuUsageArray = getHostCpuUsageArray(host);
+            if (MathUtil.countNonZeroBeginning(cpuUsageArray) >= MIN_HISTORY_ENTRIES_FOR_MAD) {
+                return MathUtil.mad(cpuUsageArray);
+            }
         }
 
         throw new IllegalStateException("There is not enough Host history to compute Host utilization MAD");
@@ -2,11 +2,13 @@ package org.cloudbus.cloudsim.allocationpolicies.migration;
 
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.HostCapacityIndex;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.selectionpolicies.VmSelectionPolicy;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +23,8 @@ import java.util.function.BiFunction;
  * @see VmAllocationPolicyMigration#NULL
  */
 final class VmAllocationPolicyMigrationNull implements VmAllocationPolicyMigration {
+    private static final long serialVersionUID = 1L;
+
     @Override public Datacenter getDatacenter() { return Datacenter.NULL; }
     @Override public void setDatacenter(Datacenter datacenter) {/**/}
     @Override public boolean allocateHostForVm(Vm vm) {
@@ -32,10 +36,13 @@ final class VmAllocationPolicyMigrationNull implements VmAllocationPolicyMigrati
     @Override public boolean scaleVmVertically(VerticalVmScaling scaling) {
         return false;
     }
+    @Override public <T extends Vm> List<T> allocateHostsForVms(List<T> vmList) { return new ArrayList<>(vmList); }
     @Override public void deallocateHostForVm(Vm vm) {/**/}
     @Override public Optional<Host> findHostForVm(Vm vm) { return Optional.empty(); }
     @Override public int getHostCountForParallelSearch() { return 0; }
     @Override public void setHostCountForParallelSearch(int hostCountForParallelSearch) {/**/}
+    @Override public HostCapacityIndex getHostCapacityIndex() { return HostCapacityIndex.NULL; }
+    @Override public void setHostCapacityIndex(HostCapacityIndex hostCapacityIndex) {/**/}
     @Override public <T extends Host> List<T> getHostList() {
         return Collections.emptyList();
     }
@@ -31,6 +31,7 @@ import java.util.stream.Stream;
  * @since CloudSim Plus 1.0
  */
 public class VmAllocationPolicyMigrationWorstFitStaticThreshold extends VmAllocationPolicyMigrationStaticThreshold {
+    private static final long serialVersionUID = 1L;
 
     public VmAllocationPolicyMigrationWorstFitStaticThreshold(
         final VmSelectionPolicy vmSelectionPolicy,
@@ -71,6 +72,6 @@ public class VmAllocationPolicyMigrationWorstFitStaticThreshold extends VmAlloca
     protected Optional<Host> findHostForVmInternal(final Vm vm, final Stream<Host> hostStream) {
         /*It's ignoring the super class to intentionally avoid the additional filtering performed there
         * and to apply a different method to select the Host to place the VM.*/
-        return hostStream.min(Comparator.comparingDouble(Host::getUtilizationOfCpuMips));
+        return hostStream.min(Comparator.comparingDouble(getPlacementModel()::getUtilizationOfCpuMips));
     }
 }
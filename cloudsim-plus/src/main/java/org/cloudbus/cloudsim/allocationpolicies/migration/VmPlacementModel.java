@@ -0,0 +1,259 @@
+package org.cloudbus.cloudsim.allocationpolicies.migration;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A lightweight model of the placement of VMs into Hosts, used by a {@link VmAllocationPolicyMigrationAbstract}
+ * to plan VM migrations without changing the actual Hosts.
+ *
+ * <p>While planning, VMs are {@link #removeVm(Host, Vm) removed} from overloaded or underloaded Hosts
+ * and {@link #addVm(Host, Vm) added} to target Hosts just in the model.
+ * The model keeps, for each changed Host, the VMs added to and removed from it,
+ * the number of free PEs and a vector with the amount of MIPS, RAM, BW and storage available
+ * after such changes. Each VM has a vector with its demand for such resources.
+ * This way, placing or removing a VM is just an update of a Host capacity vector,
+ * while the actual Hosts are only changed when the planned migrations are executed.</p>
+ *
+ * <p>Hosts which weren't changed in the model are queried directly.
+ * VMs migrating into a Host are considered as placed into it.
+ * The suitability of a changed Host for a VM is checked by
+ * {@link Host#isSuitableForVm(Vm, int, double, long, long, long)} against the available capacities.
+ * Since it considers just the total MIPS available in a Host,
+ * a VM added to a changed Host isn't allowed to over-subscribe its CPU,
+ * even if the Host's {@link org.cloudbus.cloudsim.schedulers.vm.VmScheduler} allows that.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public class VmPlacementModel {
+    /**
+     * The Hosts changed in the model.
+     */
+    private final Map<Host, HostModel> hosts;
+
+    /**
+     * The resources demanded by each VM added to or removed from a Host.
+     */
+    private final Map<Vm, double[]> vmDemands;
+
+    /**
+     * Creates an empty model, where the placement of VMs is the current one.
+     */
+    public VmPlacementModel() {
+        this.hosts = new HashMap<>();
+        this.vmDemands = new HashMap<>();
+    }
+
+    /**
+     * Adds a VM to a Host in the model, as if it was migrated to that Host.
+     * If the VM was previously removed from the Host in the model, it's just placed back.
+     *
+     * @param host the Host to add the VM to
+     * @param vm the VM to add
+     */
+    public void addVm(final Host host, final Vm vm) {
+        final HostModel model = getHostModel(host);
+        if(!model.vmsOut.remove(vm)) {
+            model.vmsIn.add(vm);
+        }
+
+        model.addDemand(vm, -1);
+    }
+
+    /**
+     * Removes a VM from a Host in the model, as if it was migrated out of that Host.
+     * If the VM was previously added to the Host in the model, that addition is just undone.
+     *
+     * @param host the Host to remove the VM from
+     * @param vm the VM to remove
+     */
+    public void removeVm(final Host host, final Vm vm) {
+        final HostModel model = getHostModel(host);
+        if(!model.vmsIn.remove(vm)) {
+            model.vmsOut.add(vm);
+        }
+
+        model.addDemand(vm, 1);
+    }
+
+    /**
+     * Checks if a VM was added to a Host in the model, instead of being actually placed into it.
+     * @param host the Host to check
+     * @param vm the VM to check
+     * @return
+     */
+    public boolean isVmAdded(final Host host, final Vm vm) {
+        final HostModel model = hosts.get(host);
+        return model != null && model.vmsIn.contains(vm);
+    }
+
+    /**
+     * Gets the VMs placed into a Host in the model,
+     * including the ones migrating into it.
+     *
+     * @param host the Host to get its VMs
+     * @return
+     */
+    public List<Vm> getVmList(final Host host) {
+        final HostModel model = hosts.get(host);
+        if(model == null && host.getVmsMigratingIn().isEmpty()) {
+            return host.getVmList();
+        }
+
+        final List<Vm> vmList = new ArrayList<>(host.getVmList());
+        for (final Vm vm : host.<Vm>getVmsMigratingIn()) {
+            if(!vmList.contains(vm)) {
+                vmList.add(vm);
+            }
+        }
+
+        if(model != null) {
+            vmList.removeAll(model.vmsOut);
+            vmList.addAll(model.vmsIn);
+        }
+
+        return vmList;
+    }
+
+    /**
+     * Gets the VMs placed into a Host in the model that can be migrated,
+     * which are the ones not in migration and not removed from the Host in the model.
+     *
+     * @param host the Host to get its VMs
+     * @return
+     */
+    public List<Vm> getMigratableVms(final Host host) {
+        final HostModel model = hosts.get(host);
+        if(model == null) {
+            return host.getMigratableVms();
+        }
+
+        final List<Vm> vmList = new ArrayList<>(host.getMigratableVms());
+        vmList.removeAll(model.vmsOut);
+        vmList.addAll(model.vmsIn);
+        return vmList;
+    }
+
+    /**
+     * Checks if a Host in the model has enough resources to place a VM.
+     *
+     * @param host the Host to check
+     * @param vm the VM to check
+     * @return true if the VM can be placed into the Host, false otherwise
+     */
+    public boolean isSuitableForVm(final Host host, final Vm vm) {
+        final HostModel model = hosts.get(host);
+        if(model == null) {
+            return host.isSuitableForVm(vm);
+        }
+
+        final double[] available = model.available;
+        return host.isSuitableForVm(
+            vm, model.freePes, available[0],
+            (long) available[1], (long) available[2], (long) available[3]);
+    }
+
+    /**
+     * Gets the total MIPS used by the VMs placed into a Host in the model.
+     * @param host the Host to get its CPU usage
+     * @return
+     */
+    public double getUtilizationOfCpuMips(final Host host) {
+        if(!hosts.containsKey(host) && host.getVmsMigratingIn().isEmpty()) {
+            return host.getUtilizationOfCpuMips();
+        }
+
+        double mipsUsage = 0;
+        for (final Vm vm : getVmList(host)) {
+            mipsUsage += vm.getTotalCpuMipsUsage();
+        }
+
+        return mipsUsage;
+    }
+
+    /**
+     * Gets the percentage of CPU used by the VMs placed into a Host in the model.
+     * @param host the Host to get its CPU usage
+     * @return the CPU usage in scale from 0 to 1
+     */
+    public double getUtilizationOfCpu(final Host host) {
+        if(!hosts.containsKey(host) && host.getVmsMigratingIn().isEmpty()) {
+            return host.getUtilizationOfCpu();
+        }
+
+        final double totalMips = host.getTotalMipsCapacity();
+        if(totalMips == 0){
+            return 0;
+        }
+
+        final double utilization = getUtilizationOfCpuMips(host) / totalMips;
+        return utilization > 1 && utilization < 1.01 ? 1 : utilization;
+    }
+
+    private HostModel getHostModel(final Host host) {
+        return hosts.computeIfAbsent(host, HostModel::new);
+    }
+
+    /**
+     * Gets the MIPS, RAM, BW and storage currently requested by a VM.
+     */
+    private double[] getVmDemand(final Vm vm) {
+        return vmDemands.computeIfAbsent(vm, key -> new double[]{
+            vm.getCurrentRequestedTotalMips(),
+            vm.getCurrentRequestedRam(),
+            vm.getCurrentRequestedBw(),
+            vm.getStorage().getCapacity()
+        });
+    }
+
+    /**
+     * The changes in the VMs placed into a Host.
+     */
+    private final class HostModel {
+        private final Set<Vm> vmsIn;
+        private final Set<Vm> vmsOut;
+
+        /**
+         * The number of PEs not used by VMs in the Host after the changes.
+         */
+        private int freePes;
+
+        /**
+         * The MIPS, RAM, BW and storage available in the Host after the changes.
+         */
+        private final double[] available;
+
+        private HostModel(final Host host) {
+            this.vmsIn = new LinkedHashSet<>();
+            this.vmsOut = new LinkedHashSet<>();
+            this.freePes = host.getFreePesNumber();
+            this.available = new double[]{
+                host.getVmScheduler().getAvailableMips(),
+                host.getRam().getAvailableResource(),
+                host.getBw().getAvailableResource(),
+                host.getStorage().getAvailableResource()
+            };
+        }
+
+        /**
+         * Adds the demand of a VM to the available resources.
+         * @param vm the VM to get its demand
+         * @param signal 1 to release the VM resources, -1 to reserve them
+         */
+        private void addDemand(final Vm vm, final int signal) {
+            freePes += signal * (int) vm.getNumberOfPes();
+            final double[] demand = getVmDemand(vm);
+            for (int i = 0; i < demand.length; i++) {
+                available[i] += signal * demand[i];
+            }
+        }
+    }
+}
@@ -369,5 +369,30 @@ public interface DatacenterBroker extends SimEntity {
      */
     DatacenterBroker setVmDestructionDelayFunction(Function<Vm, Double> function);
 
+    /**
+     * Checks if the VMs waiting to be created are requested to a Datacenter in batch.
+     * @return
+     * @see #setBatchVmCreationEnabled(boolean)
+     */
+    boolean isBatchVmCreationEnabled();
+
+    /**
+     * Enables or disables the request of VMs creation in batch.
+     * When enabled, all VMs waiting to be created with the same submission delay
+     * are sent to a Datacenter in a single {@link org.cloudbus.cloudsim.core.CloudSimTags#VM_CREATE_ACK} event,
+     * which is acknowledged by a single reply,
+     * instead of sending one event (and receiving one reply) for each VM.
+     * This way, the Datacenter's {@link org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy}
+     * knows all the VMs to be placed together,
+     * enabling policies such as {@link org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicyFirstFitDecreasing}
+     * to pack them into fewer Hosts.
+     * It's disabled by default.
+     *
+     * @param enabled true to request VMs creation in batch, false to request each VM individually
+     * @return
+     * @see org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy#allocateHostsForVms(List)
+     */
+    DatacenterBroker setBatchVmCreationEnabled(boolean enabled);
+
     List<Cloudlet> getCloudletSubmittedList();
 }
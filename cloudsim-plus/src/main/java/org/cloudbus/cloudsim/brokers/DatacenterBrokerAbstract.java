@@ -20,6 +20,10 @@ import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.traces.google.GoogleTaskEventsTraceReader;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -34,6 +38,7 @@ import static java.util.Objects.requireNonNull;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements DatacenterBroker {
+    private static final long serialVersionUID = 1L;
 
     /**
      * A default {@link Function} which always returns {@link #DEF_VM_DESTRUCTION_DELAY} to indicate that any VM should not be
@@ -93,9 +98,14 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     private boolean wereThereWaitingCloudlets;
 
-    private Supplier<Datacenter> datacenterSupplier;
-    private Supplier<Datacenter> fallbackDatacenterSupplier;
-    private Function<Cloudlet, Vm> vmMapper;
+    /**
+     * The policies are transient so that non-serializable ones don't prevent saving a {@link SimulationCheckpoint}.
+     * They are saved just when they are serializable functions
+     * (see {@link #writeObject(ObjectOutputStream)}).
+     */
+    private transient Supplier<Datacenter> datacenterSupplier;
+    private transient Supplier<Datacenter> fallbackDatacenterSupplier;
+    private transient Function<Cloudlet, Vm> vmMapper;
 
     private Comparator<Vm> vmComparator;
     private Comparator<Cloudlet> cloudletComparator;
@@ -125,6 +135,11 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     private Function<Vm, Double> vmDestructionDelayFunction;
 
+    /**
+     * @see #isBatchVmCreationEnabled()
+     */
+    private boolean batchVmCreationEnabled;
+
     /**
      * Creates a DatacenterBroker.
      *
@@ -165,20 +180,66 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
         setDatacenterList(new TreeSet<>());
         datacenterRequestedList = new TreeSet<>();
-        setDefaultPolicies();
+        datacenterSupplier = nullDatacenterSupplier();
+        fallbackDatacenterSupplier = datacenterSupplier;
+        vmMapper = nullVmMapper();
 
         vmDestructionDelayFunction = DEF_VM_DESTRUCTION_DELAY_FUNCTION;
     }
 
     /**
-     * Sets the default dummy policies for {@link #datacenterSupplier},
-     * {@link #fallbackDatacenterSupplier} and {@link #vmMapper}.
+     * Gets a dummy {@link #datacenterSupplier} which always returns {@link Datacenter#NULL}.
      * The actual policies must be set by concrete DatacenterBroker classes.
+     * @return
+     */
+    private static Supplier<Datacenter> nullDatacenterSupplier() {
+        return (Supplier<Datacenter> & Serializable) () -> Datacenter.NULL;
+    }
+
+    /**
+     * Gets a dummy {@link #vmMapper} which always returns {@link Vm#NULL}.
+     * The actual policies must be set by concrete DatacenterBroker classes.
+     * @return
+     */
+    private static Function<Cloudlet, Vm> nullVmMapper() {
+        return (Function<Cloudlet, Vm> & Serializable) cloudlet -> Vm.NULL;
+    }
+
+    /**
+     * Sets the default policies for {@link #setDatacenterSupplier(Supplier) Datacenter selection},
+     * {@link #setFallbackDatacenterSupplier(Supplier) fallback Datacenter selection}
+     * and {@link #setVmMapper(Function) VM mapping}.
+     * It's called when the broker is restored from a {@link SimulationCheckpoint}
+     * to reattach the policies which were not saved because they weren't serializable.
+     * Concrete DatacenterBroker classes defining their own policies must override it.
      */
-    private void setDefaultPolicies() {
-        datacenterSupplier = () -> Datacenter.NULL;
+    protected void setDefaultPolicies() {
+        datacenterSupplier = nullDatacenterSupplier();
         fallbackDatacenterSupplier = datacenterSupplier;
-        vmMapper = (cloudlet) -> Vm.NULL;
+        vmMapper = nullVmMapper();
+    }
+
+    /**
+     * Saves the broker into a {@link SimulationCheckpoint},
+     * including its policies just when they are serializable.
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        SimulationCheckpoint.writeFunction(out, this, "Datacenter supplier", datacenterSupplier);
+        SimulationCheckpoint.writeFunction(out, this, "fallback Datacenter supplier", fallbackDatacenterSupplier);
+        SimulationCheckpoint.writeFunction(out, this, "VM mapper", vmMapper);
+    }
+
+    /**
+     * Restores the broker from a {@link SimulationCheckpoint},
+     * reattaching the default policies that were not saved.
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        setDefaultPolicies();
+        datacenterSupplier = SimulationCheckpoint.readFunction(in, datacenterSupplier);
+        fallbackDatacenterSupplier = SimulationCheckpoint.readFunction(in, fallbackDatacenterSupplier);
+        vmMapper = SimulationCheckpoint.readFunction(in, vmMapper);
     }
 
     @Override
@@ -591,21 +652,16 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * Process the ack received from a Datacenter to a broker's request for
      * creation of a Vm in that Datacenter.
      *
-     * @param evt a CloudSimEvent object
-     * @return true if the VM was created successfully, false otherwise
+     * @param evt a CloudSimEvent object, whose data is a Vm or a list of VMs
+     * @return true if all VMs were created successfully, false otherwise
      */
     private boolean processVmCreateResponseFromDatacenter(final SimEvent evt) {
-        final Vm vm = (Vm) evt.getData();
-        boolean vmCreated = false;
-        vmCreationAcks++;
-
-        //if the VM was successfully created in the requested Datacenter
-        if (vm.isCreated()) {
-            processSuccessVmCreationInDatacenter(vm, vm.getHost().getDatacenter());
-            vmCreated = true;
-        } else {
-            processFailedVmCreationInDatacenter(vm, lastSelectedDc);
-        }
+        boolean vmCreated = true;
+        if (evt.getData() instanceof List) {
+            for (final Vm vm : (List<Vm>) evt.getData()) {
+                vmCreated &= processVmCreateResponse(vm);
+            }
+        } else vmCreated = processVmCreateResponse((Vm) evt.getData());
 
         if (allNonDelayedVmsCreated()) {
             requestDatacentersToCreateWaitingCloudlets();
@@ -617,6 +673,26 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return vmCreated;
     }
 
+    /**
+     * Process the ack for the creation of a single Vm, which may have been
+     * received alone or in a batch.
+     *
+     * @param vm the Vm which was requested to be created
+     * @return true if the VM was created successfully, false otherwise
+     */
+    private boolean processVmCreateResponse(final Vm vm) {
+        vmCreationAcks++;
+
+        //if the VM was successfully created in the requested Datacenter
+        if (vm.isCreated()) {
+            processSuccessVmCreationInDatacenter(vm, vm.getHost().getDatacenter());
+            return true;
+        }
+
+        processFailedVmCreationInDatacenter(vm, lastSelectedDc);
+        return false;
+    }
+
     @SuppressWarnings("ForLoopReplaceableByForEach")
     private void notifyOnVmsCreatedListeners() {
         //Uses indexed for to avoid ConcurrentModificationException
@@ -840,15 +916,21 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     protected void requestDatacenterToCreateWaitingVms(final Datacenter datacenter, final boolean isFallbackDatacenter) {
         int requestedVms = 0;
+        //VMs to be requested in batch, grouped by submission delay
+        final Map<Double, List<Vm>> vmBatches = new LinkedHashMap<>();
         for (final Vm vm : vmWaitingList) {
             final CustomerEntityAbstract entity = (CustomerEntityAbstract) vm;
             if (!datacenter.equals(entity.getLastTriedDatacenter())) {
                 logVmCreationRequest(datacenter, isFallbackDatacenter, vm);
-                send(datacenter, vm.getSubmissionDelay(), CloudSimTags.VM_CREATE_ACK, vm);
+                if(batchVmCreationEnabled)
+                    vmBatches.computeIfAbsent(vm.getSubmissionDelay(), delay -> new ArrayList<>()).add(vm);
+                else send(datacenter, vm.getSubmissionDelay(), CloudSimTags.VM_CREATE_ACK, vm);
                 entity.setLastTriedDatacenter(datacenter);
                 requestedVms++;
             }
         }
+
+        vmBatches.forEach((delay, vmList) -> send(datacenter, delay, CloudSimTags.VM_CREATE_ACK, vmList));
         datacenterRequestedList.add(datacenter);
         this.vmCreationRequests += requestedVms;
     }
@@ -1138,6 +1220,17 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return this;
     }
 
+    @Override
+    public boolean isBatchVmCreationEnabled() {
+        return batchVmCreationEnabled;
+    }
+
+    @Override
+    public DatacenterBroker setBatchVmCreationEnabled(final boolean enabled) {
+        this.batchVmCreationEnabled = enabled;
+        return this;
+    }
+
     /**
      * Indicates if there are more cloudlets waiting to
      * be executed yet.
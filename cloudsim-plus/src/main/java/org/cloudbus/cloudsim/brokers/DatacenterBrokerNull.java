@@ -23,6 +23,8 @@ import java.util.function.Supplier;
  * @see DatacenterBroker#NULL
  */
 final class DatacenterBrokerNull implements DatacenterBroker, SimEntityNullBase {
+    private static final long serialVersionUID = 1L;
+
     @Override public int compareTo(SimEntity entity) { return 0; }
 
     @Override public boolean bindCloudletToVm(Cloudlet cloudlet, Vm vm) {
@@ -53,6 +55,8 @@ final class DatacenterBrokerNull implements DatacenterBroker, SimEntityNullBase
     @Override public Function<Vm, Double> getVmDestructionDelayFunction() { return vm -> 0.0; }
     @Override public DatacenterBroker setVmDestructionDelayFunction(Function<Vm, Double> function) { return this; }
     @Override public DatacenterBroker setVmDestructionDelay(double delay) { return this; }
+    @Override public boolean isBatchVmCreationEnabled() { return false; }
+    @Override public DatacenterBroker setBatchVmCreationEnabled(boolean enabled) { return this; }
     @Override public List<Cloudlet> getCloudletSubmittedList() { return Collections.emptyList(); }
     @Override public void setVmComparator(Comparator<Vm> comparator) {/**/}
     @Override public void setCloudletComparator(Comparator<Cloudlet> comparator) {/**/}
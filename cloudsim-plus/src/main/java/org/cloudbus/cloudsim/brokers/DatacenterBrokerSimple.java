@@ -12,6 +12,10 @@ import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 /**
  * A simple implementation of {@link DatacenterBroker} that try to host customer's VMs
  * at the first Datacenter found. If there isn't capacity in that one,
@@ -27,6 +31,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 1.0
  */
 public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Creates a new DatacenterBroker.
      *
@@ -44,9 +50,22 @@ public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
      */
     public DatacenterBrokerSimple(final CloudSim simulation, final String name) {
         super(simulation, name);
-        setDatacenterSupplier(this::selectDatacenterForWaitingVms);
-        setFallbackDatacenterSupplier(this::selectFallbackDatacenterForWaitingVms);
-        setVmMapper(this::defaultVmMapper);
+        setSimplePolicies();
+    }
+
+    @Override
+    protected void setDefaultPolicies() {
+        setSimplePolicies();
+    }
+
+    /**
+     * Sets the policies of this broker, which are serializable
+     * to be saved into a {@link org.cloudbus.cloudsim.core.SimulationCheckpoint}.
+     */
+    private void setSimplePolicies() {
+        setDatacenterSupplier((Supplier<Datacenter> & Serializable) this::selectDatacenterForWaitingVms);
+        setFallbackDatacenterSupplier((Supplier<Datacenter> & Serializable) this::selectFallbackDatacenterForWaitingVms);
+        setVmMapper((Function<Cloudlet, Vm> & Serializable) this::defaultVmMapper);
     }
 
     /**
@@ -10,6 +10,7 @@ package org.cloudbus.cloudsim.cloudlets;
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.core.CustomerEntityAbstract;
+import org.cloudbus.cloudsim.core.DeferredEffects;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.resources.*;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
@@ -30,6 +31,7 @@ import static java.util.Objects.requireNonNull;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class CloudletAbstract extends CustomerEntityAbstract implements Cloudlet {
+    private static final long serialVersionUID = 1L;
 
     /** @see #getJobId() */
     private long jobId;
@@ -264,7 +266,10 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
 
     @Override
     public void notifyOnUpdateProcessingListeners(final double time) {
-        onUpdateProcessingListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, time, this)));
+        if(!onUpdateProcessingListeners.isEmpty()) {
+            DeferredEffects.run(() ->
+                onUpdateProcessingListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, time, this))));
+        }
     }
 
     @Override
@@ -403,9 +408,10 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
      * multiple times about a Cloudlet termination.
      */
     private void notifyListenersIfCloudletIsFinished() {
-        if (isFinished()) {
-            onFinishListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, this)));
+        if (isFinished() && !onFinishListeners.isEmpty()) {
+            final List<EventListener<CloudletVmEventInfo>> listeners = new ArrayList<>(onFinishListeners);
             onFinishListeners.clear();
+            DeferredEffects.run(() -> listeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, this))));
         }
     }
 
@@ -436,8 +442,9 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
     public void setExecStartTime(final double clockTime) {
         final boolean isStartingInSomeVm = this.execStartTime <= 0 && clockTime > 0 && vm != Vm.NULL && vm != null;
         this.execStartTime = clockTime;
-        if(isStartingInSomeVm){
-            onStartListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, clockTime, this)));
+        if(isStartingInSomeVm && !onStartListeners.isEmpty()){
+            DeferredEffects.run(() ->
+                onStartListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, clockTime, this))));
         }
     }
 
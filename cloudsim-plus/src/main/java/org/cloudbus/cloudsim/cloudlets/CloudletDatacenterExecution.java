@@ -2,12 +2,16 @@ package org.cloudbus.cloudsim.cloudlets;
 
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 
+import java.io.Serializable;
+
 /**
  * Internal class that keeps track of Cloudlet's movement in different
  * {@link Datacenter Datacenters}. Each time a cloudlet is run on a given Datacenter, the cloudlet's
  * execution history on each Datacenter is registered at {@link CloudletAbstract#getLastExecutionInDatacenterInfo()}
  */
-final class CloudletDatacenterExecution {
+final class CloudletDatacenterExecution implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     /* default */ static final CloudletDatacenterExecution NULL = new CloudletDatacenterExecution();
 
     private double arrivalTime;
@@ -14,6 +14,7 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.util.Conversion;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -35,7 +36,9 @@ import java.util.Objects;
  * @author Rajkumar Buyya
  * @since CloudSim Toolkit 1.0
  */
-public class CloudletExecution {
+public class CloudletExecution implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     /**
      * A property that implements the Null Object Design Pattern for {@link CloudletExecution}
      * objects.
@@ -279,9 +282,18 @@ public class CloudletExecution {
             return;
         }
 
-        this.instructionsFinishedSoFar += partialFinishedInstructions;
-        final double partialFinishedMI = partialFinishedInstructions / Conversion.MILLION;
-        cloudlet.addFinishedLengthSoFar((long)partialFinishedMI);
+        /* When the Host is just updated when due, the finished MI is computed from the total of executed instructions,
+         * so that the fractions of MI executed between updates are not lost
+         * and the Cloudlet progress doesn't depend on how often the Host is updated. */
+        if(cloudlet.getVm().getHost().getDatacenter().isEventDrivenHostsUpdate()){
+            final long previousFinishedMI = instructionsFinishedSoFar / Conversion.MILLION;
+            this.instructionsFinishedSoFar += partialFinishedInstructions;
+            cloudlet.addFinishedLengthSoFar(instructionsFinishedSoFar / Conversion.MILLION - previousFinishedMI);
+        } else {
+            this.instructionsFinishedSoFar += partialFinishedInstructions;
+            final double partialFinishedMI = partialFinishedInstructions / Conversion.MILLION;
+            cloudlet.addFinishedLengthSoFar((long)partialFinishedMI);
+        }
 
         /* If a simulation termination time was defined and the length of the Cloudlet is negative
          * (to indicate that they must not finish before the termination time),
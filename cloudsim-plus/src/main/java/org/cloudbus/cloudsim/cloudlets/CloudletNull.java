@@ -20,6 +20,8 @@ import java.util.List;
  * @see Cloudlet#NULL
  */
 final class CloudletNull implements Cloudlet {
+    private static final long serialVersionUID = 1L;
+
     @Override public void setId(long id) {/**/}
     @Override public long getId() {
         return -1;
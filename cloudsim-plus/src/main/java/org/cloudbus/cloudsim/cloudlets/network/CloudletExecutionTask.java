@@ -62,6 +62,7 @@ package org.cloudbus.cloudsim.cloudlets.network;
  *
  */
 public class CloudletExecutionTask extends CloudletTask {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getLength()
@@ -39,6 +39,8 @@ import java.util.List;
  *
  */
 public class CloudletSendTask extends CloudletTask {
+    private static final long serialVersionUID = 1L;
+
     private final List<VmPacket> packetsToSend;
 
     /**
@@ -40,6 +40,7 @@ import java.util.Optional;
  * @TODO Check how to implement the NULL pattern for this class.
  */
 public class NetworkCloudlet extends CloudletSimple {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The index of the active running task or -1 if no task has started yet.
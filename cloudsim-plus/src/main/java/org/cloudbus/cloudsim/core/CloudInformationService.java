@@ -12,9 +12,11 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * A Cloud Information Service (CIS) is an entity that provides cloud resource
@@ -27,11 +29,20 @@ import java.util.TreeSet;
  * CloudSim upon initialisation of the simulation. Hence, do not need to worry
  * about creating an object of this class.
  *
+ * <p>The registered entities are stored in thread-safe sets, since
+ * the CIS is shared by all logical processes of a {@link ParallelCloudSim},
+ * which read such sets from different threads.
+ * In such a case, Datacenters registered while logical processes are running
+ * are just added to the {@link #getDatacenterList() Datacenter list}
+ * between time windows, when no logical process is running.</p>
+ *
  * @author Manzur Murshed
  * @author Rajkumar Buyya
  * @since CloudSim Toolkit 1.0
  */
 public class CloudInformationService extends CloudSimEntity {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudInformationService.class.getSimpleName());
 
     /**
@@ -45,6 +56,18 @@ public class CloudInformationService extends CloudSimEntity {
      */
     private final Set<CloudInformationService> cisList;
 
+    /**
+     * Datacenters registered while the logical processes sharing this CIS are running,
+     * which are waiting to be {@link #publishRegistrations() published} into the {@link #datacenterList}.
+     */
+    private final List<Datacenter> pendingDatacenters;
+
+    /**
+     * Indicates if Datacenter registrations are kept in the {@link #pendingDatacenters}
+     * until being {@link #publishRegistrations() published}.
+     */
+    private boolean registrationsDeferred;
+
     /**
      * Instantiates a new CloudInformationService object.
      *
@@ -52,8 +75,9 @@ public class CloudInformationService extends CloudSimEntity {
      */
     CloudInformationService(CloudSim simulation) {
         super(simulation);
-        datacenterList = new TreeSet<>();
-        cisList = new TreeSet<>();
+        datacenterList = new ConcurrentSkipListSet<>();
+        cisList = new ConcurrentSkipListSet<>();
+        pendingDatacenters = new ArrayList<>();
     }
 
     /**
@@ -74,7 +98,7 @@ public class CloudInformationService extends CloudSimEntity {
             break;
 
             case CloudSimTags.DATACENTER_REGISTRATION_REQUEST:
-                datacenterList.add((Datacenter) evt.getData());
+                registerDatacenter((Datacenter) evt.getData());
             break;
 
             // A Broker is requesting a list of all datacenters.
@@ -95,6 +119,37 @@ public class CloudInformationService extends CloudSimEntity {
         // reset the values
         datacenterList.clear();
         cisList.clear();
+        pendingDatacenters.clear();
+    }
+
+    private void registerDatacenter(final Datacenter datacenter) {
+        if(registrationsDeferred) {
+            pendingDatacenters.add(datacenter);
+        } else {
+            datacenterList.add(datacenter);
+        }
+    }
+
+    /**
+     * Registers a set of Datacenters and makes further registrations to be
+     * kept pending until being {@link #publishRegistrations() published}.
+     * It's used by a {@link ParallelCloudSim} so that the Datacenters
+     * registered in the shared CIS don't depend on the time logical processes run.
+     *
+     * @param datacenters the Datacenters to register
+     */
+    void registerAndDeferRegistrations(final Collection<Datacenter> datacenters) {
+        datacenterList.addAll(datacenters);
+        registrationsDeferred = true;
+    }
+
+    /**
+     * Adds the Datacenters registered since the last call into the {@link #getDatacenterList() Datacenter list}.
+     * It must be called when no logical process sharing the CIS is running.
+     */
+    void publishRegistrations() {
+        datacenterList.addAll(pendingDatacenters);
+        pendingDatacenters.clear();
     }
 
     /**
@@ -9,6 +9,7 @@ package org.cloudbus.cloudsim.core;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.events.*;
+import org.cloudbus.cloudsim.core.metrics.SimulationMetrics;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
 import org.cloudbus.cloudsim.util.Conversion;
@@ -17,9 +18,12 @@ import org.cloudsimplus.listeners.EventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -34,6 +38,8 @@ import static java.util.stream.Collectors.toList;
  * @since CloudSim Toolkit 1.0
  */
 public class CloudSim implements Simulation {
+    private static final long serialVersionUID = 1L;
+
     /**
      * CloudSim Plus current version.
      */
@@ -75,6 +81,110 @@ public class CloudSim implements Simulation {
      */
     private NetworkTopology networkTopology;
 
+    /**
+     * @see #getEventPool()
+     */
+    private EventPool eventPool;
+
+    /**
+     * @see #getEventJournal()
+     */
+    private transient EventJournal eventJournal;
+
+    /**
+     * @see #getMetrics()
+     */
+    private transient SimulationMetrics metrics;
+
+    /**
+     * The sequence used to assign IDs to entities when the simulation is a logical process
+     * of a {@link ParallelCloudSim}. It's shared by all logical processes, so that
+     * entities have unique and consecutive IDs, as if they were created in a single simulation.
+     * It's null when the simulation is not a logical process,
+     * where the ID of an entity is its index in the {@link #entities} list.
+     */
+    private final AtomicLong sharedEntityIds;
+
+    /**
+     * Indicates if the simulation is a logical process of a {@link ParallelCloudSim},
+     * running in parallel with other simulations.
+     */
+    private final boolean logicalProcess;
+
+    /**
+     * The index of the simulation in the list of logical processes of a {@link ParallelCloudSim},
+     * or -1 if it's not a logical process.
+     * @see #logicalProcess
+     */
+    private final int logicalProcessIndex;
+
+    /**
+     * The events sent to entities from other logical processes,
+     * which are waiting to be delivered by the {@link ParallelCloudSim}.
+     * @see #logicalProcess
+     */
+    private final List<SimEvent> remoteEvents;
+
+    /**
+     * The high priority events sent to entities from other logical processes,
+     * which are waiting to be delivered by the {@link ParallelCloudSim}.
+     * @see #remoteEvents
+     */
+    private final List<SimEvent> remoteFirstEvents;
+
+    /**
+     * The number of ticks a logical process has processed at the time of the last tick.
+     * It's used to define the {@link CloudSimEvent#setSendOrder(int, double, int, long) send order}
+     * of events, since an event may be sent in different ticks at the same simulation time.
+     * @see #logicalProcess
+     */
+    private int sameTimeTicks;
+
+    /**
+     * The time of the last tick processed by a logical process.
+     * @see #sameTimeTicks
+     */
+    private double lastTickTime;
+
+    /**
+     * Indicates if a logical process is processing the events of a tick
+     * (instead of making entities to process the events received in the tick).
+     * @see #sameTimeTicks
+     */
+    private boolean processingTickEvents;
+
+    /**
+     * The ID of the entity that is processing its events in a logical process,
+     * or -1 if no entity is processing events.
+     * @see #sameTimeTicks
+     */
+    private long processingEntityId;
+
+    /**
+     * The time (exclusive) up to which a logical process is processing events.
+     * Events sent to other logical processes must happen at this time or later.
+     * @see #logicalProcess
+     */
+    private double windowEnd;
+
+    /**
+     * @see #getTickParallelism()
+     */
+    private int tickParallelism;
+
+    /**
+     * Makes entities to process the events received in a tick in parallel,
+     * when the {@link #tickParallelism} is greater than 1.
+     * It's created when the simulation starts.
+     */
+    private transient ParallelTickExecutor tickExecutor;
+
+    /**
+     * A reusable list of entities that have events to process in the current tick,
+     * used when the {@link #tickExecutor} is enabled.
+     */
+    private final List<CloudSimEntity> runnableEntities;
+
     /**
      * The Cloud Information Service (CIS) entity.
      */
@@ -102,6 +212,21 @@ public class CloudSim implements Simulation {
      */
     private double newTerminationTime = -1;
 
+    /**
+     * @see #getIdleTimePolicy()
+     */
+    private IdleTimePolicy idleTimePolicy;
+
+    /**
+     * The interval the clock is increased while there is no event to process and
+     * the simulation is waiting for the {@link #terminationTime}.
+     * It's computed once when the simulation becomes idle, instead of at every clock increment,
+     * and it's reset when some event is processed.
+     * -1 means the simulation is not idle.
+     * @see #isToWaitClockToReachTerminationTime()
+     */
+    private double idleClockIncrement = -1;
+
     /**
      * @see #getMinTimeBetweenEvents()
      */
@@ -117,6 +242,18 @@ public class CloudSim implements Simulation {
      */
     private final FutureQueue future;
 
+    /**
+     * A reusable list containing the events removed from the {@link #future} queue
+     * at the current clock tick, which are being processed.
+     */
+    private final List<SimEvent> sameTimeEvents;
+
+    /**
+     * The index of the event from the {@link #sameTimeEvents} list being processed,
+     * so that events after it can still be {@link #cancel(SimEventHandle) cancelled}.
+     */
+    private int sameTimeEventIndex;
+
     /**
      * The deferred event queue.
      */
@@ -165,9 +302,16 @@ public class CloudSim implements Simulation {
     private boolean alreadyRunOnce;
 
     private final Set<EventListener<SimEvent>> onEventProcessingListeners;
+
+    /**
+     * The listeners subscribed to events with specific tags and/or destination entities.
+     * @see #addOnEventProcessingListener(SimEntity, int, EventListener)
+     */
+    private final EventSubscriptions eventSubscriptions;
     private final Set<EventListener<EventInfo>> onSimulationPauseListeners;
     private final Set<EventListener<EventInfo>> onClockTickListeners;
     private final Set<EventListener<EventInfo>> onSimulationStartListeners;
+    private final Set<EventListener<EventInfo>> onSimulationEndListeners;
 
     /**
      * Creates a CloudSim simulation.
@@ -190,22 +334,95 @@ public class CloudSim implements Simulation {
      * @see CloudInformationService
      */
     public CloudSim(final double minTimeBetweenEvents) {
+        this(minTimeBetweenEvents, new FutureQueueSimple());
+    }
+
+    /**
+     * Creates a CloudSim simulation that uses a given {@link FutureQueue} implementation
+     * to store the events to be processed in a future simulation time.
+     * Internally it creates a CloudInformationService.
+     *
+     * @param futureQueue the queue to store future events
+     *                    (such as a {@link FutureQueueCalendar} for simulations with a huge number of pending events)
+     * @see CloudInformationService
+     * @see #CloudSim(double, FutureQueue)
+     */
+    public CloudSim(final FutureQueue futureQueue){
+        this(0.1, futureQueue);
+    }
+
+    /**
+     * Creates a CloudSim simulation that tracks events happening in a time interval
+     * as little as the minTimeBetweenEvents parameter and uses a given {@link FutureQueue}
+     * implementation to store the events to be processed in a future simulation time.
+     * Internally it creates a {@link CloudInformationService}.
+     *
+     * @param minTimeBetweenEvents the minimal period between events. Events
+     * within shorter periods after the last event are discarded.
+     * @param futureQueue the queue to store future events. The default one is the {@link FutureQueueSimple}.
+     *                    A {@link FutureQueueCalendar} can be used for simulations with a huge number of pending events.
+     *                    The queue must be empty and must not be shared between simulations.
+     * @see CloudInformationService
+     */
+    public CloudSim(final double minTimeBetweenEvents, final FutureQueue futureQueue) {
+        this(minTimeBetweenEvents, futureQueue, null, null, -1);
+    }
+
+    /**
+     * Creates a CloudSim simulation that may be a logical process of a {@link ParallelCloudSim}.
+     *
+     * @param minTimeBetweenEvents the minimal period between events
+     * @param futureQueue the queue to store future events
+     * @param sharedEntityIds the sequence used to assign IDs to entities, shared by all logical processes
+     *                        of a {@link ParallelCloudSim}; or null if the simulation is not a logical process
+     * @param sharedCis the {@link CloudInformationService} shared by all logical processes of a {@link ParallelCloudSim};
+     *                  or null to create a new one (for a simulation that is not a logical process
+     *                  or for the first logical process)
+     * @param logicalProcessIndex the index of the simulation in the list of logical processes
+     *                            of a {@link ParallelCloudSim}; or -1 if it's not a logical process
+     * @see #CloudSim(double, FutureQueue)
+     */
+    CloudSim(
+        final double minTimeBetweenEvents, final FutureQueue futureQueue,
+        final AtomicLong sharedEntityIds, final CloudInformationService sharedCis,
+        final int logicalProcessIndex)
+    {
+        if(!requireNonNull(futureQueue).isEmpty()){
+            throw new IllegalArgumentException("The future queue must be empty.");
+        }
+
         this.entities = new ArrayList<>();
-        this.future = new FutureQueue();
+        this.future = futureQueue;
+        this.sameTimeEvents = new ArrayList<>();
         this.deferred = new DeferredQueue();
         this.waitPredicates = new HashMap<>();
         this.networkTopology = NetworkTopology.NULL;
+        this.eventPool = EventPool.NULL;
+        this.eventJournal = EventJournal.NULL;
+        this.metrics = SimulationMetrics.NULL;
+        this.sharedEntityIds = sharedEntityIds;
+        this.logicalProcess = sharedEntityIds != null;
+        this.logicalProcessIndex = logicalProcessIndex;
+        this.processingEntityId = -1;
+        this.remoteEvents = new ArrayList<>();
+        this.remoteFirstEvents = new ArrayList<>();
+        this.lastTickTime = -1;
+        this.tickParallelism = 1;
+        this.idleTimePolicy = IdleTimePolicy.WAIT;
+        this.runnableEntities = new ArrayList<>();
         this.clock = 0;
         this.running = false;
         this.alreadyRunOnce = false;
         this.onEventProcessingListeners = new HashSet<>();
+        this.eventSubscriptions = new EventSubscriptions();
         this.onSimulationPauseListeners = new HashSet<>();
         this.onClockTickListeners = new HashSet<>();
         this.onSimulationStartListeners = new HashSet<>();
+        this.onSimulationEndListeners = new HashSet<>();
 
         // NOTE: the order for the lines below is important
         this.calendar = Calendar.getInstance();
-        this.cis = new CloudInformationService(this);
+        this.cis = sharedCis == null ? new CloudInformationService(this) : sharedCis;
 
         if (minTimeBetweenEvents <= 0) {
             throw new IllegalArgumentException("The minimal time between events should be positive, but is: " + minTimeBetweenEvents);
@@ -227,9 +444,15 @@ public class CloudSim implements Simulation {
 
         LOGGER.info("{}================== Starting CloudSim Plus {} =================={}", System.lineSeparator(), VERSION,  System.lineSeparator());
         startEntitiesIfNotRunning();
+        createTickExecutor();
         this.alreadyRunOnce = true;
+        metrics.notifySimulationStarted(this);
 
         if(!eventLoop()){
+            shutdownTickExecutor();
+            eventJournal.close();
+            metrics.notifySimulationFinished(clock);
+            notifyEventListeners(onSimulationEndListeners, clock);
             return clock;
         }
 
@@ -243,6 +466,128 @@ public class CloudSim implements Simulation {
         return clock;
     }
 
+    /**
+     * Starts the simulation as a logical process of a {@link ParallelCloudSim}.
+     * Instead of processing all events until the simulation finishes,
+     * events are processed inside time windows defined by the {@link ParallelCloudSim}.
+     *
+     * @see #runWindow(double)
+     */
+    void startLogicalProcess() {
+        if(alreadyRunOnce){
+            throw new UnsupportedOperationException("You can't run a simulation that has already run previously.");
+        }
+
+        if(isTerminationTimeSet()){
+            throw new UnsupportedOperationException("A termination time is not supported for simulations running inside a ParallelCloudSim.");
+        }
+
+        LOGGER.info("{}================== Starting CloudSim Plus {} logical process =================={}", System.lineSeparator(), VERSION,  System.lineSeparator());
+        startEntitiesIfNotRunning();
+        createTickExecutor();
+        this.alreadyRunOnce = true;
+        metrics.notifySimulationStarted(this);
+    }
+
+    /**
+     * Processes all the events of a logical process that happen before a given time
+     * (in the same way the {@link #eventLoop()} does),
+     * then makes the entities to process the last received events.
+     * Events sent to other logical processes are stored to be
+     * delivered by the {@link ParallelCloudSim} after the window is processed.
+     *
+     * @param windowEnd the time (exclusive) up to which events will be processed
+     * @see #getNextEventTime()
+     */
+    void runWindow(final double windowEnd) {
+        this.windowEnd = windowEnd;
+        executeRunnableEntities();
+        while (!abortRequested && !future.isEmpty() && future.first().getTime() < windowEnd) {
+            processFutureEventsHappeningAtSameTimeOfTheFirstOne();
+            notifyOnSimulationStartListeners(); //it's ensured to run just once.
+            executeRunnableEntities();
+        }
+    }
+
+    /**
+     * Processes just the first tick of a logical process, i.e., the events happening at the time
+     * of the first future event (in the same way a single iteration of the {@link #eventLoop()} does).
+     * Since the other logical processes also process at most a single tick at such a time,
+     * events can be sent to them without any delay.
+     * This way, entities from different logical processes can interact without delay
+     * when the simulation starts (such as for registering Datacenters into the
+     * {@link CloudInformationService} and requesting them).
+     *
+     * @see #runWindow(double)
+     */
+    void runTick() {
+        this.windowEnd = getNextEventTime();
+        executeRunnableEntities();
+        processFutureEventsHappeningAtSameTimeOfTheFirstOne();
+        notifyOnSimulationStartListeners(); //it's ensured to run just once.
+        executeRunnableEntities();
+    }
+
+    /**
+     * Gets the time of the next event to be processed by a logical process.
+     * @return the time of the next event or {@link Double#MAX_VALUE} if there is no future event
+     */
+    double getNextEventTime() {
+        return future.isEmpty() ? Double.MAX_VALUE : future.first().getTime();
+    }
+
+    /**
+     * Delivers the events sent to entities from other logical processes
+     * while the last time window was being processed.
+     */
+    void deliverRemoteEvents() {
+        for (final SimEvent evt : remoteFirstEvents) {
+            ((CloudSim) evt.getDestination().getSimulation()).addRemoteEvent(evt, true);
+        }
+
+        for (final SimEvent evt : remoteEvents) {
+            ((CloudSim) evt.getDestination().getSimulation()).addRemoteEvent(evt, false);
+        }
+
+        remoteFirstEvents.clear();
+        remoteEvents.clear();
+    }
+
+    /**
+     * Checks if the abortion of the simulation was requested.
+     * @return true if the abortion was requested, false otherwise
+     * @see #abort()
+     */
+    boolean isAbortRequested() {
+        return abortRequested;
+    }
+
+    /**
+     * Notifies entities of a logical process that the simulation is ending.
+     * Since the clock of logical processes may be different,
+     * all of them are set to the same time before that.
+     *
+     * @param clock the time the simulation is finishing
+     */
+    void sendEndOfSimulation(final double clock) {
+        this.clock = Math.max(this.clock, clock);
+        sendEndOfSimulationToEntities();
+    }
+
+    /**
+     * Finishes a logical process after all the events of all logical processes were processed.
+     */
+    void finishLogicalProcess() {
+        /*The simulation is finished, thus events sent from now on
+        * to other logical processes are just ignored (as they are for a standalone simulation).*/
+        windowEnd = 0;
+        running = false;
+        LOGGER.info("Simulation: No more future events{}", System.lineSeparator());
+
+        finishSimulation();
+        printSimulationFinished();
+    }
+
     private void notifyOnSimulationStartListeners() {
         if(!onSimulationStartListeners.isEmpty() && clock > 0) {
             notifyEventListeners(onSimulationStartListeners, clock);
@@ -252,6 +597,10 @@ public class CloudSim implements Simulation {
     }
 
     private void notifyEventListeners(Set<EventListener<EventInfo>> onSimulationStartListeners, double clock) {
+        if(onSimulationStartListeners.isEmpty()){
+            return;
+        }
+
         onSimulationStartListeners.forEach(listener -> listener.update(EventInfo.of(listener, clock)));
     }
 
@@ -298,10 +647,7 @@ public class CloudSim implements Simulation {
      * Then, waits such events to be received and processed.
      */
     private void notifyEndOfSimulationToEntities() {
-        entities.stream()
-            .filter(CloudSimEntity::isAlive)
-            .forEach(e -> sendNow(e, CloudSimTags.END_OF_SIMULATION));
-        LOGGER.info("{}: Processing last events before simulation shutdown.", clock);
+        sendEndOfSimulationToEntities();
 
         while (true) {
             if(!runClockTickAndProcessFutureEvents()){
@@ -310,6 +656,13 @@ public class CloudSim implements Simulation {
         }
     }
 
+    private void sendEndOfSimulationToEntities() {
+        entities.stream()
+            .filter(CloudSimEntity::isAlive)
+            .forEach(e -> sendNow(e, CloudSimTags.END_OF_SIMULATION));
+        LOGGER.info("{}: Processing last events before simulation shutdown.", clock);
+    }
+
     private void printSimulationFinished() {
         final String msg1 = String.format("Simulation finished at time %.2f", clock);
         final String extra = future.isEmpty() ? "" : ", before completing,";
@@ -362,6 +715,16 @@ public class CloudSim implements Simulation {
         return terminationTime;
     }
 
+    @Override
+    public IdleTimePolicy getIdleTimePolicy() {
+        return idleTimePolicy;
+    }
+
+    @Override
+    public void setIdleTimePolicy(final IdleTimePolicy policy) {
+        this.idleTimePolicy = requireNonNull(policy);
+    }
+
     @Override
     public double getMinTimeBetweenEvents() {
         return minTimeBetweenEvents;
@@ -421,13 +784,24 @@ public class CloudSim implements Simulation {
     @Override
     public void addEntity(final CloudSimEntity entity) {
         requireNonNull(entity);
+        if(DeferredEffects.isDeferring()){
+            DeferredEffects.run(() -> addEntity(entity));
+            return;
+        }
+
+        if(isRunningEntitiesInParallel()){
+            tickExecutor.getOutbox().addEntity(entity);
+            return;
+        }
+
         if (running) {
-            final SimEvent evt = new CloudSimEvent(SimEvent.Type.CREATE, 0, entity, null, -1, entity);
+            final SimEvent evt = eventPool.acquire(SimEvent.Type.CREATE, 0, entity, SimEntity.NULL, -1, entity);
+            setSendOrder(evt);
             future.addEvent(evt);
         }
 
         if (entity.getId() == -1) { // Only add once!
-            entity.setId(entities.size());
+            entity.setId(logicalProcess ? sharedEntityIds.getAndIncrement() : entities.size());
             entities.add(entity);
         }
     }
@@ -440,7 +814,8 @@ public class CloudSim implements Simulation {
     private boolean runClockTickAndProcessFutureEvents() {
         executeRunnableEntities();
         if (!future.isEmpty()) {
-            processFutureEventsHappeningAtSameTimeOfTheFirstOne(future.first());
+            idleClockIncrement = -1;
+            processFutureEventsHappeningAtSameTimeOfTheFirstOne();
             return true;
         }
 
@@ -448,9 +823,13 @@ public class CloudSim implements Simulation {
     }
 
     private boolean isToWaitClockToReachTerminationTime() {
-        if(isTerminationTimeSet()){
-            final double increment = minDatacentersSchedulingInterval();
-            final String info = increment == minTimeBetweenEvents
+        if(!isTerminationTimeSet()){
+            return false;
+        }
+
+        if(idleClockIncrement == -1) {
+            idleClockIncrement = minDatacentersSchedulingInterval();
+            final String info = idleClockIncrement == minTimeBetweenEvents
                 ? "using getMinTimeBetweenEvents() since a Datacenter schedulingInterval was not set"
                 : "Datacenter.getSchedulingInterval()";
 
@@ -459,14 +838,54 @@ public class CloudSim implements Simulation {
             * (such as the dynamic arrival of VMs or Cloudlets).
             * Without increasing the time, the simulation stops due to lack of new events.*/
             LOGGER.info(
-                "{}: Simulation: Waiting more events or the clock to reach {} (the termination time set).{}Checking new events in {} seconds ({})",
+                "{}: Simulation: Waiting more events or the clock to reach {} (the termination time set).{}Checking new events every {} seconds ({})",
                 clock, terminationTime, System.lineSeparator(),
-                increment, info);
-            setClock(clock + increment);
-            return true;
+                idleClockIncrement, info);
         }
 
-        return false;
+        switch (idleTimePolicy) {
+            case FAST_FORWARD: fastForward(true); break;
+            case FAST_FORWARD_SKIPPING_TICKS: fastForward(false); break;
+            default: setClock(clock + idleClockIncrement);
+        }
+
+        return true;
+    }
+
+    /**
+     * Advances the clock straight to the next time something can happen while the simulation is idle,
+     * namely the termination time or the time the simulation was requested to pause.
+     *
+     * @param notifyEveryTick true to notify onClockTick listeners for every time the clock
+     *                        would be increased by the {@link IdleTimePolicy#WAIT} policy,
+     *                        stopping as soon as some listener sends an event;
+     *                        false to skip such times
+     * @see IdleTimePolicy
+     */
+    private void fastForward(final boolean notifyEveryTick) {
+        if(notifyEveryTick && !onClockTickListeners.isEmpty()) {
+            while (future.isEmpty() && !abortRequested && clock + idleClockIncrement < idleTargetTime()) {
+                setClock(clock + idleClockIncrement);
+            }
+
+            if(!future.isEmpty() || abortRequested) {
+                return;
+            }
+        }
+
+        //Ensures the clock always advances, even if the target time was already reached
+        final double target = idleTargetTime();
+        setClock(target > clock ? target : clock + idleClockIncrement);
+    }
+
+    /**
+     * Gets the time the clock can jump to while the simulation is idle.
+     * @return the time the simulation has to be terminated or paused (the lower one)
+     * @see #fastForward(boolean)
+     */
+    private double idleTargetTime() {
+        final double target = newTerminationTime == -1 ? terminationTime : newTerminationTime;
+        return isPauseRequested() && pauseAt > clock ? Math.min(target, pauseAt) : target;
     }
 
     /**
@@ -486,18 +905,40 @@ public class CloudSim implements Simulation {
                 .min().orElse(minTimeBetweenEvents);
     }
 
-    private void processFutureEventsHappeningAtSameTimeOfTheFirstOne(final SimEvent firstEvent) {
-        processEvent(firstEvent);
-        future.remove(firstEvent);
+    /**
+     * Removes the first event from the {@link #future future event queue},
+     * together with all other events happening at the same time, then processes them.
+     * Just such events are visited, instead of the entire queue.
+     */
+    private void processFutureEventsHappeningAtSameTimeOfTheFirstOne() {
+        future.drainFirstEventsAtSameTime(sameTimeEvents);
+        eventJournal.startTick();
+        if(logicalProcess) {
+            countSameTimeTicks(sameTimeEvents.get(0).getTime());
+        }
 
-        //Uses iterator to increase efficiency and avoid ConcurrentModificationException while removing
-        for(final Iterator<SimEvent> it = future.iterator(); it.hasNext();){
-            SimEvent evt = it.next();
-            if(evt.getTime() == firstEvent.getTime()){
+        processingTickEvents = true;
+        for (sameTimeEventIndex = 0; sameTimeEventIndex < sameTimeEvents.size(); sameTimeEventIndex++) {
+            final SimEvent evt = sameTimeEvents.get(sameTimeEventIndex);
+            //Events cancelled after being removed from the future queue are replaced by SimEvent.NULL
+            if(evt != SimEvent.NULL) {
                 processEvent(evt);
-                it.remove();
             }
         }
+        processingTickEvents = false;
+
+        metrics.notifyTickProcessed(clock, sameTimeEvents.size(), future.size(), deferred.size());
+        sameTimeEvents.clear();
+    }
+
+    /**
+     * Updates the number of ticks processed at the same simulation time.
+     * @param time the time of the tick being processed
+     * @see #sameTimeTicks
+     */
+    private void countSameTimeTicks(final double time) {
+        sameTimeTicks = time == lastTickTime ? sameTimeTicks + 1 : 1;
+        lastTickTime = time;
     }
 
     /**
@@ -505,14 +946,65 @@ public class CloudSim implements Simulation {
      * and execute them.
      */
     private void executeRunnableEntities() {
+        if(tickExecutor != null){
+            executeRunnableEntitiesInParallel();
+            return;
+        }
+
         /*Uses an indexed for instead of anything else to avoid
         ConcurrencyModificationException when a HostFaultInjection is created inside a Datacenter*/
         for (int i = 0; i < entities.size(); i++) {
             CloudSimEntity ent = entities.get(i);
             if (ent.getState() == SimEntity.State.RUNNABLE) {
+                processingEntityId = ent.getId();
                 ent.run();
             }
         }
+
+        processingEntityId = -1;
+    }
+
+    /**
+     * Gets the list of entities that are in {@link SimEntity.State#RUNNABLE}
+     * and have events to process, then execute them in parallel.
+     * @see #setTickParallelism(int)
+     */
+    private void executeRunnableEntitiesInParallel() {
+        for (final CloudSimEntity ent : entities) {
+            if (ent.getState() == SimEntity.State.RUNNABLE && (ent.hasBufferedEvent() || deferred.findFirst(ent, ANY_EVT) != SimEvent.NULL)) {
+                runnableEntities.add(ent);
+            }
+        }
+
+        if(runnableEntities.size() == 1) {
+            runnableEntities.get(0).run();
+        } else if(runnableEntities.size() > 1) {
+            tickExecutor.run(runnableEntities);
+        }
+
+        runnableEntities.clear();
+    }
+
+    /**
+     * Performs an action for each event an entity has to process at the current tick,
+     * which include its buffered event and its events in the deferred queue.
+     * @param entity the entity to get the events
+     * @param action the action to perform for each event
+     */
+    void forEachEventToProcess(final CloudSimEntity entity, final Consumer<SimEvent> action) {
+        if(entity.hasBufferedEvent()) {
+            action.accept(entity.getBufferedEvent());
+        }
+
+        deferred.stream(entity).forEach(action);
+    }
+
+    /**
+     * Checks if entities are processing the events of the current tick in parallel at this moment.
+     * @return true if entities are running in parallel, false otherwise
+     */
+    private boolean isRunningEntitiesInParallel() {
+        return tickExecutor != null && tickExecutor.isRunning();
     }
 
     private void sendNow(final SimEntity dest, final int tag) {
@@ -526,26 +1018,147 @@ public class CloudSim implements Simulation {
 
     @Override
     public void send(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
-        send(new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
+        send(acquireSendEvent(src, dest, delay, tag, data));
+    }
+
+    /**
+     * Gets an event to be sent by this simulation on behalf of a source entity.
+     * If this is a logical process and the entity belongs to another one
+     * (such as the shared {@link CloudInformationService}), the event time is
+     * computed from the clock of this simulation instead of the entity's one.
+     */
+    private SimEvent acquireSendEvent(
+        final SimEntity src, final SimEntity dest,
+        final double delay, final int tag, final Object data)
+    {
+        final SimEvent evt = eventPool.acquire(SimEvent.Type.SEND, delay, src, dest, tag, data);
+        if(logicalProcess && src.getSimulation() != this && evt instanceof CloudSimEvent){
+            ((CloudSimEvent) evt).setSendingSimulation(this, delay);
+        }
+
+        return evt;
     }
 
     @Override
     public void send(final SimEvent evt) {
         requireNonNull(evt);
         //Events with a negative tag have higher priority (except the "end of the simulation" event)
-        if(evt.getTag() < 0 && evt.getTag() != CloudSimTags.END_OF_SIMULATION)
-            future.addEventFirst(evt);
-        else future.addEvent(evt);
+        addFutureEvent(evt, evt.getTag() < 0 && evt.getTag() != CloudSimTags.END_OF_SIMULATION);
     }
 
     @Override
     public void sendFirst(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
-        sendFirst(new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
+        sendFirst(acquireSendEvent(src, dest, delay, tag, data));
     }
 
     @Override
     public void sendFirst(SimEvent evt) {
-        future.addEventFirst(evt);
+        addFutureEvent(requireNonNull(evt), true);
+    }
+
+    /**
+     * Adds an event to the {@link #future future event queue}.
+     * If the event is targeted to an entity from another logical process,
+     * it's stored to be delivered by the {@link ParallelCloudSim}.
+     * If entities are running in parallel, the event is just stored
+     * to be added after all entities finish.
+     * If the current thread is {@link DeferredEffects deferring effects},
+     * the event is added when such effects are applied.
+     *
+     * @param evt the event to add
+     * @param first true if the event must be added to the head of the events with the same time, false otherwise
+     * @see #setTickParallelism(int)
+     */
+    void addFutureEvent(final SimEvent evt, final boolean first) {
+        if(DeferredEffects.isDeferring()){
+            DeferredEffects.run(() -> addFutureEvent(evt, first));
+            return;
+        }
+
+        if(isRunningEntitiesInParallel()){
+            tickExecutor.getOutbox().add(evt, first);
+            return;
+        }
+
+        setSendOrder(evt);
+        if(isRemoteEvent(evt)){
+            sendToLogicalProcess(evt, first);
+            return;
+        }
+
+        if(first)
+            future.addEventFirst(evt);
+        else future.addEvent(evt);
+    }
+
+    /**
+     * Checks if an event is targeted to an entity from another logical process
+     * of a {@link ParallelCloudSim}.
+     * @param evt the event to check
+     * @return true if the event has to be sent to another logical process, false otherwise
+     */
+    private boolean isRemoteEvent(final SimEvent evt) {
+        return logicalProcess && evt.getType() == SimEvent.Type.SEND && evt.getDestination().getSimulation() != this;
+    }
+
+    /**
+     * Sets the point where an event is being sent by a logical process,
+     * so that events from different logical processes are processed in the same order
+     * as if all entities were running in a single simulation.
+     * @param evt the event being sent
+     * @see CloudSimEvent#setSendOrder(int, double, int, long)
+     */
+    private void setSendOrder(final SimEvent evt) {
+        if(logicalProcess && evt instanceof CloudSimEvent) {
+            final int tick = sameTimeTicks * 2 + (processingTickEvents ? 0 : 1);
+            ((CloudSimEvent) evt).setSendOrder(logicalProcessIndex, clock, tick, processingTickEvents ? -1 : processingEntityId);
+        }
+    }
+
+    /**
+     * Stores an event to be delivered by the {@link ParallelCloudSim}
+     * to the logical process of the destination entity.
+     * Since each logical process notifies its own entities about the end of the simulation,
+     * {@link CloudSimTags#END_OF_SIMULATION} events sent to other logical processes are ignored.
+     *
+     * @param evt the event to send
+     * @param first true if the event must be added to the head of the events with the same time, false otherwise
+     * @throws IllegalStateException when the event happens before the end of the
+     *         time window being processed, which would require the destination
+     *         logical process to receive an event in the past
+     */
+    private void sendToLogicalProcess(final SimEvent evt, final boolean first) {
+        if(evt.getTag() == CloudSimTags.END_OF_SIMULATION){
+            eventPool.release(evt);
+            return;
+        }
+
+        if(evt.getTime() < windowEnd){
+            throw new IllegalStateException(
+                String.format(
+                    "%s sent event %d to %s at time %.4f, before the end of the time window being processed (%.4f). " +
+                    "Events between logical processes must have a delay of at least the lookahead of the ParallelCloudSim.",
+                    evt.getSource(), evt.getTag(), evt.getDestination(), evt.getTime(), windowEnd));
+        }
+
+        if(first)
+            remoteFirstEvents.add(evt);
+        else remoteEvents.add(evt);
+    }
+
+    /**
+     * Adds an event sent by another logical process of a {@link ParallelCloudSim}
+     * to the future event queue.
+     * The {@link CloudSimEvent#setSendOrder(int, double, int, long) send order}
+     * defined by the sender logical process is kept.
+     *
+     * @param evt the event to add
+     * @param first true if the event must be added to the head of the events with the same time, false otherwise
+     */
+    private void addRemoteEvent(final SimEvent evt, final boolean first) {
+        if(first)
+            future.addEventFirst(evt);
+        else future.addEvent(evt);
     }
 
     @Override
@@ -553,69 +1166,155 @@ public class CloudSim implements Simulation {
         src.setState(SimEntity.State.WAITING);
         if (predicate != ANY_EVT) {
             // If a predicate has been used, store it in order to check incoming events that matches it
-            waitPredicates.put(src, predicate);
+            synchronized (waitPredicates) {
+                waitPredicates.put(src, predicate);
+            }
         }
     }
 
     @Override
     public SimEvent select(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        final SimEvent evt = findFirstDeferred(dest, predicate);
-        if(evt != SimEvent.NULL) {
-            deferred.remove(evt);
+        if(isRunningEntitiesInParallel()){
+            synchronized (deferred) {
+                return deferred.removeFirst(dest, predicate);
+            }
         }
 
-        return evt;
-    }
-
-    @Override
-    public SimEvent findFirstDeferred(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        return filterEventsToDestinationEntity(deferred, predicate, dest).findFirst().orElse(SimEvent.NULL);
+        return deferred.removeFirst(dest, predicate);
     }
 
     /**
-     * Gets a stream of events inside a specific queue that match a given predicate
-     * and are targeted to an specific entity.
+     * Removes the events waiting in the deferred queue for an entity which was shut down,
+     * since they will never be processed.
      *
-     * @param queue the queue to get the events from
-     * @param predicate the event selection predicate
-     * @param dest Id of entity that the event has to be sent to
-     * @return a Stream of events from the queue
+     * @param dest the entity that was shut down
      */
-    private Stream<SimEvent> filterEventsToDestinationEntity(final EventQueue queue, final Predicate<SimEvent> predicate, final SimEntity dest) {
-        return filterEvents(queue, predicate.and(evt -> evt.getDestination() == dest));
+    void removeDeferredEvents(final SimEntity dest) {
+        if(isRunningEntitiesInParallel()){
+            synchronized (deferred) {
+                deferred.removeAll(dest);
+            }
+            return;
+        }
+
+        deferred.removeAll(dest);
+    }
+
+    @Override
+    public SimEvent findFirstDeferred(final SimEntity dest, final Predicate<SimEvent> predicate) {
+        if(isRunningEntitiesInParallel()){
+            synchronized (deferred) {
+                return deferred.findFirst(dest, predicate);
+            }
+        }
+
+        return deferred.findFirst(dest, predicate);
     }
 
     @Override
     public SimEvent cancel(final SimEntity src, final Predicate<SimEvent> predicate) {
-        final SimEvent canceled =
-                future.stream()
-                      .filter(isEventSourceEqualsTo(predicate, src))
-                      .findFirst()
-                      .orElse(SimEvent.NULL);
-        future.remove(canceled);
+        final SimEvent canceled = findFirstFutureEvent(isEventSourceEqualsTo(predicate, src));
+        cancel(canceled);
         return canceled;
     }
 
+    /**
+     * Finds the first future event matching a given predicate,
+     * including the ones sent by the running entity while entities run in parallel.
+     * @param predicate the predicate to select the event
+     * @return the found event or {@link SimEvent#NULL} if not found
+     */
+    private SimEvent findFirstFutureEvent(final Predicate<SimEvent> predicate) {
+        if(!isRunningEntitiesInParallel()){
+            return future.stream().filter(predicate).findFirst().orElse(SimEvent.NULL);
+        }
+
+        final SimEvent queued;
+        synchronized (future) {
+            queued = future.stream().filter(predicate).findFirst().orElse(SimEvent.NULL);
+        }
+
+        final SimEvent pending = tickExecutor.getOutbox().findFirst(predicate);
+        return pending != SimEvent.NULL && (queued == SimEvent.NULL || pending.getTime() < queued.getTime()) ? pending : queued;
+    }
+
     @Override
     public boolean cancelAll(final SimEntity src, final Predicate<SimEvent> predicate) {
-        final int previousSize = future.size();
-        future.removeIf(isEventSourceEqualsTo(predicate, src));
-        return previousSize < future.size();
+        final Predicate<SimEvent> filter = isEventSourceEqualsTo(predicate, src);
+        if(!isRunningEntitiesInParallel()){
+            return future.removeIf(filter);
+        }
+
+        final boolean removedPending = tickExecutor.getOutbox().removeIf(filter);
+        synchronized (future) {
+            return future.removeIf(filter) || removedPending;
+        }
     }
 
-    private Predicate<SimEvent> isEventSourceEqualsTo(final Predicate<SimEvent> predicate, final SimEntity src) {
-        return predicate.and(evt -> evt.getSource().equals(src));
+    @Override
+    public boolean cancel(final SimEventHandle handle) {
+        return cancel(handle.getEvent());
+    }
+
+    /**
+     * Cancels an event that is known to be still valid
+     * (i.e., it wasn't released to the {@link #getEventPool() event pool}),
+     * removing it from the queue where it is.
+     *
+     * @param evt the event to cancel
+     * @return true if the event was cancelled; false if it was not found or is {@link SimEvent#NULL}
+     * @see #cancel(SimEventHandle)
+     */
+    private boolean cancel(final SimEvent evt) {
+        //SimEvent.NULL is equal to any event, so it cannot be used to search the queue
+        if(requireNonNull(evt) == SimEvent.NULL){
+            return false;
+        }
+
+        if(!isRunningEntitiesInParallel()){
+            return future.remove(evt) || cancelUndeliveredEvent(evt);
+        }
+
+        if(tickExecutor.getOutbox().remove(evt)){
+            return true;
+        }
+
+        synchronized (future) {
+            if(future.remove(evt)){
+                return true;
+            }
+        }
+
+        synchronized (deferred) {
+            return deferred.remove(evt);
+        }
     }
 
     /**
-     * Gets a stream of events inside a specific queue that match a given predicate.
+     * Cancels an event that was already removed from the {@link #future} queue
+     * but was not processed by its destination entity yet.
+     * That happens to events of the current tick, which are
+     * moved to the {@link #sameTimeEvents} list and then to the {@link #deferred} queue,
+     * before entities process them.
      *
-     * @param queue the queue to get the events from
-     * @param predicate the event selection predicate
-     * @return a Stream of events from the queue
+     * @param evt the event to cancel
+     * @return true if the event was cancelled, false if it was already processed
      */
-    private Stream<SimEvent> filterEvents(final EventQueue queue, final Predicate<SimEvent> predicate) {
-        return queue.stream().filter(predicate);
+    private boolean cancelUndeliveredEvent(final SimEvent evt) {
+        if(processingTickEvents) {
+            for (int i = sameTimeEventIndex + 1; i < sameTimeEvents.size(); i++) {
+                if (sameTimeEvents.get(i) == evt) {
+                    sameTimeEvents.set(i, SimEvent.NULL);
+                    return true;
+                }
+            }
+        }
+
+        return deferred.remove(evt);
+    }
+
+    private Predicate<SimEvent> isEventSourceEqualsTo(final Predicate<SimEvent> predicate, final SimEntity src) {
+        return predicate.and(evt -> evt.getSource().equals(src));
     }
 
     /**
@@ -629,9 +1328,22 @@ public class CloudSim implements Simulation {
         }
         setClock(evt.getTime());
 
-        processEventByType(evt);
-        for (final EventListener<SimEvent> listener : onEventProcessingListeners) {
-            listener.update(evt);
+        eventJournal.record(evt);
+        final boolean delivered = processEventByType(evt);
+        if(!onEventProcessingListeners.isEmpty()) {
+            for (final EventListener<SimEvent> listener : onEventProcessingListeners) {
+                listener.update(evt);
+            }
+        }
+
+        if(!eventSubscriptions.isEmpty()) {
+            eventSubscriptions.notify(evt);
+        }
+
+        /*SEND events delivered to an entity are released just after the destination entity processes them.
+        * Other ones were already processed above.*/
+        if(!delivered){
+            eventPool.release(evt);
         }
     }
 
@@ -663,7 +1375,14 @@ public class CloudSim implements Simulation {
         circularClockTimeQueue[1] = clock;
     }
 
-    private void processEventByType(final SimEvent evt) {
+    /**
+     * Processes an event according to its type.
+     * @param evt the event to process
+     * @return true if the event was delivered to its destination entity,
+     *         which is in charge of releasing it to the {@link #getEventPool() pool};
+     *         false if the event was already processed and can be released
+     */
+    private boolean processEventByType(final SimEvent evt) {
         switch (evt.getType()) {
             case NULL:
                 throw new IllegalArgumentException("Event has a null type.");
@@ -671,12 +1390,13 @@ public class CloudSim implements Simulation {
                 processCreateEvent(evt);
             break;
             case SEND:
-                processSendEvent(evt);
-            break;
+                return processSendEvent(evt);
             case HOLD_DONE:
                 processHoldEvent(evt);
             break;
         }
+
+        return false;
     }
 
     private void processCreateEvent(final SimEvent evt) {
@@ -705,26 +1425,38 @@ public class CloudSim implements Simulation {
         evt.getSource().setState(SimEntity.State.RUNNABLE);
     }
 
-    private void processSendEvent(final SimEvent evt) {
+    /**
+     * Delivers a {@link SimEvent.Type#SEND} event to its destination entity.
+     * @param evt the event to deliver
+     * @return true if the event was delivered to the destination entity,
+     *         false if the entity is {@link SimEntity.State#FINISHED} and the event was discarded
+     */
+    private boolean processSendEvent(final SimEvent evt) {
         if (evt.getDestination() == SimEntity.NULL) {
             throw new IllegalArgumentException("Attempt to send to a null entity detected.");
         }
 
         final CloudSimEntity destEnt = (CloudSimEntity)evt.getDestination();
+        if (destEnt.getState() == SimEntity.State.FINISHED) {
+            //A finished entity doesn't process events anymore, so the event is released by the caller
+            return false;
+        }
+
         if (destEnt.getState() == SimEntity.State.WAITING) {
             final Predicate<SimEvent> p = waitPredicates.get(destEnt);
             if (p == null || evt.getTag() == 9999 || p.test(evt)) {
-                destEnt.setEventBuffer(new CloudSimEvent(evt));
+                destEnt.setEventBuffer(evt);
                 destEnt.setState(SimEntity.State.RUNNABLE);
                 waitPredicates.remove(destEnt);
             } else {
                 deferred.addEvent(evt);
             }
 
-            return;
+            return true;
         }
 
         deferred.addEvent(evt);
+        return true;
     }
 
     private void startEntitiesIfNotRunning() {
@@ -733,7 +1465,12 @@ public class CloudSim implements Simulation {
         }
 
         running = true;
-        entities.forEach(SimEntity::start);
+        for (final CloudSimEntity entity : entities) {
+            processingEntityId = entity.getId();
+            entity.start();
+        }
+
+        processingEntityId = -1;
         LOGGER.info("Entities started.");
     }
 
@@ -771,12 +1508,12 @@ public class CloudSim implements Simulation {
 
     @Override
     public void pauseEntity(final SimEntity src, final double delay) {
-        final SimEvent evt = new CloudSimEvent(SimEvent.Type.HOLD_DONE, delay, src);
+        final SimEvent evt = eventPool.acquire(SimEvent.Type.HOLD_DONE, delay, src, SimEntity.NULL, -1, null);
         addHoldingFutureEvent(src, evt);
     }
 
     private void addHoldingFutureEvent(SimEntity src, SimEvent evt) {
-        future.addEvent(evt);
+        addFutureEvent(evt, false);
         src.setState(SimEntity.State.HOLDING);
     }
 
@@ -786,7 +1523,7 @@ public class CloudSim implements Simulation {
      * @param delay How many seconds after the current time the entity has to be held
      */
     protected void holdEntity(final SimEntity src, final long delay) {
-        final SimEvent evt = new CloudSimEvent(SimEvent.Type.HOLD_DONE, delay, src);
+        final SimEvent evt = eventPool.acquire(SimEvent.Type.HOLD_DONE, delay, src, SimEntity.NULL, -1, null);
         addHoldingFutureEvent(src, evt);
     }
 
@@ -830,9 +1567,13 @@ public class CloudSim implements Simulation {
 
     @Override
     public long getNumberOfFutureEvents(final Predicate<SimEvent> predicate){
-        return future.stream()
-                .filter(predicate)
-                .count();
+        if(!isRunningEntitiesInParallel()){
+            return future.stream().filter(predicate).count();
+        }
+
+        synchronized (future) {
+            return future.stream().filter(predicate).count() + tickExecutor.getOutbox().count(predicate);
+        }
     }
 
     private boolean isThereFutureEvtsAndNextOneHappensAfterTimeToPause() {
@@ -864,6 +1605,75 @@ public class CloudSim implements Simulation {
 
         entitiesAlive.forEach(SimEntity::shutdownEntity);
         running = false;
+        shutdownTickExecutor();
+        eventJournal.close();
+        metrics.notifySimulationFinished(clock);
+        notifyEventListeners(onSimulationEndListeners, clock);
+    }
+
+    /**
+     * Starts the simulation entities to replay the events recorded by an {@link EventJournal},
+     * instead of processing the events they send.
+     * @see EventJournalReplay
+     */
+    void startReplay() {
+        if(alreadyRunOnce){
+            throw new UnsupportedOperationException("You can't replay events in a simulation that has already run previously.");
+        }
+
+        LOGGER.info("{}================== Replaying events in CloudSim Plus {} =================={}", System.lineSeparator(), VERSION,  System.lineSeparator());
+        startEntitiesIfNotRunning();
+        this.alreadyRunOnce = true;
+        metrics.notifySimulationStarted(this);
+        future.clear();
+    }
+
+    /**
+     * Starts a new tick while replaying events, making entities to process the events of the previous tick.
+     * The events entities send are discarded, since the recorded events are replayed instead.
+     * @see EventJournalReplay
+     */
+    void replayTick() {
+        executeRunnableEntities();
+        future.clear();
+    }
+
+    /**
+     * Processes a recorded event while replaying events.
+     * @param evt the event to process
+     * @see EventJournalReplay
+     */
+    void replayEvent(final SimEvent evt) {
+        processEvent(evt);
+    }
+
+    /**
+     * Finishes the simulation after all recorded events are replayed.
+     * @see EventJournalReplay
+     */
+    void finishReplay() {
+        replayTick();
+        finishSimulation();
+        printSimulationFinished();
+    }
+
+    private void createTickExecutor() {
+        eventPool.setThreadSafe(tickParallelism > 1);
+        if(tickParallelism > 1) {
+            LOGGER.warn(
+                "Simulation: Entities will process the events of each tick in parallel using {} threads (experimental). " +
+                "Entities out of the cloud infrastructure (Datacenters, brokers, switches and fault injectors) " +
+                "must not directly change objects shared with other entities, since such changes are not detected.",
+                tickParallelism);
+            tickExecutor = new ParallelTickExecutor(this, tickParallelism);
+        }
+    }
+
+    private void shutdownTickExecutor() {
+        if(tickExecutor != null) {
+            tickExecutor.shutdown();
+            tickExecutor = null;
+        }
     }
 
     @Override
@@ -888,6 +1698,12 @@ public class CloudSim implements Simulation {
         return this;
     }
 
+    @Override
+    public final Simulation addOnSimulationEndListener(final EventListener<EventInfo> listener) {
+        this.onSimulationEndListeners.add(requireNonNull(listener));
+        return this;
+    }
+
     @Override
     public boolean removeOnSimulationPauseListener(final EventListener<EventInfo> listener) {
         return this.onSimulationPauseListeners.remove(listener);
@@ -899,9 +1715,27 @@ public class CloudSim implements Simulation {
         return this;
     }
 
+    @Override
+    public final Simulation addOnEventProcessingListener(final int tag, final EventListener<SimEvent> listener) {
+        return addOnEventProcessingListener(SimEntity.NULL, tag, listener);
+    }
+
+    @Override
+    public final Simulation addOnEventProcessingListener(final SimEntity dest, final EventListener<SimEvent> listener) {
+        eventSubscriptions.add(dest, listener);
+        return this;
+    }
+
+    @Override
+    public final Simulation addOnEventProcessingListener(final SimEntity dest, final int tag, final EventListener<SimEvent> listener) {
+        eventSubscriptions.add(dest, tag, listener);
+        return this;
+    }
+
     @Override
     public boolean removeOnEventProcessingListener(final EventListener<SimEvent> listener) {
-        return onEventProcessingListeners.remove(requireNonNull(listener));
+        final boolean removed = onEventProcessingListeners.remove(requireNonNull(listener));
+        return eventSubscriptions.remove(listener) || removed;
     }
 
     @Override
@@ -925,6 +1759,81 @@ public class CloudSim implements Simulation {
         this.networkTopology = networkTopology;
     }
 
+    @Override
+    public EventPool getEventPool() {
+        return eventPool;
+    }
+
+    @Override
+    public void setEventPool(final EventPool eventPool) {
+        if(alreadyRunOnce){
+            throw new IllegalStateException("The event pool cannot be changed after the simulation has started.");
+        }
+
+        this.eventPool = requireNonNull(eventPool);
+    }
+
+    @Override
+    public EventJournal getEventJournal() {
+        return eventJournal;
+    }
+
+    @Override
+    public void setEventJournal(final EventJournal eventJournal) {
+        this.eventJournal = requireNonNull(eventJournal);
+    }
+
+    @Override
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void setMetrics(final SimulationMetrics metrics) {
+        if(alreadyRunOnce){
+            throw new IllegalStateException("The simulation metrics cannot be changed after the simulation has started.");
+        }
+
+        this.metrics = requireNonNull(metrics);
+    }
+
+    @Override
+    public int getTickParallelism() {
+        return tickParallelism;
+    }
+
+    @Override
+    public void setTickParallelism(final int parallelism) {
+        if(alreadyRunOnce){
+            throw new IllegalStateException("The tick parallelism cannot be changed after the simulation has started.");
+        }
+
+        if(parallelism <= 0){
+            throw new IllegalArgumentException("The tick parallelism must be greater than zero.");
+        }
+
+        this.tickParallelism = parallelism;
+    }
+
+    /**
+     * Restores a simulation from a {@link SimulationCheckpoint}.
+     * If the checkpoint was saved while the simulation was paused,
+     * the restored simulation is not paused and it continues from the checkpoint time
+     * when {@link #start() started}.
+     *
+     * @param in the stream to read the simulation from
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        eventJournal = EventJournal.NULL;
+        metrics = SimulationMetrics.NULL;
+        if(running) {
+            paused = false;
+            pauseAt = -1;
+            alreadyRunOnce = false;
+        }
+    }
+
     @Override
     public double getLastCloudletProcessingUpdate() {
         return lastCloudletProcessingUpdate;
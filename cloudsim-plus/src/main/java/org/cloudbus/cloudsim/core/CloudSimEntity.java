@@ -8,8 +8,10 @@
 package org.cloudbus.cloudsim.core;
 
 import org.apache.commons.lang3.StringUtils;
-import org.cloudbus.cloudsim.core.events.CloudSimEvent;
 import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.core.events.SimEventHandle;
+import org.cloudbus.cloudsim.core.metrics.EventProcessingStats;
+import org.cloudbus.cloudsim.core.metrics.SimulationMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +26,8 @@ import java.util.function.Predicate;
  * @since CloudSim Toolkit 1.0
  */
 public abstract class CloudSimEntity implements SimEntity {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudSimEntity.class.getSimpleName());
 
     /**
@@ -53,6 +57,17 @@ public abstract class CloudSimEntity implements SimEntity {
      */
     private State state;
 
+    /**
+     * The metrics the {@link #metricsStats} were got from.
+     */
+    private transient SimulationMetrics metrics;
+
+    /**
+     * The statistics of events processed by this entity,
+     * kept to notify the {@link #metrics} without looking them up for every event.
+     */
+    private transient EventProcessingStats metricsStats;
+
     /**
      * Creates a new entity.
      *
@@ -103,6 +118,9 @@ public abstract class CloudSimEntity implements SimEntity {
     @Override
     public void shutdownEntity() {
         setState(State.FINISHED);
+        if(simulation instanceof CloudSim) {
+            ((CloudSim) simulation).removeDeferredEvents(this);
+        }
     }
 
     /**
@@ -111,22 +129,22 @@ public abstract class CloudSimEntity implements SimEntity {
     protected abstract void startEntity();
 
     @Override
-    public boolean schedule(final SimEntity dest, final double delay, final int tag, final Object data) {
-        return schedule(new CloudSimEvent(delay, this, dest, tag, data));
+    public SimEventHandle schedule(final SimEntity dest, final double delay, final int tag, final Object data) {
+        return scheduleEvent(newEvent(dest, delay, tag, data));
     }
 
     @Override
-    public boolean schedule(final double delay, final int tag, final Object data) {
+    public SimEventHandle schedule(final double delay, final int tag, final Object data) {
         return schedule(this, delay, tag, data);
     }
 
     @Override
-    public boolean schedule(final SimEntity dest, final double delay, final int tag) {
+    public SimEventHandle schedule(final SimEntity dest, final double delay, final int tag) {
         return schedule(dest, delay, tag, null);
     }
 
     @Override
-    public boolean schedule(final int tag, final Object data) {
+    public SimEventHandle schedule(final int tag, final Object data) {
         return schedule(this, 0, tag, data);
     }
 
@@ -139,6 +157,37 @@ public abstract class CloudSimEntity implements SimEntity {
         return true;
     }
 
+    /**
+     * Sends an event, returning a handle so that it can be later cancelled.
+     * If the event couldn't be sent, it's released back to the {@link Simulation#getEventPool() event pool}.
+     *
+     * @param evt the event to send
+     * @return the handle of the sent event or {@link SimEventHandle#NULL} if it couldn't be sent
+     * @see #schedule(SimEvent)
+     */
+    private SimEventHandle scheduleEvent(final SimEvent evt) {
+        if(schedule(evt)){
+            return SimEventHandle.of(evt);
+        }
+
+        simulation.getEventPool().release(evt);
+        return SimEventHandle.NULL;
+    }
+
+    /**
+     * Creates a {@link SimEvent.Type#SEND} event from this entity,
+     * using the {@link Simulation#getEventPool() event pool}.
+     *
+     * @param dest  the destination entity
+     * @param delay How many seconds after the current simulation time the event should be sent
+     * @param tag   An user-defined number representing the type of event.
+     * @param data  The data to be sent with the event.
+     * @return the created event
+     */
+    private SimEvent newEvent(final SimEntity dest, final double delay, final int tag, final Object data) {
+        return simulation.getEventPool().acquire(SimEvent.Type.SEND, delay, this, dest, tag, data);
+    }
+
     private boolean canSendEvent(final SimEvent evt) {
         /**
          * If the simulation has finished and an  {@link CloudSimTags#END_OF_SIMULATION}
@@ -158,9 +207,11 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param dest the destination entity
      * @param tag  An user-defined number representing the type of event.
      * @param data The data to be sent with the event.
+     * @return the handle of the sent event, that can be used to {@link #cancelEvent(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if it couldn't be sent
      */
-    public void scheduleNow(final SimEntity dest, final int tag, final Object data) {
-        schedule(dest, 0, tag, data);
+    public SimEventHandle scheduleNow(final SimEntity dest, final int tag, final Object data) {
+        return scheduleEvent(newEvent(dest, 0, tag, data));
     }
 
     /**
@@ -168,9 +219,11 @@ public abstract class CloudSimEntity implements SimEntity {
      *
      * @param dest the destination entity
      * @param tag  An user-defined number representing the type of event.
+     * @return the handle of the sent event, that can be used to {@link #cancelEvent(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if it couldn't be sent
      */
-    public void scheduleNow(final SimEntity dest, final int tag) {
-        schedule(dest, 0, tag, null);
+    public SimEventHandle scheduleNow(final SimEntity dest, final int tag) {
+        return scheduleNow(dest, tag, null);
     }
 
     /**
@@ -179,18 +232,22 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param dest the destination entity
      * @param tag  An user-defined number representing the type of event.
      * @param data The data to be sent with the event.
+     * @return the handle of the sent event, that can be used to {@link #cancelEvent(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if it couldn't be sent
      */
-    public void scheduleFirstNow(final SimEntity dest, final int tag, final Object data) {
-        scheduleFirst(dest, 0, tag, data);
+    public SimEventHandle scheduleFirstNow(final SimEntity dest, final int tag, final Object data) {
+        return scheduleFirst(dest, 0, tag, data);
     }
 
     /**
      * Sends a high priority event to another entity with <b>no</b> attached data and no delay.
      * @param dest the destination entity
      * @param tag  An user-defined number representing the type of event.
+     * @return the handle of the sent event, that can be used to {@link #cancelEvent(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if it couldn't be sent
      */
-    public void scheduleFirstNow(final SimEntity dest, final int tag) {
-        scheduleFirst(dest, 0, tag, null);
+    public SimEventHandle scheduleFirstNow(final SimEntity dest, final int tag) {
+        return scheduleFirst(dest, 0, tag, null);
     }
 
     /**
@@ -199,9 +256,11 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param dest  the destination entity
      * @param delay How many seconds after the current simulation time the event should be sent
      * @param tag   An user-defined number representing the type of event.
+     * @return the handle of the sent event, that can be used to {@link #cancelEvent(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if it couldn't be sent
      */
-    public void scheduleFirst(final SimEntity dest, final double delay, final int tag) {
-        scheduleFirst(dest, delay, tag, null);
+    public SimEventHandle scheduleFirst(final SimEntity dest, final double delay, final int tag) {
+        return scheduleFirst(dest, delay, tag, null);
     }
 
     /**
@@ -211,14 +270,18 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param delay How many seconds after the current simulation time the event should be sent
      * @param tag   An user-defined number representing the type of event.
      * @param data  The data to be sent with the event.
+     * @return the handle of the sent event, that can be used to {@link #cancelEvent(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if it couldn't be sent
      */
-    public void scheduleFirst(final SimEntity dest, final double delay, final int tag, final Object data) {
-        final CloudSimEvent evt = new CloudSimEvent(delay, this, dest, tag, data);
+    public SimEventHandle scheduleFirst(final SimEntity dest, final double delay, final int tag, final Object data) {
+        final SimEvent evt = newEvent(dest, delay, tag, data);
         if (!canSendEvent(evt)) {
-            return;
+            simulation.getEventPool().release(evt);
+            return SimEventHandle.NULL;
         }
 
         simulation.sendFirst(evt);
+        return SimEventHandle.of(evt);
     }
 
     /**
@@ -264,6 +327,24 @@ public abstract class CloudSimEntity implements SimEntity {
         return simulation.isRunning() ? simulation.cancel(this, predicate) : SimEvent.NULL;
     }
 
+    /**
+     * Cancels an event previously sent by this entity, removing it from the future event queue.
+     * Differently from {@link #cancelEvent(Predicate)}, that scans the queue,
+     * the event is directly located by its handle in O(log n) or less.
+     * If an {@link Simulation#getEventPool() event pool} is being used
+     * and the event was already processed or cancelled, the event object may have been reused
+     * for another message. In such a case, the handle is not valid anymore and nothing is cancelled.
+     *
+     * @param handle the handle of the event to cancel, returned by the method used to send it
+     *               (such as {@link #send(SimEntity, double, int, Object)})
+     * @return true if the event was cancelled; false if it wasn't sent by this entity,
+     *         was already processed or cancelled, or the handle is {@link SimEventHandle#NULL}
+     * @see Simulation#getEventPool()
+     */
+    public boolean cancelEvent(final SimEventHandle handle) {
+        return simulation.isRunning() && handle.getEvent().getSource() == this && simulation.cancel(handle);
+    }
+
     /**
      * Gets the first event matching a predicate from the deferred queue, or if
      * none match, wait for a matching event to arrive.
@@ -308,8 +389,13 @@ public abstract class CloudSimEntity implements SimEntity {
     public void run() {
         SimEvent evt = buffer == null ? getNextEvent() : buffer;
 
+        final SimulationMetrics metrics = simulation.getMetrics();
         while (evt != SimEvent.NULL) {
-            processEvent(evt);
+            if(metrics.isEnabled()) {
+                processEventMeasuringTime(evt, metrics);
+            } else processEvent(evt);
+
+            simulation.getEventPool().release(evt);
             if (state != State.RUNNABLE) {
                 break;
             }
@@ -320,6 +406,35 @@ public abstract class CloudSimEntity implements SimEntity {
         buffer = null;
     }
 
+    /**
+     * Processes an event, notifying the simulation metrics
+     * about the wall-clock time taken to process it.
+     *
+     * @param evt the event to process
+     * @param metrics the metrics to notify
+     */
+    private void processEventMeasuringTime(final SimEvent evt, final SimulationMetrics metrics) {
+        final long start = System.nanoTime();
+        processEvent(evt);
+        metrics.notifyEventProcessed(getMetricsStats(metrics), evt, System.nanoTime() - start);
+    }
+
+    /**
+     * Gets the statistics of events processed by this entity in given metrics,
+     * which are got from the metrics just when they change.
+     *
+     * @param metrics the metrics to get the statistics from
+     * @return the statistics of this entity
+     */
+    private EventProcessingStats getMetricsStats(final SimulationMetrics metrics) {
+        if(metrics != this.metrics) {
+            this.metricsStats = metrics.getEntityStats(this);
+            this.metrics = metrics;
+        }
+
+        return metricsStats;
+    }
+
     /**
      * Gets a clone of the entity. This is used when independent replications
      * have been specified as an output analysis method. Clones or backups of
@@ -336,6 +451,8 @@ public abstract class CloudSimEntity implements SimEntity {
         copy.setName(name);
         copy.setSimulation(simulation);
         copy.setEventBuffer(null);
+        copy.metrics = null;
+        copy.metricsStats = null;
         return copy;
     }
 
@@ -385,7 +502,7 @@ public abstract class CloudSimEntity implements SimEntity {
      *
      * @param id the new id
      */
-    protected final void setId(final int id) {
+    protected final void setId(final long id) {
         this.id = id;
         setAutomaticName();
     }
@@ -407,6 +524,22 @@ public abstract class CloudSimEntity implements SimEntity {
         buffer = evt;
     }
 
+    /**
+     * Checks if there is an event in the buffer, waiting to be processed by the entity.
+     * @return true if there is a buffered event, false otherwise
+     */
+    boolean hasBufferedEvent() {
+        return buffer != null;
+    }
+
+    /**
+     * Gets the event in the buffer, waiting to be processed by the entity.
+     * @return the buffered event or {@link SimEvent#NULL} if there is no buffered event
+     */
+    SimEvent getBufferedEvent() {
+        return buffer == null ? SimEvent.NULL : buffer;
+    }
+
     // --------------- EVENT / MESSAGE SEND WITH NETWORK DELAY METHODS ------------------
 
     /**
@@ -419,12 +552,14 @@ public abstract class CloudSimEntity implements SimEntity {
      *                    If delay is a negative number, then it will be changed to 0
      * @param cloudSimTag an user-defined number representing the type of an event/message
      * @param data        A reference to data to be sent with the event
+     * @return the handle of the sent event, that can be used to {@link #cancelEvent(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if it couldn't be sent
      */
-    protected void send(final SimEntity dest, double delay, final int cloudSimTag, final Object data) {
+    protected SimEventHandle send(final SimEntity dest, double delay, final int cloudSimTag, final Object data) {
         Objects.requireNonNull(dest);
         if (dest.getId() < 0) {
             LOGGER.error("{}.send(): invalid entity id {} for {}", getName(), dest.getId(), dest);
-            return;
+            return SimEventHandle.NULL;
         }
 
         // if delay is negative, then it doesn't make sense. So resets to 0.0
@@ -441,7 +576,7 @@ public abstract class CloudSimEntity implements SimEntity {
             delay += getNetworkDelay(getId(), dest.getId());
         }
 
-        schedule(dest, delay, cloudSimTag, data);
+        return scheduleEvent(newEvent(dest, delay, cloudSimTag, data));
     }
 
     /**
@@ -454,9 +589,11 @@ public abstract class CloudSimEntity implements SimEntity {
      *                    If delay is a negative number, then it will be changed to 0
      * @param cloudSimTag an user-defined number representing the type of an
      *                    event/message
+     * @return the handle of the sent event, that can be used to {@link #cancelEvent(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if it couldn't be sent
      */
-    protected void send(final SimEntity dest, final double delay, final int cloudSimTag) {
-        send(dest, delay, cloudSimTag, null);
+    protected SimEventHandle send(final SimEntity dest, final double delay, final int cloudSimTag) {
+        return send(dest, delay, cloudSimTag, null);
     }
 
     /**
@@ -467,9 +604,11 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param cloudSimTag an user-defined number representing the type of an
      *                    event/message
      * @param data        A reference to data to be sent with the event
+     * @return the handle of the sent event, that can be used to {@link #cancelEvent(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if it couldn't be sent
      */
-    protected void sendNow(final SimEntity dest, final int cloudSimTag, final Object data) {
-        send(dest, 0, cloudSimTag, data);
+    protected SimEventHandle sendNow(final SimEntity dest, final int cloudSimTag, final Object data) {
+        return send(dest, 0, cloudSimTag, data);
     }
 
     /**
@@ -478,9 +617,11 @@ public abstract class CloudSimEntity implements SimEntity {
      *
      * @param dest    the destination entity
      * @param cloudSimTag an user-defined number representing the type of an event/message
+     * @return the handle of the sent event, that can be used to {@link #cancelEvent(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if it couldn't be sent
      */
-    protected void sendNow(final SimEntity dest, final int cloudSimTag) {
-        send(dest, 0, cloudSimTag, null);
+    protected SimEventHandle sendNow(final SimEntity dest, final int cloudSimTag) {
+        return send(dest, 0, cloudSimTag, null);
     }
 
     /**
@@ -230,6 +230,10 @@ public final class CloudSimTags {
      * Using this tag, the Datacenter acknowledges the reception of the request.
      * To check if the VM was in fact created inside the requested Datacenter
      * one has only to call {@link Vm#isCreated()}.
+     *
+     * <p>The data of the request may also be a {@link java.util.List} of VMs,
+     * which are placed together in the Datacenter.
+     * In such a case, the data of the reply event is the same list.</p>
      */
     public static final int VM_CREATE_ACK = BASE + 32;
 
@@ -11,6 +11,8 @@ import static java.util.Objects.requireNonNull;
  * @since CloudSim Plus 4.0.3
  */
 public abstract class CustomerEntityAbstract implements CustomerEntity {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getId()
      */
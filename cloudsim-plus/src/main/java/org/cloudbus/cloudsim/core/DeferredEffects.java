@@ -0,0 +1,82 @@
+package org.cloudbus.cloudsim.core;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Defers the effects that escape an object being processed in parallel,
+ * such as sending events and notifying listeners, so that they can be applied later
+ * by a single thread, in a deterministic order.
+ *
+ * <p>A thread starts {@link #begin(List) deferring} effects into a buffer,
+ * processes some objects, then {@link #end(List) stops} deferring.
+ * While it's deferring, the effects {@link #run(Runnable) run} by such objects
+ * are stored into the buffer instead of being run.
+ * Afterwards, the effects can be run in the order they were deferred.
+ * When a thread is not deferring effects (the usual case),
+ * effects run right away.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see org.cloudbus.cloudsim.datacenters.DatacenterSimple#setHostCountForParallelUpdate(int)
+ */
+public final class DeferredEffects {
+    /**
+     * The buffer where the current thread stores the effects deferred,
+     * or null if the thread is not deferring effects.
+     */
+    private static final ThreadLocal<List<Runnable>> BUFFER = new ThreadLocal<>();
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private DeferredEffects(){/**/}
+
+    /**
+     * Makes the current thread to start deferring effects.
+     *
+     * @param buffer the list where effects will be stored
+     * @return the buffer the thread was previously using, which must be given to {@link #end(List)};
+     *         or null if the thread was not deferring effects
+     */
+    public static List<Runnable> begin(final List<Runnable> buffer) {
+        final List<Runnable> previous = BUFFER.get();
+        BUFFER.set(requireNonNull(buffer));
+        return previous;
+    }
+
+    /**
+     * Makes the current thread to stop deferring effects into the buffer given to
+     * the last call to {@link #begin(List)}.
+     *
+     * @param previous the buffer returned by the last call to {@link #begin(List)},
+     *                 so that the thread goes back to the previous state
+     */
+    public static void end(final List<Runnable> previous) {
+        if(previous == null)
+            BUFFER.remove();
+        else BUFFER.set(previous);
+    }
+
+    /**
+     * Checks if the current thread is deferring effects.
+     * @return true if effects are being deferred, false if they run right away
+     */
+    public static boolean isDeferring() {
+        return BUFFER.get() != null;
+    }
+
+    /**
+     * Runs an effect right away or, if the current thread is deferring effects,
+     * stores it to be run later.
+     *
+     * @param effect the effect to run
+     */
+    public static void run(final Runnable effect) {
+        final List<Runnable> buffer = BUFFER.get();
+        if(buffer == null)
+            effect.run();
+        else buffer.add(effect);
+    }
+}
@@ -0,0 +1,243 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.EventJournal;
+import org.cloudbus.cloudsim.core.events.EventJournalReader;
+import org.cloudbus.cloudsim.core.events.EventJournalRecord;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Feeds the events recorded by an {@link EventJournal} back,
+ * either just to a consumer of the recorded events (for instance, to rebuild metrics
+ * or to compare the events of different runs) or to drive the entities of a simulation.
+ *
+ * <p>To drive a simulation, it must be created exactly like the one whose events were recorded,
+ * but instead of calling {@link CloudSim#start()}, it's given to the {@link #drive(CloudSim)} method.
+ * Entities process the recorded events, in the same ticks they were processed originally,
+ * but the events they send are discarded, since the recorded ones are replayed instead.
+ * This way, the journal is the source of truth and the state of the entities
+ * (and the metrics collected from them) can be rebuilt from it.</p>
+ *
+ * <p>Since just a compact encoding of the events data is recorded,
+ * a data object needs to be resolved from the recorded data class and id or value.
+ * The {@link #dataResolver(CloudSim) default data resolver} finds
+ * entities, Hosts, VMs and Cloudlets by their id, creates numbers and booleans from their value
+ * and provides the list of Datacenters the {@link CloudInformationService} sends to brokers.
+ * Events with other kinds of data (such as the ones used for VM migration) require a custom data resolver.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see CloudSim#setEventJournal(EventJournal)
+ */
+public class EventJournalReplay {
+    private final Path file;
+
+    /**
+     * Creates an object to replay the events recorded into a given file.
+     * @param file the file written by an {@link org.cloudbus.cloudsim.core.events.EventJournalMapped}
+     */
+    public EventJournalReplay(final Path file) {
+        this.file = requireNonNull(file);
+    }
+
+    /**
+     * Feeds the recorded events to a given consumer, in the order they were processed.
+     *
+     * @param consumer the consumer of recorded events
+     * @return the number of replayed events
+     */
+    public long forEach(final Consumer<EventJournalRecord> consumer) {
+        requireNonNull(consumer);
+        long count = 0;
+        try (EventJournalReader reader = new EventJournalReader(file)) {
+            while (reader.hasNext()) {
+                consumer.accept(reader.next());
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Drives the entities of a not started simulation with the recorded events,
+     * using the {@link #dataResolver(CloudSim) default data resolver}.
+     *
+     * @param simulation the simulation to drive
+     * @return the final simulation time
+     * @see #drive(CloudSim, Function)
+     */
+    public double drive(final CloudSim simulation) {
+        return drive(simulation, dataResolver(simulation));
+    }
+
+    /**
+     * Drives the entities of a not started simulation with the recorded events.
+     *
+     * @param simulation the simulation to drive
+     * @param dataResolver a function that receives a recorded event and returns the data to be attached
+     *                     to the replayed event (which may be null)
+     * @return the final simulation time
+     * @throws UnsupportedOperationException when the simulation has already started
+     * @throws IllegalStateException when a recorded event is sent to an entity that doesn't exist
+     */
+    public double drive(final CloudSim simulation, final Function<EventJournalRecord, Object> dataResolver) {
+        requireNonNull(dataResolver);
+        final DataResolver entities = new DataResolver(simulation);
+
+        simulation.startReplay();
+        long tick = 0;
+        try (EventJournalReader reader = new EventJournalReader(file)) {
+            while (reader.hasNext()) {
+                final EventJournalRecord record = reader.next();
+                if(record.getTick() != tick){
+                    simulation.replayTick();
+                    tick = record.getTick();
+                }
+
+                simulation.replayEvent(newEvent(entities, record, dataResolver.apply(record)));
+            }
+        }
+
+        simulation.finishReplay();
+        return simulation.clock();
+    }
+
+    private SimEvent newEvent(final DataResolver entities, final EventJournalRecord record, final Object data) {
+        final SimEntity src = entities.entity(record.getSourceId());
+        final SimEntity dest = entities.entity(record.getDestinationId());
+        if(dest == SimEntity.NULL && record.getType() == SimEvent.Type.SEND){
+            throw new IllegalStateException("Entity " + record.getDestinationId() + " not found to replay event: " + record);
+        }
+
+        final double delay = Math.max(0, record.getTime() - src.getSimulation().clock());
+        final SimEvent evt = new CloudSimEvent(record.getType(), delay, src, dest, record.getTag(), data);
+        evt.setSerial(record.getSerial());
+        return evt;
+    }
+
+    /**
+     * Gets the default function to resolve the data of recorded events,
+     * which finds entities, Hosts, VMs and Cloudlets by their id,
+     * creates numbers and booleans from their value
+     * and provides the list of Datacenters the {@link CloudInformationService} sends to brokers.
+     * It returns null for other kinds of data,
+     * thus it can be called by a custom data resolver to handle just such kinds of data.
+     *
+     * @param simulation the simulation being driven
+     * @return the default data resolver
+     */
+    public static Function<EventJournalRecord, Object> dataResolver(final CloudSim simulation) {
+        return new DataResolver(simulation)::data;
+    }
+
+    /**
+     * Finds the objects referenced by recorded events.
+     * The objects are indexed by class and id, and the index is rebuilt
+     * (at most once per simulation time) when some object is not found,
+     * since VMs, Cloudlets and entities can be created during the simulation.
+     */
+    private static final class DataResolver {
+        private final CloudSim simulation;
+        private final Map<String, Map<Long, Object>> index;
+        private final Map<Long, SimEntity> entities;
+        private double lastIndexTime;
+
+        private DataResolver(final CloudSim simulation) {
+            this.simulation = requireNonNull(simulation);
+            this.index = new HashMap<>();
+            this.entities = new HashMap<>();
+            this.lastIndexTime = -1;
+        }
+
+        private SimEntity entity(final long id) {
+            if(id == SimEntity.NULL.getId()){
+                return SimEntity.NULL;
+            }
+
+            SimEntity entity = entities.get(id);
+            if(entity == null) {
+                simulation.getEntityList().forEach(ent -> entities.put(ent.getId(), ent));
+                entity = entities.getOrDefault(id, SimEntity.NULL);
+            }
+
+            return entity;
+        }
+
+        private Object data(final EventJournalRecord record) {
+            if(record.getDataClassName().isEmpty()){
+                return null;
+            }
+
+            final CloudInformationService cis = simulation.getCloudInfoService();
+            if(record.getTag() == CloudSimTags.DATACENTER_LIST_REQUEST && record.getSourceId() == cis.getId()){
+                return cis.getDatacenterList();
+            }
+
+            if(!record.isDataIdentifiable()){
+                return value(record);
+            }
+
+            Object data = find(record);
+            if(data == null && lastIndexTime != simulation.clock()) {
+                reindex();
+                data = find(record);
+            }
+
+            return data;
+        }
+
+        private Object find(final EventJournalRecord record) {
+            return index.getOrDefault(record.getDataClassName(), Collections.emptyMap()).get(record.getDataId());
+        }
+
+        private void reindex() {
+            lastIndexTime = simulation.clock();
+            index.clear();
+            for (final SimEntity entity : simulation.getEntityList()) {
+                add(entity);
+                if (entity instanceof DatacenterBroker) {
+                    final DatacenterBroker broker = (DatacenterBroker) entity;
+                    addAll(broker.getVmWaitingList());
+                    addAll(broker.getVmCreatedList());
+                    addAll(broker.getCloudletWaitingList());
+                    addAll(broker.getCloudletSubmittedList());
+                } else if (entity instanceof Datacenter) {
+                    addAll(((Datacenter) entity).getHostList());
+                }
+            }
+        }
+
+        private void addAll(final List<? extends Identifiable> list) {
+            list.forEach(this::add);
+        }
+
+        private void add(final Identifiable object) {
+            index.computeIfAbsent(object.getClass().getName(), name -> new HashMap<>()).putIfAbsent(object.getId(), object);
+        }
+
+        private static Object value(final EventJournalRecord record) {
+            final double value = record.getDataValue();
+            switch (record.getDataClassName()) {
+                case "java.lang.Boolean": return value != 0;
+                case "java.lang.Integer": return (int) value;
+                case "java.lang.Long": return (long) value;
+                case "java.lang.Float": return (float) value;
+                case "java.lang.Double": return value;
+                default: return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudsimplus.listeners.EventListener;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A dispatch table for listeners that are notified when events
+ * with a given {@link SimEvent#getTag() tag} and/or {@link SimEvent#getDestination() destination entity}
+ * are processed by a {@link CloudSim} simulation.
+ * Listeners are indexed by tag and by destination,
+ * so that events without subscribers don't require calling any listener.
+ * Subscriptions by tag are stored into an array indexed by the tag
+ * (offset by the lower subscribed tag), so that they are found in constant time
+ * without boxing the tag. The array length is the range between the lower and higher subscribed tags.
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see Simulation#addOnEventProcessingListener(int, EventListener)
+ * @see Simulation#addOnEventProcessingListener(SimEntity, EventListener)
+ * @see Simulation#addOnEventProcessingListener(SimEntity, int, EventListener)
+ */
+final class EventSubscriptions implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The subscriptions for events with a given tag, where the index is the tag minus the {@link #minTag}.
+     * An element is null when there is no subscription for the related tag.
+     * A subscription may also require events to be sent to a given entity.
+     */
+    private List<Subscription>[] byTag;
+
+    /**
+     * The number of tags having subscriptions.
+     */
+    private int subscribedTags;
+
+    /**
+     * The listeners subscribed to events (with any tag) sent to a given entity.
+     */
+    private final Map<SimEntity, List<EventListener<SimEvent>>> byDestination;
+
+    /**
+     * The lower and higher tags having subscriptions,
+     * used to index the {@link #byTag} array and to discard events with other tags.
+     */
+    private int minTag;
+    private int maxTag;
+
+    EventSubscriptions() {
+        this.byTag = newTagTable(0);
+        this.byDestination = new HashMap<>();
+        this.minTag = Integer.MAX_VALUE;
+        this.maxTag = Integer.MIN_VALUE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Subscription>[] newTagTable(final int size) {
+        return (List<Subscription>[]) new List[size];
+    }
+
+    /**
+     * Subscribes a listener to events with a given tag.
+     *
+     * @param dest the entity events must be sent to; or {@link SimEntity#NULL} for any entity
+     * @param tag the tag of events
+     * @param listener the listener to subscribe
+     */
+    void add(final SimEntity dest, final int tag, final EventListener<SimEvent> listener) {
+        final Subscription subscription = new Subscription(requireNonNull(dest), requireNonNull(listener));
+        resizeTagTable(Math.min(minTag, tag), Math.max(maxTag, tag));
+        List<Subscription> subscriptions = byTag[tag - minTag];
+        if(subscriptions == null) {
+            subscriptions = new ArrayList<>();
+            byTag[tag - minTag] = subscriptions;
+            subscribedTags++;
+        }
+
+        if(!subscriptions.contains(subscription)) {
+            subscriptions.add(subscription);
+        }
+    }
+
+    /**
+     * Changes the range of tags the {@link #byTag} array can store,
+     * keeping the existing subscriptions.
+     *
+     * @param newMinTag the new lower tag
+     * @param newMaxTag the new higher tag; or a value lower than newMinTag to remove all elements
+     */
+    private void resizeTagTable(final int newMinTag, final int newMaxTag) {
+        if(newMinTag == minTag && newMaxTag == maxTag) {
+            return;
+        }
+
+        if(newMaxTag < newMinTag) {
+            byTag = newTagTable(0);
+            minTag = Integer.MAX_VALUE;
+            maxTag = Integer.MIN_VALUE;
+            return;
+        }
+
+        final long size = (long) newMaxTag - newMinTag + 1;
+        if(size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("The range of subscribed tags is too large: " + newMinTag + " to " + newMaxTag);
+        }
+
+        final List<Subscription>[] table = newTagTable((int) size);
+        final int lower = Math.max(minTag, newMinTag);
+        final int higher = Math.min(maxTag, newMaxTag);
+        if(lower <= higher) {
+            System.arraycopy(byTag, lower - minTag, table, lower - newMinTag, higher - lower + 1);
+        }
+
+        byTag = table;
+        minTag = newMinTag;
+        maxTag = newMaxTag;
+    }
+
+    /**
+     * Subscribes a listener to events with any tag sent to a given entity.
+     *
+     * @param dest the entity events must be sent to
+     * @param listener the listener to subscribe
+     */
+    void add(final SimEntity dest, final EventListener<SimEvent> listener) {
+        requireNonNull(listener);
+        final List<EventListener<SimEvent>> listeners = byDestination.computeIfAbsent(requireNonNull(dest), key -> new ArrayList<>());
+        if(!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes all subscriptions of a given listener.
+     *
+     * @param listener the listener to remove
+     * @return true if some subscription was removed, false otherwise
+     */
+    boolean remove(final EventListener<SimEvent> listener) {
+        boolean removed = false;
+        for (int i = 0; i < byTag.length; i++) {
+            final List<Subscription> subscriptions = byTag[i];
+            if(subscriptions == null) {
+                continue;
+            }
+
+            removed |= subscriptions.removeIf(subscription -> subscription.listener.equals(listener));
+            if(subscriptions.isEmpty()){
+                byTag[i] = null;
+                subscribedTags--;
+            }
+        }
+
+        for (final Iterator<List<EventListener<SimEvent>>> it = byDestination.values().iterator(); it.hasNext(); ) {
+            final List<EventListener<SimEvent>> listeners = it.next();
+            removed |= listeners.remove(listener);
+            if(listeners.isEmpty()){
+                it.remove();
+            }
+        }
+
+        updateTagRange();
+        return removed;
+    }
+
+    /**
+     * Shrinks the {@link #byTag} array to the range between
+     * the lower and higher tags still having subscriptions.
+     */
+    private void updateTagRange() {
+        int first = 0;
+        while (first < byTag.length && byTag[first] == null) {
+            first++;
+        }
+
+        int last = byTag.length - 1;
+        while (last >= first && byTag[last] == null) {
+            last--;
+        }
+
+        if(first > last) {
+            resizeTagTable(0, -1);
+        } else {
+            resizeTagTable(minTag + first, minTag + last);
+        }
+    }
+
+    /**
+     * Checks if there is no subscription.
+     * @return true if there is no subscription, false otherwise
+     */
+    boolean isEmpty() {
+        return subscribedTags == 0 && byDestination.isEmpty();
+    }
+
+    /**
+     * Notifies the listeners subscribed to a given event.
+     * Listeners subscribed to the event tag are notified first,
+     * then the ones subscribed just to its destination.
+     *
+     * @param evt the processed event
+     */
+    void notify(final SimEvent evt) {
+        final int tag = evt.getTag();
+        if(tag >= minTag && tag <= maxTag) {
+            final List<Subscription> subscriptions = byTag[tag - minTag];
+            if (subscriptions != null) {
+                for (final Subscription subscription : subscriptions) {
+                    if (subscription.dest == SimEntity.NULL || subscription.dest == evt.getDestination()) {
+                        subscription.listener.update(evt);
+                    }
+                }
+            }
+        }
+
+        if(!byDestination.isEmpty()) {
+            final List<EventListener<SimEvent>> listeners = byDestination.get(evt.getDestination());
+            if (listeners != null) {
+                for (final EventListener<SimEvent> listener : listeners) {
+                    listener.update(evt);
+                }
+            }
+        }
+    }
+
+    /**
+     * A listener subscribed to events with a given tag,
+     * which may also be required to be sent to a given entity.
+     */
+    private static final class Subscription implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The entity events must be sent to; or {@link SimEntity#NULL} for any entity.
+         */
+        private final SimEntity dest;
+        private final EventListener<SimEvent> listener;
+
+        private Subscription(final SimEntity dest, final EventListener<SimEvent> listener) {
+            this.dest = dest;
+            this.listener = listener;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if(!(obj instanceof Subscription)){
+                return false;
+            }
+
+            final Subscription other = (Subscription) obj;
+            return dest == other.dest && listener.equals(other.listener);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(dest) + listener.hashCode();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudsimplus.listeners.EventListener;
+
+/**
+ * Defines how the simulation clock advances when a {@link Simulation#terminateAt(double) termination time}
+ * is set but there is no event to process.
+ * In such a case, the simulation keeps waiting for dynamic events
+ * (such as VMs and Cloudlets submitted by {@link Simulation#addOnClockTickListener(EventListener) onClockTick listeners})
+ * until the termination time is reached.
+ * The clock is increased by an interval defined according to: (i) the lower {@link Datacenter#getSchedulingInterval()}
+ * between existing Datacenters; or (ii) {@link Simulation#getMinTimeBetweenEvents()} in case
+ * no {@link Datacenter} has its schedulingInterval set.
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see Simulation#setIdleTimePolicy(IdleTimePolicy)
+ */
+public enum IdleTimePolicy {
+    /**
+     * Increases the clock by the interval at each iteration of the simulation loop,
+     * until some event arrives or the termination time is reached (the default policy).
+     */
+    WAIT,
+
+    /**
+     * Jumps straight to the next time something can happen,
+     * namely the termination time or the time the simulation was requested to pause.
+     * If there are onClockTick listeners, they are notified for the same times
+     * they would be using the {@link #WAIT} policy, but in a batch,
+     * without running an entire iteration of the simulation loop for each time.
+     * The batch stops as soon as a listener sends some event
+     * (for instance, by submitting VMs or Cloudlets to a broker),
+     * so that the event is processed just as when using the {@link #WAIT} policy.
+     */
+    FAST_FORWARD,
+
+    /**
+     * Jumps straight to the next time something can happen,
+     * namely the termination time or the time the simulation was requested to pause,
+     * notifying onClockTick listeners just once.
+     * The times in between are skipped, thus listeners that submit dynamic events
+     * at specific times may not work as expected.
+     */
+    FAST_FORWARD_SKIPPING_TICKS
+}
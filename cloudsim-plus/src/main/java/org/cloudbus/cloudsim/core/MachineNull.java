@@ -15,6 +15,8 @@ import java.util.List;
  * @since CloudSim 1.2.0
  */
 final class MachineNull implements Machine {
+    private static final long serialVersionUID = 1L;
+
     @Override public Resource getBw() {
         return Resource.NULL;
     }
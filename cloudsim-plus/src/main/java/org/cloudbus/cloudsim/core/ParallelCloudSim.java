@@ -0,0 +1,454 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.FutureQueue;
+import org.cloudbus.cloudsim.core.events.FutureQueueSimple;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
+import org.cloudsimplus.listeners.EventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs a set of {@link CloudSim} simulations in parallel, where each one is a
+ * <b>logical process</b> (LP) that may send events to entities of other LPs.
+ * For instance, each Datacenter may be placed into its own LP, together with
+ * the brokers that directly interact with it.
+ *
+ * <p>It implements a window-based conservative Parallel Discrete Event Simulation (PDES) protocol.
+ * Events between entities of different LPs must have a delay of at least a given
+ * {@link #getLookahead() lookahead}. Therefore, considering T the time of the next event
+ * among all LPs, every LP can safely process its events in the time window [T, T + lookahead)
+ * in parallel, since no other LP can send it an event happening in such a window.
+ * After all LPs process a window, events sent between LPs are delivered and the next window starts.
+ * The lookahead is taken by default from the minimum {@link NetworkTopology#getDelay(long, long) network delay}
+ * between entities of different LPs, which is added when an entity {@link CloudSimEntity#send(SimEntity, double, int, Object) sends}
+ * an event to another one.
+ * Sending an event to another LP with a lower delay throws an {@link IllegalStateException},
+ * so that the lookahead is never violated.</p>
+ *
+ * <p>Since LPs don't share the event queues, clock or any other simulation state,
+ * each LP processes its events in the same order regardless of the number of threads.
+ * Events happening at the same time are processed in the order they would be if
+ * all entities were running in a single {@link CloudSim} instance:
+ * each event keeps the point where it was sent (the send time, the tick at such a time and
+ * the entity processing its events), which is used to order events coming from different LPs
+ * (see {@link org.cloudbus.cloudsim.core.events.CloudSimEvent#setSendOrder(int, double, int, long)}).
+ * That ensures the results are exactly the same as creating all entities,
+ * in the same order, in a single simulation.
+ * The only exception is the order of events sent by different LPs at the same time and tick
+ * from {@link Simulation#addOnEventProcessingListener(EventListener) event listeners}, which is defined by
+ * the order the LPs were created.
+ * Entities from an LP must not directly access objects (such as Hosts or VMs)
+ * belonging to another LP: such LPs must interact just by sending events.</p>
+ *
+ * <p>LPs must be created by {@link #createLogicalProcess()}, which ensures entities from all LPs have
+ * consecutive and distinct IDs, according to the order they are created.
+ * All LPs share the {@link CloudInformationService} (CIS) of the first LP,
+ * thus brokers see the Datacenters from all LPs.
+ * The Datacenters from all LPs are registered in the CIS, in the order they were created,
+ * before any LP processes its first event. Datacenters registered after that are just
+ * made visible between time windows, when no LP is running.
+ * This way, brokers using the default Datacenter selection see the same Datacenters
+ * regardless of the number of threads.
+ * The first tick of all LPs is processed before the first time window,
+ * enabling Datacenters and brokers to interact with the CIS without delay when the simulation starts.
+ * After that, events sent to entities from other LPs (including the CIS)
+ * must have at least the lookahead delay.
+ * A {@link Simulation#terminateAt(double) termination time} is not supported for LPs.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public class ParallelCloudSim {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelCloudSim.class.getSimpleName());
+
+    private final List<CloudSim> logicalProcesses;
+
+    /**
+     * The sequence used to assign IDs to entities of all logical processes.
+     */
+    private final AtomicLong entityIds;
+
+    /**
+     * The number of threads used to run logical processes.
+     */
+    private final int parallelism;
+
+    /**
+     * @see #getLookahead()
+     */
+    private double lookahead;
+
+    /**
+     * @see #getWindows()
+     */
+    private long windows;
+
+    /**
+     * Creates a ParallelCloudSim that uses as many threads as the number of available processors.
+     */
+    public ParallelCloudSim() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a ParallelCloudSim that uses a given number of threads.
+     *
+     * @param parallelism the number of threads used to run logical processes.
+     *                    Using 1 runs the logical processes sequentially.
+     */
+    public ParallelCloudSim(final int parallelism) {
+        if(parallelism <= 0){
+            throw new IllegalArgumentException("The parallelism must be greater than zero.");
+        }
+
+        this.parallelism = parallelism;
+        this.logicalProcesses = new ArrayList<>();
+        this.entityIds = new AtomicLong();
+        this.lookahead = -1;
+    }
+
+    /**
+     * Creates a new logical process that uses a {@link FutureQueueSimple}.
+     *
+     * @return the simulation representing the new logical process,
+     *         where the entities belonging to it must be created.
+     */
+    public CloudSim createLogicalProcess() {
+        return createLogicalProcess(new FutureQueueSimple());
+    }
+
+    /**
+     * Creates a new logical process that uses a given {@link FutureQueue}.
+     *
+     * @param futureQueue the queue to store future events of the logical process
+     * @return the simulation representing the new logical process,
+     *         where the entities belonging to it must be created.
+     */
+    public CloudSim createLogicalProcess(final FutureQueue futureQueue) {
+        final CloudInformationService cis = logicalProcesses.isEmpty() ? null : logicalProcesses.get(0).getCloudInfoService();
+        final CloudSim simulation = new CloudSim(0.1, futureQueue, entityIds, cis, logicalProcesses.size());
+        logicalProcesses.add(simulation);
+        return simulation;
+    }
+
+    /**
+     * Gets the list of logical processes.
+     * @return a read-only list of logical processes
+     */
+    public List<CloudSim> getLogicalProcesses() {
+        return Collections.unmodifiableList(logicalProcesses);
+    }
+
+    /**
+     * Gets the minimum delay of events sent between entities of different logical processes.
+     * If it wasn't {@link #setLookahead(double) set}, it's computed when the simulation starts
+     * as the minimum {@link NetworkTopology#getDelay(long, long) delay} between
+     * entities from different logical processes which are {@link NetworkTopology#isNodeMapped(long) mapped}
+     * to the network topology.
+     * If there is no such entities, it's {@link Double#POSITIVE_INFINITY},
+     * meaning logical processes don't interact (after the first tick).
+     *
+     * @return the lookahead or -1 if it wasn't set or computed yet
+     */
+    public double getLookahead() {
+        return lookahead;
+    }
+
+    /**
+     * Sets the minimum delay of events sent between entities of different logical processes,
+     * instead of computing it from the network topology.
+     *
+     * @param lookahead the lookahead to set, which must be greater than zero
+     *                  (or {@link Double#POSITIVE_INFINITY} if logical processes don't interact)
+     * @return this ParallelCloudSim
+     */
+    public ParallelCloudSim setLookahead(final double lookahead) {
+        if(lookahead <= 0){
+            throw new IllegalArgumentException("The lookahead must be greater than zero.");
+        }
+
+        this.lookahead = lookahead;
+        return this;
+    }
+
+    /**
+     * Gets the number of time windows processed so far.
+     * @return the number of processed windows
+     */
+    public long getWindows() {
+        return windows;
+    }
+
+    /**
+     * Starts all logical processes, running them in parallel until all events are processed.
+     *
+     * @return the last clock value among all logical processes
+     * @throws IllegalStateException when the network delay between entities from different logical processes is zero
+     *                               (which is checked before processing any event),
+     *                               or an entity sends an event to another logical process
+     *                               with a delay lower than the {@link #getLookahead() lookahead}
+     */
+    public double start() {
+        if(logicalProcesses.isEmpty()){
+            throw new IllegalStateException("No logical process was created.");
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            logicalProcesses.forEach(CloudSim::startLogicalProcess);
+            registerDatacenters();
+            //Zero network delays are always validated, even if the lookahead was set
+            final double computedLookahead = computeLookahead();
+            if(lookahead == -1) {
+                lookahead = computedLookahead;
+            }
+
+            LOGGER.info("Running {} logical processes using {} threads and a lookahead of {}", logicalProcesses.size(), parallelism, lookahead);
+            if(!runFirstTick(pool) || !runWindows(pool)){
+                return clock();
+            }
+
+            final double clock = clock();
+            logicalProcesses.forEach(lp -> lp.sendEndOfSimulation(clock));
+            if(!runWindows(pool)){
+                return clock();
+            }
+
+            logicalProcesses.forEach(CloudSim::finishLogicalProcess);
+            return clock();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Registers the Datacenters from all logical processes in the shared {@link CloudInformationService},
+     * in the order they were created, before any logical process runs.
+     * Registration requests sent by Datacenters when they were started are then just ignored,
+     * since the CIS already has such Datacenters.
+     */
+    private void registerDatacenters() {
+        final List<Datacenter> datacenters = new ArrayList<>();
+        for (final CloudSim lp : logicalProcesses) {
+            for (final SimEntity entity : lp.getEntityList()) {
+                if(entity instanceof Datacenter) {
+                    datacenters.add((Datacenter) entity);
+                }
+            }
+        }
+
+        logicalProcesses.get(0).getCloudInfoService().registerAndDeferRegistrations(datacenters);
+    }
+
+    /**
+     * Makes the logical processes having events at the time of the first event
+     * to process just the tick at such a time.
+     * @param pool the pool to run logical processes
+     * @return true if the simulation must go on, false if it was aborted
+     * @see CloudSim#runTick()
+     */
+    private boolean runFirstTick(final ForkJoinPool pool) {
+        deliverRemoteEvents();
+        final double time = nextEventTime();
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (final CloudSim lp : logicalProcesses) {
+            if(lp.getNextEventTime() == time) {
+                tasks.add(() -> { lp.runTick(); return null; });
+            }
+        }
+
+        run(pool, tasks);
+        return logicalProcesses.stream().noneMatch(CloudSim::isAbortRequested);
+    }
+
+    /**
+     * Runs time windows until there is no more events to process.
+     * @param pool the pool to run logical processes
+     * @return true if all events were processed, false if the simulation was aborted
+     */
+    private boolean runWindows(final ForkJoinPool pool) {
+        deliverRemoteEvents();
+        double windowStart = nextEventTime();
+        while (windowStart < Double.MAX_VALUE) {
+            runWindow(pool, windowStart + lookahead);
+            if(logicalProcesses.stream().anyMatch(CloudSim::isAbortRequested)){
+                return false;
+            }
+
+            deliverRemoteEvents();
+            windowStart = nextEventTime();
+        }
+
+        return true;
+    }
+
+    /**
+     * Makes all logical processes having events in a time window to process such events.
+     * @param pool the pool to run logical processes
+     * @param windowEnd the time (exclusive) up to which events will be processed
+     */
+    private void runWindow(final ForkJoinPool pool, final double windowEnd) {
+        windows++;
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (final CloudSim lp : logicalProcesses) {
+            if(lp.getNextEventTime() < windowEnd) {
+                tasks.add(() -> { lp.runWindow(windowEnd); return null; });
+            }
+        }
+
+        run(pool, tasks);
+    }
+
+    /**
+     * Runs tasks for some logical processes, waiting all of them to finish.
+     * @param pool the pool to run logical processes
+     * @param tasks the tasks to run
+     */
+    private void run(final ForkJoinPool pool, final List<Callable<Void>> tasks) {
+        if(tasks.size() == 1 || parallelism == 1){
+            for (final Callable<Void> task : tasks) {
+                call(task);
+            }
+            return;
+        }
+
+        for (final Future<Void> future : pool.invokeAll(tasks)) {
+            waitToFinish(future);
+        }
+    }
+
+    private void call(final Callable<Void> task) {
+        try {
+            task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void waitToFinish(final Future<Void> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException){
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Delivers the events sent between logical processes in the last time window
+     * and publishes the Datacenters registered in the CIS during such a window.
+     * Events keep the order they were sent, which defines the order they are processed
+     * regardless of the number of threads.
+     */
+    private void deliverRemoteEvents() {
+        logicalProcesses.forEach(CloudSim::deliverRemoteEvents);
+        logicalProcesses.get(0).getCloudInfoService().publishRegistrations();
+    }
+
+    private double nextEventTime() {
+        return logicalProcesses.stream().mapToDouble(CloudSim::getNextEventTime).min().orElse(Double.MAX_VALUE);
+    }
+
+    private double clock() {
+        return logicalProcesses.stream().mapToDouble(CloudSim::clock).max().orElse(0);
+    }
+
+    /**
+     * Computes the lookahead as the minimum network delay between
+     * entities from different logical processes, considering just the entities
+     * mapped to the {@link NetworkTopology} (since the delay between other ones is always zero).
+     * @return the computed lookahead
+     * @throws IllegalStateException when the network delay between entities from different logical processes is zero
+     * @see #getLookahead()
+     */
+    private double computeLookahead() {
+        double min = Double.POSITIVE_INFINITY;
+        for (int src = 0; src < logicalProcesses.size(); src++) {
+            final NetworkTopology topology = logicalProcesses.get(src).getNetworkTopology();
+            final List<List<SimEntity>> networkEntities = networkEntities(topology);
+            for (int dest = 0; dest < logicalProcesses.size(); dest++) {
+                if(src != dest) {
+                    min = Math.min(min, computeLookahead(topology, src, dest, networkEntities));
+                }
+            }
+        }
+
+        return min;
+    }
+
+    /**
+     * Computes the lookahead between a pair of logical processes,
+     * as the minimum network delay from entities of the source logical process
+     * to entities of the destination one.
+     *
+     * @param topology the network topology of the source logical process
+     * @param src the index of the source logical process
+     * @param dest the index of the destination logical process
+     * @param networkEntities the entities of each logical process that are mapped to the topology
+     * @return the lookahead between the pair of logical processes
+     * @throws IllegalStateException when the network delay between entities of such logical processes is zero
+     */
+    private double computeLookahead(
+        final NetworkTopology topology, final int src, final int dest,
+        final List<List<SimEntity>> networkEntities)
+    {
+        double min = Double.POSITIVE_INFINITY;
+        for (final SimEntity srcEntity : networkEntities.get(src)) {
+            for (final SimEntity destEntity : networkEntities.get(dest)) {
+                final double delay = topology.getDelay(srcEntity.getId(), destEntity.getId());
+                if(delay <= 0) {
+                    throw new IllegalStateException(
+                        String.format(
+                            "The network delay from %s (logical process %d) to %s (logical process %d) is zero. " +
+                            "Entities connected without delay must be placed into the same logical process.",
+                            srcEntity.getName(), src, destEntity.getName(), dest));
+                }
+
+                min = Math.min(min, delay);
+            }
+        }
+
+        return min;
+    }
+
+    /**
+     * Gets the entities of each logical process that are mapped to a network topology.
+     * @param topology the network topology
+     * @return a list where each element has the mapped entities of the logical process at the same index
+     */
+    private List<List<SimEntity>> networkEntities(final NetworkTopology topology) {
+        final List<List<SimEntity>> networkEntities = new ArrayList<>(logicalProcesses.size());
+        for (final CloudSim lp : logicalProcesses) {
+            final List<SimEntity> entities = new ArrayList<>();
+            for (final SimEntity entity : lp.getEntityList()) {
+                if(topology.isNodeMapped(entity.getId())) {
+                    entities.add(entity);
+                }
+            }
+
+            networkEntities.add(entities);
+        }
+
+        return networkEntities;
+    }
+}
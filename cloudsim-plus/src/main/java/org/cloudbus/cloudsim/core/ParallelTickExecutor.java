@@ -0,0 +1,438 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.network.switches.Switch;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.faultinjection.HostFaultInjection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Makes the entities of a {@link CloudSim} simulation that have events to process
+ * at the current clock tick to process them in parallel, using a {@link ForkJoinPool}.
+ *
+ * <p>Entities are {@link #partition(List) partitioned} by the objects they change:
+ * Datacenters, brokers and the other entities of the cloud infrastructure change
+ * Hosts, VMs and Cloudlets that other entities of the infrastructure may change at the same time
+ * (such as when a broker processes a VM creation ack while a Datacenter updates such a VM).
+ * Therefore, the entities of the infrastructure that touch the same objects at a tick run sequentially, in a single task,
+ * such as a Datacenter and the brokers having VMs into it or exchanging events with it.
+ * The entities touching unrelated objects (such as each Datacenter and the brokers bound to it)
+ * run in parallel, as well as any other entity, each one in its own task.</p>
+ *
+ * <p>Since the simulation queues aren't thread-safe, the events sent and the entities created
+ * while an entity runs are stored into an {@link Outbox} for the task running it.
+ * After all entities finish, the outboxes are merged into the simulation,
+ * sorting events by time, source entity ID and the order they were sent.
+ * That ensures the same results regardless of the number of threads.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see Simulation#setTickParallelism(int)
+ */
+final class ParallelTickExecutor {
+    /**
+     * Sorts events sent in a tick by time and source entity ID.
+     * Since the sorting is stable, events with the same time and source
+     * keep the order they were sent.
+     */
+    private static final Comparator<PendingEvent> PENDING_EVENT_COMPARATOR =
+        Comparator.<PendingEvent>comparingDouble(pending -> pending.evt.getTime())
+                  .thenComparingLong(pending -> pending.evt.getSource().getId());
+
+    private final CloudSim simulation;
+    private final ForkJoinPool pool;
+
+    /**
+     * The outbox of the task running in the current thread.
+     */
+    private final ThreadLocal<Outbox> currentOutbox;
+
+    /**
+     * The outboxes for the tasks running in a tick,
+     * which are reused along the simulation.
+     */
+    private final List<Outbox> outboxes;
+
+    /**
+     * A reusable list of the events sent by all entities in a tick.
+     */
+    private final List<PendingEvent> pendingEvents;
+
+    /**
+     * The parent of each entity joined to another one by the {@link #partition(List)},
+     * where the entity without a parent represents the group.
+     * It's reused along the simulation.
+     */
+    private final Map<SimEntity, SimEntity> parents;
+
+    /**
+     * @see #isRunning()
+     */
+    private boolean running;
+
+    /**
+     * Creates a ParallelTickExecutor.
+     *
+     * @param simulation the simulation whose entities will be run
+     * @param parallelism the number of threads to run entities
+     */
+    ParallelTickExecutor(final CloudSim simulation, final int parallelism) {
+        this.simulation = simulation;
+        this.pool = new ForkJoinPool(parallelism);
+        this.currentOutbox = new ThreadLocal<>();
+        this.outboxes = new ArrayList<>();
+        this.pendingEvents = new ArrayList<>();
+        this.parents = new IdentityHashMap<>();
+    }
+
+    /**
+     * Checks if entities are running in parallel at this moment.
+     * @return true if entities are running, false otherwise
+     */
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the outbox of the entity running in the current thread.
+     * @return the outbox of the running entity
+     * @throws IllegalStateException when the current thread is not running an entity
+     */
+    Outbox getOutbox() {
+        final Outbox outbox = currentOutbox.get();
+        if(outbox == null){
+            throw new IllegalStateException("The simulation can just be changed by the thread running an entity while entities run in parallel.");
+        }
+
+        return outbox;
+    }
+
+    /**
+     * Runs a list of entities in parallel, then merges
+     * the events they have sent into the simulation.
+     *
+     * @param entities the entities to run
+     */
+    void run(final List<CloudSimEntity> entities) {
+        final List<List<CloudSimEntity>> groups = partition(entities);
+        final List<EntityTask> tasks = new ArrayList<>(groups.size());
+        for (int i = 0; i < groups.size(); i++) {
+            if(i == outboxes.size()) {
+                outboxes.add(new Outbox());
+            }
+
+            tasks.add(new EntityTask(groups.get(i), outboxes.get(i)));
+        }
+
+        running = true;
+        try {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        } finally {
+            running = false;
+        }
+
+        merge(tasks.size());
+    }
+
+    /**
+     * Splits a list of entities into groups which can run in parallel.
+     * Entities of the {@link #isCloudInfrastructure(SimEntity) cloud infrastructure}
+     * that {@link #joinTouchedEntities(CloudSimEntity, List) touch the same objects}
+     * are placed into the same group.
+     * Every other entity is placed into its own group.
+     * The groups and the entities inside each group keep the order the entities were given.
+     *
+     * @param entities the entities to split
+     * @return the groups of entities, where the entities of each group must run sequentially
+     */
+    List<List<CloudSimEntity>> partition(final List<CloudSimEntity> entities) {
+        for (final CloudSimEntity entity : entities) {
+            if(isCloudInfrastructure(entity)) {
+                joinTouchedEntities(entity, entities);
+            }
+        }
+
+        final List<List<CloudSimEntity>> groups = new ArrayList<>();
+        final Map<SimEntity, List<CloudSimEntity>> groupByRoot = new IdentityHashMap<>();
+        for (final CloudSimEntity entity : entities) {
+            final List<CloudSimEntity> group = isCloudInfrastructure(entity) ?
+                                                groupByRoot.computeIfAbsent(find(entity), root -> new ArrayList<>()) :
+                                                new ArrayList<>(1);
+            if(group.isEmpty()) {
+                groups.add(group);
+            }
+
+            group.add(entity);
+        }
+
+        parents.clear();
+        return groups;
+    }
+
+    /**
+     * Joins an entity of the cloud infrastructure with the other ones whose objects it may touch
+     * while processing the events of the current tick:
+     * <ul>
+     *     <li>a broker touches the Datacenters where its VMs are running;</li>
+     *     <li>a {@link Switch} touches its Datacenter;</li>
+     *     <li>a {@link HostFaultInjection} touches its Datacenter and submits VMs to brokers;</li>
+     *     <li>the {@link CloudInformationService} changes the Datacenters list read by the other entities;</li>
+     *     <li>any of them touches the objects sent by the entities of the infrastructure
+     *     from which it has events to process.</li>
+     * </ul>
+     *
+     * @param entity the entity to join with the ones it touches
+     * @param entities the entities running at the current tick
+     */
+    private void joinTouchedEntities(final CloudSimEntity entity, final List<CloudSimEntity> entities) {
+        if(entity instanceof DatacenterBroker) {
+            for (final Vm vm : ((DatacenterBroker) entity).<Vm>getVmExecList()) {
+                join(entity, vm.getHost().getDatacenter());
+            }
+        } else if(entity instanceof Switch) {
+            join(entity, ((Switch) entity).getDatacenter());
+        } else if(entity instanceof HostFaultInjection) {
+            join(entity, ((HostFaultInjection) entity).getDatacenter());
+            for (final CloudSimEntity other : entities) {
+                if(other instanceof DatacenterBroker) {
+                    join(entity, other);
+                }
+            }
+        } else if(entity instanceof CloudInformationService) {
+            for (final CloudSimEntity other : entities) {
+                if(isCloudInfrastructure(other)) {
+                    join(entity, other);
+                }
+            }
+        }
+
+        simulation.forEachEventToProcess(entity, evt -> {
+            if(isCloudInfrastructure(evt.getSource())) {
+                join(entity, evt.getSource());
+            }
+        });
+    }
+
+    /**
+     * Places two entities in the same group.
+     * @param entity1 the first entity
+     * @param entity2 the second entity, which is ignored if it's {@link Datacenter#NULL}
+     */
+    private void join(final SimEntity entity1, final SimEntity entity2) {
+        if(entity2 == null || entity2 == Datacenter.NULL) {
+            return;
+        }
+
+        final SimEntity root1 = find(entity1);
+        final SimEntity root2 = find(entity2);
+        if(root1 != root2) {
+            parents.put(root2, root1);
+        }
+    }
+
+    /**
+     * Finds the entity representing the group of a given entity.
+     * @param entity the entity to find its group
+     * @return the entity representing the group
+     */
+    private SimEntity find(final SimEntity entity) {
+        SimEntity root = entity;
+        for (SimEntity parent = parents.get(root); parent != null; parent = parents.get(root)) {
+            root = parent;
+        }
+
+        //Makes the entities in the path to point directly to the root
+        for (SimEntity current = entity; current != root; ) {
+            current = parents.put(current, root);
+        }
+
+        return root;
+    }
+
+    /**
+     * Checks if an entity belongs to the cloud infrastructure,
+     * directly changing Hosts, VMs or Cloudlets that other entities also change.
+     * @param entity the entity to check
+     * @return true if the entity belongs to the cloud infrastructure, false otherwise
+     */
+    private static boolean isCloudInfrastructure(final SimEntity entity) {
+        return entity instanceof Datacenter || entity instanceof DatacenterBroker ||
+               entity instanceof Switch || entity instanceof HostFaultInjection ||
+               entity instanceof CloudInformationService;
+    }
+
+    /**
+     * Adds the entities created and the events sent by the entities that have just run
+     * into the simulation, in a deterministic order.
+     *
+     * @param size the number of outboxes used by such entities
+     */
+    private void merge(final int size) {
+        for (int i = 0; i < size; i++) {
+            final Outbox outbox = outboxes.get(i);
+            outbox.entities.forEach(simulation::addEntity);
+            pendingEvents.addAll(outbox.events);
+            outbox.clear();
+        }
+
+        pendingEvents.sort(PENDING_EVENT_COMPARATOR);
+        for (final PendingEvent pending : pendingEvents) {
+            simulation.addFutureEvent(pending.evt, pending.first);
+        }
+
+        pendingEvents.clear();
+    }
+
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * A task that sequentially runs a group of entities, storing the events they send into its outbox.
+     */
+    private final class EntityTask extends RecursiveAction {
+        private final List<CloudSimEntity> entities;
+        private final Outbox outbox;
+
+        private EntityTask(final List<CloudSimEntity> entities, final Outbox outbox) {
+            this.entities = entities;
+            this.outbox = outbox;
+        }
+
+        @Override
+        protected void compute() {
+            currentOutbox.set(outbox);
+            try {
+                for (final CloudSimEntity entity : entities) {
+                    entity.run();
+                }
+            } finally {
+                currentOutbox.remove();
+            }
+        }
+    }
+
+    /**
+     * An event sent by an entity while entities run in parallel.
+     */
+    private static final class PendingEvent {
+        private final SimEvent evt;
+
+        /**
+         * Indicates if the event must be added to the head of the events with the same time.
+         */
+        private final boolean first;
+
+        private PendingEvent(final SimEvent evt, final boolean first) {
+            this.evt = evt;
+            this.first = first;
+        }
+    }
+
+    /**
+     * Stores the events sent and the entities created by a group of entities while entities run in parallel,
+     * which are later added to the simulation.
+     */
+    static final class Outbox {
+        private final List<PendingEvent> events = new ArrayList<>();
+        private final List<CloudSimEntity> entities = new ArrayList<>();
+
+        /**
+         * Adds an event sent by the entity.
+         * @param evt the event to add
+         * @param first true if the event must be added to the head of the events with the same time, false otherwise
+         */
+        void add(final SimEvent evt, final boolean first) {
+            events.add(new PendingEvent(evt, first));
+        }
+
+        /**
+         * Adds an entity created by the entity.
+         * @param entity the created entity
+         */
+        void addEntity(final CloudSimEntity entity) {
+            entities.add(entity);
+        }
+
+        /**
+         * Removes an event sent by the entity.
+         * @param evt the event to remove
+         * @return true if the event was removed, false if it was not found
+         */
+        boolean remove(final SimEvent evt) {
+            return removeIf(pending -> pending == evt, true);
+        }
+
+        /**
+         * Removes all events sent by the entity that match a given predicate.
+         * @param predicate the predicate to select the events to remove
+         * @return true if any event was removed, false otherwise
+         */
+        boolean removeIf(final Predicate<SimEvent> predicate) {
+            return removeIf(predicate, false);
+        }
+
+        private boolean removeIf(final Predicate<SimEvent> predicate, final boolean justFirst) {
+            boolean removed = false;
+            final Iterator<PendingEvent> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                if(predicate.test(iterator.next().evt)){
+                    iterator.remove();
+                    if(justFirst) {
+                        return true;
+                    }
+
+                    removed = true;
+                }
+            }
+
+            return removed;
+        }
+
+        /**
+         * Finds the event with the lowest time that matches a given predicate.
+         * @param predicate the predicate to select the event
+         * @return the found event or {@link SimEvent#NULL} if not found
+         */
+        SimEvent findFirst(final Predicate<SimEvent> predicate) {
+            SimEvent found = SimEvent.NULL;
+            for (final PendingEvent pending : events) {
+                if(predicate.test(pending.evt) && (found == SimEvent.NULL || pending.evt.getTime() < found.getTime())){
+                    found = pending.evt;
+                }
+            }
+
+            return found;
+        }
+
+        /**
+         * Counts the events that match a given predicate.
+         * @param predicate the predicate to select the events
+         * @return the number of matched events
+         */
+        long count(final Predicate<SimEvent> predicate) {
+            return events.stream().filter(pending -> predicate.test(pending.evt)).count();
+        }
+
+        private void clear() {
+            events.clear();
+            entities.clear();
+        }
+    }
+}
@@ -7,6 +7,7 @@
 package org.cloudbus.cloudsim.core;
 
 import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.core.events.SimEventHandle;
 
 /**
  * An interface that represents a simulation entity. An entity handles events and can
@@ -95,9 +96,10 @@ public interface SimEntity extends Nameable, Cloneable, Runnable, Comparable<Sim
      * @param delay How many seconds after the current simulation time the event should be sent
      * @param tag   An user-defined number representing the type of event.
      * @param data  The data to be sent with the event.
-     * @return true if the event was sent, false if the simulation was not started yet
+     * @return the handle of the sent event, that can be used to {@link Simulation#cancel(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if the simulation was not started yet
      */
-    boolean schedule(double delay, int tag, Object data);
+    SimEventHandle schedule(double delay, int tag, Object data);
 
     /**
      * Sends an event to another entity.
@@ -105,26 +107,29 @@ public interface SimEntity extends Nameable, Cloneable, Runnable, Comparable<Sim
      * @param delay How many seconds after the current simulation time the event should be sent
      * @param tag   An user-defined number representing the type of event.
      * @param data  The data to be sent with the event.
-     * @return true if the event was sent, false if the simulation was not started yet
+     * @return the handle of the sent event, that can be used to {@link Simulation#cancel(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if the simulation was not started yet
      */
-    boolean schedule(SimEntity dest, double delay, int tag, Object data);
+    SimEventHandle schedule(SimEntity dest, double delay, int tag, Object data);
 
     /**
      * Sends an event to another entity with <b>no</b> attached data.
      * @param dest the destination entity
      * @param delay How many seconds after the current simulation time the event should be sent
      * @param tag   An user-defined number representing the type of event.
-     * @return true if the event was sent, false if the simulation was not started yet
+     * @return the handle of the sent event, that can be used to {@link Simulation#cancel(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if the simulation was not started yet
      */
-    boolean schedule(SimEntity dest, double delay, int tag);
+    SimEventHandle schedule(SimEntity dest, double delay, int tag);
 
     /**
      * Sends an event from the entity to itself with <b>no</b> delay.
      * @param tag   An user-defined number representing the type of event.
      * @param data  The data to be sent with the event.
-     * @return true if the event was sent, false if the simulation was not started yet
+     * @return the handle of the sent event, that can be used to {@link Simulation#cancel(SimEventHandle) cancel} it;
+     *         or {@link SimEventHandle#NULL} if the simulation was not started yet
      */
-    boolean schedule(int tag, Object data);
+    SimEventHandle schedule(int tag, Object data);
 
     /**
      * The run loop to process events fired during the simulation. The events
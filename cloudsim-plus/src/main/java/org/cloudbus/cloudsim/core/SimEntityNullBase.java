@@ -1,6 +1,7 @@
 package org.cloudbus.cloudsim.core;
 
 import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.core.events.SimEventHandle;
 
 /**
  * A base interface used internally to implement the Null Object Design Pattern
@@ -20,10 +21,10 @@ public interface SimEntityNullBase extends SimEntity {
     @Override default SimEntity setSimulation(Simulation simulation) { return this; }
     @Override default void processEvent(SimEvent evt) {/**/}
     @Override default boolean schedule(SimEvent evt) { return false; }
-    @Override default boolean schedule(SimEntity dest, double delay, int tag, Object data) { return false; }
-    @Override default boolean schedule(double delay, int tag, Object data) { return false; }
-    @Override default boolean schedule(SimEntity dest, double delay, int tag) { return false; }
-    @Override default boolean schedule(int tag, Object data) { return false; }
+    @Override default SimEventHandle schedule(SimEntity dest, double delay, int tag, Object data) { return SimEventHandle.NULL; }
+    @Override default SimEventHandle schedule(double delay, int tag, Object data) { return SimEventHandle.NULL; }
+    @Override default SimEventHandle schedule(SimEntity dest, double delay, int tag) { return SimEventHandle.NULL; }
+    @Override default SimEventHandle schedule(int tag, Object data) { return SimEventHandle.NULL; }
     @Override default void run() {/**/}
     @Override default void start() {/**/}
     @Override default void shutdownEntity() {/**/}
@@ -7,13 +7,18 @@
 package org.cloudbus.cloudsim.core;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.events.EventJournal;
+import org.cloudbus.cloudsim.core.events.EventPool;
 import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.core.events.SimEventHandle;
+import org.cloudbus.cloudsim.core.metrics.SimulationMetrics;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
 
+import java.io.Serializable;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Objects;
@@ -30,7 +35,7 @@ import java.util.function.Predicate;
  * @see CloudSim
  * @since CloudSim Plus 1.0
  */
-public interface Simulation {
+public interface Simulation extends Serializable {
     /**
      * A standard predicate that matches any event.
      */
@@ -80,6 +85,21 @@ public interface Simulation {
      */
     boolean cancelAll(SimEntity src, Predicate<SimEvent> p);
 
+    /**
+     * Cancels an event previously sent, removing it from the future event queue.
+     * Since the handle directly locates the event,
+     * the cancellation costs just O(log n) or less,
+     * instead of scanning the queue as {@link #cancel(SimEntity, Predicate)} does.
+     * Events already received, but not processed by their destination entity yet
+     * (such as the ones happening at the current simulation time), are cancelled as well.
+     *
+     * @param handle the handle of the event to cancel, returned by the method used to send it
+     *               (such as {@link CloudSimEntity#schedule(SimEntity, double, int)})
+     * @return true if the event was cancelled; false if it was already processed,
+     *         was previously cancelled or the handle is not {@link SimEventHandle#isValid() valid}
+     */
+    boolean cancel(SimEventHandle handle);
+
     /**
      * Gets the current simulation time in seconds.
      *
@@ -150,7 +170,8 @@ public interface Simulation {
     int getNumEntities();
 
     /**
-     * Removes a listener from the onEventProcessingListener List.
+     * Removes a listener from the onEventProcessingListener List,
+     * including the subscriptions made for specific event tags and entities.
      *
      * @param listener the listener to remove
      * @return true if the listener was found and removed, false otherwise
@@ -173,6 +194,18 @@ public interface Simulation {
 
     Simulation addOnSimulationStartListener(EventListener<EventInfo> listener);
 
+    /**
+     * Adds an {@link EventListener} object that will be notified when the simulation finishes,
+     * either because there are no more events to process, it was terminated or aborted.
+     * When this Listener is notified, it will receive an {@link EventInfo} informing
+     * the time the simulation finished.
+     * It enables releasing resources used along the simulation, such as files.
+     *
+     * @param listener the event listener to add
+     * @return
+     */
+    Simulation addOnSimulationEndListener(EventListener<EventInfo> listener);
+
     /**
      * Removes a listener from the onSimulationPausedListener List.
      *
@@ -191,6 +224,46 @@ public interface Simulation {
      */
     Simulation addOnEventProcessingListener(EventListener<SimEvent> listener);
 
+    /**
+     * Adds a {@link EventListener} object that will be notified just when
+     * an event with a given tag is processed by CloudSim.
+     * Unlike listeners added by {@link #addOnEventProcessingListener(EventListener)},
+     * which are notified for every event, it's not called at all for other events.
+     *
+     * @param tag the tag of the events the listener will be notified about (usually a {@link CloudSimTags} constant)
+     * @param listener the event listener to add
+     * @return
+     * @see #removeOnEventProcessingListener(EventListener)
+     */
+    Simulation addOnEventProcessingListener(int tag, EventListener<SimEvent> listener);
+
+    /**
+     * Adds a {@link EventListener} object that will be notified just when
+     * an event sent to a given entity is processed by CloudSim.
+     * Unlike listeners added by {@link #addOnEventProcessingListener(EventListener)},
+     * which are notified for every event, it's not called at all for other events.
+     *
+     * @param dest the entity receiving the events the listener will be notified about
+     * @param listener the event listener to add
+     * @return
+     * @see #removeOnEventProcessingListener(EventListener)
+     */
+    Simulation addOnEventProcessingListener(SimEntity dest, EventListener<SimEvent> listener);
+
+    /**
+     * Adds a {@link EventListener} object that will be notified just when
+     * an event with a given tag, sent to a given entity, is processed by CloudSim.
+     * Unlike listeners added by {@link #addOnEventProcessingListener(EventListener)},
+     * which are notified for every event, it's not called at all for other events.
+     *
+     * @param dest the entity receiving the events the listener will be notified about
+     * @param tag the tag of the events the listener will be notified about (usually a {@link CloudSimTags} constant)
+     * @param listener the event listener to add
+     * @return
+     * @see #removeOnEventProcessingListener(EventListener)
+     */
+    Simulation addOnEventProcessingListener(SimEntity dest, int tag, EventListener<SimEvent> listener);
+
     /**
      * Adds a {@link EventListener} object that will be notified every time when the
      * simulation clock advances. Notifications are sent in a second interval to avoid notification flood.
@@ -352,13 +425,33 @@ public interface Simulation {
      * If no event happens, the clock is increased to simulate time passing.
      * The clock increment is defined according to: (i) the lower {@link Datacenter#getSchedulingInterval()}
      * between existing Datacenters;  or (ii) {@link #getMinTimeBetweenEvents()} in case
-     * no {@link Datacenter} has its schedulingInterval set.</p>
+     * no {@link Datacenter} has its schedulingInterval set.
+     * The {@link #setIdleTimePolicy(IdleTimePolicy) idle time policy} enables the clock to
+     * jump straight to the termination time instead.</p>
      *
      * @param time the time at which the simulation has to be terminated (in seconds)
      * @return true if the time given is greater than the current simulation time, false otherwise
      */
     boolean terminateAt(double time);
 
+    /**
+     * Gets the policy defining how the clock advances when a {@link #terminateAt(double) termination time}
+     * is set but there is no event to process.
+     *
+     * @return the idle time policy
+     */
+    IdleTimePolicy getIdleTimePolicy();
+
+    /**
+     * Sets the policy defining how the clock advances when a {@link #terminateAt(double) termination time}
+     * is set but there is no event to process.
+     * For long simulations with sparse events, using an {@link IdleTimePolicy#FAST_FORWARD}
+     * policy avoids running the simulation loop for every interval the clock is increased.
+     *
+     * @param policy the idle time policy to set (the default is {@link IdleTimePolicy#WAIT})
+     */
+    void setIdleTimePolicy(IdleTimePolicy policy);
+
     /**
      * Sets the state of an entity to {@link SimEntity.State#WAITING},
      * making it to wait for events that satisfy a given predicate.
@@ -384,6 +477,99 @@ public interface Simulation {
      */
     void setNetworkTopology(NetworkTopology networkTopology);
 
+    /**
+     * Gets the pool used to create the events sent in the simulation.
+     *
+     * @return the event pool; or {@link EventPool#NULL} if events are not being reused
+     */
+    EventPool getEventPool();
+
+    /**
+     * Sets the pool used to create the events sent in the simulation,
+     * enabling processed events to be reused, instead of creating a new object for every sent event.
+     * This way, processed events must not be stored for later use
+     * (check {@link EventPool} for details).
+     *
+     * @param eventPool the event pool to set, such as an {@link org.cloudbus.cloudsim.core.events.EventPoolSimple};
+     *                  or {@link EventPool#NULL} to create a new event for every sent one (the default behaviour)
+     * @throws IllegalStateException when the simulation has already started
+     */
+    void setEventPool(EventPool eventPool);
+
+    /**
+     * Gets the journal where every processed event is recorded.
+     *
+     * @return the event journal; or {@link EventJournal#NULL} if events are not being recorded
+     */
+    EventJournal getEventJournal();
+
+    /**
+     * Sets a journal to record every processed event, enabling post-mortem analysis of the simulation.
+     * The journal is closed when the simulation finishes.
+     *
+     * @param eventJournal the event journal to set, such as an {@link org.cloudbus.cloudsim.core.events.EventJournalMapped};
+     *                     or {@link EventJournal#NULL} to not record events (the default behaviour)
+     * @see EventJournalReplay
+     */
+    void setEventJournal(EventJournal eventJournal);
+
+    /**
+     * Gets the object collecting metrics about the event processing,
+     * such as the number of events processed for each tag and entity
+     * and the wall-clock time entities take to process them.
+     *
+     * @return the simulation metrics; or {@link SimulationMetrics#NULL} if metrics are not being collected
+     */
+    SimulationMetrics getMetrics();
+
+    /**
+     * Sets an object to collect metrics about the event processing,
+     * enabling finding which entities are slowing down the simulation without attaching a profiler.
+     * It must be set before the simulation starts.
+     *
+     * @param metrics the simulation metrics to set, such as a {@link org.cloudbus.cloudsim.core.metrics.SimulationMetricsSimple};
+     *                or {@link SimulationMetrics#NULL} to not collect metrics (the default behaviour)
+     */
+    void setMetrics(SimulationMetrics metrics);
+
+    /**
+     * Gets the number of threads used to make entities process the events
+     * they have received at the same simulation time.
+     *
+     * @return the number of threads; or 1 if entities process their events sequentially (the default behaviour)
+     * @see #setTickParallelism(int)
+     */
+    int getTickParallelism();
+
+    /**
+     * Sets the number of threads used to make entities process the events
+     * they have received at the same simulation time.
+     * It's an experimental feature, disabled by default.
+     * In each clock tick, the entities having events to process run in parallel,
+     * each one processing its own events.
+     * However, Datacenters, brokers and the other entities of the cloud infrastructure
+     * (such as network switches) directly change Hosts, VMs and Cloudlets.
+     * Thus, the ones that may change the same objects at a tick run sequentially in a single thread
+     * (such as a Datacenter and the brokers having VMs into it or exchanging events with it),
+     * in parallel with the other entities. This way, Datacenters whose brokers
+     * don't use other Datacenters run in parallel.
+     * Events sent by entities during a tick are merged back into the future event queue
+     * in a deterministic order (by time, source entity and the order they were sent),
+     * so that the results are the same regardless of the number of threads.
+     *
+     * <p>Other entities must interact just by sending events, since they may run concurrently
+     * (nothing detects when they directly change objects from other entities).
+     * Listeners called while entities process their events
+     * (such as the ones notified when a Cloudlet finishes) must be thread-safe.
+     * Entities dynamically created while entities run in parallel receive an ID
+     * just after all entities finish processing the events of the tick.</p>
+     *
+     * @param parallelism the number of threads to use, which must be greater than zero;
+     *                    or 1 to make entities process their events sequentially (the default behaviour)
+     * @throws IllegalStateException when the simulation has already started
+     */
+    void setTickParallelism(int parallelism);
+
     /**
      * Defines IDs for a list of {@link ChangeableId} entities that don't
      * have one already assigned. Such entities can be a {@link Cloudlet},
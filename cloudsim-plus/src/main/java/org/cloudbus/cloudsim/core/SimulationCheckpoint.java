@@ -0,0 +1,368 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudsimplus.listeners.EventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Saves the entire state of a {@link CloudSim} simulation
+ * (such as the clock, the future and deferred event queues, entities, Hosts, VMs, Cloudlets and their schedulers)
+ * to a compressed binary file and restores it into a new {@link CloudSim} instance.
+ * This way, a simulation can be warmed up just once
+ * (for instance, by loading traces, creating VMs and running up to a given time)
+ * and then many different scenarios can be started from such a state.
+ *
+ * <p>A checkpoint can be saved before the simulation starts,
+ * after it finishes or while it's paused. To save a checkpoint at a given time,
+ * call {@link Simulation#pause(double)} and save it inside
+ * an {@link Simulation#addOnSimulationPauseListener(EventListener) onSimulationPause listener}.
+ * A restored simulation continues from the checkpoint time
+ * when its {@link CloudSim#start()} method is called.</p>
+ *
+ * <p>All objects referenced by the simulation must be {@link Serializable},
+ * including {@link EventListener}s (which are serializable as long as
+ * they don't capture non-serializable objects).
+ * Null Objects (such as {@link org.cloudbus.cloudsim.vms.Vm#NULL})
+ * and other constants are restored as the same instances of the running application.
+ * Functions the researcher can set to change the behaviour of an object
+ * (such as the {@link org.cloudbus.cloudsim.brokers.DatacenterBroker#setVmMapper(java.util.function.Function) VM mapper}
+ * of a broker) are saved just when they are serializable,
+ * for instance, by casting a lambda expression to an intersection type,
+ * such as {@code (Function<Cloudlet, Vm> & Serializable) cloudlet -> ...}.
+ * Otherwise, a warning is logged and the default function is reattached
+ * when the object is restored (see {@link #writeFunction(ObjectOutputStream, Object, String, Object)}).
+ * Although classes declare a serialVersionUID, their serialized form may change between releases.
+ * This way, a checkpoint should be restored using the same CloudSim Plus version used to save it.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public final class SimulationCheckpoint {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SimulationCheckpoint.class.getSimpleName());
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private SimulationCheckpoint(){/**/}
+
+    /**
+     * Saves the state of a simulation to a file.
+     *
+     * @param simulation the simulation to save
+     * @param file the file to save the simulation to
+     * @throws IllegalStateException when the simulation is running and is not paused
+     * @throws UncheckedIOException when the file cannot be written or some object
+     *                              in the simulation is not serializable
+     */
+    public static void save(final CloudSim simulation, final Path file) {
+        requireNonNull(simulation);
+        if(simulation.isRunning() && !simulation.isPaused()){
+            throw new IllegalStateException(
+                "A checkpoint can only be saved while the simulation is paused, before it starts or after it finishes.");
+        }
+
+        try (ObjectOutputStream out = new CheckpointOutputStream(new GZIPOutputStream(Files.newOutputStream(file)))) {
+            out.writeObject(simulation);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Restores the state of a simulation from a file.
+     *
+     * @param file the file to restore the simulation from
+     * @return a new simulation with the restored state,
+     *         which continues from the checkpoint time when {@link CloudSim#start() started}
+     * @throws UncheckedIOException when the file cannot be read or is not a valid checkpoint
+     */
+    public static CloudSim restore(final Path file) {
+        try (CheckpointInputStream in = new CheckpointInputStream(new GZIPInputStream(Files.newInputStream(file)))) {
+            final CloudSim simulation = (CloudSim) in.readObject();
+            in.fillHashCollections();
+            return simulation;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new UncheckedIOException(new InvalidObjectException("Invalid checkpoint file: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Writes a function stored in a transient attribute of an object being saved into a checkpoint,
+     * which is called from the {@code writeObject} method of such an object.
+     * Functions which aren't {@link Serializable} (such as lambda expressions
+     * not cast to an intersection type including {@link Serializable}) are written as null,
+     * so that the object can reattach its default function when restored.
+     * Since that changes the behaviour of the restored simulation, a warning is logged in such a case.
+     *
+     * @param out the stream to write the function to
+     * @param owner the object the function belongs to
+     * @param functionName the name of the function, used just to log a warning when it's not saved
+     * @param function the function to write
+     * @throws IOException when the function cannot be written
+     * @see #readFunction(ObjectInputStream, Object)
+     */
+    public static void writeFunction(
+        final ObjectOutputStream out, final Object owner,
+        final String functionName, final Object function) throws IOException
+    {
+        if(function == null || function instanceof Serializable) {
+            out.writeObject(function);
+            return;
+        }
+
+        LOGGER.warn(
+            "The {} of {} is not serializable and will not be saved into the checkpoint. " +
+            "The default one will be used when the simulation is restored. " +
+            "Cast the function to an intersection type such as (Supplier<T> & Serializable) to save it.",
+            functionName, owner);
+        out.writeObject(null);
+    }
+
+    /**
+     * Reads a function stored in a transient attribute of an object being restored from a checkpoint,
+     * which is called from the {@code readObject} method of such an object.
+     *
+     * @param in the stream to read the function from
+     * @param defaultFunction the function to reattach when the saved function was not serializable
+     * @param <T> the type of the function
+     * @return the read function or the default one
+     * @throws IOException when the function cannot be read
+     * @throws ClassNotFoundException when the class of the function cannot be found
+     * @see #writeFunction(ObjectOutputStream, Object, String, Object)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T readFunction(final ObjectInputStream in, final T defaultFunction) throws IOException, ClassNotFoundException {
+        final Object function = in.readObject();
+        return function == null ? defaultFunction : (T) function;
+    }
+
+    /**
+     * An {@link ObjectOutputStream} that replaces constants
+     * (such as Null Objects) by a reference to the static field storing them,
+     * so that they are restored as the same instances.
+     * It also replaces hash-based collections by a {@link HashCollection},
+     * so that their elements are added just after the entire simulation is restored.
+     */
+    private static final class CheckpointOutputStream extends ObjectOutputStream {
+        /**
+         * The classes whose constants were already registered.
+         */
+        private final Set<Class<?>> registeredClasses;
+
+        /**
+         * The constants from all the registered classes.
+         */
+        private final Map<Object, ConstantReference> constants;
+
+        private CheckpointOutputStream(final OutputStream out) throws IOException {
+            super(out);
+            this.registeredClasses = new HashSet<>();
+            this.constants = new IdentityHashMap<>();
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) {
+            registerConstants(obj.getClass());
+            final ConstantReference reference = constants.get(obj);
+            if(reference != null) {
+                return reference;
+            }
+
+            return HashCollection.isHashCollection(obj) ? new HashCollection(obj) : obj;
+        }
+
+        /**
+         * Registers the constants declared in a class, its super classes and interfaces.
+         * Since objects are written before their attributes,
+         * the constants declared in the class of an object
+         * are registered before the values of its attributes are written.
+         *
+         * @param klass the class to register its constants
+         */
+        private void registerConstants(final Class<?> klass) {
+            if(klass == null || !registeredClasses.add(klass) || !isFromCloudSim(klass)){
+                return;
+            }
+
+            for (final Field field : klass.getDeclaredFields()) {
+                final int modifiers = field.getModifiers();
+                if(Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers) && !field.getType().isPrimitive()) {
+                    registerConstant(field);
+                }
+            }
+
+            registerConstants(klass.getSuperclass());
+            for (final Class<?> anInterface : klass.getInterfaces()) {
+                registerConstants(anInterface);
+            }
+        }
+
+        private void registerConstant(final Field field) {
+            try {
+                field.setAccessible(true);
+                final Object value = field.get(null);
+                if(isReplaceable(value) && !constants.containsKey(value)) {
+                    constants.put(value, new ConstantReference(field));
+                }
+            } catch (IllegalAccessException | RuntimeException e) {
+                //A field that cannot be accessed just isn't replaced
+            }
+        }
+
+        /**
+         * Checks if a constant value has to be replaced by a reference to it.
+         * Immutable values which are serialized by value (such as Strings and numbers)
+         * are not replaced.
+         * @param value the value to check
+         * @return true if the value has to be replaced, false otherwise
+         */
+        private static boolean isReplaceable(final Object value) {
+            return value != null && !(value instanceof String) && !(value instanceof Number) &&
+                   !(value instanceof Boolean) && !(value instanceof Character) && !(value instanceof Enum);
+        }
+
+        private static boolean isFromCloudSim(final Class<?> klass) {
+            final String name = klass.getName();
+            return name.startsWith("org.cloudbus.") || name.startsWith("org.cloudsimplus.");
+        }
+    }
+
+    /**
+     * An {@link ObjectInputStream} that restores each {@link HashCollection} read as an empty collection,
+     * whose elements are added after the entire simulation is read.
+     * Since the simulation objects have circular references to each other,
+     * some of them are read before their attributes are restored,
+     * thus, their hash code cannot be computed until the end.
+     */
+    private static final class CheckpointInputStream extends ObjectInputStream {
+        /**
+         * The read collections and their elements, in the order they were read.
+         * Since collections inside other collections are read first,
+         * their elements are added before they are added to the enclosing collections.
+         */
+        private final List<Map.Entry<Object, HashCollection>> collections;
+
+        private CheckpointInputStream(final InputStream in) throws IOException {
+            super(in);
+            this.collections = new ArrayList<>();
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(final Object obj) throws IOException {
+            if(obj instanceof HashCollection) {
+                final Object collection = ((HashCollection) obj).newCollection();
+                collections.add(new AbstractMap.SimpleEntry<>(collection, (HashCollection) obj));
+                return collection;
+            }
+
+            return obj;
+        }
+
+        /**
+         * Adds the elements of the read hash-based collections, keeping their iteration order.
+         */
+        private void fillHashCollections() {
+            collections.forEach(entry -> entry.getValue().fill(entry.getKey()));
+        }
+    }
+
+    /**
+     * Stores the class and elements of a {@link HashMap}, {@link HashSet}
+     * or their linked versions, in the order they are iterated.
+     */
+    private static final class HashCollection implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Class<?> collectionClass;
+
+        /**
+         * The elements of a Set or the keys and values of a Map, alternately.
+         */
+        private final Object[] elements;
+
+        private HashCollection(final Object collection) {
+            this.collectionClass = collection.getClass();
+            if(collection instanceof Map) {
+                final Map<?, ?> map = (Map<?, ?>) collection;
+                this.elements = new Object[map.size() * 2];
+                int i = 0;
+                for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                    elements[i++] = entry.getKey();
+                    elements[i++] = entry.getValue();
+                }
+            } else this.elements = ((Collection<?>) collection).toArray();
+        }
+
+        private static boolean isHashCollection(final Object obj) {
+            return isHashCollectionClass(obj.getClass());
+        }
+
+        private static boolean isHashCollectionClass(final Class<?> klass) {
+            return klass == HashMap.class || klass == LinkedHashMap.class ||
+                   klass == HashSet.class || klass == LinkedHashSet.class;
+        }
+
+        private Object newCollection() throws InvalidObjectException {
+            if(!isHashCollectionClass(collectionClass)) {
+                throw new InvalidObjectException("Invalid collection class: " + collectionClass);
+            }
+
+            try {
+                return collectionClass.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new InvalidObjectException(e.getMessage());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void fill(final Object collection) {
+            if(collection instanceof Map) {
+                final Map<Object, Object> map = (Map<Object, Object>) collection;
+                for (int i = 0; i < elements.length; i += 2) {
+                    map.put(elements[i], elements[i + 1]);
+                }
+            } else Collections.addAll((Collection<Object>) collection, elements);
+        }
+    }
+
+    /**
+     * A reference to a constant stored into a static field,
+     * which is resolved to the value of such a field when read.
+     */
+    private static final class ConstantReference implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Class<?> declaringClass;
+        private final String fieldName;
+
+        private ConstantReference(final Field field) {
+            this.declaringClass = field.getDeclaringClass();
+            this.fieldName = field.getName();
+        }
+
+        private Object readResolve() throws ObjectStreamException {
+            try {
+                final Field field = declaringClass.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                return field.get(null);
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new InvalidObjectException("Cannot restore constant " + declaringClass.getName() + "." + fieldName);
+            }
+        }
+    }
+}
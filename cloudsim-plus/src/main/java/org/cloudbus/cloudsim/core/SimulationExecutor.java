@@ -0,0 +1,219 @@
+package org.cloudbus.cloudsim.core;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.util.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs many independent simulations concurrently, using a bounded pool of threads.
+ * Each simulation is given as a task that creates its own {@link CloudSim} instance,
+ * builds the scenario, runs it and returns the results to be collected.
+ *
+ * <p>Simulations are isolated from each other: each task runs with the default configuration
+ * that is confined to the thread running it, such as the
+ * {@link Log#setThreadLevel(Level) logging level}.
+ * Such a configuration is restored before and after each task,
+ * so that a simulation never sees changes made by a previous one running in the same thread.
+ * Other default values, such as the {@link HostSimple#getDefaultRamCapacity() default Host}
+ * and {@link VmSimple#getDefaultRamCapacity() default VM} capacities, are constants.
+ * Since simulations don't share any state, the results are the same as running them sequentially.</p>
+ *
+ * <pre>
+ * {@code
+ * try(SimulationExecutor executor = new SimulationExecutor(4)) {
+ *     List<Double> finishTimes = executor.run(1000, i -> {
+ *         CloudSim simulation = new CloudSim();
+ *         // creates the scenario for the i-th simulation
+ *         return simulation.start();
+ *     });
+ * }
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see ParallelCloudSim
+ */
+public class SimulationExecutor implements AutoCloseable {
+    private final ExecutorService pool;
+
+    /**
+     * @see #getParallelism()
+     */
+    private final int parallelism;
+
+    /**
+     * @see #setLogLevel(Level)
+     */
+    private Level logLevel;
+
+    /**
+     * Creates an executor to run simulations concurrently.
+     *
+     * @param parallelism the maximum number of simulations running at the same time
+     * @throws IllegalArgumentException when the parallelism is not greater than zero
+     */
+    public SimulationExecutor(final int parallelism) {
+        if(parallelism <= 0){
+            throw new IllegalArgumentException("The parallelism must be greater than zero.");
+        }
+
+        this.parallelism = parallelism;
+        final AtomicInteger threads = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(parallelism, task -> {
+            final Thread thread = new Thread(task, SimulationExecutor.class.getSimpleName() + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the maximum number of simulations running at the same time.
+     * @return
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Gets the logging level used by the threads running simulations.
+     * @return the logging level; or null if the level of loggers is not restricted
+     */
+    public Level getLogLevel() {
+        return logLevel;
+    }
+
+    /**
+     * Sets the logging level used by the threads running simulations,
+     * without changing the logging level of other threads.
+     * For instance, {@link Level#OFF} disables the logs of all simulations.
+     *
+     * @param logLevel the logging level to set; or null to not restrict the level of loggers
+     * @return
+     * @see Log#setThreadLevel(Level)
+     */
+    public SimulationExecutor setLogLevel(final Level logLevel) {
+        this.logLevel = logLevel;
+        return this;
+    }
+
+    /**
+     * Runs a given number of simulations, waiting all of them to finish.
+     *
+     * @param simulations the number of simulations to run
+     * @param simulation a function that receives the index of a simulation,
+     *                   then creates, runs and returns the results of that simulation
+     * @param <T> the type of the results of each simulation
+     * @return the list of results, in the order of simulation indexes
+     * @see #run(List)
+     */
+    public <T> List<T> run(final int simulations, final IntFunction<T> simulation) {
+        requireNonNull(simulation);
+        final List<Callable<T>> tasks = new ArrayList<>(simulations);
+        for (int i = 0; i < simulations; i++) {
+            final int index = i;
+            tasks.add(() -> simulation.apply(index));
+        }
+
+        return run(tasks);
+    }
+
+    /**
+     * Runs a list of simulations, waiting all of them to finish.
+     * If some simulation fails, the exception is rethrown
+     * after all other simulations finish.
+     *
+     * @param simulations the list of tasks that create, run and return the results of each simulation
+     * @param <T> the type of the results of each simulation
+     * @return the list of results, in the order of the given tasks
+     * @throws IllegalStateException when the executor is closed or when a simulation throws a checked exception
+     */
+    public <T> List<T> run(final List<? extends Callable<T>> simulations) {
+        if(pool.isShutdown()){
+            throw new IllegalStateException("The executor is closed.");
+        }
+
+        final List<Callable<T>> tasks = new ArrayList<>(simulations.size());
+        for (final Callable<T> simulation : simulations) {
+            tasks.add(isolated(requireNonNull(simulation)));
+        }
+
+        final List<Future<T>> futures;
+        try {
+            futures = pool.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        final List<T> results = new ArrayList<>(futures.size());
+        for (final Future<T> future : futures) {
+            results.add(result(future));
+        }
+
+        return results;
+    }
+
+    /**
+     * Wraps a simulation task to run it with the default thread configuration.
+     */
+    private <T> Callable<T> isolated(final Callable<T> simulation) {
+        return () -> {
+            resetThreadConfiguration();
+            if(logLevel != null) {
+                Log.setThreadLevel(logLevel);
+            }
+
+            try {
+                return simulation.call();
+            } finally {
+                resetThreadConfiguration();
+            }
+        };
+    }
+
+    private static void resetThreadConfiguration() {
+        Log.removeThreadLevel();
+    }
+
+    private static <T> T result(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException){
+                throw (RuntimeException) e.getCause();
+            }
+
+            if(e.getCause() instanceof Error){
+                throw (Error) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Shuts down the threads used to run simulations.
+     * Further calls to run simulations throw an {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
@@ -1,6 +1,10 @@
 package org.cloudbus.cloudsim.core;
 
+import org.cloudbus.cloudsim.core.events.EventJournal;
+import org.cloudbus.cloudsim.core.events.EventPool;
 import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.core.events.SimEventHandle;
+import org.cloudbus.cloudsim.core.metrics.SimulationMetrics;
 import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
@@ -18,6 +22,8 @@ import java.util.function.Predicate;
  * @see Simulation#NULL
  */
 final class SimulationNull implements Simulation {
+    private static final long serialVersionUID = 1L;
+
     @Override public boolean isTerminationTimeSet() { return false; }
     @Override public void abort() {/**/}
     @Override public void addEntity(CloudSimEntity entity) {/**/}
@@ -27,6 +33,7 @@ final class SimulationNull implements Simulation {
     @Override public boolean cancelAll(SimEntity src, Predicate<SimEvent> predicate) {
         return false;
     }
+    @Override public boolean cancel(SimEventHandle handle) { return false; }
     @Override public double clock() { return 0.0; }
     @Override public double clockInMinutes() { return 0.0; }
     @Override public double clockInHours() { return 0.0; }
@@ -51,6 +58,7 @@ final class SimulationNull implements Simulation {
         return this;
     }
     @Override public Simulation addOnSimulationStartListener(EventListener<EventInfo> listener) { return this; }
+    @Override public Simulation addOnSimulationEndListener(EventListener<EventInfo> listener) { return this; }
     @Override public boolean removeOnSimulationPauseListener(EventListener<EventInfo> listener) {
         return false;
     }
@@ -79,6 +87,15 @@ final class SimulationNull implements Simulation {
     @Override public Simulation addOnEventProcessingListener(EventListener<SimEvent> listener) {
         return this;
     }
+    @Override public Simulation addOnEventProcessingListener(int tag, EventListener<SimEvent> listener) {
+        return this;
+    }
+    @Override public Simulation addOnEventProcessingListener(SimEntity dest, EventListener<SimEvent> listener) {
+        return this;
+    }
+    @Override public Simulation addOnEventProcessingListener(SimEntity dest, int tag, EventListener<SimEvent> listener) {
+        return this;
+    }
     @Override public Simulation addOnClockTickListener(EventListener<EventInfo> listener) {
         return this;
     }
@@ -93,9 +110,19 @@ final class SimulationNull implements Simulation {
     @Override public boolean terminateAt(double time) {
         return false;
     }
+    @Override public IdleTimePolicy getIdleTimePolicy() { return IdleTimePolicy.WAIT; }
+    @Override public void setIdleTimePolicy(IdleTimePolicy policy) {/**/}
     @Override public void wait(CloudSimEntity src, Predicate<SimEvent> predicate) {/**/}
     @Override public NetworkTopology getNetworkTopology() { return NetworkTopology.NULL; }
     @Override public void setNetworkTopology(NetworkTopology networkTopology) {/**/}
+    @Override public EventPool getEventPool() { return EventPool.NULL; }
+    @Override public void setEventPool(EventPool eventPool) {/**/}
+    @Override public EventJournal getEventJournal() { return EventJournal.NULL; }
+    @Override public void setEventJournal(EventJournal eventJournal) {/**/}
+    @Override public SimulationMetrics getMetrics() { return SimulationMetrics.NULL; }
+    @Override public void setMetrics(SimulationMetrics metrics) {/**/}
+    @Override public int getTickParallelism() { return 1; }
+    @Override public void setTickParallelism(int parallelism) {/**/}
     @Override public long getNumberOfFutureEvents(Predicate<SimEvent> predicate) { return 0; }
     @Override public double getLastCloudletProcessingUpdate() { return 0; }
 }
@@ -24,17 +24,19 @@ import java.util.Objects;
  * @see SimEntity
  */
 public final class CloudSimEvent implements SimEvent {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getSimulation()
      */
     private Simulation simulation;
 
-    private final Type type;
+    private Type type;
 
     /**
      * The actual simulation time that this event was scheduled to (at which it should occur).
      */
-    private final double time;
+    private double time;
 
     /**
      * Time that the event was removed from the queue to start service.
@@ -51,15 +53,56 @@ public final class CloudSimEvent implements SimEvent {
      */
     private SimEntity dest;
 
-    private final int tag;
+    private int tag;
 
-    private final Object data;
+    private Object data;
 
     /**
      * @see #getSerial()
      */
     private long serial = -1;
 
+    /**
+     * The pool the event was acquired from,
+     * or null if it was directly instantiated.
+     */
+    private EventPool pool;
+
+    /**
+     * Indicates if the event was released back to its {@link #pool},
+     * so that it must not be used anymore.
+     */
+    private boolean released;
+
+    /**
+     * @see #getGeneration()
+     */
+    private long generation;
+
+    /**
+     * The index of the logical process of a {@link org.cloudbus.cloudsim.core.ParallelCloudSim} that sent the event,
+     * or -1 if the event wasn't sent inside a ParallelCloudSim.
+     * @see #setSendOrder(int, double, int, long)
+     */
+    private int logicalProcess = -1;
+
+    /**
+     * The simulation time the event was sent by its {@link #logicalProcess}.
+     */
+    private double sendTime;
+
+    /**
+     * The tick of the {@link #logicalProcess} at the {@link #sendTime} where the event was sent.
+     * @see #setSendOrder(int, double, int, long)
+     */
+    private int sendTick;
+
+    /**
+     * The ID of the entity that was processing its events when this event was sent.
+     * @see #setSendOrder(int, double, int, long)
+     */
+    private long sendingEntity;
+
     /**
      * Creates a {@link Type#SEND} CloudSimEvent.
      * @param delay how many seconds after the current simulation time the event should be scheduled
@@ -147,6 +190,29 @@ public final class CloudSimEvent implements SimEvent {
         final Type type, final double delay,
         final SimEntity src, final SimEntity dest,
         final int tag, final Object data)
+    {
+        init(type, delay, src, dest, tag, data);
+    }
+
+    /**
+     * Creates a CloudSimEvent that belongs to a given {@link EventPool},
+     * so that it can be reused after being released.
+     * @param pool the pool the event belongs to
+     * @see #CloudSimEvent(Type, double, SimEntity, SimEntity, int, Object)
+     */
+    CloudSimEvent(
+        final EventPool pool, final Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        this(type, delay, src, dest, tag, data);
+        this.pool = pool;
+    }
+
+    private void init(
+        final Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
     {
         if (delay < 0) {
             throw new IllegalArgumentException("Delay can't be negative.");
@@ -161,6 +227,143 @@ public final class CloudSimEvent implements SimEvent {
         this.data = data;
     }
 
+    /**
+     * Reinitializes a released event so that it can be reused by its {@link EventPool}.
+     * @return this event
+     * @see #CloudSimEvent(Type, double, SimEntity, SimEntity, int, Object)
+     */
+    CloudSimEvent reuse(
+        final Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        init(type, delay, src, dest, tag, data);
+        this.serial = -1;
+        this.endWaitingTime = 0;
+        this.logicalProcess = -1;
+        this.released = false;
+        return this;
+    }
+
+    /**
+     * Marks the event as released to its {@link EventPool},
+     * clearing the attached data so that it can be garbage collected.
+     * Accessing the event after that throws an {@link IllegalStateException}.
+     */
+    void release() {
+        this.released = true;
+        this.generation++;
+        this.data = null;
+    }
+
+    /**
+     * Gets the pool the event was acquired from.
+     * @return the event pool or null if the event was directly instantiated
+     */
+    EventPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Gets the number of times the event was released to its {@link EventPool},
+     * which is used by a {@link SimEventHandle} to detect when the event was recycled.
+     * @return the event generation
+     */
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Checks if the event was released back to its {@link EventPool}.
+     * @return true if the event was released, false otherwise
+     */
+    boolean isReleased() {
+        return released;
+    }
+
+    private void checkNotReleased() {
+        if (released) {
+            throw new IllegalStateException("The event was released to the pool and cannot be used anymore.");
+        }
+    }
+
+    /**
+     * Sets the point in the execution of a logical process of a {@link org.cloudbus.cloudsim.core.ParallelCloudSim}
+     * where the event was sent. Events happening at the same time are ordered by such a point,
+     * since the {@link #getSerial() serial} is just comparable for events sent by the same logical process.
+     * That ensures the events are processed in the same order as if all entities
+     * were running in a single simulation, where the serial follows the order the events are sent.
+     *
+     * @param logicalProcess the index of the logical process sending the event
+     * @param sendTime the simulation time the event is being sent
+     * @param sendTick the tick of the logical process at the send time,
+     *                 where even ticks are the ones where future events are processed
+     *                 and odd ticks the ones where entities process the received events
+     * @param sendingEntity the ID of the entity processing its events when this event is being sent,
+     *                      or -1 if no entity is processing events
+     *                      (which are processed in the order of their IDs)
+     */
+    public void setSendOrder(final int logicalProcess, final double sendTime, final int sendTick, final long sendingEntity) {
+        this.logicalProcess = logicalProcess;
+        this.sendTime = sendTime;
+        this.sendTick = sendTick;
+        this.sendingEntity = sendingEntity;
+    }
+
+    /**
+     * Sets the simulation sending the event on behalf of its source entity,
+     * computing the event time from the clock of such a simulation.
+     * That is used when the source entity belongs to another logical process of a
+     * {@link org.cloudbus.cloudsim.core.ParallelCloudSim} (such as the
+     * {@link org.cloudbus.cloudsim.core.CloudInformationService} shared by all logical processes),
+     * whose clock may be ahead or behind the sending one.
+     * It must be called before the event is sent.
+     *
+     * @param simulation the simulation sending the event
+     * @param delay how many seconds after the current time of the given simulation the event should happen
+     */
+    public void setSendingSimulation(final Simulation simulation, final double delay) {
+        setSimulation(simulation);
+        this.time = simulation.clock() + delay;
+    }
+
+    /**
+     * Compares the order two events happening at the same time were sent
+     * by logical processes of a {@link org.cloudbus.cloudsim.core.ParallelCloudSim}.
+     * High priority events (which have a negative serial) come first,
+     * then events are ordered by send time, tick, sending entity and logical process.
+     * For events sent by the same logical process, that is the same order defined by their serial.
+     *
+     * @param evt1 the first event to compare
+     * @param evt2 the second event to compare
+     * @return a negative value if the first event must be processed first,
+     *         a positive value if the second event must be processed first,
+     *         or 0 if the events must be compared by their serial
+     *         (such as when they weren't sent inside a ParallelCloudSim)
+     * @see #setSendOrder(int, double, int, long)
+     */
+    public static int compareSendOrder(final SimEvent evt1, final SimEvent evt2) {
+        if(!(evt1 instanceof CloudSimEvent) || !(evt2 instanceof CloudSimEvent)){
+            return 0;
+        }
+
+        final CloudSimEvent cloudSimEvt1 = (CloudSimEvent) evt1;
+        final CloudSimEvent cloudSimEvt2 = (CloudSimEvent) evt2;
+        if(cloudSimEvt1.logicalProcess == -1 && cloudSimEvt2.logicalProcess == -1){
+            return 0;
+        }
+
+        int result = Boolean.compare(evt2.getSerial() < 0, evt1.getSerial() < 0);
+        if(result == 0)
+            result = Double.compare(cloudSimEvt1.sendTime, cloudSimEvt2.sendTime);
+        if(result == 0)
+            result = Integer.compare(cloudSimEvt1.sendTick, cloudSimEvt2.sendTick);
+        if(result == 0)
+            result = Long.compare(cloudSimEvt1.sendingEntity, cloudSimEvt2.sendingEntity);
+
+        return result == 0 ? Integer.compare(cloudSimEvt1.logicalProcess, cloudSimEvt2.logicalProcess) : result;
+    }
+
     @Override
     public void setSerial(final long serial) {
         this.serial = serial;
@@ -179,6 +382,7 @@ public final class CloudSimEvent implements SimEvent {
 
     @Override
     public Type getType() {
+        checkNotReleased();
         return type;
     }
 
@@ -190,6 +394,11 @@ public final class CloudSimEvent implements SimEvent {
             return -1;
         } else if (time > evt.getTime()) {
             return 1;
+        }
+
+        final int sendOrder = compareSendOrder(this, evt);
+        if (sendOrder != 0) {
+            return sendOrder;
         } else if (serial < evt.getSerial()) {
             return -1;
         } else if (this == evt) {
@@ -201,26 +410,31 @@ public final class CloudSimEvent implements SimEvent {
 
     @Override
     public SimEntity getDestination() {
+        checkNotReleased();
         return dest;
     }
 
     @Override
     public SimEntity getSource() {
+        checkNotReleased();
         return src;
     }
 
     @Override
     public SimEntity scheduledBy() {
+        checkNotReleased();
         return src;
     }
 
     @Override
     public int getTag() {
+        checkNotReleased();
         return tag;
     }
 
     @Override
     public Object getData() {
+        checkNotReleased();
         return data;
     }
 
@@ -238,6 +452,7 @@ public final class CloudSimEvent implements SimEvent {
 
     @Override
     public double getTime() {
+        checkNotReleased();
         return time;
     }
 
@@ -9,87 +9,179 @@
 package org.cloudbus.cloudsim.core.events;
 
 import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.Simulation;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class implements the deferred event queue used by {@link CloudSim}.
- * The event queue uses a linked list to store the events.
+ *
+ * <p>Events are indexed by their {@link SimEvent#getDestination() destination entity},
+ * so that each entity has its own mailbox.
+ * Inside a mailbox, events are stored into a linked list sorted by time
+ * and are also indexed by their {@link SimEvent#getTag() tag}.
+ * This way, looking up and removing events for a given entity
+ * just costs what its own mailbox costs, instead of
+ * scanning the events of all entities.
+ * Since events are usually added in time order, adding an event
+ * is O(1) in the common case.
+ * A mailbox is removed as soon as it becomes empty, so that
+ * entities which don't receive events anymore don't keep any entry in the queue.</p>
  *
  * @author Marcos Dias de Assuncao
+ * @author Manoel Campos da Silva Filho
  * @since CloudSim Toolkit 1.0
  * @see CloudSim
  * @see SimEvent
  */
 public class DeferredQueue implements EventQueue {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The mailboxes storing the events for each destination entity.
+     * Since nodes are linked to each other, mailboxes are not directly serialized
+     * (avoiding a deep recursion to serialize long lists of nodes),
+     * but rebuilt from the serialized events.
+     * @see #writeObject(ObjectOutputStream)
+     */
+    private transient Map<SimEntity, Mailbox> mailboxes = new HashMap<>();
 
-	/** The list of events. */
-	private final List<SimEvent> list = new LinkedList<>();
-
-	/** The max time that an added event is scheduled. */
-	private double maxTime = -1;
-
-	/**
-	 * Adds a new event to the queue. Adding a new event to the queue preserves the temporal order
-	 * of the events.
-	 *
-	 * @param newEvent The event to be added to the queue.
-	 */
-	public void addEvent(final SimEvent newEvent) {
-		// The event has to be inserted as the last of all events
-		// with the same event_time(). Yes, this matters.
-		final double eventTime = newEvent.getTime();
-		if (eventTime >= maxTime) {
-			list.add(newEvent);
-			maxTime = eventTime;
-			return;
-		}
-
-		final ListIterator<SimEvent> iterator = list.listIterator();
-		SimEvent event;
-		while (iterator.hasNext()) {
-			event = iterator.next();
-			if (event.getTime() > eventTime) {
-				iterator.previous();
-				iterator.add(newEvent);
-				return;
-			}
-		}
-
-		list.add(newEvent);
-	}
-
-	/**
-	 * Returns an iterator to the events in the queue.
-	 *
-	 * @return the iterator
-	 */
-	public Iterator<SimEvent> iterator() {
-		return list.iterator();
-	}
-
-    /**
-     * Returns a stream to the elements into the queue.
+    /**
+     * The number of events in the queue.
+     */
+    private int size;
+
+    /**
+     * An incremental number defining the order events were added,
+     * used to keep the insertion order for events with the same time.
+     */
+    private long sequence;
+
+    /**
+     * A stack of nodes removed from the mailboxes (linked by their {@link Node#next} attribute),
+     * that are reused to store new events, avoiding creating a node for every added event.
+     */
+    private transient Node freeNodes;
+
+    /**
+     * Adds a new event to the queue. Adding a new event to the queue preserves the temporal order
+     * of the events.
+     *
+     * @param newEvent The event to be added to the queue.
+     */
+    @Override
+    public void addEvent(final SimEvent newEvent) {
+        mailboxes.computeIfAbsent(newEvent.getDestination(), dest -> new Mailbox()).add(newNode(newEvent));
+        size++;
+    }
+
+    private Node newNode(final SimEvent evt) {
+        if(freeNodes == null){
+            return new Node(evt, sequence++);
+        }
+
+        final Node node = freeNodes;
+        freeNodes = node.next;
+        node.next = null;
+        node.evt = evt;
+        node.sequence = sequence++;
+        return node;
+    }
+
+    /**
+     * Removes a node from a given mailbox and makes it available to be reused.
+     * @param mailbox the mailbox to remove the node from
+     * @param node the node to remove
+     * @return the event stored in the removed node
+     */
+    private SimEvent remove(final Mailbox mailbox, final Node node) {
+        mailbox.remove(node);
+        size--;
+
+        final SimEvent evt = node.evt;
+        if(mailbox.head == null) {
+            mailboxes.remove(evt.getDestination());
+        }
+
+        node.evt = null;
+        node.prev = null;
+        node.prevSameTag = null;
+        node.nextSameTag = null;
+        node.next = freeNodes;
+        freeNodes = node;
+        return evt;
+    }
+
+    /**
+     * Returns an iterator to the events in the queue, sorted by time.
+     * Events with the same time are returned in the order they were added.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return stream().iterator();
+    }
+
+    /**
+     * Returns a stream to the elements into the queue, sorted by time.
+     * Events with the same time are returned in the order they were added.
+     *
+     * <p>Since events are stored by destination entity, that requires merging
+     * the events of all entities. To get the events for a specific entity,
+     * use {@link #stream(SimEntity)} instead.</p>
      *
      * @return the stream
      */
+    @Override
     public Stream<SimEvent> stream() {
-        return list.stream();
+        return mailboxes.values()
+                        .stream()
+                        .flatMap(Mailbox::nodes)
+                        .sorted(Node::compareTo)
+                        .map(node -> node.evt);
+    }
+
+    /**
+     * Returns a stream to the events into the queue that are
+     * targeted to a given entity, sorted by time.
+     *
+     * @param dest the entity the events are sent to
+     * @return the stream
+     */
+    public Stream<SimEvent> stream(final SimEntity dest) {
+        final Mailbox mailbox = mailboxes.get(dest);
+        return mailbox == null ? Stream.empty() : mailbox.nodes().map(node -> node.evt);
     }
 
-	/**
-	 * Returns the size of this event queue.
-	 *
-	 * @return the number of events in the queue.
-	 */
-	public int size() {
-		return list.size();
-	}
+    /**
+     * Returns the size of this event queue.
+     *
+     * @return the number of events in the queue.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of entities which have events in the queue.
+     * @return
+     */
+    int getMailboxesNumber() {
+        return mailboxes.size();
+    }
 
     @Override
     public boolean isEmpty() {
-        return list.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -99,23 +191,293 @@ public class DeferredQueue implements EventQueue {
      * @return true, if successful
      */
     public boolean remove(final SimEvent event) {
-        return list.remove(event);
+        final Mailbox mailbox = mailboxes.get(event.getDestination());
+        if(mailbox == null){
+            return false;
+        }
+
+        final Node node = mailbox.findNode(event);
+        if(node == null){
+            return false;
+        }
+
+        remove(mailbox, node);
+        return true;
+    }
+
+    /**
+     * Finds the first event targeted to a given entity that matches a predicate.
+     *
+     * @param dest the entity the event has to be sent to
+     * @param predicate the event selection predicate
+     * @return the first matched event or {@link SimEvent#NULL} if not found
+     */
+    public SimEvent findFirst(final SimEntity dest, final Predicate<SimEvent> predicate) {
+        final Mailbox mailbox = mailboxes.get(dest);
+        final Node node = mailbox == null ? null : mailbox.findFirst(predicate);
+        return node == null ? SimEvent.NULL : node.evt;
     }
 
+    /**
+     * Removes the first event targeted to a given entity that matches a predicate.
+     *
+     * @param dest the entity the event has to be sent to
+     * @param predicate the event selection predicate
+     * @return the removed event or {@link SimEvent#NULL} if not found
+     */
+    public SimEvent removeFirst(final SimEntity dest, final Predicate<SimEvent> predicate) {
+        final Mailbox mailbox = mailboxes.get(dest);
+        final Node node = mailbox == null ? null : mailbox.findFirst(predicate);
+        return node == null ? SimEvent.NULL : remove(mailbox, node);
+    }
+
+    /**
+     * Removes all events targeted to a given entity,
+     * usually because the entity was shut down and won't process them anymore.
+     *
+     * @param dest the entity to remove its events
+     * @return the number of removed events
+     */
+    public int removeAll(final SimEntity dest) {
+        final Mailbox mailbox = mailboxes.remove(dest);
+        if(mailbox == null){
+            return 0;
+        }
+
+        int count = 0;
+        for (Node node = mailbox.head; node != null; node = node.next) {
+            count++;
+        }
+
+        size -= count;
+        return count;
+    }
 
     @Override
     public SimEvent first() throws NoSuchElementException {
-	    if(list.isEmpty())
-	        throw new NoSuchElementException("The Deferred Queue is empty.");
+        Node first = null;
+        for (final Mailbox mailbox : mailboxes.values()) {
+            if(mailbox.head != null && (first == null || mailbox.head.compareTo(first) < 0)){
+                first = mailbox.head;
+            }
+        }
+
+        if(first == null) {
+            throw new NoSuchElementException("The Deferred Queue is empty.");
+        }
 
-        return list.get(0);
+        return first.evt;
     }
 
     /**
-	 * Clears the queue.
-	 */
-	public void clear() {
-		list.clear();
-	}
+     * Clears the queue.
+     */
+    public void clear() {
+        mailboxes.clear();
+        freeNodes = null;
+        size = 0;
+    }
+
+    /**
+     * Writes the events in the queue in the order they are returned by {@link #stream()}.
+     * @param out the stream to write the queue to
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        final Iterator<SimEvent> it = iterator();
+        while (it.hasNext()) {
+            out.writeObject(it.next());
+        }
+    }
+
+    /**
+     * Reads the events in the queue and adds them back into the mailboxes,
+     * keeping their original order.
+     * @param in the stream to read the queue from
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        mailboxes = new HashMap<>();
+        final int count = size;
+        size = 0;
+        for (int i = 0; i < count; i++) {
+            addEvent((SimEvent) in.readObject());
+        }
+    }
+
+    /**
+     * A node storing an event in a {@link Mailbox},
+     * that is linked both to the previous/next events in the mailbox
+     * and to the previous/next events with the same tag.
+     */
+    private static final class Node implements Comparable<Node> {
+        private SimEvent evt;
+        private long sequence;
+        private Node prev;
+        private Node next;
+        private Node prevSameTag;
+        private Node nextSameTag;
+
+        private Node(final SimEvent evt, final long sequence) {
+            this.evt = evt;
+            this.sequence = sequence;
+        }
+
+        private double time(){
+            return evt.getTime();
+        }
 
+        @Override
+        public int compareTo(final Node other) {
+            final int result = Double.compare(time(), other.time());
+            return result == 0 ? Long.compare(sequence, other.sequence) : result;
+        }
+    }
+
+    /**
+     * The events in the queue which are targeted to a specific entity.
+     */
+    private static final class Mailbox {
+        private Node head;
+        private Node tail;
+
+        /**
+         * The first and last node for each event tag,
+         * stored into a 2-positions array.
+         * The array for a tag is kept even after all its events are removed,
+         * since new events with the same tag are usually sent later.
+         */
+        private final Map<Integer, Node[]> tags = new HashMap<>();
+
+        /**
+         * Adds a node after all the ones with time lower than or equal to its time.
+         * @param node the node to add
+         */
+        void add(final Node node) {
+            Node prev = tail;
+            while (prev != null && prev.time() > node.time()) {
+                prev = prev.prev;
+            }
+
+            linkAfter(prev, node);
+            linkToTag(node);
+        }
+
+        private void linkAfter(final Node prev, final Node node) {
+            node.prev = prev;
+            node.next = prev == null ? head : prev.next;
+            if(node.next == null)
+                tail = node;
+            else node.next.prev = node;
+
+            if(prev == null)
+                head = node;
+            else prev.next = node;
+        }
+
+        private void linkToTag(final Node node) {
+            final Node[] ends = tags.computeIfAbsent(node.evt.getTag(), tag -> new Node[2]);
+            Node prev = ends[1];
+            while (prev != null && prev.time() > node.time()) {
+                prev = prev.prevSameTag;
+            }
+
+            node.prevSameTag = prev;
+            node.nextSameTag = prev == null ? ends[0] : prev.nextSameTag;
+            if(node.nextSameTag == null)
+                ends[1] = node;
+            else node.nextSameTag.prevSameTag = node;
+
+            if(prev == null)
+                ends[0] = node;
+            else prev.nextSameTag = node;
+        }
+
+        void remove(final Node node) {
+            if(node.prev == null)
+                head = node.next;
+            else node.prev.next = node.next;
+
+            if(node.next == null)
+                tail = node.prev;
+            else node.next.prev = node.prev;
+
+            final Node[] ends = tags.get(node.evt.getTag());
+            if(node.prevSameTag == null)
+                ends[0] = node.nextSameTag;
+            else node.prevSameTag.nextSameTag = node.nextSameTag;
+
+            if(node.nextSameTag == null)
+                ends[1] = node.prevSameTag;
+            else node.nextSameTag.prevSameTag = node.prevSameTag;
+        }
+
+        /**
+         * Finds the first node whose event matches a given predicate.
+         * If the predicate just selects events by tag,
+         * only the events with such a tag are visited.
+         *
+         * @param predicate the event selection predicate
+         * @return the found node or null if not found
+         */
+        Node findFirst(final Predicate<SimEvent> predicate) {
+            if(predicate == Simulation.ANY_EVT){
+                return head;
+            }
+
+            //Subclasses of PredicateType may change the way events are selected
+            if(predicate.getClass() == PredicateType.class){
+                final Node[] ends = tags.get(((PredicateType) predicate).getTag());
+                return ends == null ? null : ends[0];
+            }
+
+            for (Node node = head; node != null; node = node.next) {
+                if(predicate.test(node.evt)){
+                    return node;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Finds the node containing a given event, just visiting the events with the same tag.
+         * @param evt the event to find
+         * @return the found node or null if not found
+         */
+        Node findNode(final SimEvent evt) {
+            final Node[] ends = tags.get(evt.getTag());
+            for (Node node = ends == null ? null : ends[0]; node != null; node = node.nextSameTag) {
+                if(node.evt == evt){
+                    return node;
+                }
+            }
+
+            return null;
+        }
+
+        Stream<Node> nodes() {
+            final Iterator<Node> iterator = new Iterator<Node>() {
+                private Node next = head;
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public Node next() {
+                    if(next == null){
+                        throw new NoSuchElementException();
+                    }
+
+                    final Node node = next;
+                    next = node.next;
+                    return node;
+                }
+            };
+
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+
+/**
+ * An append-only log where a {@link CloudSim} simulation records every processed {@link SimEvent},
+ * enabling post-mortem analysis of a simulation and comparing the events
+ * processed by different runs (such as runs using different CloudSim Plus versions),
+ * without the cost of formatting and logging events as text.
+ *
+ * <p>A journal is closed by the simulation when it finishes.
+ * Recorded events can be read by an {@link EventJournalReader}
+ * and fed back to a simulation by an {@link org.cloudbus.cloudsim.core.EventJournalReplay}.</p>
+ *
+ * <p>The {@link #NULL} object is the default journal, which doesn't record anything.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see CloudSim#setEventJournal(EventJournal)
+ */
+public interface EventJournal extends AutoCloseable {
+    /**
+     * An attribute that implements the Null Object Design Pattern for {@link EventJournal}
+     * objects, which doesn't record anything.
+     */
+    EventJournal NULL = new EventJournalNull();
+
+    /**
+     * Indicates that the simulation started a new tick,
+     * when the events happening at the same time are removed
+     * from the future event queue to be processed.
+     * Entities receive the events of a tick all together, at the beginning of the next tick.
+     */
+    void startTick();
+
+    /**
+     * Records an event being processed.
+     *
+     * @param evt the processed event
+     */
+    void record(SimEvent evt);
+
+    /**
+     * Gets the number of events recorded so far.
+     * @return the number of recorded events
+     */
+    long getRecordedEvents();
+
+    /**
+     * Flushes the recorded events and closes the journal.
+     * Further events are not recorded.
+     */
+    @Override
+    void close();
+}
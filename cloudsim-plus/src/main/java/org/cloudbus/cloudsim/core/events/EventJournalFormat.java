@@ -0,0 +1,60 @@
+package org.cloudbus.cloudsim.core.events;
+
+/**
+ * Defines the binary format of the files written by {@link EventJournalMapped}
+ * and read by {@link EventJournalReader}.
+ *
+ * <p>A file starts with a header containing the {@link #MAGIC} number and the {@link #VERSION}.
+ * Then, there is a sequence of records, each one starting with a byte defining its kind:</p>
+ * <ul>
+ *     <li>{@link #TICK}: has no other field;</li>
+ *     <li>{@link #CLASS}: defines the name of a class used by the events data,
+ *     containing the index of the class (short), the length of the name (short) and its UTF-8 bytes.
+ *     Classes are indexed in the order they are defined;</li>
+ *     <li>{@link #EVENT}: contains the event time (double), tag (int), source entity id (long),
+ *     destination entity id (long), serial (long), {@link SimEvent.Type} ordinal (byte)
+ *     and the kind of data (byte), followed by the encoding of the data:
+ *     <ul>
+ *         <li>{@link #DATA_NONE}: has no other field;</li>
+ *         <li>{@link #DATA_IDENTIFIABLE}: the index of the data class (short) and the data id (long);</li>
+ *         <li>{@link #DATA_NUMBER}: the index of the data class (short) and the data value (double);</li>
+ *         <li>{@link #DATA_BOOLEAN}: the data value (byte);</li>
+ *         <li>{@link #DATA_OTHER}: the index of the data class (short).</li>
+ *     </ul>
+ *     </li>
+ * </ul>
+ *
+ * <p>A record kind equal to {@link #END} (or the end of the file) indicates there are no more records.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+final class EventJournalFormat {
+    /**
+     * The number at the beginning of journal files ("CSPJ" in ASCII).
+     */
+    static final int MAGIC = 0x4353504A;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES * 2;
+
+    static final byte END = 0;
+    static final byte TICK = 1;
+    static final byte CLASS = 2;
+    static final byte EVENT = 3;
+
+    static final byte DATA_NONE = 0;
+    static final byte DATA_IDENTIFIABLE = 1;
+    static final byte DATA_NUMBER = 2;
+    static final byte DATA_BOOLEAN = 3;
+    static final byte DATA_OTHER = 4;
+
+    /**
+     * The maximum size of an {@link #EVENT} record.
+     */
+    static final int MAX_EVENT_SIZE = 1 + Double.BYTES + Integer.BYTES + Long.BYTES * 3 + 2 + Short.BYTES + Long.BYTES;
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private EventJournalFormat(){/**/}
+}
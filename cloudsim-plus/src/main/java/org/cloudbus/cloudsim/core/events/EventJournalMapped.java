@@ -0,0 +1,235 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.Identifiable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.cloudbus.cloudsim.core.events.EventJournalFormat.*;
+
+/**
+ * An {@link EventJournal} that writes events to a binary file through a memory-mapped {@link FileChannel}.
+ * The file is mapped into regions of a given size, so that
+ * recording an event usually just copies a few bytes to memory,
+ * leaving to the operating system the task of writing them to disk.
+ *
+ * <p>For each event, it's recorded its time, tag, source and destination entities, serial and type.
+ * Since the event data can be any object, just a compact encoding of it is recorded:
+ * the class and id of {@link Identifiable} objects (such as VMs, Cloudlets and entities),
+ * the value of numbers and booleans and just the class of other objects.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public class EventJournalMapped implements EventJournal {
+    /**
+     * The default size (in bytes) of each region of the file mapped into memory.
+     */
+    public static final int DEF_REGION_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * The minimum size (in bytes) of each region of the file mapped into memory.
+     */
+    public static final int MIN_REGION_SIZE = 4096;
+
+    private final FileChannel channel;
+    private final int regionSize;
+
+    /**
+     * The region of the file currently mapped into memory, where events are written.
+     */
+    private MappedByteBuffer buffer;
+
+    /**
+     * The position of the {@link #buffer} inside the file.
+     */
+    private long regionStart;
+
+    /**
+     * The index of the classes already written to the file.
+     */
+    private final Map<Class<?>, Integer> classes;
+
+    /**
+     * @see #getRecordedEvents()
+     */
+    private long recordedEvents;
+
+    private boolean closed;
+
+    /**
+     * Creates a journal that writes events to a given file,
+     * using the {@link #DEF_REGION_SIZE default region size}.
+     * If the file already exists, it's overwritten.
+     *
+     * @param file the file to write events to
+     * @throws UncheckedIOException when the file cannot be created
+     */
+    public EventJournalMapped(final Path file) {
+        this(file, DEF_REGION_SIZE);
+    }
+
+    /**
+     * Creates a journal that writes events to a given file.
+     * If the file already exists, it's overwritten.
+     *
+     * @param file the file to write events to
+     * @param regionSize the size (in bytes) of each region of the file mapped into memory
+     * @throws UncheckedIOException when the file cannot be created
+     * @throws IllegalArgumentException when the region size is lower than {@link #MIN_REGION_SIZE}
+     */
+    public EventJournalMapped(final Path file, final int regionSize) {
+        if(regionSize < MIN_REGION_SIZE){
+            throw new IllegalArgumentException("The region size must be at least " + MIN_REGION_SIZE + " bytes.");
+        }
+
+        this.regionSize = regionSize;
+        this.classes = new HashMap<>();
+        try {
+            this.channel = FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+            mapRegion();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        buffer.putInt(MAGIC).putInt(VERSION);
+    }
+
+    private void mapRegion() throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, regionSize);
+    }
+
+    /**
+     * Maps the next region of the file if there isn't enough space in the current one.
+     * @param bytes the number of bytes to be written
+     */
+    private void ensureCapacity(final int bytes) {
+        if(buffer.remaining() >= bytes){
+            return;
+        }
+
+        regionStart += buffer.position();
+        try {
+            mapRegion();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void startTick() {
+        if(closed){
+            return;
+        }
+
+        ensureCapacity(1);
+        buffer.put(TICK);
+    }
+
+    @Override
+    public void record(final SimEvent evt) {
+        if(closed){
+            return;
+        }
+
+        final Object data = evt.getData();
+        final int classIndex = data == null || data instanceof Boolean ? -1 : classIndex(data.getClass());
+
+        ensureCapacity(MAX_EVENT_SIZE);
+        buffer.put(EVENT)
+              .putDouble(evt.getTime())
+              .putInt(evt.getTag())
+              .putLong(evt.getSource().getId())
+              .putLong(evt.getDestination().getId())
+              .putLong(evt.getSerial())
+              .put((byte) evt.getType().ordinal());
+        writeData(data, classIndex);
+        recordedEvents++;
+    }
+
+    private void writeData(final Object data, final int classIndex) {
+        if(data == null) {
+            buffer.put(DATA_NONE);
+        } else if(data instanceof Boolean) {
+            buffer.put(DATA_BOOLEAN).put((byte) ((Boolean) data ? 1 : 0));
+        } else if(data instanceof Identifiable) {
+            buffer.put(DATA_IDENTIFIABLE).putShort((short) classIndex).putLong(((Identifiable) data).getId());
+        } else if(data instanceof Number) {
+            buffer.put(DATA_NUMBER).putShort((short) classIndex).putDouble(((Number) data).doubleValue());
+        } else {
+            buffer.put(DATA_OTHER).putShort((short) classIndex);
+        }
+    }
+
+    /**
+     * Gets the index of a class, writing a record defining it
+     * if it's the first time the class is used.
+     *
+     * @param klass the class to get its index
+     * @return the class index
+     */
+    private int classIndex(final Class<?> klass) {
+        final Integer index = classes.get(klass);
+        if(index != null){
+            return index;
+        }
+
+        final int newIndex = classes.size();
+        final byte[] name = klass.getName().getBytes(StandardCharsets.UTF_8);
+        final int size = 1 + Short.BYTES * 2 + name.length;
+        if(size > regionSize){
+            throw new IllegalStateException("The name of class " + klass.getName() + " is too long to be recorded.");
+        }
+
+        ensureCapacity(size);
+        buffer.put(CLASS).putShort((short) newIndex).putShort((short) name.length).put(name);
+        classes.put(klass, newIndex);
+        return newIndex;
+    }
+
+    @Override
+    public long getRecordedEvents() {
+        return recordedEvents;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The file is truncated to the size of the recorded events.
+     *
+     * @throws UncheckedIOException when the file cannot be written
+     */
+    @Override
+    public void close() {
+        if(closed){
+            return;
+        }
+
+        closed = true;
+        try {
+            final long size = regionStart + buffer.position();
+            buffer.force();
+            buffer = null;
+            channel.truncate(size);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks if the journal was closed.
+     * @return true if the journal is closed, false otherwise
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+}
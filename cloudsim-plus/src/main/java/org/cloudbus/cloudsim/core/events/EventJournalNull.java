@@ -0,0 +1,15 @@
+package org.cloudbus.cloudsim.core.events;
+
+/**
+ * A class that implements the Null Object Design Pattern for {@link EventJournal}
+ * class, which doesn't record anything.
+ *
+ * @author agent
+ * @see EventJournal#NULL
+ */
+final class EventJournalNull implements EventJournal {
+    @Override public void startTick() {/**/}
+    @Override public void record(SimEvent evt) {/**/}
+    @Override public long getRecordedEvents() { return 0; }
+    @Override public void close() {/**/}
+}
@@ -0,0 +1,237 @@
+package org.cloudbus.cloudsim.core.events;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.cloudbus.cloudsim.core.events.EventJournalFormat.*;
+
+/**
+ * Reads the events recorded by an {@link EventJournalMapped},
+ * in the order they were processed by the simulation.
+ * The file is read through a memory-mapped {@link FileChannel},
+ * mapping one region at a time, so that files of any size can be read.
+ *
+ * <pre>
+ * {@code
+ * try(EventJournalReader reader = new EventJournalReader(file)) {
+ *     reader.forEachRemaining(record -> ...);
+ * }
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public class EventJournalReader implements Iterator<EventJournalRecord>, AutoCloseable {
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int regionSize;
+
+    /**
+     * The region of the file currently mapped into memory.
+     */
+    private MappedByteBuffer buffer;
+
+    /**
+     * The position of the {@link #buffer} inside the file.
+     */
+    private long regionStart;
+
+    /**
+     * The name of the classes defined so far, where the class index is the list index.
+     */
+    private final List<String> classes;
+
+    private final SimEvent.Type[] types;
+
+    /**
+     * The number of the current tick.
+     */
+    private long tick;
+
+    /**
+     * The next record to be returned, or null if it wasn't read yet.
+     */
+    private EventJournalRecord next;
+
+    /**
+     * Opens a journal file to read its events.
+     *
+     * @param file the file to read the events from
+     * @throws UncheckedIOException when the file cannot be read or is not a valid journal
+     */
+    public EventJournalReader(final Path file) {
+        this.classes = new ArrayList<>();
+        this.types = SimEvent.Type.values();
+        this.regionSize = EventJournalMapped.DEF_REGION_SIZE;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.fileSize = channel.size();
+            mapRegion();
+            if(fileSize < HEADER_SIZE || buffer.getInt() != MAGIC){
+                throw new InvalidObjectException(file + " is not an event journal.");
+            }
+
+            final int version = buffer.getInt();
+            if(version != VERSION){
+                throw new InvalidObjectException("Unsupported event journal version: " + version);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void mapRegion() throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, Math.min(regionSize, fileSize - regionStart));
+    }
+
+    /**
+     * Maps the next region of the file, starting at the current position,
+     * if the current one doesn't have a given number of bytes to be read.
+     * @param bytes the number of bytes to be read
+     * @return true if the bytes are available, false if the end of the file was reached
+     */
+    private boolean ensureAvailable(final int bytes) {
+        if(buffer.remaining() >= bytes){
+            return true;
+        }
+
+        final long position = regionStart + buffer.position();
+        if(position + bytes > fileSize){
+            return false;
+        }
+
+        regionStart = position;
+        try {
+            mapRegion();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(next == null){
+            next = readNext();
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public EventJournalRecord next() {
+        if(!hasNext()){
+            throw new NoSuchElementException();
+        }
+
+        final EventJournalRecord record = next;
+        next = null;
+        return record;
+    }
+
+    /**
+     * Reads the records until an event is found.
+     * @return the read event or null if there are no more events
+     */
+    private EventJournalRecord readNext() {
+        while (ensureAvailable(1)) {
+            final byte kind = buffer.get();
+            switch (kind) {
+                case TICK: tick++; break;
+                case CLASS: readClass(); break;
+                case EVENT: return readEvent();
+                case END: return null;
+                default: throw new UncheckedIOException(new InvalidObjectException("Invalid event journal record kind: " + kind));
+            }
+        }
+
+        return null;
+    }
+
+    private void readClass() {
+        checkAvailable(Short.BYTES * 2);
+        final int index = buffer.getShort() & 0xFFFF;
+        final int length = buffer.getShort() & 0xFFFF;
+        checkAvailable(length);
+
+        final byte[] name = new byte[length];
+        buffer.get(name);
+        classes.add(index, new String(name, StandardCharsets.UTF_8));
+    }
+
+    private EventJournalRecord readEvent() {
+        checkAvailable(Double.BYTES + Integer.BYTES + Long.BYTES * 3 + 2);
+        final double time = buffer.getDouble();
+        final int tag = buffer.getInt();
+        final long sourceId = buffer.getLong();
+        final long destinationId = buffer.getLong();
+        final long serial = buffer.getLong();
+        final SimEvent.Type type = types[buffer.get()];
+        final byte dataKind = buffer.get();
+
+        String dataClassName = "";
+        long dataId = -1;
+        double dataValue = Double.NaN;
+        switch (dataKind) {
+            case DATA_NONE: break;
+            case DATA_BOOLEAN:
+                checkAvailable(1);
+                dataClassName = Boolean.class.getName();
+                dataValue = buffer.get();
+            break;
+            case DATA_IDENTIFIABLE:
+                checkAvailable(Short.BYTES + Long.BYTES);
+                dataClassName = className();
+                dataId = buffer.getLong();
+            break;
+            case DATA_NUMBER:
+                checkAvailable(Short.BYTES + Double.BYTES);
+                dataClassName = className();
+                dataValue = buffer.getDouble();
+            break;
+            default:
+                checkAvailable(Short.BYTES);
+                dataClassName = className();
+        }
+
+        return new EventJournalRecord(
+            tick, time, tag, sourceId, destinationId, serial, type,
+            dataClassName, dataKind == DATA_IDENTIFIABLE, dataId, dataValue);
+    }
+
+    private String className() {
+        return classes.get(buffer.getShort() & 0xFFFF);
+    }
+
+    private void checkAvailable(final int bytes) {
+        if(!ensureAvailable(bytes)){
+            throw new UncheckedIOException(new InvalidObjectException("Truncated event journal."));
+        }
+    }
+
+    /**
+     * Closes the journal file.
+     * @throws UncheckedIOException when the file cannot be closed
+     */
+    @Override
+    public void close() {
+        try {
+            buffer = null;
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.Identifiable;
+
+/**
+ * An event read from a file written by an {@link EventJournalMapped}.
+ * Since just a compact encoding of the event data is recorded,
+ * the record provides the data class and its id or value (according to the kind of data),
+ * instead of the data object.
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see EventJournalReader
+ */
+public final class EventJournalRecord {
+    private final long tick;
+    private final double time;
+    private final int tag;
+    private final long sourceId;
+    private final long destinationId;
+    private final long serial;
+    private final SimEvent.Type type;
+    private final String dataClassName;
+    private final boolean dataIdentifiable;
+    private final long dataId;
+    private final double dataValue;
+
+    EventJournalRecord(
+        final long tick, final double time, final int tag,
+        final long sourceId, final long destinationId, final long serial, final SimEvent.Type type,
+        final String dataClassName, final boolean dataIdentifiable, final long dataId, final double dataValue)
+    {
+        this.tick = tick;
+        this.time = time;
+        this.tag = tag;
+        this.sourceId = sourceId;
+        this.destinationId = destinationId;
+        this.serial = serial;
+        this.type = type;
+        this.dataClassName = dataClassName;
+        this.dataIdentifiable = dataIdentifiable;
+        this.dataId = dataId;
+        this.dataValue = dataValue;
+    }
+
+    /**
+     * Gets the number of the simulation tick where the event was processed.
+     * Entities received the events of a tick all together, at the beginning of the next tick.
+     * @return the tick number, starting from 1
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the time the event was processed.
+     * @return the event time
+     * @see SimEvent#getTime()
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * @return the event tag
+     * @see SimEvent#getTag()
+     */
+    public int getTag() {
+        return tag;
+    }
+
+    /**
+     * @return the id of the entity which sent the event
+     * @see SimEvent#getSource()
+     */
+    public long getSourceId() {
+        return sourceId;
+    }
+
+    /**
+     * @return the id of the entity the event was sent to
+     * @see SimEvent#getDestination()
+     */
+    public long getDestinationId() {
+        return destinationId;
+    }
+
+    /**
+     * @return the event serial
+     * @see SimEvent#getSerial()
+     */
+    public long getSerial() {
+        return serial;
+    }
+
+    /**
+     * @return the event type
+     * @see SimEvent#getType()
+     */
+    public SimEvent.Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the fully qualified name of the event data class.
+     * @return the data class name or an empty string if the event had no data
+     */
+    public String getDataClassName() {
+        return dataClassName;
+    }
+
+    /**
+     * Checks if the event data was an {@link Identifiable} object,
+     * such as a VM, Cloudlet or entity, so that its id was recorded.
+     * @return true if the data was an {@link Identifiable} object, false otherwise
+     * @see #getDataId()
+     */
+    public boolean isDataIdentifiable() {
+        return dataIdentifiable;
+    }
+
+    /**
+     * Gets the id of the event data, when it was an {@link Identifiable} object.
+     * @return the data id (which is meaningless if the data wasn't an {@link Identifiable} object)
+     * @see #isDataIdentifiable()
+     */
+    public long getDataId() {
+        return dataId;
+    }
+
+    /**
+     * Gets the value of the event data, when it was a number or a boolean (1 for true and 0 for false).
+     * @return the data value or {@link Double#NaN} if the data wasn't a number nor a boolean
+     */
+    public double getDataValue() {
+        return dataValue;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%.4f: tick %d, serial %d, %s event, tag %d from %d to %d, data %s",
+            time, tick, serial, type, tag, sourceId, destinationId, dataToString());
+    }
+
+    private String dataToString() {
+        if(dataClassName.isEmpty()){
+            return "none";
+        }
+
+        if(dataIdentifiable){
+            return dataClassName + " " + dataId;
+        }
+
+        return Double.isNaN(dataValue) ? dataClassName : dataClassName + " " + dataValue;
+    }
+}
@@ -0,0 +1,83 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+
+import java.io.Serializable;
+
+/**
+ * A pool of {@link CloudSimEvent}s that enables a simulation to reuse
+ * events already processed, instead of creating a new object for every sent event.
+ * That avoids creating lots of short-lived objects in simulations with a huge number of events.
+ *
+ * <p>After an event is processed, {@link CloudSim} releases it back to the pool.
+ * Therefore, when a pool is enabled, the processed events must not be stored
+ * by entities or listeners for later use.
+ * That includes events returned by methods that send an event:
+ * to enable cancelling them, a {@link SimEventHandle} must be kept instead,
+ * which detects when the event was recycled.</p>
+ *
+ * <p>The {@link #NULL} object is the default pool, which doesn't reuse events.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see CloudSim#setEventPool(EventPool)
+ */
+public interface EventPool extends Serializable {
+    /**
+     * An attribute that implements the Null Object Design Pattern for {@link EventPool}
+     * objects, which always creates a new event and never reuses them.
+     */
+    EventPool NULL = new EventPoolNull();
+
+    /**
+     * Gets an event from the pool, or creates a new one if the pool is empty.
+     *
+     * @param type the internal type of the event
+     * @param delay how many seconds after the current simulation time the event should be scheduled
+     * @param src the source entity which is sending the message
+     * @param dest the source entity which has to receive the message
+     * @param tag the tag that identifies the type of the message
+     * @param data the data attached to the message, that depends on the message tag
+     * @return the event
+     */
+    SimEvent acquire(SimEvent.Type type, double delay, SimEntity src, SimEntity dest, int tag, Object data);
+
+    /**
+     * Releases an event back to the pool so that it can be reused.
+     * Events not acquired from this pool are just ignored.
+     *
+     * @param evt the event to release
+     * @throws IllegalStateException when the event was already released
+     */
+    void release(SimEvent evt);
+
+    /**
+     * Gets the number of events that have been created by the pool so far.
+     * @return the number of created events
+     */
+    long getCreatedEvents();
+
+    /**
+     * Gets the number of released events available to be reused.
+     * @return the number of available events
+     */
+    int getAvailableEvents();
+
+    /**
+     * Checks if the pool can be used by multiple threads at the same time.
+     * @return true if the pool is thread-safe, false otherwise
+     * @see #setThreadSafe(boolean)
+     */
+    boolean isThreadSafe();
+
+    /**
+     * Defines if the pool can be used by multiple threads at the same time.
+     * Since a thread-safe pool has to hold a lock to acquire and release events,
+     * {@link CloudSim} makes the pool thread-safe just when entities
+     * {@link CloudSim#setTickParallelism(int) run in parallel}.
+     *
+     * @param threadSafe true to make the pool thread-safe, false otherwise
+     */
+    void setThreadSafe(boolean threadSafe);
+}
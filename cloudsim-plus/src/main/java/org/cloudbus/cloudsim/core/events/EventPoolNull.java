@@ -0,0 +1,23 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+
+/**
+ * A class that implements the Null Object Design Pattern for {@link EventPool}
+ * class, which always creates a new event.
+ *
+ * @author agent
+ * @see EventPool#NULL
+ */
+final class EventPoolNull implements EventPool {
+    private static final long serialVersionUID = 1L;
+
+    @Override public SimEvent acquire(SimEvent.Type type, double delay, SimEntity src, SimEntity dest, int tag, Object data) {
+        return new CloudSimEvent(type, delay, src, dest, tag, data);
+    }
+    @Override public void release(SimEvent evt) {/**/}
+    @Override public long getCreatedEvents() { return 0; }
+    @Override public int getAvailableEvents() { return 0; }
+    @Override public boolean isThreadSafe() { return true; }
+    @Override public void setThreadSafe(boolean threadSafe) {/**/}
+}
@@ -0,0 +1,154 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * An {@link EventPool} that stores released events into a stack,
+ * so that the most recently released (and likely still cached) events are reused first.
+ * A pool must be used by a single {@link CloudSim} instance.
+ * It doesn't hold any lock unless it's {@link #setThreadSafe(boolean) made thread-safe},
+ * which the simulation does just when entities
+ * {@link org.cloudbus.cloudsim.core.Simulation#setTickParallelism(int) run in parallel}.
+ *
+ * <p>Using a released event throws an {@link IllegalStateException}.
+ * However, after the event is reused, it's not possible to detect
+ * that an old reference to it is being used.
+ * That is why the pool provides a debug mode, where released events are never reused,
+ * so that any use after release is detected (at the cost of creating new events as usual).
+ * The debug mode should be enabled to check if a simulation can safely use the pool.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public class EventPoolSimple implements EventPool {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The released events available to be reused.
+     */
+    private final Deque<CloudSimEvent> available;
+
+    /**
+     * @see #isDebug()
+     */
+    private final boolean debug;
+
+    /**
+     * @see #isThreadSafe()
+     */
+    private boolean threadSafe;
+
+    /**
+     * @see #getCreatedEvents()
+     */
+    private long createdEvents;
+
+    /**
+     * Creates an event pool that reuses the released events.
+     */
+    public EventPoolSimple() {
+        this(false);
+    }
+
+    /**
+     * Creates an event pool.
+     *
+     * @param debug true to enable the debug mode, where released events are never reused
+     *              so that any use after release is detected; false otherwise
+     * @see #isDebug()
+     */
+    public EventPoolSimple(final boolean debug) {
+        this.debug = debug;
+        this.available = new ArrayDeque<>();
+    }
+
+    @Override
+    public SimEvent acquire(
+        final SimEvent.Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        if (!threadSafe) {
+            return acquireEvent(type, delay, src, dest, tag, data);
+        }
+
+        synchronized (this) {
+            return acquireEvent(type, delay, src, dest, tag, data);
+        }
+    }
+
+    private SimEvent acquireEvent(
+        final SimEvent.Type type, final double delay,
+        final SimEntity src, final SimEntity dest,
+        final int tag, final Object data)
+    {
+        final CloudSimEvent evt = available.pollLast();
+        if (evt == null) {
+            createdEvents++;
+            return new CloudSimEvent(this, type, delay, src, dest, tag, data);
+        }
+
+        return evt.reuse(type, delay, src, dest, tag, data);
+    }
+
+    @Override
+    public void release(final SimEvent evt) {
+        if (!(evt instanceof CloudSimEvent) || ((CloudSimEvent) evt).getPool() != this) {
+            return;
+        }
+
+        if (!threadSafe) {
+            releaseEvent((CloudSimEvent) evt);
+            return;
+        }
+
+        synchronized (this) {
+            releaseEvent((CloudSimEvent) evt);
+        }
+    }
+
+    private void releaseEvent(final CloudSimEvent cloudSimEvent) {
+        if (cloudSimEvent.isReleased()) {
+            throw new IllegalStateException("The event was already released to the pool.");
+        }
+
+        cloudSimEvent.release();
+        if (!debug) {
+            available.addLast(cloudSimEvent);
+        }
+    }
+
+    @Override
+    public long getCreatedEvents() {
+        return createdEvents;
+    }
+
+    @Override
+    public int getAvailableEvents() {
+        return available.size();
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
+    @Override
+    public void setThreadSafe(final boolean threadSafe) {
+        this.threadSafe = threadSafe;
+    }
+
+    /**
+     * Checks if the debug mode is enabled, where released events are never reused.
+     * That way, any use of an event after it was released throws an {@link IllegalStateException}.
+     *
+     * @return true if the debug mode is enabled, false otherwise
+     */
+    public boolean isDebug() {
+        return debug;
+    }
+}
@@ -10,75 +10,48 @@ package org.cloudbus.cloudsim.core.events;
 
 import org.cloudbus.cloudsim.core.CloudSim;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.NoSuchElementException;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 /**
- * This class implements the future event queue used by {@link CloudSim}.
- * The event queue uses a {@link TreeSet} in order to store the events.
+ * An interface to be implemented by the future event queue used by {@link CloudSim}.
+ * Such a queue stores events that will be processed in a future simulation time.
+ *
+ * <p>Events are kept sorted by their {@link SimEvent#getTime() time}
+ * and then by their {@link SimEvent#getSerial() serial}.
+ * Each added event receives a unique serial, so that events having the same time
+ * are kept in the order they were added, except that the ones added by
+ * {@link #addEventFirst(SimEvent)} come before the others.
+ * Since the serial is unique, an event can be located and removed from the queue
+ * just by its time and serial, without scanning other events.
+ * Implementations must honor such an ordering so that
+ * a simulation gives the same results regardless of the queue being used.</p>
  *
  * @author Marcos Dias de Assuncao
- * @see java.util.TreeSet
+ * @author Manoel Campos da Silva Filho
  * @since CloudSim Toolkit 1.0
+ * @see FutureQueueSimple
+ * @see FutureQueueCalendar
  */
-public class FutureQueue implements EventQueue {
-
-    /**
-     * The sorted set of events.
-     */
-    private final SortedSet<SimEvent> sortedSet = new TreeSet<>();
-
+public interface FutureQueue extends EventQueue {
     /**
-     * A incremental number used for {@link SimEvent#getSerial()} event attribute.
-     */
-    private long serial;
-
-    @Override
-    public void addEvent(final SimEvent newEvent) {
-        newEvent.setSerial(serial++);
-        sortedSet.add(newEvent);
-    }
-
-    /**
-     * Adds a new event to the head of the queue.
+     * Adds a new event to the head of the queue,
+     * i.e., before all the other events having the same time.
      *
      * @param newEvent The event to be put in the queue.
      */
-    public void addEventFirst(final SimEvent newEvent) {
-        newEvent.setSerial(0);
-        sortedSet.add(newEvent);
-    }
-
-    @Override
-    public Iterator<SimEvent> iterator() {
-        return sortedSet.iterator();
-    }
-
-    @Override
-    public Stream<SimEvent> stream() {
-        return sortedSet.stream();
-    }
-
-    @Override
-    public int size() {
-        return sortedSet.size();
-    }
-
-    @Override
-    public boolean isEmpty() {
-        return sortedSet.isEmpty();
-    }
+    void addEventFirst(SimEvent newEvent);
 
     /**
      * Removes the event from the queue.
+     * The event is located by its time and serial, which costs O(log n)
+     * or less, instead of scanning the queue.
      *
      * @param event the event
      * @return true, if successful
      */
-    public boolean remove(final SimEvent event) {
-        return sortedSet.remove(event);
-    }
+    boolean remove(SimEvent event);
 
     /**
      * Removes all the events from the queue.
@@ -86,24 +59,29 @@ public class FutureQueue implements EventQueue {
      * @param events the events
      * @return true, if successful
      */
-    public boolean removeAll(final Collection<SimEvent> events) {
-        return sortedSet.removeAll(events);
-    }
+    boolean removeAll(Collection<SimEvent> events);
 
-    public boolean removeIf(final Predicate predicate){
-        return sortedSet.removeIf(predicate);
-    }
+    /**
+     * Removes all the events from the queue that match a given predicate.
+     *
+     * @param predicate the predicate used to select the events to remove
+     * @return true if any event was removed, false otherwise
+     */
+    boolean removeIf(Predicate<SimEvent> predicate);
 
-    @Override
-    public SimEvent first() throws NoSuchElementException {
-        return sortedSet.first();
-    }
+    /**
+     * Removes the first event (the head of the queue) and all the other
+     * events happening at the same time, adding them to a given collection.
+     * Just the removed events are visited, instead of the entire queue.
+     *
+     * @param events the collection where the removed events will be added, in the queue order
+     * @return the number of removed events
+     * @throws NoSuchElementException when the queue is empty
+     */
+    int drainFirstEventsAtSameTime(Collection<SimEvent> events) throws NoSuchElementException;
 
     /**
      * Clears the queue.
      */
-    public void clear() {
-        sortedSet.clear();
-    }
-
+    void clear();
 }
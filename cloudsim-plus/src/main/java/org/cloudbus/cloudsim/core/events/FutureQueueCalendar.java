@@ -0,0 +1,675 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link FutureQueue} implemented as a Calendar Queue,
+ * which provides amortized O(1) enqueue and dequeue operations.
+ * It's intended for simulations holding a huge number of pending events,
+ * where the O(log n) cost of the {@link FutureQueueSimple} and the
+ * tree node it allocates for every event become a bottleneck.
+ *
+ * <p>Events are distributed into an array of buckets (the "days" of a calendar year),
+ * where each bucket stores the events whose time falls into a time interval of
+ * {@link #getBucketWidth() bucket width} seconds.
+ * A bucket may hold events from different "years", which are kept sorted inside it.
+ * The number of buckets and their width are automatically adjusted
+ * as the queue grows and shrinks.</p>
+ *
+ * <p>The queue keeps exactly the same ordering of the {@link FutureQueueSimple}:
+ * events are sorted by time, then by serial and, when both are equal,
+ * by the order they were added. That ensures simulation results
+ * don't change when this queue is used.</p>
+ *
+ * <p>Check the paper below for more details:
+ * <a href="https://doi.org/10.1145/63039.63045">R. Brown, Calendar queues: a fast O(1) priority queue implementation
+ * for the simulation event set problem. Communications of the ACM, 1988.</a></p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see CloudSim#CloudSim(double, FutureQueue)
+ */
+public class FutureQueueCalendar implements FutureQueue {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The minimum number of buckets in the calendar, which must be a power of 2.
+     */
+    private static final int MIN_BUCKETS = 2;
+
+    /**
+     * Default width (in seconds) of each bucket
+     * before the queue has enough events to estimate it.
+     */
+    public static final double DEF_BUCKET_WIDTH = 1.0;
+
+    /**
+     * Number of events with distinct times from the head of the queue
+     * used to estimate the bucket width when the calendar is resized.
+     */
+    private static final int BUCKET_WIDTH_SAMPLE_SIZE = 25;
+
+    /**
+     * The calendar buckets (days), whose length is always a power of 2.
+     */
+    private Bucket[] buckets;
+
+    /**
+     * A mask used to compute the index of a bucket from a virtual bucket number,
+     * since the number of buckets is a power of 2.
+     */
+    private int mask;
+
+    /**
+     * @see #getBucketWidth()
+     */
+    private double bucketWidth;
+
+    /**
+     * The virtual bucket number where the head of the queue is.
+     * A virtual bucket number is the index of a time interval of
+     * {@link #bucketWidth} seconds since the time 0, not considering
+     * the queue wraps around the buckets array.
+     */
+    private long currentVirtualBucket;
+
+    private int size;
+
+    /**
+     * A incremental number used for {@link SimEvent#getSerial()} event attribute.
+     */
+    private long serial;
+
+    /**
+     * A incremental number used for {@link SimEvent#getSerial()} of events added
+     * to the head of the queue. It starts from the lowest long value, so that
+     * such events come before regular ones having the same time,
+     * while each event still has a unique serial.
+     */
+    private long firstSerial = Long.MIN_VALUE;
+
+    /**
+     * Number of structural changes in the queue, used to make iterators fail-fast.
+     */
+    private int modCount;
+
+    /**
+     * Creates a Calendar Queue using the {@link #DEF_BUCKET_WIDTH default bucket width}.
+     */
+    public FutureQueueCalendar() {
+        this(DEF_BUCKET_WIDTH);
+    }
+
+    /**
+     * Creates a Calendar Queue using a given initial bucket width,
+     * that will be automatically adjusted while events are added.
+     *
+     * @param initialBucketWidth the initial width of each bucket (in seconds)
+     */
+    public FutureQueueCalendar(final double initialBucketWidth) {
+        if(initialBucketWidth <= 0){
+            throw new IllegalArgumentException("The initial bucket width must be greater than zero.");
+        }
+
+        this.bucketWidth = initialBucketWidth;
+        this.buckets = newBuckets(MIN_BUCKETS);
+    }
+
+    @Override
+    public void addEvent(final SimEvent newEvent) {
+        newEvent.setSerial(serial++);
+        insert(newEvent);
+    }
+
+    @Override
+    public void addEventFirst(final SimEvent newEvent) {
+        newEvent.setSerial(firstSerial++);
+        insert(newEvent);
+    }
+
+    private void insert(final SimEvent evt) {
+        final long virtualBucket = virtualBucket(evt.getTime());
+        if(size == 0 || virtualBucket < currentVirtualBucket){
+            currentVirtualBucket = virtualBucket;
+        }
+
+        bucket(virtualBucket).add(evt);
+        size++;
+        modCount++;
+        if(size > buckets.length * 2){
+            resize(buckets.length * 2);
+        }
+    }
+
+    @Override
+    public SimEvent first() throws NoSuchElementException {
+        if(size == 0){
+            throw new NoSuchElementException("The Future Queue is empty.");
+        }
+
+        return firstBucket().first();
+    }
+
+    /**
+     * Gets the bucket containing the head of the queue,
+     * moving the {@link #currentVirtualBucket} to the virtual bucket of such a head.
+     * The queue must not be empty.
+     *
+     * @return the bucket where the first event is
+     */
+    private Bucket firstBucket() {
+        for (int i = 0; i < buckets.length; i++, currentVirtualBucket++) {
+            final Bucket bucket = bucket(currentVirtualBucket);
+            if(!bucket.isEmpty() && virtualBucket(bucket.first().getTime()) == currentVirtualBucket){
+                return bucket;
+            }
+        }
+
+        /*There is no event for an entire year ahead.
+        * Performs a direct search to find the head of the queue, instead of looking year by year.*/
+        Bucket min = null;
+        for (final Bucket bucket : buckets) {
+            if(!bucket.isEmpty() && (min == null || compare(bucket.first(), min.first()) < 0)){
+                min = bucket;
+            }
+        }
+
+        currentVirtualBucket = virtualBucket(min.first().getTime());
+        return min;
+    }
+
+    @Override
+    public boolean remove(final SimEvent event) {
+        if(size == 0 || !bucket(virtualBucket(event.getTime())).remove(event)){
+            return false;
+        }
+
+        size--;
+        modCount++;
+        shrinkIfRequired();
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(final Collection<SimEvent> events) {
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<SimEvent> predicate) {
+        Objects.requireNonNull(predicate);
+        int removed = 0;
+        for (final Bucket bucket : buckets) {
+            removed += bucket.removeIf(predicate);
+        }
+
+        if(removed == 0){
+            return false;
+        }
+
+        size -= removed;
+        modCount++;
+        shrinkIfRequired();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since events happening at the same time are stored at the beginning of the same bucket,
+     * this operation just visits the removed events.
+     *
+     * @param events {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws NoSuchElementException {@inheritDoc}
+     */
+    @Override
+    public int drainFirstEventsAtSameTime(final Collection<SimEvent> events) throws NoSuchElementException {
+        if(size == 0){
+            throw new NoSuchElementException("The Future Queue is empty.");
+        }
+
+        final Bucket bucket = firstBucket();
+        final double time = bucket.first().getTime();
+        int count = 0;
+        while (!bucket.isEmpty() && bucket.first().getTime() == time) {
+            events.add(bucket.pollFirst());
+            count++;
+        }
+
+        size -= count;
+        modCount++;
+        shrinkIfRequired();
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        for (final Bucket bucket : buckets) {
+            bucket.clear();
+        }
+
+        size = 0;
+        modCount++;
+        shrinkIfRequired();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The iterator returns the events in the queue order.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return new OrderedIterator();
+    }
+
+    @Override
+    public Stream<SimEvent> stream() {
+        final int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), size, characteristics), false);
+    }
+
+    /**
+     * Gets the current width (in seconds) of each bucket.
+     * This value is automatically adjusted when the queue is resized,
+     * according to the average time between the first events in the queue.
+     *
+     * @return
+     */
+    public double getBucketWidth() {
+        return bucketWidth;
+    }
+
+    /**
+     * Gets the current number of buckets in the calendar.
+     * @return
+     */
+    public int getBucketsNumber() {
+        return buckets.length;
+    }
+
+    private long virtualBucket(final double time) {
+        return (long) Math.floor(time / bucketWidth);
+    }
+
+    private Bucket bucket(final long virtualBucket) {
+        return buckets[(int) (virtualBucket & mask)];
+    }
+
+    private void shrinkIfRequired() {
+        if(buckets.length > MIN_BUCKETS && size < buckets.length / 2){
+            resize(buckets.length / 2);
+        }
+    }
+
+    /**
+     * Changes the number of buckets and re-distributes the events between them,
+     * after estimating a new bucket width.
+     *
+     * @param bucketsNumber the new number of buckets, which must be a power of 2
+     */
+    private void resize(final int bucketsNumber) {
+        final List<SimEvent> events = new ArrayList<>(size);
+        iterator().forEachRemaining(events::add);
+
+        bucketWidth = estimateBucketWidth(events);
+        buckets = newBuckets(bucketsNumber);
+        currentVirtualBucket = events.isEmpty() ? 0 : virtualBucket(events.get(0).getTime());
+
+        //Since events are sorted, each one is appended to the end of its bucket
+        for (final SimEvent evt : events) {
+            bucket(virtualBucket(evt.getTime())).add(evt);
+        }
+    }
+
+    private Bucket[] newBuckets(final int bucketsNumber) {
+        final Bucket[] newBuckets = new Bucket[bucketsNumber];
+        for (int i = 0; i < bucketsNumber; i++) {
+            newBuckets[i] = new Bucket();
+        }
+
+        mask = bucketsNumber - 1;
+        return newBuckets;
+    }
+
+    /**
+     * Estimates the bucket width as three times the average
+     * separation between the first events with distinct times in the queue,
+     * ignoring separations that are much larger than the average.
+     *
+     * @param events the events in the queue, in the queue order
+     * @return the new bucket width or the current one if there is no enough events to estimate it
+     */
+    private double estimateBucketWidth(final List<SimEvent> events) {
+        final double[] times = new double[BUCKET_WIDTH_SAMPLE_SIZE];
+        int count = 0;
+        for (int i = 0; i < events.size() && count < times.length; i++) {
+            final double time = events.get(i).getTime();
+            if(count == 0 || time > times[count-1]){
+                times[count++] = time;
+            }
+        }
+
+        if(count < 2){
+            return bucketWidth;
+        }
+
+        final double average = (times[count-1] - times[0]) / (count-1);
+        double sum = 0;
+        int separations = 0;
+        for (int i = 1; i < count; i++) {
+            final double separation = times[i] - times[i-1];
+            if(separation <= average * 2){
+                sum += separation;
+                separations++;
+            }
+        }
+
+        return 3 * sum / separations;
+    }
+
+    /**
+     * Compares two events according to the queue order,
+     * just considering their time and serial
+     * (or the {@link CloudSimEvent#compareSendOrder(SimEvent, SimEvent) send order} for events
+     * from logical processes of a {@link org.cloudbus.cloudsim.core.ParallelCloudSim}).
+     */
+    private static int compare(final SimEvent evt1, final SimEvent evt2) {
+        int result = Double.compare(evt1.getTime(), evt2.getTime());
+        if(result == 0)
+            result = CloudSimEvent.compareSendOrder(evt1, evt2);
+
+        return result == 0 ? Long.compare(evt1.getSerial(), evt2.getSerial()) : result;
+    }
+
+    /**
+     * A bucket (day) in the calendar, storing events sorted according to the queue order.
+     * Events are stored into an array where the first element may not be at index 0,
+     * so that removing the head or appending events is performed in O(1).
+     */
+    private static final class Bucket implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private SimEvent[] items = new SimEvent[4];
+
+        /** Index of the first element in the {@link #items} array. */
+        private int head;
+
+        /** Index after the last element in the {@link #items} array. */
+        private int tail;
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        int size() {
+            return tail - head;
+        }
+
+        SimEvent first() {
+            return items[head];
+        }
+
+        /**
+         * Gets an event from the bucket.
+         * @param index the index of the event, relative to the bucket head
+         * @return
+         */
+        SimEvent get(final int index) {
+            return items[head + index];
+        }
+
+        /**
+         * Adds an event after all the ones which are lower than or equal to it,
+         * according to the queue order.
+         * @param evt the event to add
+         */
+        void add(final SimEvent evt) {
+            if(isEmpty() || compare(evt, items[tail-1]) >= 0){
+                ensureTailCapacity();
+                items[tail++] = evt;
+                return;
+            }
+
+            final int index = upperBound(evt) - head;
+            if(index == 0 && head > 0){
+                items[--head] = evt;
+                return;
+            }
+
+            //The array may be compacted, changing the head
+            ensureTailCapacity();
+            final int pos = head + index;
+            System.arraycopy(items, pos, items, pos + 1, tail - pos);
+            items[pos] = evt;
+            tail++;
+        }
+
+        SimEvent pollFirst() {
+            final SimEvent evt = items[head];
+            items[head++] = null;
+            if(isEmpty()){
+                head = tail = 0;
+            }
+
+            return evt;
+        }
+
+        /**
+         * Removes an event from the bucket.
+         * @param evt the event to remove
+         * @return true if the event was found and removed, false otherwise
+         */
+        boolean remove(final SimEvent evt) {
+            for (int i = lowerBound(evt); i < tail && compare(items[i], evt) == 0; i++) {
+                if(items[i] == evt){
+                    removeAt(i - head);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Removes an event from the bucket, shifting the smallest side of the array.
+         * @param index the index of the event to remove, relative to the bucket head
+         */
+        void removeAt(final int index) {
+            final int pos = head + index;
+            if(index < size() / 2){
+                System.arraycopy(items, head, items, head + 1, index);
+                items[head++] = null;
+            } else {
+                System.arraycopy(items, pos + 1, items, pos, tail - pos - 1);
+                items[--tail] = null;
+            }
+
+            if(isEmpty()){
+                head = tail = 0;
+            }
+        }
+
+        /**
+         * Removes all events matching a given predicate.
+         * @param predicate the predicate to select the events to remove
+         * @return the number of removed events
+         */
+        int removeIf(final Predicate<SimEvent> predicate) {
+            int newTail = head;
+            for (int i = head; i < tail; i++) {
+                if(!predicate.test(items[i])){
+                    items[newTail++] = items[i];
+                }
+            }
+
+            final int removed = tail - newTail;
+            Arrays.fill(items, newTail, tail, null);
+            tail = newTail;
+            if(isEmpty()){
+                head = tail = 0;
+            }
+
+            return removed;
+        }
+
+        void clear() {
+            Arrays.fill(items, head, tail, null);
+            head = tail = 0;
+        }
+
+        /**
+         * Ensures there is room to add an element at the tail,
+         * either moving the elements to the beginning of the array
+         * (when there is enough space before the head) or growing the array.
+         */
+        private void ensureTailCapacity() {
+            if(tail < items.length){
+                return;
+            }
+
+            final int size = size();
+            final SimEvent[] dest = head >= size ? items : new SimEvent[Math.max(4, size * 2)];
+            System.arraycopy(items, head, dest, 0, size);
+            if(dest == items){
+                Arrays.fill(items, size, tail, null);
+            }
+
+            items = dest;
+            head = 0;
+            tail = size;
+        }
+
+        /**
+         * Gets the absolute index of the first element greater than a given event.
+         */
+        private int upperBound(final SimEvent evt) {
+            int low = head, high = tail;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (compare(items[mid], evt) <= 0)
+                    low = mid + 1;
+                else high = mid;
+            }
+
+            return low;
+        }
+
+        /**
+         * Gets the absolute index of the first element greater than or equal to a given event.
+         */
+        private int lowerBound(final SimEvent evt) {
+            int low = head, high = tail;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (compare(items[mid], evt) < 0)
+                    low = mid + 1;
+                else high = mid;
+            }
+
+            return low;
+        }
+    }
+
+    /**
+     * An iterator that returns the events in the queue order,
+     * walking through the calendar from the current bucket
+     * without changing the queue state.
+     */
+    private final class OrderedIterator implements Iterator<SimEvent> {
+        /**
+         * The index of the next event to be returned from each bucket,
+         * relative to the bucket head.
+         */
+        private final int[] cursors = new int[buckets.length];
+        private long virtualBucket = currentVirtualBucket;
+        private int remaining = size;
+        private int lastBucketIndex = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public SimEvent next() {
+            checkForComodification();
+            if(remaining == 0){
+                throw new NoSuchElementException();
+            }
+
+            final int idx = nextBucketIndex();
+            remaining--;
+            lastBucketIndex = idx;
+            return buckets[idx].get(cursors[idx]++);
+        }
+
+        private int nextBucketIndex() {
+            for (int i = 0; i < buckets.length; i++, virtualBucket++) {
+                final int idx = (int) (virtualBucket & mask);
+                if(hasEvent(idx) && virtualBucket(current(idx).getTime()) == virtualBucket){
+                    return idx;
+                }
+            }
+
+            int min = -1;
+            for (int idx = 0; idx < buckets.length; idx++) {
+                if(hasEvent(idx) && (min < 0 || compare(current(idx), current(min)) < 0)){
+                    min = idx;
+                }
+            }
+
+            virtualBucket = virtualBucket(current(min).getTime());
+            return min;
+        }
+
+        private boolean hasEvent(final int bucketIndex) {
+            return cursors[bucketIndex] < buckets[bucketIndex].size();
+        }
+
+        private SimEvent current(final int bucketIndex) {
+            return buckets[bucketIndex].get(cursors[bucketIndex]);
+        }
+
+        @Override
+        public void remove() {
+            if(lastBucketIndex < 0){
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            buckets[lastBucketIndex].removeAt(--cursors[lastBucketIndex]);
+            lastBucketIndex = -1;
+            size--;
+            expectedModCount = ++modCount;
+        }
+
+        private void checkForComodification() {
+            if(modCount != expectedModCount){
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Title:        CloudSim Toolkit
+ * Description:  CloudSim (Cloud Simulation) Toolkit for Modeling and Simulation of Clouds
+ * Licence:      GPL - http://www.gnu.org/copyleft/gpl.html
+ *
+ * Copyright (c) 2009-2012, The University of Melbourne, Australia
+ */
+
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * The default {@link FutureQueue} used by {@link CloudSim}.
+ * The event queue uses a {@link TreeSet} in order to store the events.
+ *
+ * @author Marcos Dias de Assuncao
+ * @see java.util.TreeSet
+ * @since CloudSim Toolkit 1.0
+ */
+public class FutureQueueSimple implements FutureQueue {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The sorted set of events.
+     */
+    private final NavigableSet<SimEvent> sortedSet = new TreeSet<>();
+
+    /**
+     * A incremental number used for {@link SimEvent#getSerial()} event attribute.
+     */
+    private long serial;
+
+    /**
+     * A incremental number used for {@link SimEvent#getSerial()} of events added
+     * to the head of the queue. It starts from the lowest long value, so that
+     * such events come before regular ones having the same time,
+     * while each event still has a unique serial.
+     */
+    private long firstSerial = Long.MIN_VALUE;
+
+    @Override
+    public void addEvent(final SimEvent newEvent) {
+        newEvent.setSerial(serial++);
+        sortedSet.add(newEvent);
+    }
+
+    @Override
+    public void addEventFirst(final SimEvent newEvent) {
+        newEvent.setSerial(firstSerial++);
+        sortedSet.add(newEvent);
+    }
+
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return sortedSet.iterator();
+    }
+
+    @Override
+    public Stream<SimEvent> stream() {
+        return sortedSet.stream();
+    }
+
+    @Override
+    public int size() {
+        return sortedSet.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return sortedSet.isEmpty();
+    }
+
+    @Override
+    public boolean remove(final SimEvent event) {
+        return sortedSet.remove(event);
+    }
+
+    @Override
+    public boolean removeAll(final Collection<SimEvent> events) {
+        return sortedSet.removeAll(events);
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<SimEvent> predicate){
+        return sortedSet.removeIf(predicate);
+    }
+
+    @Override
+    public SimEvent first() throws NoSuchElementException {
+        return sortedSet.first();
+    }
+
+    @Override
+    public int drainFirstEventsAtSameTime(final Collection<SimEvent> events) throws NoSuchElementException {
+        final double time = sortedSet.first().getTime();
+        int count = 0;
+        while (!sortedSet.isEmpty() && sortedSet.first().getTime() == time) {
+            events.add(sortedSet.pollFirst());
+            count++;
+        }
+
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        sortedSet.clear();
+    }
+
+}
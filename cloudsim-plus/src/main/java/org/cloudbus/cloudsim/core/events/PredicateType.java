@@ -8,6 +8,7 @@
 
 package org.cloudbus.cloudsim.core.events;
 
+import java.io.Serializable;
 import java.util.function.Predicate;
 
 /**
@@ -17,7 +18,8 @@ import java.util.function.Predicate;
  * @see Predicate
  * @since CloudSim Toolkit 1.0
  */
-public class PredicateType implements Predicate<SimEvent> {
+public class PredicateType implements Predicate<SimEvent>, Serializable {
+    private static final long serialVersionUID = 1L;
 
     private final int tag;
 
@@ -30,6 +32,14 @@ public class PredicateType implements Predicate<SimEvent> {
         this.tag = tag;
     }
 
+    /**
+     * Gets the {@link SimEvent#getTag() tag} of the events selected by this predicate.
+     * @return
+     */
+    public int getTag() {
+        return tag;
+    }
+
     /**
      * Matches any event that has one of the specified {@link #tag}.
      *
@@ -0,0 +1,79 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A reference to a sent {@link SimEvent} that can be kept to later cancel it
+ * by calling {@link CloudSimEntity#cancelEvent(SimEventHandle)}.
+ * It's returned by the methods entities use to send events,
+ * such as {@link CloudSimEntity#schedule(org.cloudbus.cloudsim.core.SimEntity, double, int)}.
+ *
+ * <p>When an {@link EventPool} is used, an event object is reused after it's processed or cancelled.
+ * The handle stores the generation of the event when it was created, so that it
+ * becomes {@link #isValid() invalid} as soon as the event is released to the pool.
+ * That way, cancelling an event that was recycled to represent a different message is a no-op.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public final class SimEventHandle implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A handle that doesn't refer to any event.
+     */
+    public static final SimEventHandle NULL = new SimEventHandle(SimEvent.NULL, 0);
+
+    private final SimEvent event;
+
+    /**
+     * The {@link CloudSimEvent#getGeneration() generation} of the {@link #event}
+     * when the handle was created.
+     */
+    private final long generation;
+
+    private SimEventHandle(final SimEvent event, final long generation) {
+        this.event = event;
+        this.generation = generation;
+    }
+
+    /**
+     * Creates a handle for an event that has just been sent.
+     *
+     * @param evt the sent event
+     * @return a handle for the event or {@link #NULL} if the event is {@link SimEvent#NULL}
+     */
+    public static SimEventHandle of(final SimEvent evt) {
+        if (Objects.requireNonNull(evt) == SimEvent.NULL) {
+            return NULL;
+        }
+
+        return new SimEventHandle(evt, generationOf(evt));
+    }
+
+    private static long generationOf(final SimEvent evt) {
+        return evt instanceof CloudSimEvent ? ((CloudSimEvent) evt).getGeneration() : 0;
+    }
+
+    /**
+     * Checks if the handle still refers to the event it was created for,
+     * i.e., the event was not released to its {@link EventPool} yet.
+     *
+     * @return true if the handle is valid, false otherwise
+     */
+    public boolean isValid() {
+        return event != SimEvent.NULL && generationOf(event) == generation;
+    }
+
+    /**
+     * Gets the event the handle refers to.
+     *
+     * @return the event or {@link SimEvent#NULL} if the handle is not {@link #isValid() valid} anymore
+     */
+    public SimEvent getEvent() {
+        return isValid() ? event : SimEvent.NULL;
+    }
+}
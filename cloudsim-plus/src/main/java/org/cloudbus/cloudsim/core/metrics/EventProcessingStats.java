@@ -0,0 +1,84 @@
+package org.cloudbus.cloudsim.core.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the events processed by some entities, such as the number of events
+ * and the wall-clock time taken to process them.
+ * Statistics can be safely updated by entities running in parallel.
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public final class EventProcessingStats {
+    private final LongAdder events;
+    private final LongAdder wallTimeNanos;
+    private final LongAccumulator maxWallTimeNanos;
+
+    EventProcessingStats() {
+        this.events = new LongAdder();
+        this.wallTimeNanos = new LongAdder();
+        this.maxWallTimeNanos = new LongAccumulator(Long::max, 0);
+    }
+
+    /**
+     * Adds a processed event to the statistics.
+     * @param wallTimeNanos the wall-clock time (in nanoseconds) taken to process the event
+     */
+    void add(final long wallTimeNanos) {
+        this.events.increment();
+        this.wallTimeNanos.add(wallTimeNanos);
+        this.maxWallTimeNanos.accumulate(wallTimeNanos);
+    }
+
+    /**
+     * Adds the statistics of other events to this one.
+     * @param other the statistics to add
+     */
+    void add(final EventProcessingStats other) {
+        this.events.add(other.getEvents());
+        this.wallTimeNanos.add(other.getWallTimeNanos());
+        this.maxWallTimeNanos.accumulate(other.getMaxWallTimeNanos());
+    }
+
+    /**
+     * Gets the number of processed events.
+     * @return
+     */
+    public long getEvents() {
+        return events.sum();
+    }
+
+    /**
+     * Gets the total wall-clock time (in nanoseconds) taken to process the events.
+     * @return
+     */
+    public long getWallTimeNanos() {
+        return wallTimeNanos.sum();
+    }
+
+    /**
+     * Gets the mean wall-clock time (in nanoseconds) taken to process an event.
+     * @return the mean processing time or zero if no event was processed
+     */
+    public double getMeanWallTimeNanos() {
+        final long count = getEvents();
+        return count == 0 ? 0 : getWallTimeNanos() / (double) count;
+    }
+
+    /**
+     * Gets the maximum wall-clock time (in nanoseconds) taken to process an event.
+     * @return
+     */
+    public long getMaxWallTimeNanos() {
+        return maxWallTimeNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "events: %d, wall time: %.3f ms, mean: %.3f us, max: %.3f us",
+            getEvents(), getWallTimeNanos() / 1e6, getMeanWallTimeNanos() / 1e3, getMaxWallTimeNanos() / 1e3);
+    }
+}
@@ -0,0 +1,172 @@
+package org.cloudbus.cloudsim.core.metrics;
+
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+
+import java.util.Map;
+
+/**
+ * Collects metrics about the event processing of a {@link Simulation}, such as
+ * the number of events processed for each {@link CloudSimTags tag}, entity and entity class,
+ * the wall-clock time entities take to process such events,
+ * the size of the future and deferred event queues
+ * and how fast the simulation clock advances compared to the wall clock.
+ *
+ * <p>The simulation notifies the metrics object about processed events and ticks
+ * by calling the methods starting with "notify".
+ * The {@link #NULL} object is the default one, which doesn't collect anything,
+ * so that no overhead is added to simulations that don't need such metrics.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see Simulation#setMetrics(SimulationMetrics)
+ */
+public interface SimulationMetrics {
+    /**
+     * An attribute that implements the Null Object Design Pattern for {@link SimulationMetrics}
+     * objects, which doesn't collect anything.
+     */
+    SimulationMetrics NULL = new SimulationMetricsNull();
+
+    /**
+     * Notifies that the simulation has started.
+     * @param simulation the simulation whose metrics will be collected
+     */
+    void notifySimulationStarted(Simulation simulation);
+
+    /**
+     * Gets the statistics of events processed by a given entity, creating them if they don't exist yet.
+     * Entities keep such statistics to {@link #notifyEventProcessed(EventProcessingStats, SimEvent, long) notify}
+     * the events they process, instead of looking them up for every event.
+     *
+     * @param entity the entity to get the statistics
+     * @return the statistics of the entity
+     */
+    EventProcessingStats getEntityStats(SimEntity entity);
+
+    /**
+     * Notifies that an entity has processed an event.
+     * This method may be called concurrently by entities running in parallel.
+     *
+     * @param entityStats the statistics of the entity that processed the event,
+     *                    got from {@link #getEntityStats(SimEntity)}
+     * @param evt the processed event
+     * @param wallTimeNanos the wall-clock time (in nanoseconds) the entity took to process the event
+     */
+    void notifyEventProcessed(EventProcessingStats entityStats, SimEvent evt, long wallTimeNanos);
+
+    /**
+     * Notifies that the simulation has processed a tick, i.e.,
+     * it has removed from the future event queue all the events happening at the same time
+     * and processed them.
+     *
+     * @param time the simulation time of the tick
+     * @param events the number of events processed in the tick
+     * @param futureQueueSize the number of events in the future event queue after the tick
+     * @param deferredQueueSize the number of events in the deferred event queue after the tick
+     */
+    void notifyTickProcessed(double time, int events, int futureQueueSize, int deferredQueueSize);
+
+    /**
+     * Notifies that the simulation has finished.
+     * @param time the final simulation time
+     */
+    void notifySimulationFinished(double time);
+
+    /**
+     * Checks if metrics are being collected.
+     * If not, the simulation doesn't need to measure the time entities take to process events.
+     * @return
+     */
+    boolean isEnabled();
+
+    /**
+     * Gets the total number of events processed by the simulation,
+     * including the ones that are processed just by the simulation itself (such as entity creation events).
+     * @return
+     */
+    long getProcessedEvents();
+
+    /**
+     * Gets the number of ticks processed so far.
+     * @return
+     * @see #notifyTickProcessed(double, int, int, int)
+     */
+    long getTicks();
+
+    /**
+     * Gets the statistics of events processed by entities, for each {@link CloudSimTags tag}.
+     * @return a read-only map where each key is an event tag and the value is the statistics for that tag
+     */
+    Map<Integer, EventProcessingStats> getTagStats();
+
+    /**
+     * Gets the statistics of events processed by each entity.
+     * @return a read-only map where each key is an entity and the value is the statistics for that entity
+     */
+    Map<SimEntity, EventProcessingStats> getEntityStats();
+
+    /**
+     * Gets the statistics of events processed by entities, for each entity class.
+     * @return a map where each key is an entity class and the value is the statistics for all entities of that class
+     */
+    Map<Class<? extends SimEntity>, EventProcessingStats> getEntityClassStats();
+
+    /**
+     * Gets the number of events in the future event queue at the last tick.
+     * @return
+     */
+    int getFutureQueueSize();
+
+    /**
+     * Gets the maximum number of events in the future event queue along the processed ticks.
+     * @return
+     */
+    int getMaxFutureQueueSize();
+
+    /**
+     * Gets the mean number of events in the future event queue along the processed ticks.
+     * @return
+     */
+    double getMeanFutureQueueSize();
+
+    /**
+     * Gets the number of events in the deferred event queue at the last tick.
+     * @return
+     */
+    int getDeferredQueueSize();
+
+    /**
+     * Gets the maximum number of events in the deferred event queue along the processed ticks.
+     * @return
+     */
+    int getMaxDeferredQueueSize();
+
+    /**
+     * Gets the mean number of events in the deferred event queue along the processed ticks.
+     * @return
+     */
+    double getMeanDeferredQueueSize();
+
+    /**
+     * Gets the simulation time (in seconds) at the last processed tick.
+     * @return
+     */
+    double getSimulationTime();
+
+    /**
+     * Gets the wall-clock time (in seconds) elapsed since the simulation started
+     * (or up to the time it finished).
+     * @return
+     */
+    double getWallClockTime();
+
+    /**
+     * Gets how many simulated seconds the simulation runs for each wall-clock second.
+     * @return the ratio between the {@link #getSimulationTime() simulation time}
+     *         and the {@link #getWallClockTime() wall-clock time}; or zero if the simulation hasn't started
+     */
+    double getSimulationSpeed();
+}
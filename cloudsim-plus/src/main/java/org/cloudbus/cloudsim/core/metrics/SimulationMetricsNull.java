@@ -0,0 +1,40 @@
+package org.cloudbus.cloudsim.core.metrics;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A class that implements the Null Object Design Pattern for {@link SimulationMetrics}
+ * class, which doesn't collect anything.
+ *
+ * @author agent
+ * @see SimulationMetrics#NULL
+ */
+final class SimulationMetricsNull implements SimulationMetrics {
+    private static final EventProcessingStats STATS = new EventProcessingStats();
+
+    @Override public void notifySimulationStarted(Simulation simulation) {/**/}
+    @Override public EventProcessingStats getEntityStats(SimEntity entity) { return STATS; }
+    @Override public void notifyEventProcessed(EventProcessingStats entityStats, SimEvent evt, long wallTimeNanos) {/**/}
+    @Override public void notifyTickProcessed(double time, int events, int futureQueueSize, int deferredQueueSize) {/**/}
+    @Override public void notifySimulationFinished(double time) {/**/}
+    @Override public boolean isEnabled() { return false; }
+    @Override public long getProcessedEvents() { return 0; }
+    @Override public long getTicks() { return 0; }
+    @Override public Map<Integer, EventProcessingStats> getTagStats() { return Collections.emptyMap(); }
+    @Override public Map<SimEntity, EventProcessingStats> getEntityStats() { return Collections.emptyMap(); }
+    @Override public Map<Class<? extends SimEntity>, EventProcessingStats> getEntityClassStats() { return Collections.emptyMap(); }
+    @Override public int getFutureQueueSize() { return 0; }
+    @Override public int getMaxFutureQueueSize() { return 0; }
+    @Override public double getMeanFutureQueueSize() { return 0; }
+    @Override public int getDeferredQueueSize() { return 0; }
+    @Override public int getMaxDeferredQueueSize() { return 0; }
+    @Override public double getMeanDeferredQueueSize() { return 0; }
+    @Override public double getSimulationTime() { return 0; }
+    @Override public double getWallClockTime() { return 0; }
+    @Override public double getSimulationSpeed() { return 0; }
+}
@@ -0,0 +1,543 @@
+package org.cloudbus.cloudsim.core.metrics;
+
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collects metrics about the event processing of a {@link Simulation},
+ * which can be queried while the simulation is running or after it finishes,
+ * {@link #write(Appendable, Format) written} in JSON or CSV format
+ * or {@link #setPeriodicDump(Path, Format, double) periodically dumped} to a file.
+ *
+ * <p>Counters are updated without locks, so that entities running in parallel
+ * can report the events they process without contending with each other.
+ * The wall-clock time entities take to process events is measured
+ * just when the simulation has such an object set.</p>
+ *
+ * <pre>
+ * {@code
+ * SimulationMetricsSimple metrics = new SimulationMetricsSimple();
+ * simulation.setMetrics(metrics);
+ * simulation.start();
+ * metrics.getEntityClassStats().forEach((klass, stats) -> System.out.println(klass.getSimpleName() + ": " + stats));
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public class SimulationMetricsSimple implements SimulationMetrics {
+    /**
+     * The formats the metrics can be written in.
+     */
+    public enum Format {
+        /**
+         * Writes the metrics as a single-line JSON object,
+         * so that periodic dumps produce a JSON Lines file with one object per dump.
+         */
+        JSON,
+
+        /**
+         * Writes each metric as a row with the columns defined by {@link #CSV_HEADER},
+         * so that periodic dumps produce a time series for every metric.
+         */
+        CSV
+    }
+
+    /**
+     * The header of metrics written in {@link Format#CSV} format.
+     * Each row contains the simulation and wall-clock times when the metrics were written,
+     * the group of the metric (such as "tag", "entity" or "futureQueue"),
+     * the key identifying the item inside the group (such as the tag or entity name),
+     * the name of the metric and its value.
+     */
+    public static final String CSV_HEADER = "simulationTime,wallClockTime,group,key,metric,value";
+
+    /**
+     * The name of the {@link CloudSimTags} constants, indexed by their values.
+     */
+    private static final Map<Integer, String> TAG_NAMES = tagNames();
+
+    /**
+     * The statistics for each tag, indexed by the tag minus the {@link TagTable#minTag}.
+     * The table is never changed after it's published (a new one replaces it when a tag is added),
+     * so that entities running in parallel can get the statistics of a tag without locks.
+     */
+    private volatile TagTable tagTable;
+    private final Map<SimEntity, EventProcessingStats> entityStats;
+
+    private long processedEvents;
+    private long ticks;
+    private double simulationTime;
+
+    private int futureQueueSize;
+    private int maxFutureQueueSize;
+    private long futureQueueSizeSum;
+
+    private int deferredQueueSize;
+    private int maxDeferredQueueSize;
+    private long deferredQueueSizeSum;
+
+    /**
+     * The wall-clock time (in nanoseconds) when the simulation started, or -1 if it hasn't started yet.
+     */
+    private long startNanos;
+
+    /**
+     * The wall-clock time (in nanoseconds) when the simulation finished, or -1 if it hasn't finished yet.
+     */
+    private long finishNanos;
+
+    /**
+     * @see #setPeriodicDump(Path, Format, double)
+     */
+    private Path dumpFile;
+    private Format dumpFormat;
+    private long dumpIntervalNanos;
+    private long nextDumpNanos;
+    private boolean dumpFileCreated;
+
+    /**
+     * Creates an object to collect simulation metrics.
+     * @see Simulation#setMetrics(SimulationMetrics)
+     */
+    public SimulationMetricsSimple() {
+        this.tagTable = TagTable.EMPTY;
+        this.entityStats = new ConcurrentHashMap<>();
+        this.startNanos = -1;
+        this.finishNanos = -1;
+    }
+
+    private static Map<Integer, String> tagNames() {
+        final Map<Integer, String> names = new HashMap<>();
+        for (final Field field : CloudSimTags.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == int.class) {
+                try {
+                    names.putIfAbsent(field.getInt(null), field.getName());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        return names;
+    }
+
+    /**
+     * Makes the metrics to be periodically written to a file while the simulation is running,
+     * and one last time when it finishes.
+     * The file is overwritten by the first dump and each subsequent dump is appended to it,
+     * building a time series of the metrics.
+     *
+     * @param file the file to write the metrics to
+     * @param format the format to write the metrics in
+     * @param intervalSeconds the wall-clock interval (in seconds) between dumps
+     * @return
+     */
+    public SimulationMetricsSimple setPeriodicDump(final Path file, final Format format, final double intervalSeconds) {
+        if(intervalSeconds <= 0){
+            throw new IllegalArgumentException("The dump interval must be greater than zero.");
+        }
+
+        this.dumpFile = requireNonNull(file);
+        this.dumpFormat = requireNonNull(format);
+        this.dumpIntervalNanos = (long) (intervalSeconds * 1e9);
+        this.nextDumpNanos = System.nanoTime() + dumpIntervalNanos;
+        this.dumpFileCreated = false;
+        return this;
+    }
+
+    @Override
+    public void notifySimulationStarted(final Simulation simulation) {
+        startNanos = System.nanoTime();
+        finishNanos = -1;
+        if(dumpFile != null) {
+            nextDumpNanos = startNanos + dumpIntervalNanos;
+        }
+    }
+
+    @Override
+    public EventProcessingStats getEntityStats(final SimEntity entity) {
+        final EventProcessingStats stats = entityStats.get(entity);
+        return stats == null ? entityStats.computeIfAbsent(entity, k -> new EventProcessingStats()) : stats;
+    }
+
+    @Override
+    public void notifyEventProcessed(final EventProcessingStats entityStats, final SimEvent evt, final long wallTimeNanos) {
+        final EventProcessingStats stats = tagTable.get(evt.getTag());
+        (stats == null ? addTagStats(evt.getTag()) : stats).add(wallTimeNanos);
+        entityStats.add(wallTimeNanos);
+    }
+
+    /**
+     * Creates the statistics for a tag that has no statistics yet,
+     * publishing a copy of the {@link #tagTable} resized to include that tag.
+     * Since that happens just once for each tag, it holds a lock,
+     * so that the statistics aren't created twice by entities running in parallel.
+     *
+     * @param tag the tag to create the statistics for
+     * @return the statistics of the tag
+     */
+    private synchronized EventProcessingStats addTagStats(final int tag) {
+        final EventProcessingStats existing = tagTable.get(tag);
+        if(existing != null) {
+            return existing;
+        }
+
+        final TagTable table = tagTable.resizeTagTable(tag);
+        final EventProcessingStats stats = new EventProcessingStats();
+        table.byTag[tag - table.minTag] = stats;
+        tagTable = table;
+        return stats;
+    }
+
+    @Override
+    public void notifyTickProcessed(final double time, final int events, final int futureQueueSize, final int deferredQueueSize) {
+        this.ticks++;
+        this.processedEvents += events;
+        this.simulationTime = time;
+
+        this.futureQueueSize = futureQueueSize;
+        this.maxFutureQueueSize = Math.max(maxFutureQueueSize, futureQueueSize);
+        this.futureQueueSizeSum += futureQueueSize;
+
+        this.deferredQueueSize = deferredQueueSize;
+        this.maxDeferredQueueSize = Math.max(maxDeferredQueueSize, deferredQueueSize);
+        this.deferredQueueSizeSum += deferredQueueSize;
+
+        if(dumpFile != null && System.nanoTime() >= nextDumpNanos){
+            dump();
+        }
+    }
+
+    @Override
+    public void notifySimulationFinished(final double time) {
+        simulationTime = Math.max(simulationTime, time);
+        finishNanos = System.nanoTime();
+        if(dumpFile != null){
+            dump();
+        }
+    }
+
+    /**
+     * Appends the current metrics to the {@link #setPeriodicDump(Path, Format, double) dump file}.
+     * @throws UncheckedIOException when the file cannot be written
+     */
+    private void dump() {
+        final StandardOpenOption mode = dumpFileCreated ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+        try (Writer writer = Files.newBufferedWriter(dumpFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            write(writer, dumpFormat, !dumpFileCreated);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        dumpFileCreated = true;
+        nextDumpNanos = System.nanoTime() + dumpIntervalNanos;
+    }
+
+    /**
+     * Writes the current metrics in a given format.
+     * When the {@link Format#CSV} format is used, the {@link #CSV_HEADER} is written first.
+     *
+     * @param out where to write the metrics to
+     * @param format the format to write the metrics in
+     * @throws UncheckedIOException when the metrics cannot be written
+     */
+    public void write(final Appendable out, final Format format) {
+        try {
+            write(out, format, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(final Appendable out, final Format format, final boolean csvHeader) throws IOException {
+        if(format == Format.JSON) {
+            writeJson(out);
+        } else {
+            writeCsv(out, csvHeader);
+        }
+    }
+
+    private void writeJson(final Appendable out) throws IOException {
+        out.append(String.format(
+            "{\"simulationTime\":%s,\"wallClockTime\":%s,\"simulationSpeed\":%s,\"processedEvents\":%d,\"ticks\":%d,",
+            simulationTime, getWallClockTime(), getSimulationSpeed(), processedEvents, ticks));
+        out.append(String.format(
+            "\"futureQueue\":{\"size\":%d,\"maxSize\":%d,\"meanSize\":%s},",
+            futureQueueSize, maxFutureQueueSize, getMeanFutureQueueSize()));
+        out.append(String.format(
+            "\"deferredQueue\":{\"size\":%d,\"maxSize\":%d,\"meanSize\":%s},",
+            deferredQueueSize, maxDeferredQueueSize, getMeanDeferredQueueSize()));
+
+        out.append("\"tags\":[");
+        String separator = "";
+        for (final Map.Entry<Integer, EventProcessingStats> entry : getTagStats().entrySet()) {
+            out.append(separator).append(String.format("{\"tag\":%d,\"name\":%s,", entry.getKey(), jsonString(tagName(entry.getKey()))));
+            writeJson(out, entry.getValue());
+            separator = ",";
+        }
+
+        out.append("],\"entityClasses\":[");
+        separator = "";
+        for (final Map.Entry<Class<? extends SimEntity>, EventProcessingStats> entry : getEntityClassStats().entrySet()) {
+            out.append(separator).append(String.format("{\"class\":%s,", jsonString(entry.getKey().getName())));
+            writeJson(out, entry.getValue());
+            separator = ",";
+        }
+
+        out.append("],\"entities\":[");
+        separator = "";
+        for (final Map.Entry<SimEntity, EventProcessingStats> entry : entityStats.entrySet()) {
+            final SimEntity entity = entry.getKey();
+            out.append(separator).append(String.format(
+                "{\"id\":%d,\"name\":%s,\"class\":%s,",
+                entity.getId(), jsonString(entity.getName()), jsonString(entity.getClass().getName())));
+            writeJson(out, entry.getValue());
+            separator = ",";
+        }
+
+        out.append("]}").append(System.lineSeparator());
+    }
+
+    private static void writeJson(final Appendable out, final EventProcessingStats stats) throws IOException {
+        out.append(String.format(
+            "\"events\":%d,\"wallTimeNanos\":%d,\"meanWallTimeNanos\":%s,\"maxWallTimeNanos\":%d}",
+            stats.getEvents(), stats.getWallTimeNanos(), stats.getMeanWallTimeNanos(), stats.getMaxWallTimeNanos()));
+    }
+
+    private static String jsonString(final String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (final char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < ' ') {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else builder.append(c);
+        }
+
+        return builder.append('"').toString();
+    }
+
+    private void writeCsv(final Appendable out, final boolean header) throws IOException {
+        if(header){
+            out.append(CSV_HEADER).append(System.lineSeparator());
+        }
+
+        final String prefix = simulationTime + "," + getWallClockTime() + ",";
+        writeCsv(out, prefix, "simulation", "", "simulationSpeed", getSimulationSpeed());
+        writeCsv(out, prefix, "simulation", "", "processedEvents", processedEvents);
+        writeCsv(out, prefix, "simulation", "", "ticks", ticks);
+        writeCsv(out, prefix, "futureQueue", "", "size", futureQueueSize);
+        writeCsv(out, prefix, "futureQueue", "", "maxSize", maxFutureQueueSize);
+        writeCsv(out, prefix, "futureQueue", "", "meanSize", getMeanFutureQueueSize());
+        writeCsv(out, prefix, "deferredQueue", "", "size", deferredQueueSize);
+        writeCsv(out, prefix, "deferredQueue", "", "maxSize", maxDeferredQueueSize);
+        writeCsv(out, prefix, "deferredQueue", "", "meanSize", getMeanDeferredQueueSize());
+
+        for (final Map.Entry<Integer, EventProcessingStats> entry : getTagStats().entrySet()) {
+            writeCsv(out, prefix, "tag", tagName(entry.getKey()), entry.getValue());
+        }
+
+        for (final Map.Entry<Class<? extends SimEntity>, EventProcessingStats> entry : getEntityClassStats().entrySet()) {
+            writeCsv(out, prefix, "entityClass", entry.getKey().getName(), entry.getValue());
+        }
+
+        for (final Map.Entry<SimEntity, EventProcessingStats> entry : entityStats.entrySet()) {
+            writeCsv(out, prefix, "entity", entry.getKey().getName(), entry.getValue());
+        }
+    }
+
+    private static void writeCsv(
+        final Appendable out, final String prefix, final String group,
+        final String key, final EventProcessingStats stats) throws IOException
+    {
+        writeCsv(out, prefix, group, key, "events", stats.getEvents());
+        writeCsv(out, prefix, group, key, "wallTimeNanos", stats.getWallTimeNanos());
+        writeCsv(out, prefix, group, key, "meanWallTimeNanos", stats.getMeanWallTimeNanos());
+        writeCsv(out, prefix, group, key, "maxWallTimeNanos", stats.getMaxWallTimeNanos());
+    }
+
+    private static void writeCsv(
+        final Appendable out, final String prefix, final String group,
+        final String key, final String metric, final Object value) throws IOException
+    {
+        out.append(prefix).append(group).append(',').append(csvString(key)).append(',')
+           .append(metric).append(',').append(String.valueOf(value)).append(System.lineSeparator());
+    }
+
+    private static String csvString(final String value) {
+        if(value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0){
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Gets the name of a {@link CloudSimTags tag}.
+     * @param tag the tag to get its name
+     * @return the name of the tag constant; or the tag number if it's not defined in {@link CloudSimTags}
+     */
+    private static String tagName(final int tag) {
+        return TAG_NAMES.getOrDefault(tag, String.valueOf(tag));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public long getProcessedEvents() {
+        return processedEvents;
+    }
+
+    @Override
+    public long getTicks() {
+        return ticks;
+    }
+
+    @Override
+    public Map<Integer, EventProcessingStats> getTagStats() {
+        final TagTable table = tagTable;
+        final Map<Integer, EventProcessingStats> map = new TreeMap<>();
+        for (int i = 0; i < table.byTag.length; i++) {
+            if(table.byTag[i] != null) {
+                map.put(table.minTag + i, table.byTag[i]);
+            }
+        }
+
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public Map<SimEntity, EventProcessingStats> getEntityStats() {
+        return Collections.unmodifiableMap(entityStats);
+    }
+
+    @Override
+    public Map<Class<? extends SimEntity>, EventProcessingStats> getEntityClassStats() {
+        final Map<Class<? extends SimEntity>, EventProcessingStats> map = new TreeMap<>((a, b) -> a.getName().compareTo(b.getName()));
+        entityStats.forEach((entity, stats) -> map.computeIfAbsent(entity.getClass(), k -> new EventProcessingStats()).add(stats));
+        return map;
+    }
+
+    @Override
+    public int getFutureQueueSize() {
+        return futureQueueSize;
+    }
+
+    @Override
+    public int getMaxFutureQueueSize() {
+        return maxFutureQueueSize;
+    }
+
+    @Override
+    public double getMeanFutureQueueSize() {
+        return ticks == 0 ? 0 : futureQueueSizeSum / (double) ticks;
+    }
+
+    @Override
+    public int getDeferredQueueSize() {
+        return deferredQueueSize;
+    }
+
+    @Override
+    public int getMaxDeferredQueueSize() {
+        return maxDeferredQueueSize;
+    }
+
+    @Override
+    public double getMeanDeferredQueueSize() {
+        return ticks == 0 ? 0 : deferredQueueSizeSum / (double) ticks;
+    }
+
+    @Override
+    public double getSimulationTime() {
+        return simulationTime;
+    }
+
+    @Override
+    public double getWallClockTime() {
+        if(startNanos == -1){
+            return 0;
+        }
+
+        final long end = finishNanos == -1 ? System.nanoTime() : finishNanos;
+        return (end - startNanos) / 1e9;
+    }
+
+    @Override
+    public double getSimulationSpeed() {
+        final double wallClockTime = getWallClockTime();
+        return wallClockTime == 0 ? 0 : simulationTime / wallClockTime;
+    }
+
+    /**
+     * An immutable table of statistics for a contiguous range of tags.
+     * Tags with no statistics have a null element.
+     */
+    private static final class TagTable {
+        private static final TagTable EMPTY = new TagTable(0, new EventProcessingStats[0]);
+
+        private final int minTag;
+        private final EventProcessingStats[] byTag;
+
+        private TagTable(final int minTag, final EventProcessingStats[] byTag) {
+            this.minTag = minTag;
+            this.byTag = byTag;
+        }
+
+        /**
+         * Gets the statistics of a tag.
+         * @param tag the tag to get the statistics
+         * @return the statistics of the tag; or null if there are no statistics for it
+         */
+        private EventProcessingStats get(final int tag) {
+            final long index = (long) tag - minTag;
+            return index >= 0 && index < byTag.length ? byTag[(int) index] : null;
+        }
+
+        /**
+         * Creates a copy of this table with the range of tags extended to include a given tag.
+         * @param tag the tag to include
+         * @return the new table
+         */
+        private TagTable resizeTagTable(final int tag) {
+            if(byTag.length == 0) {
+                return new TagTable(tag, new EventProcessingStats[1]);
+            }
+
+            final int newMinTag = Math.min(minTag, tag);
+            final int newMaxTag = Math.max(minTag + byTag.length - 1, tag);
+            final long size = (long) newMaxTag - newMinTag + 1;
+            if(size > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("The range of processed tags is too large: " + newMinTag + " to " + newMaxTag);
+            }
+
+            final EventProcessingStats[] table = new EventProcessingStats[(int) size];
+            System.arraycopy(byTag, 0, table, minTag - newMinTag, byTag.length);
+            return new TagTable(newMinTag, table);
+        }
+    }
+}
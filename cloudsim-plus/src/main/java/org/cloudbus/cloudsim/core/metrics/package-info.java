@@ -0,0 +1,13 @@
+/**
+ * Provides classes to collect metrics about the event processing of a simulation,
+ * such as the number of events processed for each tag and entity,
+ * the wall-clock time entities take to process them and the size of event queues.
+ * Such metrics enable finding which entities are slowing down a simulation
+ * without attaching a profiler to it.
+ *
+ * <p>Metrics are collected only when a {@link org.cloudbus.cloudsim.core.metrics.SimulationMetricsSimple}
+ * is set to the simulation through {@link org.cloudbus.cloudsim.core.Simulation#setMetrics(org.cloudbus.cloudsim.core.metrics.SimulationMetrics)}.</p>
+ *
+ * @author agent
+ */
+package org.cloudbus.cloudsim.core.metrics;
@@ -109,6 +109,8 @@ public interface Datacenter extends SimEntity, PowerAware {
 
     /**
      * Removes a Host from its Datacenter.
+     * The Host is detached from the Datacenter, so that its {@link Host#getDatacenter()}
+     * becomes {@link Datacenter#NULL}.
      *
      * @param host the new host to be removed from its assigned Datacenter
      * @return
@@ -219,6 +221,40 @@ public interface Datacenter extends SimEntity, PowerAware {
      */
     Datacenter addOnHostAvailableListener(EventListener<HostEventInfo> listener);
 
+    /**
+     * Gets the index of Hosts by their capacity, which the Datacenter keeps up to date
+     * to enable its {@link VmAllocationPolicy} to find a Host for a VM without going through all Hosts.
+     *
+     * @return the index or {@link HostCapacityIndex#NULL} if the Datacenter doesn't maintain one
+     */
+    HostCapacityIndex getHostCapacityIndex();
+
+    /**
+     * Checks if the Datacenter just updates the Hosts whose update is due,
+     * instead of updating all Hosts every time Cloudlets processing is updated.
+     *
+     * @return true if the event-driven Hosts update is enabled, false otherwise
+     * @see DatacenterSimple#setEventDrivenHostsUpdate(boolean)
+     */
+    boolean isEventDrivenHostsUpdate();
+
+    /**
+     * Brings the processing of a Host up to date if the Datacenter has skipped
+     * its update at the current simulation time, which happens when just the Hosts
+     * whose update is due are updated. This way, the Host state is up to date when it's queried.
+     *
+     * @param host the Host to bring up to date
+     * @see DatacenterSimple#setEventDrivenHostsUpdate(boolean)
+     */
+    void updateHostProcessingIfLagging(Host host);
+
+    /**
+     * Gets the {@link DatacenterPowerSupply} which computes the Datacenter's power consumption.
+     * @return the power supply or {@link DatacenterPowerSupply#NULL} if power consumption computation is disabled
+     * @see #setPowerSupply(DatacenterPowerSupply)
+     */
+    DatacenterPowerSupply getPowerSupply();
+
     /**
      * Sets a {@link DatacenterPowerSupply} to enable computing the Datacenter's power consumption,
      * based on the consumption of its {@link Host}s.
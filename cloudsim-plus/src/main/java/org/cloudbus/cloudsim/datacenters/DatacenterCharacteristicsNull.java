@@ -8,6 +8,8 @@ package org.cloudbus.cloudsim.datacenters;
  * @see DatacenterCharacteristics#NULL
  */
 final class DatacenterCharacteristicsNull implements DatacenterCharacteristics {
+    private static final long serialVersionUID = 1L;
+
     @Override public double getCostPerBw() {
         return 0;
     }
@@ -23,6 +23,7 @@ import org.cloudbus.cloudsim.hosts.Host;
  * @since CloudSim Toolkit 1.0
  */
 public class DatacenterCharacteristicsSimple implements DatacenterCharacteristics {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see #getArchitecture()
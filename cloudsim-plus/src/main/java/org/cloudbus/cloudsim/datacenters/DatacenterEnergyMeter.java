@@ -0,0 +1,286 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link DatacenterPowerSupply} that integrates the energy consumed by each {@link Host}
+ * just when the Host's power changes, instead of going through all Hosts
+ * every time the Datacenter processing is updated.
+ *
+ * <p>The power of a Host only changes when its CPU utilization or active state changes
+ * (such as when VMs are placed or removed and Cloudlets are submitted or finished).
+ * Between such changes, it's constant. This way, the energy consumed by a Host
+ * is the sum of its power multiplied by the time it was kept constant
+ * (a piecewise-constant integral).
+ * Every time a Host notifies a change, the energy consumed since the previous change
+ * is accumulated into the Host, its rack and the Datacenter.
+ * Since each total keeps its accumulated energy, current power and last change time,
+ * the energy consumed up to now by a Host, rack or the entire Datacenter
+ * is read in constant time.</p>
+ *
+ * <p>As Hosts notify their own changes, the meter works regardless of
+ * which Hosts are updated at each processing, such as when the
+ * {@link DatacenterSimple#setEventDrivenHostsUpdate(boolean) event-driven Hosts update} is enabled.</p>
+ *
+ * <p>Racks are just identifiers used to group Hosts and are assigned by calling
+ * {@link #setHostRack(Host, int)}, which can be called either before or after
+ * the meter is set as the {@link Datacenter#setPowerSupply(DatacenterPowerSupply) Datacenter power supply}.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public class DatacenterEnergyMeter extends DatacenterPowerSupply {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The rack of Hosts which weren't assigned to any rack.
+     */
+    public static final int NO_RACK = -1;
+
+    private final Map<Host, HostEnergy> hosts;
+    private final Map<Integer, EnergyTotal> racks;
+
+    /** @see #getPower() */
+    private final EnergyTotal total;
+
+    /**
+     * The energy consumed by the Datacenter the last time
+     * {@link #computePowerUtilizationForTimeSpan(double)} was called.
+     */
+    private double lastReportedEnergy;
+
+    public DatacenterEnergyMeter() {
+        super();
+        this.hosts = new HashMap<>();
+        this.racks = new HashMap<>();
+        this.total = new EnergyTotal();
+    }
+
+    /**
+     * Sets the Datacenter and starts metering the energy consumed by its current Hosts.
+     * @param datacenter the Datacenter to set
+     * @return
+     */
+    @Override
+    protected DatacenterPowerSupply setDatacenter(final Datacenter datacenter) {
+        super.setDatacenter(datacenter);
+        datacenter.getHostList().forEach(this::updateHostPower);
+        return this;
+    }
+
+    @Override
+    public void updateHostPower(final Host host) {
+        final double time = clock();
+        getHostEnergy(host, time).setPower(computeHostPower(host), time);
+    }
+
+    /**
+     * Computes the current power of a Host from the CPU usage of its VMs.
+     * The usage is computed again (instead of using {@link Host#getUtilizationOfCpu()})
+     * because the Host is also notified when Cloudlets are submitted to its VMs,
+     * which happens before the Host processing is updated.
+     *
+     * @param host the Host to compute its power
+     * @return the Host power in Watts (W)
+     */
+    private double computeHostPower(final Host host) {
+        final double totalMips = host.getTotalMipsCapacity();
+        if(totalMips == 0) {
+            return host.getPowerModel().getPower(0);
+        }
+
+        double mipsUsage = 0;
+        for (final Vm vm : host.getVmList()) {
+            mipsUsage += vm.getTotalCpuMipsUsage();
+        }
+
+        return host.getPowerModel().getPower(Math.min(1, mipsUsage / totalMips));
+    }
+
+    @Override
+    protected void removeHost(final Host host) {
+        final HostEnergy hostEnergy = hosts.get(host);
+        if(hostEnergy != null) {
+            hostEnergy.setPower(0, clock());
+        }
+    }
+
+    /**
+     * Gets the energy consumed by all Hosts since the last time this method was called,
+     * which is just a read of the Datacenter's accumulated energy.
+     *
+     * @param lastDatacenterProcessTime {@inheritDoc}
+     * @return the total energy consumed (in Watts-sec) by all Hosts since the last call
+     */
+    @Override
+    protected double computePowerUtilizationForTimeSpan(final double lastDatacenterProcessTime) {
+        final double energy = getPower();
+        final double timeSpanEnergy = energy - lastReportedEnergy;
+        lastReportedEnergy = energy;
+        return timeSpanEnergy;
+    }
+
+    /**
+     * Gets the total energy consumed by the Datacenter up to now in Watt-Second (Ws).
+     *
+     * @return the total energy consumption in Watt-Second (Ws)
+     * @see #getPowerInKWatts()
+     */
+    @Override
+    public double getPower() {
+        return total.getEnergy(clock());
+    }
+
+    /**
+     * Gets the total energy consumed by a Host up to now.
+     * @param host the Host to get the energy consumption
+     * @return the energy consumption in Watt-Second (Ws) or 0 if the Host is not being metered
+     */
+    public double getHostEnergy(final Host host) {
+        final HostEnergy hostEnergy = hosts.get(host);
+        return hostEnergy == null ? 0 : hostEnergy.getEnergy(clock());
+    }
+
+    /**
+     * Gets the total energy consumed up to now by the Hosts in a rack,
+     * including the energy consumed by Hosts which were in the rack before
+     * moving to another one.
+     *
+     * @param rack the rack to get the energy consumption
+     * @return the energy consumption in Watt-Second (Ws) or 0 if there is no such a rack
+     */
+    public double getRackEnergy(final int rack) {
+        final EnergyTotal rackEnergy = racks.get(rack);
+        return rackEnergy == null ? 0 : rackEnergy.getEnergy(clock());
+    }
+
+    /**
+     * Gets the rack of a Host.
+     * @param host the Host to get its rack
+     * @return the rack or {@link #NO_RACK} if the Host wasn't assigned to a rack
+     */
+    public int getHostRack(final Host host) {
+        final HostEnergy hostEnergy = hosts.get(host);
+        return hostEnergy == null ? NO_RACK : hostEnergy.rack;
+    }
+
+    /**
+     * Assigns a Host to a rack, so that its energy consumption from now on
+     * is also accounted into the {@link #getRackEnergy(int) rack's energy}.
+     *
+     * @param host the Host to set the rack
+     * @param rack the rack identifier or {@link #NO_RACK} to remove the Host from its rack
+     * @return
+     */
+    public DatacenterEnergyMeter setHostRack(final Host host, final int rack) {
+        final double time = clock();
+        final HostEnergy hostEnergy = getHostEnergy(host, time);
+        if(hostEnergy.rack == rack) {
+            return this;
+        }
+
+        hostEnergy.rackEnergy.addPower(-hostEnergy.power, time);
+        hostEnergy.rack = rack;
+        hostEnergy.rackEnergy = getRackEnergy(rack, time);
+        hostEnergy.rackEnergy.addPower(hostEnergy.power, time);
+        return this;
+    }
+
+    /**
+     * Gets the current simulation time.
+     * @return the simulation time or 0 if the meter wasn't set to a Datacenter yet
+     */
+    private double clock() {
+        return getDatacenter() == null ? 0 : getDatacenter().getSimulation().clock();
+    }
+
+    private HostEnergy getHostEnergy(final Host host, final double time) {
+        return hosts.computeIfAbsent(host, key -> new HostEnergy(time));
+    }
+
+    private EnergyTotal getRackEnergy(final int rack, final double time) {
+        if(rack == NO_RACK) {
+            return new EnergyTotal();
+        }
+
+        return racks.computeIfAbsent(rack, key -> new EnergyTotal(time));
+    }
+
+    /**
+     * The energy consumed by some Hosts, which is accumulated every time their power changes.
+     */
+    private static class EnergyTotal implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The energy consumed (in Watt-Second) up to the {@link #time}.
+         */
+        private double energy;
+
+        /**
+         * The power (in Watts) consumed since the {@link #time}.
+         */
+        protected double power;
+
+        /**
+         * The last time the power changed.
+         */
+        private double time;
+
+        private EnergyTotal() {
+            this(0);
+        }
+
+        private EnergyTotal(final double time) {
+            this.time = time;
+        }
+
+        /**
+         * Adds a power change which happened at a given time,
+         * accumulating the energy consumed with the previous power.
+         * @param delta the power to add (which is negative when the power decreases)
+         * @param time the time the power changed
+         */
+        protected void addPower(final double delta, final double time) {
+            energy = getEnergy(time);
+            power += delta;
+            this.time = time;
+        }
+
+        protected double getEnergy(final double time) {
+            return energy + power * (time - this.time);
+        }
+    }
+
+    /**
+     * The energy consumed by a Host, which also updates the energy of its rack and the Datacenter.
+     */
+    private final class HostEnergy extends EnergyTotal {
+        private static final long serialVersionUID = 1L;
+
+        private int rack;
+        private EnergyTotal rackEnergy;
+
+        private HostEnergy(final double time) {
+            super(time);
+            this.rack = NO_RACK;
+            this.rackEnergy = new EnergyTotal(time);
+        }
+
+        private void setPower(final double power, final double time) {
+            final double delta = power - this.power;
+            if(delta == 0) {
+                return;
+            }
+
+            addPower(delta, time);
+            rackEnergy.addPower(delta, time);
+            total.addPower(delta, time);
+        }
+    }
+}
@@ -19,6 +19,8 @@ import java.util.List;
  * @see Datacenter#NULL
  */
 final class DatacenterNull implements Datacenter, SimEntityNullBase {
+    private static final long serialVersionUID = 1L;
+
     private static final DatacenterStorage STORAGE = new DatacenterStorage();
 
     @Override public int compareTo(SimEntity entity) { return 0; }
@@ -51,6 +53,10 @@ final class DatacenterNull implements Datacenter, SimEntityNullBase {
     @Override public void setBandwidthPercentForMigration(double bandwidthPercentForMigration) {/**/}
     @Override public double getPower() { return 0; }
     @Override public Datacenter addOnHostAvailableListener(EventListener<HostEventInfo> listener) { return this; }
+    @Override public HostCapacityIndex getHostCapacityIndex() { return HostCapacityIndex.NULL; }
+    @Override public boolean isEventDrivenHostsUpdate() { return false; }
+    @Override public void updateHostProcessingIfLagging(Host host) {/**/}
+    @Override public DatacenterPowerSupply getPowerSupply() { return DatacenterPowerSupply.NULL; }
     @Override public void setPowerSupply(DatacenterPowerSupply powerSupply) {}
     @Override public double getPowerInKWatts() { return 0; }
     @Override public String toString() {
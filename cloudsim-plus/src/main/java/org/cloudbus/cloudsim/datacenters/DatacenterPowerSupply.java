@@ -10,6 +10,8 @@ import org.cloudbus.cloudsim.power.models.PowerAware;
  * @since CloudSim Plus 4.2.0
  */
 public class DatacenterPowerSupply implements PowerAware {
+    private static final long serialVersionUID = 1L;
+
     public static final DatacenterPowerSupply NULL = new DatacenterPowerSupply(Datacenter.NULL){
         @Override protected double computePowerUtilizationForTimeSpan(double lastDatacenterProcessTime) { return -1; }
         @Override public double getPower() { return -1; }
@@ -63,6 +65,29 @@ public class DatacenterPowerSupply implements PowerAware {
         return power;
     }
 
+    /**
+     * Notifies that the power consumed by a Host may have changed,
+     * because its CPU utilization or active state changed.
+     * This power supply just computes the consumption periodically,
+     * by {@link #computePowerUtilizationForTimeSpan(double)},
+     * so that it ignores such notifications.
+     *
+     * @param host the Host whose power may have changed
+     * @see DatacenterEnergyMeter
+     */
+    public void updateHostPower(final Host host) {/**/}
+
+    /**
+     * Notifies that a Host was removed from the Datacenter,
+     * so that its power consumption must not be computed anymore.
+     * @param host the removed Host
+     */
+    protected void removeHost(final Host host) {/**/}
+
+    protected Datacenter getDatacenter() {
+        return datacenter;
+    }
+
     protected DatacenterPowerSupply setDatacenter(final Datacenter datacenter) {
         this.datacenter = datacenter;
         return this;
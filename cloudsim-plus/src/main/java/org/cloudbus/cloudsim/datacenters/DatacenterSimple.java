@@ -8,6 +8,7 @@ package org.cloudbus.cloudsim.datacenters;
 
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
 import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.allocationpolicies.migration.VmAllocationPolicyMigration;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.CloudSimEntity;
 import org.cloudbus.cloudsim.core.CloudSimTags;
@@ -44,6 +45,8 @@ import static java.util.stream.Collectors.toList;
  * @since CloudSim Toolkit 1.0
  */
 public class DatacenterSimple extends CloudSimEntity implements Datacenter {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(DatacenterSimple.class.getSimpleName());
 
     /**
@@ -79,6 +82,30 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     /** @see #setPowerSupply(DatacenterPowerSupply) */
     private DatacenterPowerSupply powerSupply;
 
+    /**
+     * The index of Hosts by the time they need to be updated next,
+     * or null if the {@link #isEventDrivenHostsUpdate() event-driven Hosts update} is disabled.
+     */
+    private HostProcessingIndex hostProcessingIndex;
+
+    /** @see #getHostCapacityIndex() */
+    private HostCapacityIndex hostCapacityIndex;
+
+    /**
+     * A reusable list of Hosts whose processing update is due.
+     */
+    private final List<Host> dueHosts;
+
+    /** @see #getHostCountForParallelUpdate() */
+    private int hostCountForParallelUpdate;
+
+    /**
+     * Updates Hosts in parallel when the number of Hosts to update
+     * reaches the {@link #getHostCountForParallelUpdate()}.
+     * It's created just when required.
+     */
+    private transient ParallelHostsUpdater parallelHostsUpdater;
+
     /**
      * Creates a Datacenter with an empty {@link #getDatacenterStorage() storage}
      * and a {@link VmAllocationPolicySimple} by default.
@@ -162,12 +189,15 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         super(simulation);
         setHostList(hostList);
         this.powerSupply = DatacenterPowerSupply.NULL;
+        this.hostCapacityIndex = HostCapacityIndex.NULL;
 
         setLastProcessTime(0.0);
         setSchedulingInterval(0);
         setDatacenterStorage(storage);
 
         this.onHostAvailableListeners = new ArrayList<>();
+        this.dueHosts = new ArrayList<>();
+        this.hostCountForParallelUpdate = Integer.MAX_VALUE;
         this.characteristics = new DatacenterCharacteristicsSimple(this);
         this.bandwidthPercentForMigration = DEF_BW_PERCENT_FOR_MIGRATION;
         this.migrationsEnabled = true;
@@ -285,7 +315,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
                 processVmCreate(evt, false);
                 return true;
             case CloudSimTags.VM_CREATE_ACK:
-                processVmCreate(evt, true);
+                if(evt.getData() instanceof List)
+                    processVmListCreate(evt);
+                else processVmCreate(evt, true);
                 return true;
             case CloudSimTags.VM_VERTICAL_SCALING:
                 requestVmVerticalScaling(evt);
@@ -322,6 +354,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             return false;
         }
 
+        prepareHostForChanges(((VerticalVmScaling)evt.getData()).getVm().getHost());
         return vmAllocationPolicy.scaleVmVertically((VerticalVmScaling)evt.getData());
     }
 
@@ -391,6 +424,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             return;
         }
 
+        prepareHostForChanges(cloudlet.getVm().getHost());
         switch (type) {
             case CloudSimTags.CLOUDLET_CANCEL:
                 processCloudletCancel(cloudlet);
@@ -443,8 +477,10 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         // time to transfer cloudlet's files
         final double fileTransferTime = getDatacenterStorage().predictFileTransferTime(cloudlet.getRequiredFiles());
 
+        prepareHostForChanges(cloudlet.getVm().getHost());
         final CloudletScheduler scheduler = cloudlet.getVm().getCloudletScheduler();
         final double estimatedFinishTime = scheduler.cloudletSubmit(cloudlet, fileTransferTime);
+        powerSupply.updateHostPower(cloudlet.getVm().getHost());
 
         // if this cloudlet is in the exec queue
         if (estimatedFinishTime > 0.0 && !Double.isInfinite(estimatedFinishTime)) {
@@ -550,11 +586,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         final boolean hostAllocatedForVm = vmAllocationPolicy.allocateHostForVm(vm);
 
         if (hostAllocatedForVm) {
-            if (!vm.isCreated()) {
-                vm.setCreated(true);
-            }
-
-            vm.updateProcessing(vm.getHost().getVmScheduler().getAllocatedMips(vm));
+            processVmCreated(vm);
         }
 
         if (ackRequested) {
@@ -565,6 +597,45 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return hostAllocatedForVm;
     }
 
+    /**
+     * Process the event for a Broker which wants to create a batch of VMs
+     * in this Datacenter at once. The VMs are placed by
+     * {@link VmAllocationPolicy#allocateHostsForVms(List)} and a single
+     * acknowledgement, containing the entire list, is sent back to the Broker
+     * that sent the event (even if the list is empty).
+     * The Broker must check {@link Vm#isCreated()} to find out which VMs were created.
+     *
+     * @param evt information about the event just happened, whose data is the list of VMs to create
+     * @return true if all VMs were created, false otherwise
+     * @see CloudSimTags#VM_CREATE_ACK
+     */
+    protected boolean processVmListCreate(final SimEvent evt) {
+        final List<Vm> vmList = (List<Vm>) evt.getData();
+        final Set<Vm> failedVms =
+            vmList.isEmpty() ? Collections.emptySet() : new HashSet<>(vmAllocationPolicy.allocateHostsForVms(vmList));
+        for (final Vm vm : vmList) {
+            if(!failedVms.contains(vm)) {
+                processVmCreated(vm);
+            }
+        }
+
+        send(evt.getSource(), getSimulation().getMinTimeBetweenEvents(), CloudSimTags.VM_CREATE_ACK, vmList);
+        return failedVms.isEmpty();
+    }
+
+    /**
+     * Updates a VM that was just placed into a Host.
+     * @param vm the created VM
+     */
+    private void processVmCreated(final Vm vm) {
+        if (!vm.isCreated()) {
+            vm.setCreated(true);
+        }
+
+        markHostAsStale(vm.getHost());
+        vm.updateProcessing(vm.getHost().getVmScheduler().getAllocatedMips(vm));
+    }
+
     /**
      * Process the event sent by a Broker, requesting the destruction of a given VM
      * created in this Datacenter. This Datacenter may send, upon
@@ -576,6 +647,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      */
     protected void processVmDestroy(final SimEvent evt, final boolean ack) {
         final Vm vm = (Vm) evt.getData();
+        prepareHostForChanges(vm.getHost());
         vmAllocationPolicy.deallocateHostForVm(vm);
 
         if (ack) {
@@ -623,7 +695,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         final Host targetHost = entry.getValue();
 
         //Updates processing of all Hosts to get the latest state for all Hosts before migrating VMs
-        updateHostsProcessing();
+        updateAllHostsProcessing();
 
         //Deallocates the VM on the source Host (where it is migrating out)
         vmAllocationPolicy.deallocateHostForVm(vm);
@@ -640,7 +712,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         final SimEvent event = getSimulation().findFirstDeferred(this, new PredicateType(CloudSimTags.VM_MIGRATE));
         if (event == null || event.getTime() > getSimulation().clock()) {
             //Updates processing of all Hosts again to get the latest state for all Hosts after the VMs migrations
-            updateHostsProcessing();
+            updateAllHostsProcessing();
         }
 
         if (result)
@@ -695,20 +767,23 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     }
 
     /**
-     * Updates the processing of all Hosts, meaning
+     * Updates the processing of Hosts, meaning
      * it makes the processing of VMs running inside such hosts to be updated.
      * Finally, the processing of Cloudlets running inside such VMs is updated too.
      *
+     * <p>If the {@link #isEventDrivenHostsUpdate() event-driven Hosts update} is enabled
+     * and there is no VM migration policy, just the Hosts whose update is due are updated.
+     * Otherwise, all Hosts are updated, since migration policies need the latest state of every Host.</p>
+     *
      * @return the predicted completion time of the earliest finishing cloudlet
      * (which is a relative delay from the current simulation time),
      * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
      */
     private double updateHostsProcessing() {
-        double nextSimulationTime = Double.MAX_VALUE;
-        for (final Host host : getHostList()) {
-            final double time = host.updateProcessing(getSimulation().clock());
-            nextSimulationTime = Math.min(time, nextSimulationTime);
-        }
+        double nextSimulationTime =
+            hostProcessingIndex == null || isVmMigrationPolicyEnabled() ?
+                updateAllHostsProcessing() :
+                updateDueHostsProcessing();
 
         // Guarantees a minimal interval before scheduling the event
         final double minTimeBetweenEvents = getSimulation().getMinTimeBetweenEvents()+0.01;
@@ -723,6 +798,143 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return nextSimulationTime;
     }
 
+    /**
+     * Updates the processing of all Hosts.
+     *
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     */
+    private double updateAllHostsProcessing() {
+        return updateHostsProcessing(getHostList());
+    }
+
+    /**
+     * Updates the processing of the Hosts whose update is due,
+     * according to the {@link #hostProcessingIndex}.
+     *
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     */
+    private double updateDueHostsProcessing() {
+        final double clock = getSimulation().clock();
+        dueHosts.clear();
+        hostProcessingIndex.pollDue(clock, dueHosts);
+        updateHostsProcessing(dueHosts);
+        dueHosts.clear();
+        final double nextUpdateTime = hostProcessingIndex.getNextUpdateTime();
+        return nextUpdateTime == Double.MAX_VALUE ? Double.MAX_VALUE : Math.max(nextUpdateTime - clock, 0);
+    }
+
+    /**
+     * Updates the processing of a list of Hosts, in parallel if
+     * the number of Hosts reaches the {@link #getHostCountForParallelUpdate()}.
+     *
+     * @param hosts the Hosts to update
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     */
+    private double updateHostsProcessing(final List<? extends Host> hosts) {
+        if(hosts.size() >= hostCountForParallelUpdate) {
+            if(parallelHostsUpdater == null) {
+                parallelHostsUpdater = new ParallelHostsUpdater();
+            }
+
+            return parallelHostsUpdater.update(hosts, getSimulation().clock(), this::hostUpdated);
+        }
+
+        double nextSimulationTime = Double.MAX_VALUE;
+        for (final Host host : hosts) {
+            nextSimulationTime = Math.min(updateHostProcessing(host), nextSimulationTime);
+        }
+
+        return nextSimulationTime;
+    }
+
+    /**
+     * Updates the processing of a given Host.
+     *
+     * @param host the Host to update
+     * @return the predicted completion time of the earliest finishing cloudlet inside the Host
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     */
+    private double updateHostProcessing(final Host host) {
+        final double delay = host.updateProcessing(getSimulation().clock());
+        hostUpdated(host, delay);
+        return delay;
+    }
+
+    /**
+     * Registers when an updated Host needs to be updated next into the {@link #hostProcessingIndex}
+     * (if the event-driven Hosts update is enabled).
+     *
+     * @param host the updated Host
+     * @param delay the predicted completion time of the earliest finishing cloudlet inside the Host
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     */
+    private void hostUpdated(final Host host, final double delay) {
+        final double clock = getSimulation().clock();
+        if(hostProcessingIndex != null) {
+            /* Idle Hosts that may be shut down have to be checked in every update,
+             * as it happens when all Hosts are updated. */
+            final boolean waitingIdleShutdown =
+                host.getVmList().isEmpty() && host.isActive() && host.getIdleShutdownDeadline() >= 0;
+            final double nextUpdateTime = delay == Double.MAX_VALUE ? Double.MAX_VALUE : clock + delay;
+            hostProcessingIndex.updated(host, clock, nextUpdateTime, waitingIdleShutdown);
+        }
+    }
+
+    /**
+     * Checks if VM migrations are enabled and the {@link #getVmAllocationPolicy() VmAllocationPolicy}
+     * is a {@link VmAllocationPolicyMigration}, which may migrate VMs.
+     * @return true if VMs may be migrated, false otherwise
+     */
+    private boolean isVmMigrationPolicyEnabled() {
+        return isMigrationsEnabled() && vmAllocationPolicy instanceof VmAllocationPolicyMigration;
+    }
+
+    @Override
+    public void updateHostProcessingIfLagging(final Host host) {
+        if(hostProcessingIndex != null && !hostProcessingIndex.isUpdated(host, getSimulation().clock())) {
+            updateHostProcessing(host);
+        }
+    }
+
+    /**
+     * Brings a Host that is going to have its VMs or Cloudlets changed up to date
+     * (if it's lagging behind because the event-driven Hosts update is enabled),
+     * then marks it to be updated in the next processing update.
+     *
+     * @param host the Host that is going to be changed
+     */
+    private void prepareHostForChanges(final Host host) {
+        if(hostProcessingIndex == null || host == Host.NULL) {
+            return;
+        }
+
+        if(!hostProcessingIndex.isUpdated(host, getSimulation().clock())) {
+            updateHostProcessing(host);
+        }
+
+        hostProcessingIndex.markStale(host);
+    }
+
+    /**
+     * Marks a Host to be updated in the next processing update
+     * (if the event-driven Hosts update is enabled).
+     *
+     * @param host the Host to mark
+     */
+    private void markHostAsStale(final Host host) {
+        if(hostProcessingIndex != null) {
+            hostProcessingIndex.markStale(host);
+        }
+    }
+
     /**
      * Updates processing of each Host, that fires the update of VMs,
      * which in turn updates cloudlets running in this Datacenter.
@@ -861,6 +1073,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         }
 
         vmAllocationPolicy.setDatacenter(this);
+        vmAllocationPolicy.setHostCapacityIndex(hostCapacityIndex);
         this.vmAllocationPolicy = vmAllocationPolicy;
         return this;
     }
@@ -956,6 +1169,12 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
         host.setDatacenter(this);
         ((List<T>)hostList).add(host);
+        if(hostProcessingIndex != null) {
+            hostProcessingIndex.add(host);
+        }
+
+        hostCapacityIndex.add(host);
+        powerSupply.updateHostPower(host);
 
         //Sets the Datacenter again so that the new Host is registered internally on the VmAllocationPolicy
         vmAllocationPolicy.setDatacenter(this);
@@ -969,6 +1188,16 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     @Override
     public <T extends Host> Datacenter removeHost(final T host) {
         hostList.remove(host);
+        if(hostProcessingIndex != null) {
+            hostProcessingIndex.remove(host);
+        }
+
+        hostCapacityIndex.remove(host);
+        powerSupply.removeHost(host);
+        if(host.getDatacenter() == this) {
+            host.setDatacenter(Datacenter.NULL);
+        }
+
         return this;
     }
 
@@ -1066,6 +1295,142 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return this;
     }
 
+    @Override
+    public boolean isEventDrivenHostsUpdate() {
+        return hostProcessingIndex != null;
+    }
+
+    /**
+     * Enables or disables the event-driven Hosts update (disabled by default).
+     * When Cloudlets processing is updated, the Datacenter usually updates every Host.
+     * When the event-driven update is enabled, the Datacenter keeps an index of Hosts
+     * by the expected completion time of the earliest finishing Cloudlet inside them,
+     * just updating the Hosts whose VMs or Cloudlets changed or
+     * whose next Cloudlet completion is due.
+     * That largely reduces the processing time of Datacenters with many Hosts.
+     *
+     * <p>The Hosts not updated keep their state from the last time they were updated,
+     * which is brought up to date when the Datacenter needs it
+     * (for instance, before a VM or Cloudlet is submitted, destroyed or changed inside the Host).
+     * Since the processing of Cloudlets is computed from the last time it was updated,
+     * Cloudlets with constant {@link org.cloudbus.cloudsim.utilizationmodels.UtilizationModel}s
+     * finish at about the same times.
+     * However, the following behaviours change and must be considered before enabling it:</p>
+     * <ul>
+     *     <li>The finished length of Cloudlets is computed from the total of executed instructions
+     *     and the next update of a VM is anticipated to the integer time before the completion of its Cloudlets
+     *     (instead of subtracting the decimals of the current time), so that they don't depend on how often Hosts are updated.
+     *     This way, Cloudlets finish times may slightly differ from the ones got when all Hosts are updated;</li>
+     *     <li>Cloudlets with dynamic utilization models are just evaluated when their Hosts are updated;</li>
+     *     <li>Host's {@link Host#getStateHistory() state history} and
+     *     {@link Host#addOnUpdateProcessingListener(EventListener) update listeners} are just
+     *     updated/notified when the Host is updated, not on every {@link #getSchedulingInterval() scheduling interval}.
+     *     Querying the state of a Host brings it up to date, which may anticipate
+     *     detecting the end of its Cloudlets.</li>
+     * </ul>
+     *
+     * <p>All Hosts are still updated while VM {@link #isMigrationsEnabled() migrations are enabled}
+     * and the {@link #getVmAllocationPolicy() VmAllocationPolicy} is a {@link VmAllocationPolicyMigration},
+     * since migration policies need the latest state of every Host.</p>
+     *
+     * @param enabled true to enable the event-driven Hosts update, false to disable it
+     * @return
+     */
+    public DatacenterSimple setEventDrivenHostsUpdate(final boolean enabled) {
+        if(!enabled) {
+            hostProcessingIndex = null;
+            return this;
+        }
+
+        if(hostProcessingIndex == null) {
+            hostProcessingIndex = new HostProcessingIndex();
+            hostList.forEach(hostProcessingIndex::add);
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks if the Datacenter maintains a {@link HostCapacityIndex}.
+     *
+     * @return true if the index is enabled, false otherwise
+     * @see #setHostCapacityIndexEnabled(boolean)
+     */
+    public boolean isHostCapacityIndexEnabled() {
+        return hostCapacityIndex != HostCapacityIndex.NULL;
+    }
+
+    /**
+     * Enables or disables the {@link HostCapacityIndex} (disabled by default).
+     * When enabled, the Datacenter keeps its Hosts sorted by their active state and number of free PEs,
+     * updating such an index as VMs are created, destroyed or migrated and Hosts fail or are powered on/off.
+     * The index is given to the {@link #getVmAllocationPolicy() VmAllocationPolicy},
+     * so that policies such as {@link VmAllocationPolicySimple} and {@link org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicyBestFit}
+     * find a Host for a VM without going through all Hosts.
+     * The selected Hosts are the same ones selected when the index is disabled.
+     *
+     * @param enabled true to enable the index, false to disable it
+     * @return
+     */
+    public DatacenterSimple setHostCapacityIndexEnabled(final boolean enabled) {
+        if(enabled == isHostCapacityIndexEnabled()) {
+            return this;
+        }
+
+        hostCapacityIndex = enabled ? new HostCapacityIndex() : HostCapacityIndex.NULL;
+        hostList.forEach(hostCapacityIndex::add);
+        vmAllocationPolicy.setHostCapacityIndex(hostCapacityIndex);
+        return this;
+    }
+
+    /**
+     * Gets the minimum number of Hosts to be updated at once to start updating them in parallel.
+     * @return the minimum number of Hosts; or {@link Integer#MAX_VALUE} if Hosts are always updated sequentially
+     * @see #setHostCountForParallelUpdate(int)
+     */
+    public int getHostCountForParallelUpdate() {
+        return hostCountForParallelUpdate;
+    }
+
+    /**
+     * Sets the minimum number of Hosts to be updated at once to start updating them in parallel
+     * (by default, Hosts are always updated sequentially).
+     * Since Hosts are independent from each other inside a processing update,
+     * they can be updated by multiple threads of the {@link java.util.concurrent.ForkJoinPool#commonPool()},
+     * reducing the time to process Datacenters with many Hosts.
+     *
+     * <p>The effects of a Host update that escape such a Host,
+     * such as events sent to brokers and the notification of Host, VM and Cloudlet listeners,
+     * are gathered while Hosts are updated in parallel.
+     * Then, they are applied by the Datacenter, in the order of the Hosts,
+     * so that the results are the same as updating Hosts sequentially.
+     * That is why listeners don't need to be thread-safe,
+     * but they are notified only after all Hosts are updated.</p>
+     *
+     * @param hostCountForParallelUpdate the minimum number of Hosts to update in parallel
+     *                                   (which must be greater than zero); or {@link Integer#MAX_VALUE} to always update Hosts sequentially
+     * @return
+     * @see org.cloudbus.cloudsim.core.DeferredEffects
+     */
+    public DatacenterSimple setHostCountForParallelUpdate(final int hostCountForParallelUpdate) {
+        if(hostCountForParallelUpdate <= 0){
+            throw new IllegalArgumentException("The number of Hosts to start updating them in parallel must be greater than zero.");
+        }
+
+        this.hostCountForParallelUpdate = hostCountForParallelUpdate;
+        return this;
+    }
+
+    @Override
+    public HostCapacityIndex getHostCapacityIndex() {
+        return hostCapacityIndex;
+    }
+
+    @Override
+    public DatacenterPowerSupply getPowerSupply() {
+        return powerSupply;
+    }
+
     @Override
     public void setPowerSupply(final DatacenterPowerSupply powerSupply) {
         this.powerSupply = powerSupply == null ? DatacenterPowerSupply.NULL : powerSupply.setDatacenter(this);
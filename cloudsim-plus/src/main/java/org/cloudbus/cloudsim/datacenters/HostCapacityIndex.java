@@ -0,0 +1,229 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * An index of the Hosts of a {@link Datacenter}, ordered by their active state and number of free PEs,
+ * which is kept up to date as Hosts change, so that a VmAllocationPolicy can find the best or worst Host
+ * to place a VM without going through all Hosts.
+ *
+ * <p>Hosts are sorted by a binary search tree, placing active Hosts first, then ordering them by
+ * their number of free PEs and finally by the order they were added to the index
+ * (which is the order of the Datacenter's Host list).
+ * Every time the number of free PEs or the active state of a Host changes
+ * (for instance, when a VM is created, destroyed or migrated or the Host fails),
+ * the Host is {@link #update(Host) updated} in O(log n) time.</p>
+ *
+ * <p>Finding a Host for a VM visits Hosts in the order they would be selected
+ * and returns the first one that {@link Host#isSuitableForVm(Vm) is suitable} for the VM.
+ * Hosts without free PEs, which cannot receive any VM, are skipped in O(log n) time.
+ * This way, the cost of finding a Host depends just on the number of visited Hosts
+ * that have free PEs but lack other resources for the VM, instead of the total number of Hosts.
+ * The selected Host is the same one that would be selected by sorting all suitable Hosts.</p>
+ *
+ * <p><b>Limitation:</b> the index is keyed only by the active state and number of free PEs,
+ * since that is the order the {@link org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicyBestFit}
+ * and {@link org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple} select Hosts.
+ * RAM, BW, storage and MIPS are just checked for each visited Host.
+ * Therefore, when one of these resources is the scarcest one
+ * (such as when most Hosts have free PEs but not enough RAM for the VM),
+ * all such Hosts are visited and rejected before finding a suitable one,
+ * making the search O(n) in the worst case, as a search without the index.
+ * The selected Host is still the right one, but the index doesn't speed up the search in that case.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see DatacenterSimple#setHostCapacityIndexEnabled(boolean)
+ */
+public class HostCapacityIndex implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * An index which doesn't store any Host, used when the index is disabled.
+     */
+    public static final HostCapacityIndex NULL = new HostCapacityIndex(){
+        @Override void add(Host host) {/**/}
+        @Override public void update(Host host) {/**/}
+        private Object readResolve() { return NULL; }
+    };
+
+    private static final class Entry implements Comparable<Entry>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Host host;
+
+        /**
+         * The order the Host was added to the index, used to sort Hosts with the same capacity.
+         */
+        private final long order;
+
+        /**
+         * Indicates if the Host was active when its entry was last sorted.
+         */
+        private boolean active;
+
+        /**
+         * The number of free PEs when the entry was last sorted.
+         */
+        private long freePes;
+
+        private Entry(final Host host, final long order) {
+            this.host = host;
+            this.order = order;
+            this.active = host.isActive();
+            this.freePes = host.getFreePesNumber();
+        }
+
+        /**
+         * Creates an entry without a Host, used just to search the index.
+         */
+        private Entry(final boolean active, final long freePes, final long order) {
+            this.host = Host.NULL;
+            this.order = order;
+            this.active = active;
+            this.freePes = freePes;
+        }
+
+        @Override
+        public int compareTo(final Entry other) {
+            if(active != other.active) {
+                return active ? -1 : 1;
+            }
+
+            final int freePesComparison = Long.compare(freePes, other.freePes);
+            return freePesComparison == 0 ? Long.compare(order, other.order) : freePesComparison;
+        }
+    }
+
+    private final Map<Host, Entry> entries;
+    private final TreeSet<Entry> sortedEntries;
+
+    /**
+     * The order to be assigned to the next Host added to the index.
+     */
+    private long nextOrder;
+
+    HostCapacityIndex() {
+        this.entries = new HashMap<>();
+        this.sortedEntries = new TreeSet<>();
+    }
+
+    /**
+     * Adds a Host to the index, if it's not there yet.
+     * @param host the Host to add
+     */
+    void add(final Host host) {
+        if(!entries.containsKey(host)) {
+            final Entry entry = new Entry(host, nextOrder++);
+            entries.put(host, entry);
+            sortedEntries.add(entry);
+        }
+    }
+
+    /**
+     * Removes a Host from the index.
+     * @param host the Host to remove
+     */
+    void remove(final Host host) {
+        final Entry entry = entries.remove(host);
+        if(entry != null) {
+            sortedEntries.remove(entry);
+        }
+    }
+
+    /**
+     * Sorts a Host again after its number of free PEs or active state changed.
+     * Hosts that aren't in the index are ignored.
+     *
+     * @param host the Host that changed
+     */
+    public void update(final Host host) {
+        final Entry entry = entries.get(host);
+        if(entry == null || (entry.active == host.isActive() && entry.freePes == host.getFreePesNumber())) {
+            return;
+        }
+
+        sortedEntries.remove(entry);
+        entry.active = host.isActive();
+        entry.freePes = host.getFreePesNumber();
+        sortedEntries.add(entry);
+    }
+
+    /**
+     * Gets the number of Hosts in the index.
+     * @return
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Finds the suitable Host for a VM that has the fewest free PEs,
+     * giving priority to active Hosts.
+     * If multiple Hosts have the same number of free PEs, the first one in the Datacenter's Host list is selected.
+     *
+     * @param vm the VM to find a Host for
+     * @return an {@link Optional} containing a suitable Host to place the VM or an empty {@link Optional} if not found
+     */
+    public Optional<Host> findBestFit(final Vm vm) {
+        final Optional<Host> host = findBestFit(vm, true);
+        return host.isPresent() ? host : findBestFit(vm, false);
+    }
+
+    /**
+     * Finds the suitable Host for a VM that has the most free PEs,
+     * giving priority to active Hosts.
+     * If multiple Hosts have the same number of free PEs, the first one in the Datacenter's Host list is selected.
+     *
+     * @param vm the VM to find a Host for
+     * @return an {@link Optional} containing a suitable Host to place the VM or an empty {@link Optional} if not found
+     */
+    public Optional<Host> findWorstFit(final Vm vm) {
+        final Optional<Host> host = findWorstFit(vm, true);
+        return host.isPresent() ? host : findWorstFit(vm, false);
+    }
+
+    /**
+     * Finds the suitable Host for a VM that has the fewest free PEs, among the Hosts with a given active state.
+     */
+    private Optional<Host> findBestFit(final Vm vm, final boolean active) {
+        final Entry first = new Entry(active, 1, Long.MIN_VALUE);
+        final Entry last = new Entry(active, Long.MAX_VALUE, Long.MAX_VALUE);
+        for (final Entry entry : sortedEntries.subSet(first, true, last, true)) {
+            if(entry.host.isSuitableForVm(vm)) {
+                return Optional.of(entry.host);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Finds the suitable Host for a VM that has the most free PEs, among the Hosts with a given active state.
+     * Hosts are visited from the largest to the lowest number of free PEs,
+     * but Hosts with the same number of free PEs are visited in ascending order.
+     */
+    private Optional<Host> findWorstFit(final Vm vm, final boolean active) {
+        Entry next = sortedEntries.lower(new Entry(active, Long.MAX_VALUE, Long.MAX_VALUE));
+        while (next != null && next.active == active && next.freePes > 0) {
+            final Entry first = new Entry(active, next.freePes, Long.MIN_VALUE);
+            final Entry last = new Entry(active, next.freePes, Long.MAX_VALUE);
+            for (final Entry entry : sortedEntries.subSet(first, true, last, true)) {
+                if(entry.host.isSuitableForVm(vm)) {
+                    return Optional.of(entry.host);
+                }
+            }
+
+            next = sortedEntries.lower(first);
+        }
+
+        return Optional.empty();
+    }
+}
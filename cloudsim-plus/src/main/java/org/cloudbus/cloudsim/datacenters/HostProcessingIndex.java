@@ -0,0 +1,271 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.hosts.Host;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A priority index of the Hosts of a {@link DatacenterSimple}, ordered by the time
+ * each Host needs its processing to be updated next
+ * (usually, the expected completion time of the earliest finishing Cloudlet running inside it).
+ * It enables the Datacenter to update just the Hosts whose next update is due,
+ * instead of all of them.
+ *
+ * <p>It's implemented as an indexed binary min-heap, so that
+ * changing the update time of a Host takes O(log n) time
+ * and finding the next Host to be updated takes O(1) time.
+ * A Host whose work has changed (for instance, because a VM or Cloudlet was submitted to it)
+ * is marked as {@link #markStale(Host) stale}, being due in the next update.
+ * Hosts which have no time to be updated but must be checked in every update
+ * (such as idle Hosts waiting to be shut down) are kept apart from the heap.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see DatacenterSimple#setEventDrivenHostsUpdate(boolean)
+ */
+final class HostProcessingIndex implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final class Entry implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Host host;
+
+        /**
+         * The time the Host needs to be updated next.
+         */
+        private double nextUpdateTime;
+
+        /**
+         * The last time the Host was updated, or -1 if it was never updated.
+         */
+        private double lastUpdateTime;
+
+        /**
+         * The position of the entry inside the heap, or -1 if it's not in the heap.
+         */
+        private int position;
+
+        private Entry(final Host host) {
+            this.host = host;
+            this.nextUpdateTime = Double.NEGATIVE_INFINITY;
+            this.lastUpdateTime = -1;
+            this.position = -1;
+        }
+    }
+
+    private final Map<Host, Entry> entries;
+
+    /**
+     * Hosts that are due in every update, which are not in the heap.
+     */
+    private final Set<Host> alwaysDueHosts;
+
+    private Entry[] heap;
+    private int size;
+
+    HostProcessingIndex() {
+        this.entries = new HashMap<>();
+        this.alwaysDueHosts = new LinkedHashSet<>();
+        this.heap = new Entry[16];
+    }
+
+    /**
+     * Adds a Host to the index, which is due in the next update.
+     * @param host the Host to add
+     */
+    void add(final Host host) {
+        if(!entries.containsKey(host)) {
+            final Entry entry = new Entry(host);
+            entries.put(host, entry);
+            insert(entry);
+        }
+    }
+
+    /**
+     * Removes a Host from the index.
+     * @param host the Host to remove
+     */
+    void remove(final Host host) {
+        final Entry entry = entries.remove(host);
+        alwaysDueHosts.remove(host);
+        if(entry != null && entry.position >= 0) {
+            removeAt(entry.position);
+        }
+    }
+
+    /**
+     * Marks a Host as stale, making it due in the next update.
+     * @param host the Host to mark
+     */
+    void markStale(final Host host) {
+        final Entry entry = entries.get(host);
+        if(entry != null) {
+            alwaysDueHosts.remove(host);
+            changeNextUpdateTime(entry, Double.NEGATIVE_INFINITY);
+        }
+    }
+
+    /**
+     * Checks if a Host was already updated at a given time.
+     * Hosts not in the index are considered updated, since they aren't managed by it.
+     *
+     * @param host the Host to check
+     * @param time the time to check
+     * @return true if the Host was updated at the given time, false otherwise
+     */
+    boolean isUpdated(final Host host, final double time) {
+        final Entry entry = entries.get(host);
+        return entry == null || entry.lastUpdateTime == time;
+    }
+
+    /**
+     * Records that a Host was updated.
+     *
+     * @param host the updated Host
+     * @param time the time the Host was updated
+     * @param nextUpdateTime the time the Host needs to be updated next
+     *                       (or {@link Double#MAX_VALUE} if it doesn't need to be updated)
+     * @param alwaysDue indicates if the Host must be updated in every update,
+     *                  despite the given next update time
+     */
+    void updated(final Host host, final double time, final double nextUpdateTime, final boolean alwaysDue) {
+        final Entry entry = entries.get(host);
+        if(entry == null) {
+            return;
+        }
+
+        entry.lastUpdateTime = time;
+        if(alwaysDue) {
+            if(entry.position >= 0) {
+                removeAt(entry.position);
+            }
+
+            entry.nextUpdateTime = nextUpdateTime;
+            alwaysDueHosts.add(host);
+            return;
+        }
+
+        alwaysDueHosts.remove(host);
+        changeNextUpdateTime(entry, nextUpdateTime);
+    }
+
+    /**
+     * Removes from the heap the Hosts whose next update is due at a given time.
+     * Such Hosts must be {@link #updated(Host, double, double, boolean) updated} to be added back.
+     *
+     * @param time the current time
+     * @param dueHosts the list where the due Hosts will be added
+     */
+    void pollDue(final double time, final List<Host> dueHosts) {
+        while (size > 0 && heap[0].nextUpdateTime <= time) {
+            dueHosts.add(heap[0].host);
+            removeAt(0);
+        }
+
+        dueHosts.addAll(alwaysDueHosts);
+        alwaysDueHosts.clear();
+    }
+
+    /**
+     * Gets the earliest time some Host needs to be updated,
+     * not considering the Hosts that are due in every update.
+     * @return the next update time or {@link Double#MAX_VALUE} if no Host needs to be updated
+     */
+    double getNextUpdateTime() {
+        return size == 0 ? Double.MAX_VALUE : heap[0].nextUpdateTime;
+    }
+
+    /**
+     * Gets the number of Hosts in the index.
+     * @return
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private void changeNextUpdateTime(final Entry entry, final double nextUpdateTime) {
+        final double previous = entry.nextUpdateTime;
+        entry.nextUpdateTime = nextUpdateTime;
+        if(entry.position < 0) {
+            insert(entry);
+        } else if(nextUpdateTime < previous) {
+            siftUp(entry.position);
+        } else siftDown(entry.position);
+    }
+
+    private void insert(final Entry entry) {
+        if(size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+
+        heap[size] = entry;
+        entry.position = size++;
+        siftUp(entry.position);
+    }
+
+    private void removeAt(final int position) {
+        final Entry removed = heap[position];
+        removed.position = -1;
+        size--;
+        if(position == size) {
+            heap[size] = null;
+            return;
+        }
+
+        final Entry last = heap[size];
+        heap[size] = null;
+        set(position, last);
+        siftDown(position);
+        if(heap[position] == last) {
+            siftUp(position);
+        }
+    }
+
+    private void siftUp(int position) {
+        final Entry entry = heap[position];
+        while (position > 0) {
+            final int parent = (position - 1) >>> 1;
+            if(heap[parent].nextUpdateTime <= entry.nextUpdateTime) {
+                break;
+            }
+
+            set(position, heap[parent]);
+            position = parent;
+        }
+
+        set(position, entry);
+    }
+
+    private void siftDown(int position) {
+        final Entry entry = heap[position];
+        final int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            final int right = child + 1;
+            if(right < size && heap[right].nextUpdateTime < heap[child].nextUpdateTime) {
+                child = right;
+            }
+
+            if(entry.nextUpdateTime <= heap[child].nextUpdateTime) {
+                break;
+            }
+
+            set(position, heap[child]);
+            position = child;
+        }
+
+        set(position, entry);
+    }
+
+    private void set(final int position, final Entry entry) {
+        heap[position] = entry;
+        entry.position = position;
+    }
+}
@@ -0,0 +1,151 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.core.DeferredEffects;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudsimplus.util.Log;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Updates the processing of a list of Hosts in parallel, using the {@link ForkJoinPool#commonPool()}.
+ * Since Hosts are independent from each other inside a processing update,
+ * the list is split into chunks that are updated by different threads.
+ *
+ * <p>The effects that escape a Host (such as events sent to brokers and listeners notifications)
+ * are {@link DeferredEffects deferred} while Hosts are updated.
+ * Afterwards, the effects of each Host are applied by the calling thread, in the order of the Hosts,
+ * so that the results are the same as updating Hosts sequentially.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see DatacenterSimple#setHostCountForParallelUpdate(int)
+ */
+final class ParallelHostsUpdater {
+    /**
+     * The minimum number of Hosts updated by a single task,
+     * avoiding the overhead of splitting the list into too small chunks.
+     */
+    private static final int MIN_HOSTS_PER_TASK = 64;
+
+    /**
+     * The effects deferred while updating each Host, which are reused along the simulation.
+     */
+    private final List<List<Runnable>> effects;
+
+    /**
+     * The time each Host needs to be updated next, relative to the time of the update.
+     */
+    private double[] delays;
+
+    ParallelHostsUpdater() {
+        this.effects = new ArrayList<>();
+        this.delays = new double[0];
+    }
+
+    /**
+     * Updates the processing of a list of Hosts in parallel,
+     * then applies the effects of the update of each Host, in the order of the list.
+     *
+     * @param hosts the Hosts to update
+     * @param time the current simulation time
+     * @param onUpdated a consumer called by the calling thread for each updated Host
+     *                  (in the order of the list, just after applying its effects),
+     *                  receiving the Host and the predicted completion time of its earliest finishing Cloudlet
+     *                  (which is a relative delay from the current simulation time)
+     * @return the predicted completion time of the earliest finishing Cloudlet among all Hosts
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     */
+    double update(final List<? extends Host> hosts, final double time, final ObjDoubleConsumer<Host> onUpdated) {
+        final int size = hosts.size();
+        if(delays.length < size) {
+            delays = Arrays.copyOf(delays, size);
+        }
+
+        while (effects.size() < size) {
+            effects.add(new ArrayList<>());
+        }
+
+        final int parallelism = ForkJoinPool.commonPool().getParallelism();
+        final int hostsPerTask = Math.max(MIN_HOSTS_PER_TASK, size / (parallelism * 4));
+        ForkJoinPool.commonPool().invoke(new UpdateTask(hosts, time, 0, size, hostsPerTask, Log.getThreadLevel()));
+
+        double nextSimulationTime = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            final List<Runnable> hostEffects = effects.get(i);
+            hostEffects.forEach(Runnable::run);
+            hostEffects.clear();
+            onUpdated.accept(hosts.get(i), delays[i]);
+            nextSimulationTime = Math.min(delays[i], nextSimulationTime);
+        }
+
+        return nextSimulationTime;
+    }
+
+    /**
+     * A task that updates a range of Hosts, splitting it into smaller tasks when it's too large.
+     */
+    private final class UpdateTask extends RecursiveAction {
+        private final List<? extends Host> hosts;
+        private final double time;
+        private final int start;
+        private final int end;
+        private final int hostsPerTask;
+
+        /**
+         * The logging level of the thread which requested the update,
+         * or null if it has no level set.
+         */
+        private final Level logLevel;
+
+        private UpdateTask(
+            final List<? extends Host> hosts, final double time,
+            final int start, final int end, final int hostsPerTask, final Level logLevel)
+        {
+            this.hosts = hosts;
+            this.time = time;
+            this.start = start;
+            this.end = end;
+            this.hostsPerTask = hostsPerTask;
+            this.logLevel = logLevel;
+        }
+
+        @Override
+        protected void compute() {
+            if(end - start > hostsPerTask) {
+                final int middle = (start + end) >>> 1;
+                invokeAll(
+                    new UpdateTask(hosts, time, start, middle, hostsPerTask, logLevel),
+                    new UpdateTask(hosts, time, middle, end, hostsPerTask, logLevel));
+                return;
+            }
+
+            final Level previousLogLevel = Log.getThreadLevel();
+            setThreadLogLevel(logLevel);
+            try {
+                for (int i = start; i < end; i++) {
+                    final List<Runnable> previousEffects = DeferredEffects.begin(effects.get(i));
+                    try {
+                        delays[i] = hosts.get(i).updateProcessing(time);
+                    } finally {
+                        DeferredEffects.end(previousEffects);
+                    }
+                }
+            } finally {
+                setThreadLogLevel(previousLogLevel);
+            }
+        }
+
+        private void setThreadLogLevel(final Level level) {
+            if(level == null)
+                Log.removeThreadLevel();
+            else Log.setThreadLevel(level);
+        }
+    }
+}
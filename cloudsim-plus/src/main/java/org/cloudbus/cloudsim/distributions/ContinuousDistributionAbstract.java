@@ -8,6 +8,8 @@ import org.apache.commons.math3.distribution.RealDistribution;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class ContinuousDistributionAbstract implements ContinuousDistribution {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getSeed()
      */
@@ -8,6 +8,8 @@ package org.cloudbus.cloudsim.distributions;
  * @see ContinuousDistribution#NULL
  */
 final class ContinuousDistributionNull implements ContinuousDistribution {
+    private static final long serialVersionUID = 1L;
+
     @Override public double sample() { return 0.0; }
     @Override public long getSeed() {
         return 0;
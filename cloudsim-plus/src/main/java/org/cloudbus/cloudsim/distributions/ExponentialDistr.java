@@ -18,6 +18,8 @@ import org.apache.commons.math3.distribution.ExponentialDistribution;
  * @since CloudSim Toolkit 1.0
  */
 public class ExponentialDistr extends ContinuousDistributionAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Creates a new exponential pseudo random number generator.
      *
@@ -18,6 +18,7 @@ import org.apache.commons.math3.distribution.GammaDistribution;
  * @since CloudSim Toolkit 1.0
  */
 public class GammaDistr extends ContinuousDistributionAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Instantiates a new Gamma pseudo random number generator.
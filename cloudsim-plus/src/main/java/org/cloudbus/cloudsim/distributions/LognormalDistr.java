@@ -18,6 +18,7 @@ import org.apache.commons.math3.distribution.LogNormalDistribution;
  * @since CloudSim Toolkit 1.0
  */
 public class LognormalDistr extends ContinuousDistributionAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Instantiates a new Log-normal pseudo random number generator.
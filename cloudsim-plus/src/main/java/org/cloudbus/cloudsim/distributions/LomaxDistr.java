@@ -16,6 +16,7 @@ package org.cloudbus.cloudsim.distributions;
  * @since CloudSim Toolkit 1.0
  */
 public class LomaxDistr extends ParetoDistr {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The shift.
@@ -9,6 +9,8 @@ import org.apache.commons.math3.distribution.NormalDistribution;
  * @author Manoel Campos da Silva Filho
  */
 public class NormalDistr extends ContinuousDistributionAbstract {
+    private static final long serialVersionUID = 1L;
+
 	/**
 	 * Creates a new normal (Gaussian) pseudo random number generator.
 	 * @param mean the mean for the distribution.
@@ -40,6 +40,8 @@ import java.util.stream.IntStream;
  * @since CloudSim Plus 1.2.0
  */
 public class PoissonDistr implements ContinuousDistribution {
+    private static final long serialVersionUID = 1L;
+
     /**
      * A Uniform Pseudo Random Number Generator used internally.
      */
@@ -21,6 +21,8 @@ import java.util.Random;
  * @since CloudSim Toolkit 1.0
  */
 public class UniformDistr extends ContinuousDistributionAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #isApplyAntitheticVariates()
      */
@@ -19,6 +19,7 @@ import org.apache.commons.math3.distribution.WeibullDistribution;
  * @since CloudSim Toolkit 1.0
  */
 public class WeibullDistr extends ContinuousDistributionAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Instantiates a new Weibull pseudo random number generator.
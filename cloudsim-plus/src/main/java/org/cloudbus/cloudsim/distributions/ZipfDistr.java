@@ -18,6 +18,7 @@ import org.apache.commons.math3.distribution.UniformRealDistribution;
  * @since CloudSim Toolkit 1.0
  */
 public class ZipfDistr extends ContinuousDistributionAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The shape.
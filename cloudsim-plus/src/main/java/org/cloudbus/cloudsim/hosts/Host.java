@@ -18,9 +18,12 @@ import org.cloudbus.cloudsim.resources.Pe.Status;
 import org.cloudbus.cloudsim.resources.Ram;
 import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
+import org.cloudbus.cloudsim.util.TimeSeries;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmUtilizationHistory;
 import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.history.StateHistoryList;
+import org.cloudsimplus.history.StateHistorySink;
 import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfo;
 
 import java.util.DoubleSummaryStatistics;
@@ -63,6 +66,8 @@ public interface Host extends Machine, Comparable<Host> {
 
     /**
      * Sets the Datacenter where the host is placed.
+     * After the simulation starts, the Host can just be detached from its Datacenter,
+     * by setting it to {@link Datacenter#NULL}.
      *
      * @param datacenter the new data center to move the host
      */
@@ -78,6 +83,24 @@ public interface Host extends Machine, Comparable<Host> {
      */
     boolean isSuitableForVm(Vm vm);
 
+    /**
+     * Checks if the host would be suitable for a vm if it had just the given
+     * amount of free PEs and available resources, applying the same checks of {@link #isSuitableForVm(Vm)}.
+     * It enables checking if a VM fits into the Host after some planned changes
+     * in its VMs, without actually changing the Host.
+     * Since the {@link #getVmScheduler() VmScheduler} just knows the MIPS currently available,
+     * the total MIPS requested by the VM is compared with the given available MIPS.
+     *
+     * @param vm the vm to check
+     * @param freePes the number of free PEs
+     * @param availableMips the amount of available MIPS
+     * @param availableRam the amount of available RAM
+     * @param availableBw the amount of available BW
+     * @param availableStorage the amount of available storage
+     * @return true if is suitable for vm, false otherwise
+     */
+    boolean isSuitableForVm(Vm vm, int freePes, double availableMips, long availableRam, long availableBw, long availableStorage);
+
     /**
      * Checks if the Host is powered-on or not.
      * @return true if the Host is powered-on, false otherwise.
@@ -229,6 +252,14 @@ public interface Host extends Machine, Comparable<Host> {
      */
     int getFailedPesNumber();
 
+    /**
+     * Gets the number of PEs that are busy, being used by some VM.
+     *
+     * @return the number of busy pes
+     * @see #getBusyPeList()
+     */
+    int getBusyPesNumber();
+
     /**
      * Gets the current total amount of available MIPS at the host.
      *
@@ -499,6 +530,16 @@ public interface Host extends Machine, Comparable<Host> {
      */
     double getUtilizationOfCpuMips();
 
+    /**
+     * Notifies the Host that the CPU usage of one of its VMs changed
+     * (such as when Cloudlets start or stop executing inside it),
+     * so that the usage of such a VM is updated in the {@link #getUtilizationOfCpuMips() CPU utilization}
+     * the next time it's requested.
+     *
+     * @param vm the VM whose CPU usage changed
+     */
+    void invalidateCpuUtilization(Vm vm);
+
     /**
      * Gets the current utilization of bw (in absolute values).
      *
@@ -574,6 +615,46 @@ public interface Host extends Machine, Comparable<Host> {
      */
     SortedMap<Double, Double> getUtilizationHistorySum();
 
+    /**
+     * Gets the host CPU utilization percentage history (between [0 and 1]),
+     * based on its VM utilization history, as an array ordered by time
+     * (from the oldest to the latest collected value).
+     * Each value is the sum of all CPU utilization of the VMs running inside this Host for a given time.
+     *
+     * <p>It contains the same values of the {@link #getUtilizationHistorySum()} map,
+     * but it's computed directly from the VM utilization history, without creating any map.</p>
+     *
+     * @return a new array with the Host CPU utilization percentages
+     * @see #getUtilizationHistorySum()
+     */
+    double[] getUtilizationHistorySumValues();
+
+    /**
+     * Gets the host CPU utilization percentage (between [0 and 1]) at a given time,
+     * which is the sum of all CPU utilization of the VMs running inside this Host for that time,
+     * according to their utilization history.
+     *
+     * @param time the time to get the Host CPU utilization
+     * @return the Host CPU utilization percentage at the given time
+     * or 0 if no VM has a utilization history entry for that time
+     * @see #getUtilizationHistorySum()
+     */
+    double getUtilizationHistorySum(double time);
+
+    /**
+     * Gets a time series with the host CPU utilization percentage history (between [0 and 1]),
+     * based on its VM utilization history.
+     * It contains the same entries of the {@link #getUtilizationHistorySum()} map,
+     * but it's updated incrementally as the VMs utilization history changes.
+     * The {@link TimeSeries#getStatistics() statistics} of the series
+     * enables getting values such as the median and MAD of the Host CPU utilization
+     * without going through the entire history.
+     *
+     * @return a read-only view of the Host CPU utilization time series
+     * @see #getUtilizationHistorySum()
+     */
+    TimeSeries getUtilizationHistorySumSeries();
+
     /**
      * Gets the {@link PowerModel} used by the host
      * to define how it consumes power.
@@ -615,13 +696,33 @@ public interface Host extends Machine, Comparable<Host> {
 
     /**
      * Gets a <b>read-only</b> host state history.
-     * This List is just populated if {@link #isStateHistoryEnabled()}
+     * This List is just populated if {@link #isStateHistoryEnabled()}.
+     * It contains the entries stored into the {@link #getStateHistorySink()}.
      *
      * @return the state history
      * @see #enableStateHistory()
      */
     List<HostStateHistoryEntry> getStateHistory();
 
+    /**
+     * Gets the sink where the Host state history entries are stored.
+     * @return
+     * @see #getStateHistory()
+     */
+    StateHistorySink<HostStateHistoryEntry> getStateHistorySink();
+
+    /**
+     * Sets the sink where the Host state history entries are stored,
+     * which defines how much memory the history uses.
+     * By default, all entries are kept in memory by a {@link StateHistoryList}.
+     * It must be set before the simulation starts.
+     *
+     * @param stateHistorySink the sink to set
+     * @return
+     * @see #enableStateHistory()
+     */
+    Host setStateHistorySink(StateHistorySink<HostStateHistoryEntry> stateHistorySink);
+
     /**
      * Gets the List of VMs that have finished executing.
      * @return
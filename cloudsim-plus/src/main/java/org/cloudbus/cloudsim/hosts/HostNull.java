@@ -8,7 +8,10 @@ import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.resources.Resource;
 import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
+import org.cloudbus.cloudsim.util.TimeSeries;
+import org.cloudbus.cloudsim.util.TimeSeriesRingBuffer;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.history.StateHistorySink;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfo;
 
@@ -22,6 +25,8 @@ import java.util.*;
  * @see Host#NULL
  */
 final class HostNull implements Host {
+    private static final long serialVersionUID = 1L;
+
     @Override public List<ResourceManageable> getResources() {
         return Collections.emptyList();
     }
@@ -96,6 +101,9 @@ final class HostNull implements Host {
     @Override public boolean isSuitableForVm(Vm vm) {
         return false;
     }
+    @Override public boolean isSuitableForVm(Vm vm, int freePes, double availableMips, long availableRam, long availableBw, long availableStorage) {
+        return false;
+    }
     @Override public boolean isActive() { return false; }
     @Override public boolean hasEverStarted() { return false; }
     @Override public Host setActive(boolean activate) { return this; }
@@ -141,15 +149,20 @@ final class HostNull implements Host {
     @Override public void setId(long id) {/**/}
     @Override public double getTotalMipsCapacity() { return 0.0; }
     @Override public int getFailedPesNumber() { return 0; }
+    @Override public int getBusyPesNumber() { return 0; }
     @Override public List<Pe> getWorkingPeList() { return Collections.emptyList(); }
     @Override public List<Pe> getBusyPeList() { return Collections.emptyList(); }
     @Override public List<Pe> getFreePeList() { return Collections.emptyList(); }
     @Override public double getUtilizationOfCpu() { return 0.0; }
     @Override public double getUtilizationOfCpuMips() { return 0.0; }
+    @Override public void invalidateCpuUtilization(Vm vm) {/**/}
     @Override public long getUtilizationOfBw() { return 0; }
     @Override public long getUtilizationOfRam() { return 0; }
     @Override public SortedMap<Double, DoubleSummaryStatistics> getUtilizationHistory() { return Collections.emptySortedMap(); }
     @Override public SortedMap<Double, Double> getUtilizationHistorySum() { return Collections.emptySortedMap(); }
+    @Override public double[] getUtilizationHistorySumValues() { return new double[0]; }
+    @Override public double getUtilizationHistorySum(double time) { return 0; }
+    @Override public TimeSeries getUtilizationHistorySumSeries() { return new TimeSeriesRingBuffer().asReadOnly(); }
     @Override public PowerModel getPowerModel() { return PowerModel.NULL; }
     @Override public Host setPowerModel(PowerModel powerModel) { return this; }
     @Override public double getPreviousUtilizationOfCpu() { return 0; }
@@ -157,6 +170,8 @@ final class HostNull implements Host {
     @Override public void disableStateHistory() {/**/}
     @Override public boolean isStateHistoryEnabled() { return false; }
     @Override public List<HostStateHistoryEntry> getStateHistory() { return Collections.emptyList(); }
+    @Override public StateHistorySink<HostStateHistoryEntry> getStateHistorySink() { return StateHistorySink.NULL; }
+    @Override public Host setStateHistorySink(StateHistorySink<HostStateHistoryEntry> stateHistorySink) { return this; }
     @Override public List<Vm> getFinishedVms() { return Collections.emptyList(); }
     @Override public List<Vm> getMigratableVms() { return Collections.emptyList(); }
     @Override public double getTotalUpTime() { return 0; }
@@ -7,9 +7,11 @@
 package org.cloudbus.cloudsim.hosts;
 
 import org.cloudbus.cloudsim.core.ChangeableId;
-import org.cloudbus.cloudsim.core.Machine;
+import org.cloudbus.cloudsim.core.DeferredEffects;
 import org.cloudbus.cloudsim.core.Simulation;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterPowerSupply;
+import org.cloudbus.cloudsim.datacenters.HostCapacityIndex;
 import org.cloudbus.cloudsim.power.models.PowerModel;
 import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
 import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
@@ -17,23 +19,23 @@ import org.cloudbus.cloudsim.resources.*;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerSpaceShared;
 import org.cloudbus.cloudsim.util.Conversion;
+import org.cloudbus.cloudsim.util.TimeSeries;
+import org.cloudbus.cloudsim.util.TimeSeriesRingBuffer;
 import org.cloudbus.cloudsim.vms.UtilizationHistory;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmStateHistoryEntry;
+import org.cloudsimplus.history.StateHistoryList;
+import org.cloudsimplus.history.StateHistorySink;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
 import java.util.*;
-import java.util.function.BinaryOperator;
-import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import static java.util.Map.Entry;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.*;
 
@@ -50,14 +52,41 @@ import static java.util.stream.Collectors.*;
  * @since CloudSim Toolkit 1.0
  */
 public class HostSimple implements Host {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(HostSimple.class.getSimpleName());
 
-    private static long defaultRamCapacity = (long)Conversion.gigaToMega(10);
-    private static long defaultBwCapacity = 1000;
-    private static long defaultStorageCapacity = (long)Conversion.gigaToMega(500);
+    /**
+     * The default RAM, Bandwidth and Storage capacities for creating Hosts.
+     * They are constants, so that simulations running concurrently
+     * in different threads don't interfere with each other.
+     * Hosts requiring different capacities must have them given in the constructor.
+     */
+    private static final long DEF_RAM_CAPACITY = (long)Conversion.gigaToMega(10);
+    private static final long DEF_BW_CAPACITY = 1000;
+    private static final long DEF_STORAGE_CAPACITY = (long)Conversion.gigaToMega(500);
+
+    /**
+     * A {@link VmUsageConsumer} that does nothing, used when just the total Host CPU utilization is required.
+     */
+    private static final VmUsageConsumer NO_VM_USAGE_CONSUMER = (time, vmUsage) -> {};
+
+    /** @see #getStateHistorySink() */
+    private StateHistorySink<HostStateHistoryEntry> stateHistory;
+
+    /** @see #getUtilizationHistorySumSeries() */
+    private final TimeSeriesRingBuffer utilizationHistorySum = new TimeSeriesRingBuffer();
+
+    /**
+     * The VMs whose {@link UtilizationHistory} was merged into the {@link #getUtilizationHistorySumSeries()},
+     * used to check if the list of VMs inside the Host has changed since the last merge.
+     */
+    private Vm[] mergedVms = new Vm[0];
 
-    /** @see #getStateHistory() */
-    private final List<HostStateHistoryEntry> stateHistory;
+    /**
+     * The time of the latest history entry merged from each VM in {@link #mergedVms}.
+     */
+    private double[] mergedVmsLastTime = new double[0];
 
     /**@see #getPowerModel() */
     private PowerModel powerModel;
@@ -83,6 +112,12 @@ public class HostSimple implements Host {
     /** @see #getLastBusyTime() */
     private double lastBusyTime;
 
+    /**
+     * The last time the Host processing was updated, or -1 if it was never updated.
+     * @see #updateProcessingIfLagging()
+     */
+    private double lastProcessingTime;
+
     /** @see #getIdleShutdownDeadline() */
     private double idleShutdownDeadline;
 
@@ -133,8 +168,34 @@ public class HostSimple implements Host {
      */
     private double previousUtilizationMips;
 
+    /**
+     * The current amount of MIPS used by all VMs, which is the sum of the {@link #vmsCpuMipsUsage}.
+     * It's updated with the difference in the usage of a single VM when such a VM is placed, removed
+     * or its Cloudlets change, and it's summed up again when the usage of all VMs is computed.
+     * @see #getUtilizationOfCpuMips()
+     */
+    private double cpuMipsUsage;
+
+    /**
+     * The amount of MIPS used by each VM, as it was added to the {@link #cpuMipsUsage}.
+     */
+    private final Map<Vm, Double> vmsCpuMipsUsage = new IdentityHashMap<>();
+
+    /**
+     * The simulation time the usage of all VMs was computed.
+     */
+    private double cpuMipsUsageTime;
+
+    /**
+     * VMs whose Cloudlets changed since their usage was added to the {@link #cpuMipsUsage}.
+     * @see #invalidateCpuUtilization(Vm)
+     */
+    private final List<Vm> vmsWithStaleCpuMipsUsage = new ArrayList<>();
+
     /** @see #getFreePesNumber() */
     private int freePesNumber;
+    /** @see #getBusyPesNumber() */
+    private int busyPesNumber;
     /** @see #getFailedPesNumber() */
     private int failedPesNumber;
 
@@ -152,9 +213,9 @@ public class HostSimple implements Host {
      * @see #setRamProvisioner(ResourceProvisioner)
      * @see #setBwProvisioner(ResourceProvisioner)
      * @see #setVmScheduler(VmScheduler)
-     * @see #setDefaultRamCapacity(long)
-     * @see #setDefaultBwCapacity(long)
-     * @see #setDefaultStorageCapacity(long)
+     * @see #getDefaultRamCapacity()
+     * @see #getDefaultBwCapacity()
+     * @see #getDefaultStorageCapacity()
      */
     public HostSimple(final List<Pe> peList) {
         this(peList, true);
@@ -177,12 +238,12 @@ public class HostSimple implements Host {
      * @see #setRamProvisioner(ResourceProvisioner)
      * @see #setBwProvisioner(ResourceProvisioner)
      * @see #setVmScheduler(VmScheduler)
-     * @see #setDefaultRamCapacity(long)
-     * @see #setDefaultBwCapacity(long)
-     * @see #setDefaultStorageCapacity(long)
+     * @see #getDefaultRamCapacity()
+     * @see #getDefaultBwCapacity()
+     * @see #getDefaultStorageCapacity()
      */
     public HostSimple(final List<Pe> peList, final boolean activate) {
-        this(defaultRamCapacity, defaultBwCapacity, defaultStorageCapacity, peList, activate);
+        this(getDefaultRamCapacity(), getDefaultBwCapacity(), getDefaultStorageCapacity(), peList, activate);
     }
 
     /**
@@ -260,6 +321,7 @@ public class HostSimple implements Host {
         this.setPeList(peList);
         this.setFailed(false);
         this.shutdownTime = -1;
+        this.lastProcessingTime = -1;
         this.setDatacenter(Datacenter.NULL);
         this.onUpdateProcessingListeners = new HashSet<>();
         this.resources = new ArrayList<>();
@@ -268,7 +330,7 @@ public class HostSimple implements Host {
         this.vmsMigratingIn = new HashSet<>();
         this.vmsMigratingOut = new HashSet<>();
         this.powerModel = PowerModel.NULL;
-        this.stateHistory = new LinkedList<>();
+        this.stateHistory = new StateHistoryList<>();
     }
 
     /**
@@ -276,16 +338,7 @@ public class HostSimple implements Host {
      * This value is used when the RAM capacity is not given in a Host constructor.
      */
     public static long getDefaultRamCapacity() {
-        return defaultRamCapacity;
-    }
-
-    /**
-     * Sets the Default RAM capacity (in MB) for creating Hosts.
-     * This value is used when the RAM capacity is not given in a Host constructor.
-     */
-    public static void setDefaultRamCapacity(final long defaultCapacity) {
-        Machine.validateCapacity(defaultCapacity);
-        defaultRamCapacity = defaultCapacity;
+        return DEF_RAM_CAPACITY;
     }
 
     /**
@@ -293,16 +346,7 @@ public class HostSimple implements Host {
      * This value is used when the BW capacity is not given in a Host constructor.
      */
     public static long getDefaultBwCapacity() {
-        return defaultBwCapacity;
-    }
-
-    /**
-     * Sets the Default Bandwidth capacity (in Mbps) for creating Hosts.
-     * This value is used when the BW capacity is not given in a Host constructor.
-     */
-    public static void setDefaultBwCapacity(final long defaultCapacity) {
-        Machine.validateCapacity(defaultCapacity);
-        defaultBwCapacity = defaultCapacity;
+        return DEF_BW_CAPACITY;
     }
 
     /**
@@ -310,16 +354,7 @@ public class HostSimple implements Host {
      * This value is used when the Storage capacity is not given in a Host constructor.
      */
     public static long getDefaultStorageCapacity() {
-        return defaultStorageCapacity;
-    }
-
-    /**
-     * Sets the Default Storage capacity (in MB) for creating Hosts.
-     * This value is used when the Storage capacity is not given in a Host constructor.
-     */
-    public static void setDefaultStorageCapacity(final long defaultCapacity) {
-        Machine.validateCapacity(defaultCapacity);
-        defaultStorageCapacity = defaultCapacity;
+        return DEF_STORAGE_CAPACITY;
     }
 
     @Override
@@ -333,7 +368,7 @@ public class HostSimple implements Host {
     @SuppressWarnings("ForLoopReplaceableByForEach")
     @Override
     public double updateProcessing(final double currentTime) {
-        setPreviousUtilizationMips(getUtilizationOfCpuMips());
+        lastProcessingTime = currentTime;
         if (!vmList.isEmpty()) {
             lastBusyTime = simulation.clock();
         } else if(isIdleEnough(idleShutdownDeadline)){
@@ -341,13 +376,30 @@ public class HostSimple implements Host {
         }
 
         double nextSimulationTime = Double.MAX_VALUE;
+        final DoubleSummaryStatistics previousUsage = new DoubleSummaryStatistics();
+        final DoubleSummaryStatistics usage = new DoubleSummaryStatistics();
+        final int vmsNumber = vmList.size();
 
         /* Uses an indexed for to avoid ConcurrentModificationException,
-         * e.g., in cases when Vm is destroyed during simulation execution.*/
+         * e.g., in cases when Vm is destroyed during simulation execution.
+         * The CPU usage of each VM is got before and after updating it,
+         * so that the previous and current usage of the Host is computed
+         * without iterating over the VMs again.*/
         for (int i = 0; i < vmList.size(); i++) {
             final Vm vm = vmList.get(i);
+            previousUsage.accept(vm.getTotalCpuMipsUsage());
             final double nextTime = vm.updateProcessing(currentTime, vmScheduler.getAllocatedMips(vm));
             nextSimulationTime = Math.min(nextTime, nextSimulationTime);
+            usage.accept(putVmCpuMipsUsage(vm));
+        }
+
+        setPreviousUtilizationMips(previousUsage.getSum());
+        if(vmList.size() == vmsNumber) {
+            vmsWithStaleCpuMipsUsage.clear();
+            cpuMipsUsageTime = currentTime;
+            setCpuMipsUsage(usage.getSum());
+        } else {
+            updateCpuMipsUsage();
         }
 
         notifyOnUpdateProcessingListeners(nextSimulationTime);
@@ -357,11 +409,15 @@ public class HostSimple implements Host {
     }
 
     private void notifyOnUpdateProcessingListeners(final double nextSimulationTime) {
-        onUpdateProcessingListeners.forEach(l -> l.update(HostUpdatesVmsProcessingEventInfo.of(l,this, nextSimulationTime)));
+        if(!onUpdateProcessingListeners.isEmpty()) {
+            DeferredEffects.run(() ->
+                onUpdateProcessingListeners.forEach(l -> l.update(HostUpdatesVmsProcessingEventInfo.of(l,this, nextSimulationTime))));
+        }
     }
 
     @Override
     public boolean createVm(final Vm vm) {
+        updateProcessingIfLagging();
         final boolean result = createVmInternal(vm);
         if(result) {
             addVmToCreatedList(vm);
@@ -386,6 +442,7 @@ public class HostSimple implements Host {
         }
 
         vmList.add(vm);
+        addVmCpuMipsUsage(vm);
         return true;
     }
 
@@ -449,6 +506,7 @@ public class HostSimple implements Host {
             }
 
             allocateResourcesForVm(vm);
+            addVmCpuMipsUsage(vm);
         }
     }
 
@@ -457,19 +515,35 @@ public class HostSimple implements Host {
         return !isFailed() && hasEnoughResources(vm);
     }
 
+    @Override
+    public boolean isSuitableForVm(
+        final Vm vm, final int freePes, final double availableMips,
+        final long availableRam, final long availableBw, final long availableStorage)
+    {
+        return !isFailed() && hasEnoughPes(vm, freePes) &&
+               availableStorage >= vm.getStorage().getCapacity() &&
+               availableRam >= vm.getCurrentRequestedRam() &&
+               availableBw >= vm.getCurrentRequestedBw() &&
+               availableMips >= vm.getCurrentRequestedTotalMips();
+    }
+
     private boolean hasEnoughResources(final Vm vm) {
         /* Since && is a short-circuit operation,
          * the more complex method calls are placed last.
          * The freePesNumber and peList.size() are used just to improve performance
          * and avoid calling the other complex methods
          * when all PEs are used. */
-        return freePesNumber > 0 && peList.size() >= vm.getNumberOfPes() &&
+        return hasEnoughPes(vm, freePesNumber) &&
                storage.isAmountAvailable(vm.getStorage()) &&
                ramProvisioner.isSuitableForVm(vm, vm.getCurrentRequestedRam()) &&
                bwProvisioner.isSuitableForVm(vm, vm.getCurrentRequestedBw()) &&
                vmScheduler.isSuitableForVm(vm, vm.getCurrentRequestedMips());
     }
 
+    private boolean hasEnoughPes(final Vm vm, final int freePes) {
+        return freePes > 0 && peList.size() >= vm.getNumberOfPes();
+    }
+
     @Override
     public boolean isActive() {
         return this.active;
@@ -494,7 +568,13 @@ public class HostSimple implements Host {
             setShutdownTime(getSimulation().clock());
         }
 
+        final boolean changed = this.active != activate;
         this.active = activate;
+        if(changed) {
+            notifyPowerChange();
+            notifyCapacityChange();
+        }
+
         return this;
     }
 
@@ -510,12 +590,13 @@ public class HostSimple implements Host {
             return;
         }
 
+        final double time = getSimulation().clock();
         if(activate && !this.active){
-            LOGGER.info("{}: {} is being powered on.", getSimulation().clock(), this);
+            DeferredEffects.run(() -> LOGGER.info("{}: {} is being powered on.", time, this));
         }
         else if(!activate && this.active){
             final String reason = isIdleEnough(idleShutdownDeadline) ? " after becoming idle" : "";
-            LOGGER.info("{}: {} is being powered off{}.", getSimulation().clock(), this, reason);
+            DeferredEffects.run(() -> LOGGER.info("{}: {} is being powered off{}.", time, this, reason));
         }
     }
 
@@ -534,6 +615,7 @@ public class HostSimple implements Host {
     private void destroyVmInternal(final Vm vm) {
         deallocateResourcesOfVm(requireNonNull(vm));
         vmList.remove(vm);
+        removeVmCpuMipsUsage(vm);
     }
 
     /**
@@ -558,6 +640,9 @@ public class HostSimple implements Host {
         }
 
         vmList.clear();
+        vmsCpuMipsUsage.clear();
+        vmsWithStaleCpuMipsUsage.clear();
+        setCpuMipsUsage(0);
     }
 
     /**
@@ -765,6 +850,7 @@ public class HostSimple implements Host {
 
         failedPesNumber = 0;
         freePesNumber = peList.size();
+        busyPesNumber = (int)peList.stream().filter(Pe::isBusy).count();
 
         return this;
     }
@@ -781,6 +867,7 @@ public class HostSimple implements Host {
 
     protected void addVmToList(final Vm vm){
         vmList.add(requireNonNull(vm));
+        addVmCpuMipsUsage(vm);
     }
 
     protected void addVmToCreatedList(final Vm vm){
@@ -804,6 +891,8 @@ public class HostSimple implements Host {
         * it must remain inactive.*/
         if(failed && this.active){
             this.active = false;
+            notifyPowerChange();
+            notifyCapacityChange();
         }
 
         return true;
@@ -817,11 +906,17 @@ public class HostSimple implements Host {
     public final void setPeStatus(final List<Pe> peList, final Pe.Status newStatus){
         /*For performance reasons, stores the number of free and failed PEs
         instead of iterating over the PE list every time to find out.*/
+        final int previousFreePesNumber = freePesNumber;
         for (final Pe pe : peList) {
             if(pe.getStatus() == newStatus) {
                 continue;
             }
 
+            if(pe.getStatus() == Pe.Status.BUSY)
+                this.busyPesNumber--;
+            else if(newStatus == Pe.Status.BUSY)
+                this.busyPesNumber++;
+
             if(newStatus == Pe.Status.FAILED) {
                 this.failedPesNumber++;
                 if(pe.getStatus() == Pe.Status.FREE)
@@ -834,6 +929,10 @@ public class HostSimple implements Host {
 
             pe.setStatus(newStatus);
         }
+
+        if(freePesNumber != previousFreePesNumber) {
+            notifyCapacityChange();
+        }
     }
 
     @Override
@@ -864,6 +963,7 @@ public class HostSimple implements Host {
         deallocateResourcesOfVm(vm);
         vmsMigratingIn.remove(vm);
         vmList.remove(vm);
+        removeVmCpuMipsUsage(vm);
         vm.setInMigration(false);
     }
 
@@ -889,7 +989,10 @@ public class HostSimple implements Host {
 
     @Override
     public final void setDatacenter(final Datacenter datacenter) {
-        checkSimulationIsRunningAndAttemptedToChangeHost("Datacenter");
+        if(datacenter != Datacenter.NULL) {
+            checkSimulationIsRunningAndAttemptedToChangeHost("Datacenter");
+        }
+
         this.datacenter = datacenter;
     }
 
@@ -931,6 +1034,11 @@ public class HostSimple implements Host {
         return failedPesNumber;
     }
 
+    @Override
+    public int getBusyPesNumber() {
+        return busyPesNumber;
+    }
+
     private Host setStorage(final long size) {
         this.storage = new Storage(size);
         return this;
@@ -1037,9 +1145,148 @@ public class HostSimple implements Host {
         return (utilization > 1 && utilization < 1.01 ? 1 : utilization);
     }
 
+    /**
+     * {@inheritDoc}
+     * The value is a running total, which is updated with the difference in the usage of a single VM
+     * when such a VM is placed into or removed from the Host, or when its Cloudlets change.
+     * The usage of all VMs is just computed when the Host {@link #updateProcessing(double) processing is updated}
+     * (while the VMs are updated) or when the value is read at a time the Host processing wasn't updated,
+     * since the usage of VMs may change along the time.
+     * This way, reads at the time the Host was updated take constant time
+     * (plus the time to update the VMs whose Cloudlets changed).
+     *
+     * @return {@inheritDoc}
+     * @see #invalidateCpuUtilization(Vm)
+     */
     @Override
     public double getUtilizationOfCpuMips() {
-        return vmList.stream().mapToDouble(Vm::getTotalCpuMipsUsage).sum();
+        updateProcessingIfLagging();
+        if(cpuMipsUsageTime == simulation.clock()) {
+            updateStaleVmsCpuMipsUsage();
+        } else {
+            updateCpuMipsUsage();
+        }
+
+        return cpuMipsUsage;
+    }
+
+    @Override
+    public void invalidateCpuUtilization(final Vm vm) {
+        vmsWithStaleCpuMipsUsage.add(vm);
+    }
+
+    /**
+     * Requests the Host's Datacenter to bring the Host processing up to date
+     * if it was not updated at the current simulation time,
+     * before the Host state is queried or changed.
+     * @see Datacenter#updateHostProcessingIfLagging(Host)
+     */
+    private void updateProcessingIfLagging() {
+        if(lastProcessingTime < simulation.clock() && simulation.isRunning()) {
+            datacenter.updateHostProcessingIfLagging(this);
+        }
+    }
+
+    /**
+     * Computes the {@link #getUtilizationOfCpuMips() current amount of MIPS used by all VMs}
+     * again from the usage of every VM.
+     */
+    private void updateCpuMipsUsage() {
+        final DoubleSummaryStatistics usage = new DoubleSummaryStatistics();
+        for (final Vm vm : vmList) {
+            usage.accept(putVmCpuMipsUsage(vm));
+        }
+
+        vmsWithStaleCpuMipsUsage.clear();
+        cpuMipsUsageTime = simulation.clock();
+        setCpuMipsUsage(usage.getSum());
+    }
+
+    /**
+     * Updates the {@link #getUtilizationOfCpuMips() current amount of MIPS used by all VMs}
+     * with the difference in the usage of the VMs whose Cloudlets changed.
+     */
+    private void updateStaleVmsCpuMipsUsage() {
+        if(vmsWithStaleCpuMipsUsage.isEmpty()) {
+            return;
+        }
+
+        double usage = cpuMipsUsage;
+        for (final Vm vm : vmsWithStaleCpuMipsUsage) {
+            final Double previousVmUsage = vmsCpuMipsUsage.get(vm);
+            //The VM may have been removed from the Host in the meantime
+            if(previousVmUsage != null) {
+                usage += putVmCpuMipsUsage(vm) - previousVmUsage;
+            }
+        }
+
+        vmsWithStaleCpuMipsUsage.clear();
+        setCpuMipsUsage(usage);
+    }
+
+    private void addVmCpuMipsUsage(final Vm vm) {
+        if(!vmsCpuMipsUsage.containsKey(vm)) {
+            setCpuMipsUsage(cpuMipsUsage + putVmCpuMipsUsage(vm));
+        }
+    }
+
+    private void removeVmCpuMipsUsage(final Vm vm) {
+        final Double vmUsage = vmsCpuMipsUsage.remove(vm);
+        if(vmUsage != null) {
+            setCpuMipsUsage(vmsCpuMipsUsage.isEmpty() ? 0 : cpuMipsUsage - vmUsage);
+        }
+    }
+
+    /**
+     * Gets the current amount of MIPS used by a VM, storing it as the VM usage
+     * added to the {@link #cpuMipsUsage}.
+     * @param vm the VM to get the usage
+     * @return the VM's current amount of MIPS used
+     */
+    private double putVmCpuMipsUsage(final Vm vm) {
+        final double vmUsage = vm.getTotalCpuMipsUsage();
+        vmsCpuMipsUsage.put(vm, vmUsage);
+        return vmUsage;
+    }
+
+    private void setCpuMipsUsage(final double cpuMipsUsage) {
+        final double previousCpuMipsUsage = this.cpuMipsUsage;
+        this.cpuMipsUsage = cpuMipsUsage;
+        if(cpuMipsUsage != previousCpuMipsUsage) {
+            notifyPowerChange();
+        }
+    }
+
+    /**
+     * Notifies the Host's Datacenter that the number of free PEs or the active state of the Host changed,
+     * so that its {@link HostCapacityIndex} is kept up to date.
+     */
+    private void notifyCapacityChange() {
+        if(datacenter == null) {
+            return;
+        }
+
+        final HostCapacityIndex hostCapacityIndex = datacenter.getHostCapacityIndex();
+        if(hostCapacityIndex != HostCapacityIndex.NULL) {
+            DeferredEffects.run(() -> hostCapacityIndex.update(this));
+        }
+    }
+
+    /**
+     * Notifies the {@link DatacenterPowerSupply} of the Host's Datacenter
+     * that the power consumed by the Host may have changed.
+     * The notification is {@link DeferredEffects deferred} when the Host is updated in parallel,
+     * since the power supply is shared by all Hosts.
+     */
+    private void notifyPowerChange() {
+        if(datacenter == null) {
+            return;
+        }
+
+        final DatacenterPowerSupply powerSupply = datacenter.getPowerSupply();
+        if(powerSupply != DatacenterPowerSupply.NULL) {
+            DeferredEffects.run(() -> powerSupply.updateHostPower(this));
+        }
     }
 
     @Override
@@ -1054,81 +1301,183 @@ public class HostSimple implements Host {
 
     @Override
     public SortedMap<Double, DoubleSummaryStatistics> getUtilizationHistory() {
-        //Gets a Stream containing the utilization entries for every Vm inside the Host
-        final Stream<Entry<Double, Double>> utilizationEntriesStream = this.vmCreatedList
-            .stream()
-            .map(Vm::getUtilizationHistory)
-            .map(this::remapUtilizationHistory)
-            .flatMap(vmUtilization -> vmUtilization.entrySet().stream());
-
-        //Groups the CPU utilization entries by the time the values were collected
-        return utilizationEntriesStream
-                    .collect(
-                        groupingBy(Entry::getKey, TreeMap::new, summarizingDouble(Entry::getValue))
-                    );
+        final SortedMap<Double, DoubleSummaryStatistics> utilizationHistory = new TreeMap<>();
+        mergeVmsUtilizationHistory(
+            Double.NEGATIVE_INFINITY,
+            (time, vmUsage) -> utilizationHistory.computeIfAbsent(time, key -> new DoubleSummaryStatistics()).accept(vmUsage),
+            NO_VM_USAGE_CONSUMER);
+        return utilizationHistory;
     }
 
     @Override
     public SortedMap<Double, Double> getUtilizationHistorySum() {
-        /*Remaps the value of an entry inside the Utilization History map.*/
-        final Function<Entry<Double, DoubleSummaryStatistics>, Double> valueMapper = entry -> entry.getValue().getSum();
+        return getUtilizationHistorySumSeries().toMap();
+    }
 
-        return getUtilizationHistory()
-                    .entrySet()
-                    .stream()
-                    .collect(toMap(Entry::getKey, valueMapper, this::mergeFunction, TreeMap::new));
+    @Override
+    public double[] getUtilizationHistorySumValues() {
+        return getUtilizationHistorySumSeries().getValues();
+    }
+
+    @Override
+    public double getUtilizationHistorySum(final double time) {
+        double sum = 0;
+        for (final Vm vm : vmCreatedList) {
+            sum += vm.getUtilizationHistory().cpuUsageFromHostCapacity(time);
+        }
+
+        return sum;
     }
 
     /**
-     * Remaps the entire Vm's {@link UtilizationHistory} by updating the CPU utilization value in each entry
-     * to correspond to the relative percentage of the Host CPU capacity that Vm is using.
-     * This is required since the {@link UtilizationHistory} contains the VM's CPU utilization
-     * relative to the VM's capacity.
+     * {@inheritDoc}
+     * <p>Just the VM history entries added since the last call are merged into the series.
+     * The entire series is rebuilt only when the list of VMs inside the Host changes.</p>
      *
-     * @param utilizationHistory the VM {@link UtilizationHistory} with the history entries
+     * @return {@inheritDoc}
+     */
+    @Override
+    public TimeSeries getUtilizationHistorySumSeries() {
+        if (isVmListChangedSinceMerge()) {
+            mergedVms = vmCreatedList.toArray(new Vm[0]);
+            mergedVmsLastTime = new double[mergedVms.length];
+            Arrays.fill(mergedVmsLastTime, Double.NEGATIVE_INFINITY);
+            utilizationHistorySum.clear();
+            utilizationHistorySum.setWindow(getMaxVmsHistoryEntries());
+        }
+
+        double fromTime = Double.MAX_VALUE;
+        for (int i = 0; i < mergedVms.length; i++) {
+            final UtilizationHistory history = mergedVms[i].getUtilizationHistory();
+            final int index = firstHistoryEntryAfter(history, mergedVmsLastTime[i]);
+            if (index < history.getHistorySize()) {
+                fromTime = Math.min(fromTime, history.getHistoryTime(index));
+                mergedVmsLastTime[i] = history.getHistoryTime(history.getHistorySize() - 1);
+            }
+        }
+
+        if (fromTime < Double.MAX_VALUE) {
+            mergeVmsUtilizationHistory(fromTime, NO_VM_USAGE_CONSUMER, utilizationHistorySum::add);
+        }
+
+        return utilizationHistorySum.asReadOnly();
+    }
+
+    private boolean isVmListChangedSinceMerge() {
+        if (mergedVms.length != vmCreatedList.size()) {
+            return true;
+        }
+
+        for (int i = 0; i < mergedVms.length; i++) {
+            if (mergedVms[i] != vmCreatedList.get(i)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the maximum number of history entries stored by the VMs inside the Host,
+     * which defines how many entries are kept into the {@link #getUtilizationHistorySumSeries()}.
      * @return
      */
-    private SortedMap<Double, Double> remapUtilizationHistory(final UtilizationHistory utilizationHistory) {
-        return utilizationHistory
-                    .getHistory()
-                    .entrySet()
-                    .stream()
-                    .collect(
-                        toMap(Entry::getKey, vmUtilizationMapper(utilizationHistory), this::mergeFunction, TreeMap::new)
-                    );
+    private int getMaxVmsHistoryEntries() {
+        int max = 1;
+        for (final Vm vm : vmCreatedList) {
+            max = Math.max(max, vm.getUtilizationHistory().getMaxHistoryEntries());
+        }
+
+        return vmCreatedList.isEmpty() ? Integer.MAX_VALUE : max;
     }
 
     /**
-     * A merge {@link BinaryOperator} used to resolve conflicts when remapping the values of the utilization history map
-     * using the {@link Collectors#toMap(Function, Function, BinaryOperator, Supplier)}.
+     * Gets the index of the first entry in a VM {@link UtilizationHistory}
+     * whose time is after a given time, going backwards from the latest entry.
+     * This way, finding the entries added since the last merge just goes through such entries.
      *
-     * If there are two values for the same key, the last value is used.
-     * However, since we are just remapping an existing map, there won't be such a situation.
+     * @param history the VM {@link UtilizationHistory}
+     * @param time the time to compare entries
+     * @return the index of the entry or the history size if there is no entry after the given time
+     */
+    private int firstHistoryEntryAfter(final UtilizationHistory history, final double time) {
+        int index = history.getHistorySize();
+        while (index > 0 && history.getHistoryTime(index - 1) > time) {
+            index--;
+        }
+
+        return index;
+    }
+
+    /**
+     * Merges the {@link UtilizationHistory} of all VMs inside the Host,
+     * computing the total Host CPU utilization for each time some VM has a history entry.
      *
-     * @param usage1 the 1st CPU utilization value found for a key
-     * @param usage2 the 2dn CPU utilization value found for the same key
-     * @return the higher value between the given two ones
+     * <p>Since the history of each VM is ordered by time,
+     * the histories are merged by going through all of them at once
+     * (as in the merge step of the merge sort),
+     * without creating any intermediate map.
+     * Each VM CPU utilization value is converted to correspond to the relative percentage
+     * of the Host CPU capacity that VM is using, since the {@link UtilizationHistory}
+     * contains the VM's CPU utilization relative to the VM's capacity.</p>
      *
-     * @see #getUtilizationHistorySum()
-     * @see #remapUtilizationHistory(UtilizationHistory)
+     * @param fromTime the time to start merging, so that just the entries at this time or later are merged
+     * @param vmUsageConsumer a consumer called for each VM history entry, in the order of time,
+     *                        receiving the time of the entry and the percentage of the Host
+     *                        CPU capacity that VM is using at that time
+     * @param sumConsumer a consumer called for each time some VM has a history entry,
+     *                    receiving the time and the total Host CPU utilization at that time
      */
-    private double mergeFunction(final double usage1, final double usage2) {
-        return Math.max(usage1, usage2);
+    private void mergeVmsUtilizationHistory(
+        final double fromTime, final VmUsageConsumer vmUsageConsumer, final VmUsageConsumer sumConsumer)
+    {
+        final int vmsNumber = vmCreatedList.size();
+        final int[] nextEntries = new int[vmsNumber];
+        for (int i = 0; i < vmsNumber; i++) {
+            final UtilizationHistory history = vmCreatedList.get(i).getUtilizationHistory();
+            nextEntries[i] = firstHistoryEntryAfter(history, Math.nextDown(fromTime));
+        }
+
+        while (true) {
+            double time = Double.MAX_VALUE;
+            boolean found = false;
+            for (int i = 0; i < vmsNumber; i++) {
+                final UtilizationHistory history = vmCreatedList.get(i).getUtilizationHistory();
+                if (nextEntries[i] < history.getHistorySize()) {
+                    time = Math.min(time, history.getHistoryTime(nextEntries[i]));
+                    found = true;
+                }
+            }
+
+            if (!found) {
+                return;
+            }
+
+            double sum = 0;
+            for (int i = 0; i < vmsNumber; i++) {
+                final UtilizationHistory history = vmCreatedList.get(i).getUtilizationHistory();
+                if (nextEntries[i] < history.getHistorySize() && history.getHistoryTime(nextEntries[i]) == time) {
+                    final double vmUsage = history.getHistoryValue(nextEntries[i]++) * history.getVm().getRelativeMipsCapacityPercent();
+                    vmUsageConsumer.accept(time, vmUsage);
+                    sum += vmUsage;
+                }
+            }
+
+            sumConsumer.accept(time, sum);
+        }
     }
 
     /**
-     * Receives a Vm {@link UtilizationHistory} and returns a {@link Function} that
-     * requires a map entry from the history (representing a VM's CPU utilization for a given time),
-     * and returns the percentage of the Host CPU capacity that such a Vm is using at that time.
-     * This way, the value that represents how much of the VM's CPU is being used
-     * will be converted to how much that VM is using from the Host's CPU.
-     *
-     * @param utilizationHistory the VM {@link UtilizationHistory} with the history entries
-     * @return
+     * A consumer of the CPU utilization of VMs, used to
+     * {@link #mergeVmsUtilizationHistory(double, VmUsageConsumer, VmUsageConsumer) merge} the {@link UtilizationHistory} of VMs.
      */
-    private Function<Entry<Double, Double>, Double> vmUtilizationMapper(final UtilizationHistory utilizationHistory) {
-        //The entry key is the time and the value is the percentage of the VM CPU that is being used
-        return entry -> entry.getValue() * utilizationHistory.getVm().getRelativeMipsCapacityPercent();
+    @FunctionalInterface
+    private interface VmUsageConsumer extends Serializable {
+        /**
+         * @param time the time the VM CPU utilization was collected
+         * @param vmUsage the percentage of the Host CPU capacity the VM is using at that time
+         */
+        void accept(double time, double vmUsage);
     }
 
     @Override
@@ -1145,6 +1494,7 @@ public class HostSimple implements Host {
 
         this.powerModel = powerModel;
         powerModel.setHost(this);
+        notifyPowerChange();
         return this;
     }
 
@@ -1188,6 +1538,10 @@ public class HostSimple implements Host {
 
     /**
      * Adds the VM resource usage to the History if the VM is not migrating into the Host.
+     * The entry is computed right away, but it's added to the VM (and messages are logged)
+     * as a {@link DeferredEffects deferred effect}, since the VM history may be shared
+     * with other VMs (such as when it's written to a single file) and Hosts may be updated in parallel.
+     *
      * @param vm the VM to add its usage to the history
      * @param currentTime the current simulation time
      * @return the total allocated MIPS for the given VM
@@ -1195,7 +1549,7 @@ public class HostSimple implements Host {
     private double addVmResourceUseToHistoryIfNotMigratingIn(final Vm vm, final double currentTime) {
         double totalAllocatedMips = getVmScheduler().getTotalAllocatedMipsForVm(vm);
         if (getVmsMigratingIn().contains(vm)) {
-            LOGGER.info("{}: {}: {} is migrating in", getSimulation().clock(), this, vm);
+            DeferredEffects.run(() -> LOGGER.info("{}: {}: {} is migrating in", getSimulation().clock(), this, vm));
             return totalAllocatedMips;
         }
 
@@ -1203,9 +1557,9 @@ public class HostSimple implements Host {
         if (totalAllocatedMips + 0.1 < totalRequestedMips) {
             final String reason = getVmsMigratingOut().contains(vm) ? "migration overhead" : "capacity unavailability";
             final long notAllocatedMipsByPe = (long)((totalRequestedMips - totalAllocatedMips)/vm.getNumberOfPes());
-            LOGGER.error(
+            DeferredEffects.run(() -> LOGGER.error(
                 "{}: {}: {} MIPS not allocated for each one of the {} PEs from {} due to {}.",
-                getSimulation().clock(), this, notAllocatedMipsByPe, vm.getNumberOfPes(), vm, reason);
+                getSimulation().clock(), this, notAllocatedMipsByPe, vm.getNumberOfPes(), vm, reason));
         }
 
         final VmStateHistoryEntry entry = new VmStateHistoryEntry(
@@ -1213,10 +1567,10 @@ public class HostSimple implements Host {
                 totalAllocatedMips,
                 totalRequestedMips,
                 vm.isInMigration() && !getVmsMigratingIn().contains(vm));
-        vm.addStateHistoryEntry(entry);
+        DeferredEffects.run(() -> vm.addStateHistoryEntry(entry));
 
         if (vm.isInMigration()) {
-            LOGGER.info("{}: {}: {} is migrating out ", getSimulation().clock(), this, vm);
+            DeferredEffects.run(() -> LOGGER.info("{}: {}: {} is migrating out ", getSimulation().clock(), this, vm));
             totalAllocatedMips /= getVmScheduler().getMaxCpuUsagePercentDuringOutMigration();
         }
 
@@ -1236,30 +1590,24 @@ public class HostSimple implements Host {
             hostTotalRequestedMips += totalRequestedMips;
         }
 
-        addStateHistoryEntry(currentTime, getUtilizationOfCpuMips(), hostTotalRequestedMips, active);
+        final HostStateHistoryEntry newState =
+            new HostStateHistoryEntry(currentTime, getUtilizationOfCpuMips(), hostTotalRequestedMips, active);
+        DeferredEffects.run(() -> addStateHistoryEntry(newState));
     }
 
     /**
      * Adds a host state history entry.
+     * When Hosts are updated in parallel, it's called as a {@link DeferredEffects deferred effect},
+     * so that entries are added in the order of Hosts by a single thread
+     * (since the {@link #getStateHistorySink() sink} may be shared with other Hosts).
      *
-     * @param time the time
-     * @param allocatedMips the allocated mips
-     * @param requestedMips the requested mips
-     * @param isActive the is active
+     * @param newState the entry to add
      */
-    private void addStateHistoryEntry(
-        final double time,
-        final double allocatedMips,
-        final double requestedMips,
-        final boolean isActive)
-    {
-        final HostStateHistoryEntry newState = new HostStateHistoryEntry(time, allocatedMips, requestedMips, isActive);
-        if (!stateHistory.isEmpty()) {
-            final HostStateHistoryEntry previousState = stateHistory.get(stateHistory.size() - 1);
-            if (previousState.getTime() == time) {
-                stateHistory.set(stateHistory.size() - 1, newState);
-                return;
-            }
+    private void addStateHistoryEntry(final HostStateHistoryEntry newState) {
+        final HostStateHistoryEntry previousState = stateHistory.getLast();
+        if (previousState != null && previousState.getTime() == newState.getTime()) {
+            stateHistory.replaceLast(newState);
+            return;
         }
 
         stateHistory.add(newState);
@@ -1267,7 +1615,19 @@ public class HostSimple implements Host {
 
     @Override
     public List<HostStateHistoryEntry> getStateHistory() {
-        return Collections.unmodifiableList(stateHistory);
+        updateProcessingIfLagging();
+        return stateHistory.getEntries();
+    }
+
+    @Override
+    public StateHistorySink<HostStateHistoryEntry> getStateHistorySink() {
+        return stateHistory;
+    }
+
+    @Override
+    public Host setStateHistorySink(final StateHistorySink<HostStateHistoryEntry> stateHistorySink) {
+        this.stateHistory = requireNonNull(stateHistorySink);
+        return this;
     }
 
     @Override
@@ -48,6 +48,8 @@ import java.util.List;
  * @since CloudSim Toolkit 3.0
  */
 public class NetworkHost extends HostSimple {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(NetworkHost.class.getSimpleName());
 
     private int totalDataTransferBytes;
@@ -41,6 +41,8 @@ import java.util.List;
  * @since CloudSim Toolkit 1.0
  */
 public class IcmpPacket implements NetworkPacket<SimEntity> {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getTag()
      */
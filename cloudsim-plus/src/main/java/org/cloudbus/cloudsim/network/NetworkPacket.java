@@ -16,6 +16,8 @@ package org.cloudbus.cloudsim.network;
 
 import org.cloudbus.cloudsim.core.Identifiable;
 
+import java.io.Serializable;
+
 /**
  * Defines the structure for a network packet.
  *
@@ -27,7 +29,7 @@ import org.cloudbus.cloudsim.core.Identifiable;
  *
  * @since CloudSim Toolkit 1.0
  */
-public interface NetworkPacket<T extends Identifiable> {
+public interface NetworkPacket<T extends Identifiable> extends Serializable {
     /**
      * Gets the size of the packet in bytes.
      *
@@ -35,6 +35,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Toolkit 1.0
  */
 public class VmPacket implements NetworkPacket<Vm> {
+    private static final long serialVersionUID = 1L;
 
     /**
      * @see NetworkPacket#getSource()
@@ -10,8 +10,8 @@ package org.cloudbus.cloudsim.network.switches;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.core.CloudSimEntity;
 import org.cloudbus.cloudsim.core.CloudSimTags;
-import org.cloudbus.cloudsim.core.events.PredicateType;
 import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.core.events.SimEventHandle;
 import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
 import org.cloudbus.cloudsim.hosts.network.NetworkHost;
 import org.cloudbus.cloudsim.network.HostPacket;
@@ -32,6 +32,8 @@ import java.util.Map;
  * @author Manoel Campos da Silva Filho
  */
 public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSwitch.class.getSimpleName());
 
     /**
@@ -87,6 +89,12 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      */
     private double switchingDelay;
 
+    /**
+     * The last scheduled {@link CloudSimTags#NETWORK_EVENT_SEND} event,
+     * used to cancel it when a new one is scheduled.
+     */
+    private SimEventHandle packetSendingEvent = SimEventHandle.NULL;
+
     public AbstractSwitch(final CloudSim simulation, final NetworkDatacenter dc) {
         super(simulation);
         this.packetToHostMap = new HashMap<>();
@@ -115,6 +123,8 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
                 processPacketDown(evt);
             break;
             case CloudSimTags.NETWORK_EVENT_SEND:
+                //the event was received and must not be cancelled anymore
+                packetSendingEvent = SimEventHandle.NULL;
                 processPacketForward();
             break;
             case CloudSimTags.NETWORK_EVENT_HOST:
@@ -141,8 +151,7 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      */
     protected void processPacketDown(final SimEvent evt) {
         // Packet coming from up level router has to send downward.
-        getSimulation().cancelAll(this, new PredicateType(CloudSimTags.NETWORK_EVENT_SEND));
-        schedule(this, getSwitchingDelay(), CloudSimTags.NETWORK_EVENT_SEND);
+        schedulePacketSending();
     }
 
     /**
@@ -161,8 +170,17 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      */
     protected void processPacketUp(final SimEvent evt) {
         // Packet coming from down level router has to be sent up.
-        getSimulation().cancelAll(this, new PredicateType(CloudSimTags.NETWORK_EVENT_SEND));
-        schedule(this, switchingDelay, CloudSimTags.NETWORK_EVENT_SEND);
+        schedulePacketSending();
+    }
+
+    /**
+     * Schedules the sending of the packets waiting in the switch
+     * after the {@link #getSwitchingDelay() switching delay},
+     * cancelling the sending previously scheduled, if it is still pending.
+     */
+    private void schedulePacketSending() {
+        cancelEvent(packetSendingEvent);
+        packetSendingEvent = schedule(this, getSwitchingDelay(), CloudSimTags.NETWORK_EVENT_SEND);
     }
 
     /**
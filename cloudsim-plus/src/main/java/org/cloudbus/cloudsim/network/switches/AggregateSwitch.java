@@ -36,6 +36,8 @@ import org.cloudbus.cloudsim.util.Conversion;
  * @since CloudSim Toolkit 1.0
  */
 public class AggregateSwitch extends AbstractSwitch {
+    private static final long serialVersionUID = 1L;
+
     /**
      * The level (layer) of the switch in the network topology.
      */
@@ -40,6 +40,8 @@ import java.util.Map;
  * @see #getInstance(String)
  */
 public final class BriteNetworkTopology implements NetworkTopology {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(BriteNetworkTopology.class.getSimpleName());
 
     /**
@@ -222,6 +224,11 @@ public final class BriteNetworkTopology implements NetworkTopology {
         entitiesMap.remove(cloudSimEntityID);
     }
 
+    @Override
+    public boolean isNodeMapped(final long cloudSimEntityID) {
+        return networkEnabled && entitiesMap.containsKey(cloudSimEntityID);
+    }
+
     @Override
     public double getDelay(final long srcID, final long destID) {
         if (!networkEnabled) {
@@ -7,6 +7,8 @@
  */
 package org.cloudbus.cloudsim.network.topologies;
 
+import java.io.Serializable;
+
 /**
  **
  * Implements a network layer by reading the topology from a file in a specific format
@@ -19,7 +21,7 @@ package org.cloudbus.cloudsim.network.topologies;
  * @see BriteNetworkTopology
  * @since CloudSim Plus 1.0
  */
-public interface NetworkTopology {
+public interface NetworkTopology extends Serializable {
     /**
      * An attribute that implements the Null Object Design Pattern for {@link NetworkTopology}
      * objects.
@@ -57,6 +59,15 @@ public interface NetworkTopology {
      */
     void unmapNode(long cloudSimEntityID);
 
+    /**
+     * Checks if a CloudSim entity is mapped to a node in the network topology.
+     * The {@link #getDelay(long, long) delay} between unmapped entities is always zero.
+     *
+     * @param cloudSimEntityID ID of the entity to check
+     * @return true if the entity is mapped to a node, false otherwise
+     */
+    boolean isNodeMapped(long cloudSimEntityID);
+
     /**
      * Calculates the delay between two nodes.
      *
@@ -8,11 +8,16 @@ package org.cloudbus.cloudsim.network.topologies;
  * @see NetworkTopology#NULL
  */
 final class NetworkTopologyNull implements NetworkTopology {
+    private static final long serialVersionUID = 1L;
+
     private static final TopologicalGraph GRAPH = new TopologicalGraph();
 
     @Override public void addLink(long srcId, long destId, double bandwidth, double lat) {/**/}
     @Override public void mapNode(long cloudSimEntityID, int briteID) {/**/}
     @Override public void unmapNode(long cloudSimEntityID) {/**/}
+    @Override public boolean isNodeMapped(long cloudSimEntityID) {
+        return false;
+    }
     @Override public double getDelay(long srcID, long destID) {
         return 0;
     }
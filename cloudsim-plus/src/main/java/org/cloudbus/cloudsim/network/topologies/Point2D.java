@@ -1,9 +1,13 @@
 package org.cloudbus.cloudsim.network.topologies;
 
+import java.io.Serializable;
+
 /**
  * A class to represent the coordinates of a 2-dimensional point.
  */
-public class Point2D {
+public class Point2D implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private int x;
     private int y;
 
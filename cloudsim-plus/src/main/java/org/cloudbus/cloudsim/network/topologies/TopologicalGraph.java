@@ -8,6 +8,7 @@
 
 package org.cloudbus.cloudsim.network.topologies;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -26,7 +27,9 @@ import java.util.List;
  * @author Thomas Hohnstein
  * @since CloudSim Toolkit 1.0
  */
-public class TopologicalGraph {
+public class TopologicalGraph implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     /**
      * The list of links of the network graph.
      */
@@ -8,6 +8,7 @@
 
 package org.cloudbus.cloudsim.network.topologies;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -17,7 +18,8 @@ import java.util.Objects;
  * @author Thomas Hohnstein
  * @since CloudSim Toolkit 1.0
  */
-public class TopologicalNode {
+public class TopologicalNode implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     private int nodeId;
 
@@ -2,6 +2,8 @@ package org.cloudbus.cloudsim.power.models;
 
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 
+import java.io.Serializable;
+
 /**
  * An interface for power-aware components such as {@link Datacenter}
  * and {@link PowerModel}.
@@ -9,7 +11,7 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 2.2.1
  */
-public interface PowerAware {
+public interface PowerAware extends Serializable {
     /**
      * Gets the current power supply in Watts (w).
      *
@@ -11,6 +11,8 @@ import java.util.Objects;
  * @since CloudSim Plus 1.2.0
  */
 public abstract class PowerModelAbstract implements PowerModel {
+    private static final long serialVersionUID = 1L;
+
     private Host host;
 
     @Override
@@ -8,6 +8,8 @@
 
 package org.cloudbus.cloudsim.power.models;
 
+import java.util.function.UnaryOperator;
+
 /**
  * A power model where the power consumption is linear to resource usage.
  *
@@ -26,6 +28,10 @@ package org.cloudbus.cloudsim.power.models;
  * @since CloudSim Toolkit 2.0
  */
 public class PowerModelLinear  extends PowerModelSimple {
+    private static final long serialVersionUID = 1L;
+
+    private static final UnaryOperator<Double> LINEAR = utilizationPercent -> utilizationPercent;
+
     /**
 	 * Instantiates a linear power model.
 	 *
@@ -35,6 +41,6 @@ public class PowerModelLinear  extends PowerModelSimple {
 	public PowerModelLinear(final double maxPower, final double staticPowerPercent) {
 	    /** Calls the super constructor passing a {@link #powerFunction}
          * that indicates the base power consumption is linear to CPU utilization.*/
-	    super(maxPower, staticPowerPercent, utilizationPercent -> utilizationPercent);
+	    super(maxPower, staticPowerPercent, LINEAR);
 	}
 }
@@ -17,6 +17,8 @@ import java.util.function.UnaryOperator;
  * @since CloudSim Plus 2.1.0
  */
 public class PowerModelSimple extends PowerModelAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * A value representing one hundred percent.
      */
@@ -30,6 +32,10 @@ public class PowerModelSimple extends PowerModelAbstract {
      * because the total power depends on other factors such as
      * the {@link #getStaticPower() static power} supplied by the Host,
      * independent of its CPU usage.
+     *
+     * <p>Subclasses provide their functions as static constants,
+     * which are restored from a {@link org.cloudbus.cloudsim.core.SimulationCheckpoint} as the same instances.
+     * A function given by the researcher must be serializable to be saved into a checkpoint.</p>
      */
     private final UnaryOperator<Double> powerFunction;
 
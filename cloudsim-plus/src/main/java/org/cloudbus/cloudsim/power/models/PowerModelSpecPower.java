@@ -26,6 +26,8 @@ package org.cloudbus.cloudsim.power.models;
  * @since CloudSim Toolkit 3.0
  */
 public abstract class PowerModelSpecPower extends PowerModelAbstract {
+    private static final long serialVersionUID = 1L;
+
     @Override
     public double getMaxPower() {
         return getPower(1);
@@ -27,6 +27,8 @@ package org.cloudbus.cloudsim.power.models;
  * @since CloudSim Toolkit 3.0
  */
 public class PowerModelSpecPowerIbmX3550XeonX5670 extends PowerModelSpecPower {
+    private static final long serialVersionUID = 1L;
+
 	/**
          * The power consumption according to the utilization percentage.
          * @see #getPowerData(int)
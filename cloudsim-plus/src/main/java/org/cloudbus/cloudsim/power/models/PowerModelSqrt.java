@@ -8,6 +8,8 @@
 
 package org.cloudbus.cloudsim.power.models;
 
+import java.util.function.UnaryOperator;
+
 /**
  * Implements a power model where the power consumption is the square root of the resource usage.
  *
@@ -27,6 +29,9 @@ package org.cloudbus.cloudsim.power.models;
  * @since CloudSim Toolkit 2.0
  */
 public class PowerModelSqrt extends PowerModelSimple {
+    private static final long serialVersionUID = 1L;
+
+    private static final UnaryOperator<Double> SQRT = Math::sqrt;
 
     /**
      * Instantiates a new power model sqrt.
@@ -35,6 +40,6 @@ public class PowerModelSqrt extends PowerModelSimple {
      * @param staticPowerPercent the static power usage percentage between 0 and 1.
      */
     public PowerModelSqrt(final double maxPower, final double staticPowerPercent) {
-        super(maxPower, staticPowerPercent, Math::sqrt);
+        super(maxPower, staticPowerPercent, SQRT);
     }
 }
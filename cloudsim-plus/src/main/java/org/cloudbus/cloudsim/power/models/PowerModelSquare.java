@@ -8,6 +8,8 @@
 
 package org.cloudbus.cloudsim.power.models;
 
+import java.util.function.UnaryOperator;
+
 /**
  * Implements a power model where the power consumption is the square of the resource usage.
  * <p>
@@ -26,6 +28,9 @@ package org.cloudbus.cloudsim.power.models;
  * @since CloudSim Toolkit 2.0
  */
 public class PowerModelSquare extends PowerModelSimple {
+    private static final long serialVersionUID = 1L;
+
+    private static final UnaryOperator<Double> SQUARE = utilizationPercent -> Math.pow(utilizationPercent, 2);
 
     /**
      * Instantiates a new power model square.
@@ -34,6 +39,6 @@ public class PowerModelSquare extends PowerModelSimple {
      * @param staticPowerPercent the static power usage percentage between 0 and 1.
      */
     public PowerModelSquare(final double maxPower, final double staticPowerPercent) {
-        super(maxPower, staticPowerPercent, utilizationPercent -> Math.pow(utilizationPercent, 2));
+        super(maxPower, staticPowerPercent, SQUARE);
     }
 }
@@ -11,6 +11,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @see PeProvisioner#NULL
  */
 final class PeProvisionerNull extends ResourceProvisionerNull implements PeProvisioner {
+    private static final long serialVersionUID = 1L;
+
     @Override public void setPe(Pe pe) {/**/}
     @Override public double getUtilization() {
         return 0;
@@ -30,6 +30,7 @@ import java.util.Objects;
  * @since CloudSim Toolkit 2.0
  */
 public class PeProvisionerSimple extends ResourceProvisionerSimple implements PeProvisioner {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Instantiates a new PeProvisionerSimple. The {@link Pe} it will manage will be set
@@ -28,6 +28,8 @@ import java.util.Objects;
  * @since 3.0.4
  */
 public class ResourceProvisionerSimple extends ResourceProvisionerAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Creates a new ResourceProvisionerSimple which the {@link ResourceManageable}
      * it will manage have to be set further.
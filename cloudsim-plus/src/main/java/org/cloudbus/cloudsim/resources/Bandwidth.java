@@ -31,6 +31,8 @@ package org.cloudbus.cloudsim.resources;
  * @since CloudSim Plus 1.0
  */
 public final class Bandwidth extends ResourceManageableAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Creates a new Bandwidth resource.
      * @param capacity the bandwidth capacity in in Megabits/s
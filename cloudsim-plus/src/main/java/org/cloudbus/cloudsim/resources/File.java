@@ -10,6 +10,8 @@ package org.cloudbus.cloudsim.resources;
 
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 
+import java.io.Serializable;
+
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -19,7 +21,9 @@ import static java.util.Objects.requireNonNull;
  * @author Anthony Sulistio
  * @since CloudSim Toolkit 1.0
  */
-public class File {
+public class File implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Denotes that this file has not been registered to a Replica Catalogue.
      */
@@ -11,6 +11,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.cloudbus.cloudsim.util.Conversion;
 import org.cloudbus.cloudsim.util.DataCloudTags;
 
+import java.io.Serializable;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Objects;
@@ -24,7 +25,8 @@ import java.util.Objects;
  * @author Anthony Sulistio
  * @since CloudSim Toolkit 1.0
  */
-public class FileAttribute {
+public class FileAttribute implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     /**
      * Owner name of this file.
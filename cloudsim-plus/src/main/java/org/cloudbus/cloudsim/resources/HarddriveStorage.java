@@ -36,6 +36,8 @@ import java.util.Objects;
  * @since CloudSim Toolkit 1.0
  */
 public class HarddriveStorage implements FileStorage {
+    private static final long serialVersionUID = 1L;
+
     private static final double DEF_LATENCY_SECS = 0.00417;
     private static final double DEF_SEEK_TIME_SECS = 0.009;
     private static final int    DEF_MAX_TRANSFER_RATE_MBITS_SEC = 133*8;
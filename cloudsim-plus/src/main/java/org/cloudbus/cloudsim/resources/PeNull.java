@@ -11,6 +11,8 @@ import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
  * @see Pe#NULL
  */
 final class PeNull implements Pe {
+    private static final long serialVersionUID = 1L;
+
     @Override public long getAvailableResource() {
         return 0;
     }
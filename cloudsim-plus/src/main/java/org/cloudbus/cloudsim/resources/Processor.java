@@ -33,6 +33,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Plus 1.0
  */
 public final class Processor extends ResourceManageableAbstract {
+    private static final long serialVersionUID = 1L;
+
     public static final Processor NULL = new Processor();
     private Vm vm;
 
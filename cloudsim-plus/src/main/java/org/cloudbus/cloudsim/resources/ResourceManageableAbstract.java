@@ -23,6 +23,7 @@ package org.cloudbus.cloudsim.resources;
  * @since CloudSim Plus 1.0
  */
 public abstract class ResourceManageableAbstract extends ResourceAbstract implements ResourceManageable {
+    private static final long serialVersionUID = 1L;
 
     /** @see #getAvailableResource() */
     private long availableResource;
@@ -8,6 +8,8 @@ package org.cloudbus.cloudsim.resources;
  * @see ResourceManageable#NULL
  */
 final class ResourceManageableNull implements ResourceManageable {
+    private static final long serialVersionUID = 1L;
+
     @Override public boolean setCapacity(long newCapacity) {
         return false;
     }
@@ -8,6 +8,8 @@ package org.cloudbus.cloudsim.resources;
  * @see Resource#NULL
  */
 final class ResourceNull implements Resource {
+    private static final long serialVersionUID = 1L;
+
     @Override public long getAvailableResource() { return 0; }
     @Override public long getAllocatedResource() {
         return 0;
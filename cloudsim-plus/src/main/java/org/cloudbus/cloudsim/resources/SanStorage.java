@@ -25,6 +25,8 @@ package org.cloudbus.cloudsim.resources;
  * @since CloudSim Toolkit 1.0
  */
 public class SanStorage extends HarddriveStorage {
+    private static final long serialVersionUID = 1L;
+
     /** @see #getBandwidth() */
     private double bandwidth;
 
@@ -49,6 +49,8 @@ import static org.cloudbus.cloudsim.utilizationmodels.UtilizationModel.Unit;
  * @since CloudSim Toolkit 1.0
  */
 public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudletSchedulerAbstract.class.getSimpleName());
 
     /**
@@ -294,6 +296,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         cle.setLastProcessingTime(getVm().getSimulation().clock());
         cloudletExecList.add(cle);
         addUsedPes(cle.getNumberOfPes());
+        vm.getHost().invalidateCpuUtilization(vm);
     }
 
     @Override
@@ -720,6 +723,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     protected CloudletExecution removeCloudletFromExecList(final CloudletExecution cle) {
         removeUsedPes(cle.getNumberOfPes());
+        vm.getHost().invalidateCpuUtilization(vm);
         return cloudletExecList.remove(cle) ? cle : CloudletExecution.NULL;
     }
 
@@ -123,6 +123,8 @@ import static java.util.stream.Collectors.toList;
  * @see <a href="https://oakbytes.wordpress.com/linux-scheduler/">Linux Scheduler FAQ</a>
  */
 public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTimeShared {
+    private static final long serialVersionUID = 1L;
+
 	/**
 	 * @see #getMinimumGranularity()
 	 */
@@ -30,6 +30,7 @@ import org.cloudbus.cloudsim.resources.Pe;
  * @since CloudSim Toolkit 1.0
  */
 public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
+    private static final long serialVersionUID = 1L;
 
     @Override
     public double cloudletResume(Cloudlet cloudlet) {
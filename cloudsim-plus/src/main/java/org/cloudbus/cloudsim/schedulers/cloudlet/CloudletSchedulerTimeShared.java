@@ -70,6 +70,7 @@ import java.util.List;
  * @see CloudletSchedulerCompletelyFair
  */
 public class CloudletSchedulerTimeShared extends CloudletSchedulerAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * {@inheritDoc}
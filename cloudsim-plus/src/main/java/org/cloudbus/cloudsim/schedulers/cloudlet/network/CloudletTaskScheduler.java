@@ -18,6 +18,7 @@ import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.network.NetworkVm;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
@@ -43,7 +44,7 @@ import java.util.List;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface CloudletTaskScheduler {
+public interface CloudletTaskScheduler extends Serializable {
 
     /**
      * An attribute that implements the Null Object Design Pattern for {@link CloudletTaskScheduler}
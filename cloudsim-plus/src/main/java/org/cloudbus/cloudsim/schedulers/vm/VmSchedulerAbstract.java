@@ -30,6 +30,7 @@ import static java.util.stream.Collectors.toList;
  * @since CloudSim Toolkit 1.0
  */
 public abstract class VmSchedulerAbstract implements VmScheduler {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The default percentage to define the CPU overhead of VM migration
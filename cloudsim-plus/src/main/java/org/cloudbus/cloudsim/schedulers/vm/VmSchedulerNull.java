@@ -14,6 +14,8 @@ import java.util.List;
  * @see VmScheduler#NULL
  */
 final class VmSchedulerNull implements VmScheduler {
+    private static final long serialVersionUID = 1L;
+
     @Override public boolean allocatePesForVm(Vm vm, List<Double> requestedMips) {
         return false;
     }
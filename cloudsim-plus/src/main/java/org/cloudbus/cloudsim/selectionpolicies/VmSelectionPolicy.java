@@ -11,6 +11,9 @@ package org.cloudbus.cloudsim.selectionpolicies;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
+import java.util.List;
+
 /**
  * An interface to be used to implement VM selection policies for a list of migratable VMs.
  * The selection is defined by sub classes.
@@ -28,7 +31,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 3.0
  */
-public interface VmSelectionPolicy {
+public interface VmSelectionPolicy extends Serializable {
     VmSelectionPolicy NULL = new VmSelectionPolicyNull();
 
     /**
@@ -38,4 +41,22 @@ public interface VmSelectionPolicy {
      * @return the vm to migrate or {@link Vm#NULL} if there is not Vm to migrate
      */
     Vm getVmToMigrate(Host host);
+
+    /**
+     * Gets a VM to migrate from a given host, among a list of its VMs which can still be migrated.
+     * It enables selecting VMs from a Host when some of them were already selected,
+     * without actually removing such VMs from the Host.
+     *
+     * <p>By default, it selects a VM by calling {@link #getVmToMigrate(Host)}
+     * and returns {@link Vm#NULL} if such a VM is not in the given list.
+     * Policies should override it to select a VM just among the given ones.</p>
+     *
+     * @param host the host to get a Vm to migrate from
+     * @param migratableVms the VMs that can be migrated from the Host
+     * @return the vm to migrate or {@link Vm#NULL} if there is not Vm to migrate
+     */
+    default Vm getVmToMigrate(final Host host, final List<Vm> migratableVms) {
+        final Vm vm = getVmToMigrate(host);
+        return migratableVms.contains(vm) ? vm : Vm.NULL;
+    }
 }
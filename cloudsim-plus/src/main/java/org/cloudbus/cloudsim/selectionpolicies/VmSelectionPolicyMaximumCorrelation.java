@@ -8,16 +8,15 @@
 
 package org.cloudbus.cloudsim.selectionpolicies;
 
+import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
-import org.cloudbus.cloudsim.vms.UtilizationHistory;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import static org.cloudbus.cloudsim.util.MathUtil.correlationCoefficients;
-
 /**
  * A VM selection policy that selects for migration the VM with the Maximum Correlation Coefficient (MCC) among
  * a list of migratable VMs.
@@ -32,14 +31,29 @@ import static org.cloudbus.cloudsim.util.MathUtil.correlationCoefficients;
  * </ul>
  * </p>
  *
+ * <p>The sums of products between the utilization histories of the VMs in each Host
+ * are kept between selections and updated as new history entries are collected.
+ * The correlation coefficients of all VMs are computed at once from such sums,
+ * instead of fitting a linear regression for each VM.
+ * The sums of a Host are discarded when it has less than two VMs to select
+ * and when it fails, is powered off, becomes idle or is removed from its Datacenter.
+ * They aren't serialized, but just computed again after a simulation is restored from a checkpoint.</p>
+ *
  * @author Anton Beloglazov
  * @since CloudSim Toolkit 3.0
  */
 public class VmSelectionPolicyMaximumCorrelation implements VmSelectionPolicy {
+    private static final long serialVersionUID = 1L;
 
     /** @see #getFallbackPolicy() */
     private VmSelectionPolicy fallbackPolicy;
 
+    /**
+     * The sums of products between the utilization histories of the VMs in each Host.
+     * @see #getGramMatrices()
+     */
+    private transient Map<Host, VmUtilizationGramMatrix> gramMatrices;
+
     /**
      * Instantiates a new PowerVmSelectionPolicyMaximumCorrelation.
      *
@@ -52,17 +66,23 @@ public class VmSelectionPolicyMaximumCorrelation implements VmSelectionPolicy {
 
     @Override
     public Vm getVmToMigrate(final Host host) {
-        final List<Vm> migratableVms = host.getMigratableVms();
-        if (migratableVms.isEmpty()) {
-            return Vm.NULL;
+        return getVmToMigrate(host, host.getMigratableVms());
+    }
+
+    @Override
+    public Vm getVmToMigrate(final Host host, final List<Vm> migratableVms) {
+        if (migratableVms.size() < 2) {
+            // There is no correlation to compute, so the sums of the Host aren't needed
+            getGramMatrices().remove(host);
+            return migratableVms.isEmpty() ? Vm.NULL : getFallbackPolicy().getVmToMigrate(host, migratableVms);
         }
 
         try {
-            final List<Double> metrics = correlationCoefficients(getUtilizationMatrix(migratableVms));
+            final double[] metrics = getGramMatrix(host).correlationCoefficients(migratableVms);
             double maxMetric = Double.MIN_VALUE;
             int maxIndex = 0;
-            for (int i = 0; i < metrics.size(); i++) {
-                final double metric = metrics.get(i);
+            for (int i = 0; i < metrics.length; i++) {
+                final double metric = metrics[i];
                 if (metric > maxMetric) {
                     maxMetric = metric;
                     maxIndex = i;
@@ -70,44 +90,53 @@ public class VmSelectionPolicyMaximumCorrelation implements VmSelectionPolicy {
             }
 
             return migratableVms.get(maxIndex);
-        } catch (IllegalArgumentException e) { // the degrees of freedom must be greater than zero
-            return getFallbackPolicy().getVmToMigrate(host);
+        } catch (IllegalArgumentException e) { // not enough history or linearly dependent histories
+            return getFallbackPolicy().getVmToMigrate(host, migratableVms);
         }
     }
 
     /**
-     * Gets the CPU utilization percentage matrix for a given list of VMs.
+     * Gets the sums of products between the utilization histories of the VMs in a Host,
+     * creating them if the Host has no sums yet.
+     * In such a case, the sums of Hosts which aren't used anymore are discarded.
      *
-     * @param vmList the VM list
-     * @return the CPU utilization percentage matrix, where each line i
-     * is a VM and each column j is a CPU utilization percentage history for that VM.
+     * @param host the Host to get the sums
+     * @return
      */
-    private double[][] getUtilizationMatrix(final List<Vm> vmList) {
-        final int numberVms = vmList.size();
-        final int minHistorySize = getMinUtilizationHistorySize(vmList);
-        final double[][] utilization = new double[numberVms][minHistorySize];
-
-        for (int i = 0; i < numberVms; i++) {
-            final double[] vmUtilization = vmList.get(i).getUtilizationHistory().getHistory().values().stream().mapToDouble(v -> v).toArray();
-            if (minHistorySize >= 0) {
-                System.arraycopy(vmUtilization, 0, utilization[i], 0, minHistorySize);
-            }
+    private VmUtilizationGramMatrix getGramMatrix(final Host host) {
+        final VmUtilizationGramMatrix matrix = getGramMatrices().get(host);
+        if (matrix != null) {
+            return matrix;
         }
-        return utilization;
+
+        evictUnusedHosts();
+        final VmUtilizationGramMatrix newMatrix = new VmUtilizationGramMatrix();
+        gramMatrices.put(host, newMatrix);
+        return newMatrix;
+    }
+
+    /**
+     * Removes the sums of Hosts which failed, were powered off, became idle or were removed from their Datacenter
+     * (which makes the Host's Datacenter to be {@link Datacenter#NULL}).
+     */
+    private void evictUnusedHosts() {
+        getGramMatrices().keySet().removeIf(host ->
+            host.isFailed() || !host.isActive() || host.getVmList().isEmpty() || host.getDatacenter() == Datacenter.NULL);
     }
 
     /**
-     * Gets the min CPU utilization percentage history size between a list of VMs.
+     * Gets the sums of products between the utilization histories of the VMs in each Host.
+     * Since the sums aren't serialized, they are created when the policy is used for the first time
+     * or after it's restored from a checkpoint.
      *
-     * @param vmList the VM list
-     * @return the min CPU utilization percentage history size of the VM list
+     * @return
      */
-    private int getMinUtilizationHistorySize(final List<Vm> vmList) {
-        return vmList.stream()
-            .map(Vm::getUtilizationHistory)
-            .map(UtilizationHistory::getHistory)
-            .mapToInt(Map::size)
-            .min().orElse(0);
+    Map<Host, VmUtilizationGramMatrix> getGramMatrices() {
+        if (gramMatrices == null) {
+            gramMatrices = new HashMap<>();
+        }
+
+        return gramMatrices;
     }
 
     /**
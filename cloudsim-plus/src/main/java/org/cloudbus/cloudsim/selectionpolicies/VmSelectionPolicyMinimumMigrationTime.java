@@ -30,9 +30,15 @@ import java.util.List;
  * @since CloudSim Toolkit 3.0
  */
 public class VmSelectionPolicyMinimumMigrationTime implements VmSelectionPolicy {
+    private static final long serialVersionUID = 1L;
+
 	@Override
 	public Vm getVmToMigrate(final Host host) {
-		final List<Vm> migratableVms = host.getMigratableVms();
+		return getVmToMigrate(host, host.getMigratableVms());
+	}
+
+	@Override
+	public Vm getVmToMigrate(final Host host, final List<Vm> migratableVms) {
 		if (migratableVms.isEmpty()) {
 			return Vm.NULL;
 		}
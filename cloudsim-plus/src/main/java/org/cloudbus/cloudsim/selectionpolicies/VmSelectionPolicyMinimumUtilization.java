@@ -34,9 +34,15 @@ import java.util.function.Predicate;
  * @since CloudSim Toolkit 3.0
  */
 public class VmSelectionPolicyMinimumUtilization implements VmSelectionPolicy {
+    private static final long serialVersionUID = 1L;
+
     @Override
     public Vm getVmToMigrate(final Host host) {
-        final List<? extends Vm> migratableVms = host.getMigratableVms();
+        return getVmToMigrate(host, host.getMigratableVms());
+    }
+
+    @Override
+    public Vm getVmToMigrate(final Host host, final List<Vm> migratableVms) {
         if (migratableVms.isEmpty()) {
             return Vm.NULL;
         }
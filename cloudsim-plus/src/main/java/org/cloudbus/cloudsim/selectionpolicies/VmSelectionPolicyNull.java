@@ -3,6 +3,8 @@ package org.cloudbus.cloudsim.selectionpolicies;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.util.List;
+
 /**
  * A class that implements the Null Object Design Pattern for {@link VmSelectionPolicy}
  * class.
@@ -12,5 +14,8 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Plus 4.1.2
  */
 final class VmSelectionPolicyNull implements VmSelectionPolicy {
+    private static final long serialVersionUID = 1L;
+
     @Override public Vm getVmToMigrate(Host host) { return Vm.NULL; }
+    @Override public Vm getVmToMigrate(Host host, List<Vm> migratableVms) { return Vm.NULL; }
 }
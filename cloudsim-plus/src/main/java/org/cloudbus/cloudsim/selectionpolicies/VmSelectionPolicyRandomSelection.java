@@ -34,6 +34,8 @@ import java.util.Objects;
  * @since CloudSim Toolkit 3.0
  */
 public class VmSelectionPolicyRandomSelection implements VmSelectionPolicy {
+    private static final long serialVersionUID = 1L;
+
     private final ContinuousDistribution rand;
 
     /**
@@ -57,7 +59,11 @@ public class VmSelectionPolicyRandomSelection implements VmSelectionPolicy {
 
 	@Override
 	public Vm getVmToMigrate(final Host host) {
-		final List<Vm> migratableVms = host.getMigratableVms();
+		return getVmToMigrate(host, host.getMigratableVms());
+	}
+
+	@Override
+	public Vm getVmToMigrate(final Host host, final List<Vm> migratableVms) {
 		if (migratableVms.isEmpty()) {
 			return Vm.NULL;
 		}
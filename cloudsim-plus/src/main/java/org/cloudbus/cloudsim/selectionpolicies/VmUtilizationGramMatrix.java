@@ -0,0 +1,333 @@
+package org.cloudbus.cloudsim.selectionpolicies;
+
+import org.cloudbus.cloudsim.vms.UtilizationHistory;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the sums of products between the CPU utilization histories of a set of VMs
+ * (a <a href="https://en.wikipedia.org/wiki/Gram_matrix">Gram matrix</a>),
+ * used to compute the <a href="https://en.wikipedia.org/wiki/Coefficient_of_multiple_correlation">multiple correlation coefficient</a>
+ * of each VM with the other ones.
+ *
+ * <p>As in {@link org.cloudbus.cloudsim.util.MathUtil#correlationCoefficients(double[][])},
+ * the history of each VM is limited to the size of the shortest history among the VMs.
+ * The sums are kept between calls and just updated with the entries added to and removed from such histories,
+ * instead of being computed from the entire histories every time.
+ * The coefficients of all VMs are then computed from a single covariance matrix built from the sums,
+ * instead of fitting a linear regression for each VM.</p>
+ *
+ * <p>The VMs whose correlation was computed previously but are not in the given VM list anymore
+ * are removed from the matrix.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+final class VmUtilizationGramMatrix {
+    /**
+     * A pivot of the covariance matrix lower than this fraction of its largest diagonal element
+     * indicates the matrix is singular.
+     */
+    private static final double SINGULARITY_THRESHOLD = 1e-10;
+
+    private final Map<Vm, VmWindow> windows;
+
+    /**
+     * The sum of the products between the utilization history entries of each pair of VMs,
+     * indexed by the {@link VmWindow#slot} of VMs.
+     */
+    private double[][] sums;
+
+    /**
+     * The {@link VmWindow#slot}s in use.
+     */
+    private final BitSet usedSlots;
+
+    VmUtilizationGramMatrix() {
+        this.windows = new HashMap<>();
+        this.sums = new double[0][0];
+        this.usedSlots = new BitSet();
+    }
+
+    /**
+     * Computes the multiple correlation coefficient (R&sup2;) between the
+     * CPU utilization history of each VM and the history of the other ones.
+     *
+     * @param vmList the VMs to compute the correlation coefficients
+     * @return the correlation coefficients, where each index is the index of a VM in the given list
+     * @throws IllegalArgumentException when there isn't enough history to compute the coefficients
+     *                                  or the history of some VMs is linearly dependent
+     */
+    double[] correlationCoefficients(final List<Vm> vmList) {
+        final int vmsNumber = vmList.size();
+        final int historySize = getMinHistorySize(vmList);
+        if (vmsNumber < 2 || historySize < vmsNumber) {
+            throw new IllegalArgumentException("There is not enough utilization history to compute the correlation between VMs");
+        }
+
+        removeVmsNotIn(vmList);
+        final VmWindow[] vmWindows = new VmWindow[vmsNumber];
+        for (int i = 0; i < vmsNumber; i++) {
+            vmWindows[i] = windows.computeIfAbsent(vmList.get(i), vm -> new VmWindow(nextSlot()));
+            vmWindows[i].update(vmList.get(i).getUtilizationHistory(), historySize);
+        }
+
+        for (int i = 0; i < vmsNumber; i++) {
+            for (int j = i; j < vmsNumber; j++) {
+                final double sum = computeSum(vmWindows[i], vmWindows[j]);
+                sums[vmWindows[i].slot][vmWindows[j].slot] = sum;
+                sums[vmWindows[j].slot][vmWindows[i].slot] = sum;
+            }
+        }
+
+        return computeCoefficients(vmWindows, historySize);
+    }
+
+    private int getMinHistorySize(final List<Vm> vmList) {
+        int min = Integer.MAX_VALUE;
+        for (final Vm vm : vmList) {
+            min = Math.min(min, vm.getUtilizationHistory().getHistorySize());
+        }
+
+        return vmList.isEmpty() ? 0 : min;
+    }
+
+    private void removeVmsNotIn(final List<Vm> vmList) {
+        if (windows.isEmpty()) {
+            return;
+        }
+
+        final Set<Vm> vmSet = new HashSet<>(vmList);
+        windows.entrySet().removeIf(entry -> {
+            if (vmSet.contains(entry.getKey())) {
+                return false;
+            }
+
+            usedSlots.clear(entry.getValue().slot);
+            return true;
+        });
+    }
+
+    /**
+     * Gets a free slot for a VM, growing the {@link #sums} matrix if there is no free slot.
+     * @return
+     */
+    private int nextSlot() {
+        final int slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+        if (slot >= sums.length) {
+            final double[][] newSums = new double[Math.max(slot + 1, sums.length * 2)][];
+            for (int i = 0; i < newSums.length; i++) {
+                newSums[i] = i < sums.length ? Arrays.copyOf(sums[i], newSums.length) : new double[newSums.length];
+            }
+
+            sums = newSums;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Computes the sum of products between the current history entries of two VMs.
+     * If both histories just had entries added and removed at the same positions since the previous computation,
+     * the previous sum is updated with such entries. Otherwise, it's computed from all the entries.
+     */
+    private double computeSum(final VmWindow first, final VmWindow second) {
+        if (first.shift < 0 || first.shift != second.shift) {
+            return sumProducts(first.values, second.values, 0, first.size);
+        }
+
+        final int overlapEnd = first.shift + first.overlap;
+        return sums[first.slot][second.slot]
+               - sumProducts(first.previousValues, second.previousValues, 0, first.shift)
+               - sumProducts(first.previousValues, second.previousValues, overlapEnd, first.previousSize)
+               + sumProducts(first.values, second.values, first.overlap, first.size);
+    }
+
+    private static double sumProducts(final double[] first, final double[] second, final int from, final int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += first[i] * second[i];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Computes the correlation coefficients from the inverse of the covariance matrix of VMs,
+     * where the coefficient of a VM i is {@code 1 - 1/(C[i][i] * inverse(C)[i][i])}.
+     */
+    private double[] computeCoefficients(final VmWindow[] vmWindows, final int historySize) {
+        final int vmsNumber = vmWindows.length;
+        final double[][] covariance = new double[vmsNumber][vmsNumber];
+        for (int i = 0; i < vmsNumber; i++) {
+            for (int j = 0; j < vmsNumber; j++) {
+                covariance[i][j] = sums[vmWindows[i].slot][vmWindows[j].slot] - vmWindows[i].sum * vmWindows[j].sum / historySize;
+            }
+        }
+
+        final double[][] inverse = invert(covariance);
+        final double[] coefficients = new double[vmsNumber];
+        for (int i = 0; i < vmsNumber; i++) {
+            coefficients[i] = 1 - 1 / (covariance[i][i] * inverse[i][i]);
+        }
+
+        return coefficients;
+    }
+
+    /**
+     * Inverts a symmetric matrix using Gauss-Jordan elimination with partial pivoting.
+     * @param matrix the matrix to invert, which is not changed
+     * @return the inverse matrix
+     * @throws IllegalArgumentException if the matrix is singular
+     */
+    private static double[][] invert(final double[][] matrix) {
+        final int size = matrix.length;
+        final double[][] work = new double[size][];
+        final double[][] inverse = new double[size][size];
+        double scale = 0;
+        for (int i = 0; i < size; i++) {
+            work[i] = matrix[i].clone();
+            inverse[i][i] = 1;
+            scale = Math.max(scale, Math.abs(matrix[i][i]));
+        }
+
+        for (int col = 0; col < size; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < size; row++) {
+                if (Math.abs(work[row][col]) > Math.abs(work[pivot][col])) {
+                    pivot = row;
+                }
+            }
+
+            if (Math.abs(work[pivot][col]) <= SINGULARITY_THRESHOLD * scale) {
+                throw new IllegalArgumentException("The utilization history of some VMs is linearly dependent");
+            }
+
+            swap(work, col, pivot);
+            swap(inverse, col, pivot);
+            final double pivotValue = work[col][col];
+            for (int j = 0; j < size; j++) {
+                work[col][j] /= pivotValue;
+                inverse[col][j] /= pivotValue;
+            }
+
+            for (int row = 0; row < size; row++) {
+                final double factor = work[row][col];
+                if (row == col || factor == 0) {
+                    continue;
+                }
+
+                for (int j = 0; j < size; j++) {
+                    work[row][j] -= factor * work[col][j];
+                    inverse[row][j] -= factor * inverse[col][j];
+                }
+            }
+        }
+
+        return inverse;
+    }
+
+    private static void swap(final double[][] matrix, final int row1, final int row2) {
+        final double[] row = matrix[row1];
+        matrix[row1] = matrix[row2];
+        matrix[row2] = row;
+    }
+
+    /**
+     * The history entries of a VM used in the last computation of the {@link #sums}.
+     */
+    private static final class VmWindow {
+        private final int slot;
+
+        private double[] times = new double[0];
+        private double[] values = new double[0];
+        private int size;
+        private double sum;
+
+        private double[] previousTimes = new double[0];
+        private double[] previousValues = new double[0];
+        private int previousSize;
+
+        /**
+         * The number of entries removed from the beginning of the history since the previous computation,
+         * or -1 if the sums of this VM must be computed from all the entries.
+         */
+        private int shift;
+
+        /**
+         * The number of entries that were kept unchanged since the previous computation,
+         * starting from the position {@link #shift} of the previous entries.
+         */
+        private int overlap;
+
+        /**
+         * The number of entries added and removed since the sums were computed from all the entries.
+         * The sums are periodically recomputed to avoid the accumulation of rounding errors.
+         */
+        private int changedEntries;
+
+        private VmWindow(final int slot) {
+            this.slot = slot;
+        }
+
+        /**
+         * Updates the window with the first entries of a VM history,
+         * keeping the previous ones to update the sums.
+         *
+         * @param history the VM history
+         * @param size the number of entries to get
+         */
+        private void update(final UtilizationHistory history, final int size) {
+            double[] array = previousTimes;
+            previousTimes = times;
+            times = array.length < size ? new double[size] : array;
+
+            array = previousValues;
+            previousValues = values;
+            values = array.length < size ? new double[size] : array;
+
+            previousSize = this.size;
+            this.size = size;
+            sum = 0;
+            for (int i = 0; i < size; i++) {
+                times[i] = history.getHistoryTime(i);
+                values[i] = history.getHistoryValue(i);
+                sum += values[i];
+            }
+
+            shift = computeShift();
+            if (shift < 0) {
+                changedEntries = 0;
+            }
+        }
+
+        private int computeShift() {
+            if (previousSize == 0) {
+                return -1;
+            }
+
+            final int newShift = Arrays.binarySearch(previousTimes, 0, previousSize, times[0]);
+            if (newShift < 0) {
+                return -1;
+            }
+
+            overlap = Math.min(previousSize - newShift, size);
+            for (int i = 0; i < overlap; i++) {
+                if (times[i] != previousTimes[newShift + i] || values[i] != previousValues[newShift + i]) {
+                    return -1;
+                }
+            }
+
+            changedEntries += previousSize - overlap + size - overlap;
+            return changedEntries < size ? newShift : -1;
+        }
+    }
+}
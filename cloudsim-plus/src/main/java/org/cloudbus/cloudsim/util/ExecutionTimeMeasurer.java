@@ -25,8 +25,10 @@ public final class ExecutionTimeMeasurer {
      * time the method/process started (in milliseconds).
      * Usually, this name is the method/process name, making
      * it easy to identify the execution start times into the map.
+     * Each thread has its own map, so that concurrent simulations
+     * measuring processes with the same name don't interfere with each other.
      */
-    private static final Map<String, Long> EXECUTION_START_TIMES = new HashMap<>();
+    private static final ThreadLocal<Map<String, Long>> EXECUTION_START_TIMES = ThreadLocal.withInitial(HashMap::new);
 
     /**
      * A private constructor to avoid class instantiation.
@@ -42,7 +44,7 @@ public final class ExecutionTimeMeasurer {
      * @see #getExecutionStartTimes()
      */
     public static void start(final String name) {
-        EXECUTION_START_TIMES.put(name, System.currentTimeMillis());
+        EXECUTION_START_TIMES.get().put(name, System.currentTimeMillis());
     }
 
     /**
@@ -53,17 +55,17 @@ public final class ExecutionTimeMeasurer {
      * @see #getExecutionStartTimes()
      */
     public static double end(final String name) {
-        return (System.currentTimeMillis() - EXECUTION_START_TIMES.remove(name)) / 1000.0;
+        return (System.currentTimeMillis() - EXECUTION_START_TIMES.get().remove(name)) / 1000.0;
     }
 
     /**
-     * Gets the map of execution times.
+     * Gets the map of execution start times of the current thread.
      *
      * @return the execution times map
      * @see #EXECUTION_START_TIMES
      */
     static Map<String, Long> getExecutionStartTimes() {
-        return EXECUTION_START_TIMES;
+        return EXECUTION_START_TIMES.get();
     }
 
     /**
@@ -74,7 +76,7 @@ public final class ExecutionTimeMeasurer {
      * @see #EXECUTION_START_TIMES
      */
     static Long getExecutionStartTime(final String name){
-        return EXECUTION_START_TIMES.get(name);
+        return EXECUTION_START_TIMES.get().get(name);
     }
 
 }
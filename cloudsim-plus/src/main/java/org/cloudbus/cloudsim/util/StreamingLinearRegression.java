@@ -0,0 +1,176 @@
+package org.cloudbus.cloudsim.util;
+
+import java.io.Serializable;
+
+/**
+ * A least squares linear regression over a sliding window of the latest values of a series,
+ * which is updated in constant time as values are added,
+ * instead of fitting a new regression from all the values in the window.
+ * It's fed by a {@link TimeSeriesRingBuffer},
+ * which is the only one that can change the regression.
+ *
+ * <p>The independent variable of each value is its position in the window,
+ * counted backwards from the latest value, which is at position 1.
+ * That is the reverse-ordered history used by the
+ * {@link org.cloudbus.cloudsim.allocationpolicies.migration.VmAllocationPolicyMigrationLocalRegression}.
+ * Since such positions are always the same, their sums are known for any number of values.
+ * When a value is added, the position of all previous ones increases by 1,
+ * so the sum of each value multiplied by its position just increases by the sum of values.
+ * This way, the regression keeps only the sum of values and that weighted sum.</p>
+ *
+ * <p>The {@link MathUtil#getLoessParameterEstimates(double...) tricube weights}
+ * of a Local Regression are only applied when at least 40% of them are zero,
+ * which never happens since all of them are positive.
+ * Therefore, the {@link #getParameterEstimates() estimates} of this regression
+ * are the same ones returned by {@link MathUtil#getLoessParameterEstimates(double...)}
+ * and {@link MathUtil#getRobustLoessParameterEstimates(double...)}
+ * for the values in the window, in reverse order.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public final class StreamingLinearRegression implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The values in the window, stored as a ring buffer.
+     */
+    private final double[] values;
+
+    /**
+     * The position of the oldest value inside the {@link #values} array.
+     */
+    private int oldest;
+
+    /** @see #getCount() */
+    private int count;
+
+    private double sumY;
+
+    /**
+     * The sum of each value multiplied by its position in the window.
+     */
+    private double sumXY;
+
+    /**
+     * The number of values added since the sums were computed from scratch.
+     * The sums are periodically recomputed to avoid the accumulation of rounding errors.
+     */
+    private int addedValues;
+
+    /**
+     * Creates a regression over a given number of latest values.
+     * @param window the maximum number of values to consider
+     */
+    StreamingLinearRegression(final int window) {
+        if(window <= 0) {
+            throw new IllegalArgumentException("Window must be greater than 0.");
+        }
+
+        this.values = new double[window];
+    }
+
+    /**
+     * Gets the maximum number of latest values the regression considers.
+     * @return
+     */
+    public int getWindow() {
+        return values.length;
+    }
+
+    /**
+     * Gets the number of values in the window.
+     * @return
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Adds a value as the latest one.
+     * If the window is full, the oldest value is removed.
+     *
+     * @param value the value to add
+     */
+    void add(final double value) {
+        if(count == values.length) {
+            final double oldestValue = values[oldest];
+            sumXY -= count * oldestValue;
+            sumY -= oldestValue;
+            oldest = (oldest + 1) % values.length;
+            count--;
+        }
+
+        values[(oldest + count) % values.length] = value;
+        count++;
+        sumXY += sumY + value;
+        sumY += value;
+
+        if(++addedValues == values.length) {
+            recomputeSums();
+        }
+    }
+
+    /**
+     * Removes all values from the regression.
+     */
+    void clear() {
+        oldest = 0;
+        count = 0;
+        sumY = 0;
+        sumXY = 0;
+        addedValues = 0;
+    }
+
+    /**
+     * Gets the slope of the regression line.
+     * @return the slope or {@link Double#NaN} if there are less than 2 values
+     */
+    public double getSlope() {
+        if(count < 2) {
+            return Double.NaN;
+        }
+
+        final double sumX = count * (count + 1) / 2.0;
+        final double sumSquaredDeviationsX = count * ((double)count * count - 1) / 12.0;
+        return (sumXY - sumX * sumY / count) / sumSquaredDeviationsX;
+    }
+
+    /**
+     * Gets the intercept of the regression line.
+     * @return the intercept or {@link Double#NaN} if there are less than 2 values
+     */
+    public double getIntercept() {
+        final double sumX = count * (count + 1) / 2.0;
+        return (sumY - getSlope() * sumX) / count;
+    }
+
+    /**
+     * Gets the intercept and slope of the regression line, in this order.
+     * @return
+     */
+    public double[] getParameterEstimates() {
+        return new double[]{getIntercept(), getSlope()};
+    }
+
+    /**
+     * Predicts the value at a given position of the window.
+     * @param x the position to predict a value, where 1 is the position of the latest value
+     * @return the predicted value
+     */
+    public double predict(final double x) {
+        return getIntercept() + getSlope() * x;
+    }
+
+    private void recomputeSums() {
+        sumY = 0;
+        sumXY = 0;
+        for (int i = 0; i < count; i++) {
+            final double value = values[(oldest + i) % values.length];
+            sumY += value;
+            sumXY += (count - i) * value;
+        }
+
+        addedValues = 0;
+    }
+}
@@ -0,0 +1,216 @@
+package org.cloudbus.cloudsim.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Computes statistics of a set of values which changes along the time,
+ * updating them incrementally as values are added and removed,
+ * instead of going through all values each time a statistic is requested.
+ * It's fed by the sliding window of values of a {@link TimeSeriesRingBuffer},
+ * which is the only one that can change the statistics.
+ * This way, the statistics {@link TimeSeries#getStatistics() got from a series}
+ * always match its values.
+ *
+ * <p>The mean and variance are updated in constant time using
+ * <a href="https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Welford's_online_algorithm">Welford's algorithm</a>.
+ * Order statistics (median, MAD and IQR) are computed from a sorted array,
+ * where values are inserted and removed using binary search.
+ * This way, the median and IQR are read in constant time
+ * and the MAD is computed in linear time, without sorting nor copying values.
+ * The results are the same ones returned by {@link MathUtil#median(double...)},
+ * {@link MathUtil#mad(double...)} and {@link MathUtil#iqr(double...)}.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public final class StreamingStatistics implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double mean;
+
+    /**
+     * The sum of squared differences from the mean.
+     */
+    private double m2;
+
+    /**
+     * The values in ascending order.
+     */
+    private double[] sorted;
+
+    /** @see #getCount() */
+    private int count;
+
+    StreamingStatistics() {
+        this.sorted = new double[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds a value to the statistics.
+     * @param value the value to add
+     */
+    void add(final double value) {
+        if(count == sorted.length) {
+            sorted = Arrays.copyOf(sorted, count * 2);
+        }
+
+        final int index = insertionIndex(value);
+        System.arraycopy(sorted, index, sorted, index + 1, count - index);
+        sorted[index] = value;
+        count++;
+
+        final double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    /**
+     * Removes a value previously added to the statistics.
+     * If the value was added multiple times, just one occurrence is removed.
+     *
+     * @param value the value to remove
+     * @return true if the value was removed, false if it wasn't found
+     */
+    boolean remove(final double value) {
+        final int index = Arrays.binarySearch(sorted, 0, count, value);
+        if(index < 0) {
+            return false;
+        }
+
+        System.arraycopy(sorted, index + 1, sorted, index, count - index - 1);
+        count--;
+        if(count == 0) {
+            mean = 0;
+            m2 = 0;
+            return true;
+        }
+
+        final double delta = value - mean;
+        mean -= delta / count;
+        m2 = Math.max(0, m2 - delta * (value - mean));
+        return true;
+    }
+
+    /**
+     * Removes all values from the statistics.
+     */
+    void clear() {
+        count = 0;
+        mean = 0;
+        m2 = 0;
+    }
+
+    /**
+     * Gets the number of values in the statistics.
+     * @return
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean of the values.
+     * @return the mean or 0 if there are no values
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Gets the population variance of the values.
+     * @return the variance or 0 if there are no values
+     */
+    public double getVariance() {
+        return count == 0 ? 0 : m2 / count;
+    }
+
+    /**
+     * Gets the median of the values.
+     * @return the median or 0 if there are no values
+     */
+    public double getMedian() {
+        if(count == 0) {
+            return 0;
+        }
+
+        final int middle = count / 2;
+        return count % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    /**
+     * Gets the <a href="https://en.wikipedia.org/wiki/Median_absolute_deviation">Median Absolute Deviation (MAD)</a>
+     * of the values.
+     *
+     * <p>Since the values are sorted, the absolute deviations from the median
+     * are visited in ascending order by walking from the median towards both ends of the values,
+     * until reaching the middle deviation.</p>
+     *
+     * @return the MAD or 0 if there are no values
+     */
+    public double getMad() {
+        if(count == 0) {
+            return 0;
+        }
+
+        final double median = getMedian();
+        final int lowerMiddle = (count - 1) / 2;
+        final int upperMiddle = count / 2;
+
+        int right = insertionIndex(median);
+        int left = right - 1;
+        double lowerMiddleDeviation = 0;
+        for (int i = 0; i <= upperMiddle; i++) {
+            final double deviation;
+            if(right >= count || (left >= 0 && median - sorted[left] <= sorted[right] - median)) {
+                deviation = median - sorted[left--];
+            } else deviation = sorted[right++] - median;
+
+            if(i == lowerMiddle) {
+                lowerMiddleDeviation = deviation;
+            }
+
+            if(i == upperMiddle) {
+                return (lowerMiddleDeviation + deviation) / 2;
+            }
+        }
+
+        return lowerMiddleDeviation;
+    }
+
+    /**
+     * Gets the <a href="https://en.wikipedia.org/wiki/Interquartile_range">Interquartile Range (IQR)</a>
+     * of the values.
+     * @return the IQR or 0 if there are no values
+     */
+    public double getIqr() {
+        if(count == 0) {
+            return 0;
+        }
+
+        final int quartile1 = (int) Math.round(0.25 * (count + 1)) - 1;
+        final int quartile3 = (int) Math.round(0.75 * (count + 1)) - 1;
+        return sorted[Math.min(quartile3, count - 1)] - sorted[Math.max(quartile1, 0)];
+    }
+
+    /**
+     * Gets the index where a value must be inserted to keep the values sorted,
+     * which is after all the values lower than the given one.
+     * @param value the value to search
+     * @return
+     */
+    private int insertionIndex(final double value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if(sorted[middle] < value) {
+                low = middle + 1;
+            } else high = middle;
+        }
+
+        return low;
+    }
+}
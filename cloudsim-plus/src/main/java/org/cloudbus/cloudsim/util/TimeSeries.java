@@ -0,0 +1,109 @@
+package org.cloudbus.cloudsim.util;
+
+import java.util.Arrays;
+import java.util.SortedMap;
+
+/**
+ * A read-only series of values collected along the time.
+ * Entries are ordered by time, from the oldest to the latest one,
+ * and can be accessed by their index in such an order.
+ *
+ * <p>The series has a {@link #getWindow() window}, which is the maximum number of entries it stores.
+ * {@link #getStatistics() Statistics} of the values in the series
+ * and a {@link #getRegression(int) linear regression} of the latest values
+ * are updated incrementally as entries are added and removed.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see TimeSeriesRingBuffer
+ */
+public interface TimeSeries {
+    /**
+     * Gets the maximum number of entries the series stores.
+     * When an entry is added to a full series, the oldest entry is removed.
+     * @return
+     */
+    int getWindow();
+
+    /**
+     * Gets the number of entries in the series.
+     * @return
+     */
+    int size();
+
+    /**
+     * Checks if the series has no entries.
+     * @return
+     */
+    boolean isEmpty();
+
+    /**
+     * Gets the statistics of the values in the series, which are updated
+     * as entries are added and removed.
+     * @return
+     */
+    StreamingStatistics getStatistics();
+
+    /**
+     * Gets a linear regression of the latest values in the series,
+     * which is updated as entries are appended.
+     *
+     * @param window the number of latest values to be considered by the regression
+     * @return
+     */
+    StreamingLinearRegression getRegression(int window);
+
+    /**
+     * Counts the number of entries from the oldest one to the latest entry whose value is not zero,
+     * ignoring the zero values at the end of the series.
+     * @return the number of entries or 0 if all values are zero
+     * @see MathUtil#countNonZeroBeginning(double...)
+     */
+    int countUntilLastNonZero();
+
+    /**
+     * Gets the time of an entry.
+     * @param index the index of the entry, where 0 is the oldest one
+     * @return
+     */
+    double getTime(int index);
+
+    /**
+     * Gets the value of an entry.
+     * @param index the index of the entry, where 0 is the oldest one
+     * @return
+     */
+    double getValue(int index);
+
+    /**
+     * Gets the value collected at a given time.
+     *
+     * @param time the time to get the value
+     * @param defaultValue the value to return if there is no entry for the given time
+     * @return the value at the given time or the default value if there is no such an entry
+     */
+    double getValue(double time, double defaultValue);
+
+    /**
+     * Searches the index of the entry for a given time.
+     *
+     * @param time the time to search
+     * @return the index of the entry, if found;
+     *         otherwise, {@code (-(insertion index) - 1)}, following
+     *         the contract of {@link Arrays#binarySearch(double[], double)}
+     */
+    int indexOf(double time);
+
+    /**
+     * Gets the values of the series, from the oldest to the latest one.
+     * @return a new array with the values
+     */
+    double[] getValues();
+
+    /**
+     * Creates a map with the entries of the series,
+     * where each key is a time and each value is the value collected at that time.
+     * @return a new map with the entries
+     */
+    SortedMap<Double, Double> toMap();
+}
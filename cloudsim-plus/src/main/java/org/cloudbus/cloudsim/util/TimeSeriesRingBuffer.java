@@ -0,0 +1,430 @@
+package org.cloudbus.cloudsim.util;
+
+import java.io.Serializable;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A time series that stores values collected along the time into primitive {@code double} arrays
+ * (one for times and another for values), instead of a map of boxed values.
+ * Entries are kept ordered by time, from the oldest to the latest one,
+ * and can be accessed by their index in such an order.
+ *
+ * <p>The series has a {@link #getWindow() window}, which is the maximum number of entries it stores.
+ * The arrays grow on demand up to the window size; from then on,
+ * they work as a ring buffer, where adding a new entry overwrites the oldest one.
+ * This way, collecting values doesn't create garbage and
+ * accessing an entry by its index or time is fast.</p>
+ *
+ * <p>{@link #getStatistics() Statistics} of the values in the series
+ * and a {@link #getRegression(int) linear regression} of the latest values
+ * can be updated incrementally as entries are added and removed.</p>
+ *
+ * <p>An object that collects values into the series can share it
+ * as a {@link #asReadOnly() read-only view},
+ * so that other objects can't change the collected values.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public final class TimeSeriesRingBuffer implements TimeSeries, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** @see #getWindow() */
+    private int window;
+
+    private double[] times;
+    private double[] values;
+
+    /**
+     * The position of the oldest entry inside the arrays.
+     */
+    private int head;
+
+    /** @see #size() */
+    private int size;
+
+    /** @see #getStatistics() */
+    private StreamingStatistics statistics;
+
+    /** @see #getRegression(int) */
+    private StreamingLinearRegression regression;
+
+    /**
+     * Indicates if the {@link #regression} doesn't match the latest values in the series anymore,
+     * because an entry inside its window was replaced, inserted or removed.
+     */
+    private boolean regressionOutdated;
+
+    /** @see #asReadOnly() */
+    private TimeSeries readOnlyView;
+
+    /**
+     * Creates a time series that stores an unlimited number of entries.
+     */
+    public TimeSeriesRingBuffer() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a time series that stores up to a given number of entries.
+     * @param window the maximum number of entries to store
+     */
+    public TimeSeriesRingBuffer(final int window) {
+        setWindow(window);
+        this.times = new double[Math.min(window, INITIAL_CAPACITY)];
+        this.values = new double[times.length];
+    }
+
+    @Override
+    public int getWindow() {
+        return window;
+    }
+
+    /**
+     * Sets the maximum number of entries the series stores.
+     * If the series has more entries than the given window, the oldest ones are removed.
+     *
+     * @param window the window to set
+     */
+    public void setWindow(final int window) {
+        if(window <= 0) {
+            throw new IllegalArgumentException("Window must be greater than 0.");
+        }
+
+        this.window = window;
+        if(size > window) {
+            removeOldest(size - window);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The statistics are just collected after this method is called for the first time,
+     * so that series which don't need them have no overhead.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public StreamingStatistics getStatistics() {
+        if(statistics == null) {
+            statistics = new StreamingStatistics();
+            for (int i = 0; i < size; i++) {
+                statistics.add(values[position(i)]);
+            }
+        }
+
+        return statistics;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The regression is just collected after this method is called for the first time
+     * or with a different window.
+     *
+     * <p>Appending entries updates the regression in constant time.
+     * If an entry inside the regression window is replaced, inserted or removed,
+     * the regression is rebuilt from the latest values the next time this method is called.</p>
+     *
+     * @param window {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public StreamingLinearRegression getRegression(final int window) {
+        if(regression == null || regression.getWindow() != window) {
+            regression = new StreamingLinearRegression(window);
+            regressionOutdated = true;
+        }
+
+        if(regressionOutdated) {
+            regression.clear();
+            for (int i = Math.max(0, size - window); i < size; i++) {
+                regression.add(values[position(i)]);
+            }
+
+            regressionOutdated = false;
+        }
+
+        return regression;
+    }
+
+    @Override
+    public int countUntilLastNonZero() {
+        int index = size - 1;
+        while (index >= 0 && values[position(index)] == 0) {
+            index--;
+        }
+
+        return index + 1;
+    }
+
+    /**
+     * Adds a value to the series.
+     * If there is already an entry for the given time, its value is replaced.
+     * If the series is full, the oldest entry is removed.
+     *
+     * <p>Values are expected to be added in the order of time,
+     * which just appends the entry to the series.
+     * Adding a value for a time earlier than the latest one
+     * requires shifting the later entries.</p>
+     *
+     * @param time the time the value was collected
+     * @param value the value to add
+     */
+    public void add(final double time, final double value) {
+        if(size > 0 && time <= getTime(size - 1)) {
+            final int index = indexOf(time);
+            if(index >= 0) {
+                final int position = position(index);
+                if(statistics != null) {
+                    statistics.remove(values[position]);
+                    statistics.add(value);
+                }
+
+                values[position] = value;
+                setRegressionOutdated(index);
+                return;
+            }
+
+            insert(-index - 1, time, value);
+            return;
+        }
+
+        if(size == window) {
+            removeOldest(1);
+        }
+
+        ensureCapacity(size + 1);
+        final int position = position(size);
+        times[position] = time;
+        values[position] = value;
+        size++;
+        if(statistics != null) {
+            statistics.add(value);
+        }
+
+        if(regression != null && !regressionOutdated) {
+            regression.add(value);
+        }
+    }
+
+    @Override
+    public double getTime(final int index) {
+        return times[position(checkIndex(index))];
+    }
+
+    @Override
+    public double getValue(final int index) {
+        return values[position(checkIndex(index))];
+    }
+
+    @Override
+    public double getValue(final double time, final double defaultValue) {
+        final int index = indexOf(time);
+        return index < 0 ? defaultValue : values[position(index)];
+    }
+
+    /**
+     * {@inheritDoc}
+     * It uses binary search.
+     *
+     * @param time {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int indexOf(final double time) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final double middleTime = times[position(middle)];
+            if(middleTime < time) {
+                low = middle + 1;
+            } else if(middleTime > time) {
+                high = middle - 1;
+            } else return middle;
+        }
+
+        return -(low + 1);
+    }
+
+    @Override
+    public double[] getValues() {
+        final double[] result = new double[size];
+        final int firstPartSize = Math.min(size, values.length - head);
+        System.arraycopy(values, head, result, 0, firstPartSize);
+        System.arraycopy(values, 0, result, firstPartSize, size - firstPartSize);
+        return result;
+    }
+
+    /**
+     * Removes all entries from the series.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+        if(statistics != null) {
+            statistics.clear();
+        }
+
+        if(regression != null) {
+            regression.clear();
+            regressionOutdated = false;
+        }
+    }
+
+    @Override
+    public SortedMap<Double, Double> toMap() {
+        final SortedMap<Double, Double> map = new TreeMap<>();
+        for (int i = 0; i < size; i++) {
+            final int position = position(i);
+            map.put(times[position], values[position]);
+        }
+
+        return map;
+    }
+
+    /**
+     * Gets a read-only view of the series, which reflects the entries added to it
+     * but can't be cast back to change them.
+     * @return
+     */
+    public TimeSeries asReadOnly() {
+        if(readOnlyView == null) {
+            readOnlyView = new ReadOnlyView(this);
+        }
+
+        return readOnlyView;
+    }
+
+    private void insert(final int index, final double time, final double value) {
+        if(size == window) {
+            if(index == 0) {
+                //The entry would be the oldest one, being removed right away
+                return;
+            }
+
+            removeOldest(1);
+            insertAt(index - 1, time, value);
+            return;
+        }
+
+        insertAt(index, time, value);
+    }
+
+    private void insertAt(final int index, final double time, final double value) {
+        ensureCapacity(size + 1);
+        for (int i = size; i > index; i--) {
+            final int to = position(i);
+            final int from = position(i - 1);
+            times[to] = times[from];
+            values[to] = values[from];
+        }
+
+        final int position = position(index);
+        times[position] = time;
+        values[position] = value;
+        size++;
+        if(statistics != null) {
+            statistics.add(value);
+        }
+
+        setRegressionOutdated(index);
+    }
+
+    private void removeOldest(final int count) {
+        if(statistics != null) {
+            for (int i = 0; i < count; i++) {
+                statistics.remove(values[position(i)]);
+            }
+        }
+
+        setRegressionOutdated(count - 1);
+        head = (head + count) % times.length;
+        size -= count;
+    }
+
+    /**
+     * Marks the {@link #regression} as outdated if an entry inside its window has changed.
+     * @param index the index of the changed entry
+     */
+    private void setRegressionOutdated(final int index) {
+        if(regression != null && index >= size - regression.getWindow()) {
+            regressionOutdated = true;
+        }
+    }
+
+    /**
+     * Grows the arrays (up to the window size) if they can't store a given number of entries,
+     * moving the entries so that the oldest one is at the beginning of the arrays.
+     * @param capacity the number of entries to store
+     */
+    private void ensureCapacity(final int capacity) {
+        if(capacity <= times.length) {
+            return;
+        }
+
+        final int newCapacity = (int)Math.min(window, Math.max(capacity, times.length * 2L));
+        final double[] newTimes = new double[newCapacity];
+        final double[] newValues = new double[newCapacity];
+        final int firstPartSize = Math.min(size, times.length - head);
+        System.arraycopy(times, head, newTimes, 0, firstPartSize);
+        System.arraycopy(times, 0, newTimes, firstPartSize, size - firstPartSize);
+        System.arraycopy(values, head, newValues, 0, firstPartSize);
+        System.arraycopy(values, 0, newValues, firstPartSize, size - firstPartSize);
+        times = newTimes;
+        values = newValues;
+        head = 0;
+    }
+
+    private int position(final int index) {
+        final int position = head + index;
+        return position < times.length ? position : position - times.length;
+    }
+
+    private int checkIndex(final int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return index;
+    }
+
+    /**
+     * A read-only view of a {@link TimeSeriesRingBuffer}.
+     */
+    private static final class ReadOnlyView implements TimeSeries, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final TimeSeries series;
+
+        private ReadOnlyView(final TimeSeries series) {
+            this.series = series;
+        }
+
+        @Override public int getWindow() { return series.getWindow(); }
+        @Override public int size() { return series.size(); }
+        @Override public boolean isEmpty() { return series.isEmpty(); }
+        @Override public StreamingStatistics getStatistics() { return series.getStatistics(); }
+        @Override public StreamingLinearRegression getRegression(final int window) { return series.getRegression(window); }
+        @Override public int countUntilLastNonZero() { return series.countUntilLastNonZero(); }
+        @Override public double getTime(final int index) { return series.getTime(index); }
+        @Override public double getValue(final int index) { return series.getValue(index); }
+        @Override public double getValue(final double time, final double defaultValue) { return series.getValue(time, defaultValue); }
+        @Override public int indexOf(final double time) { return series.indexOf(time); }
+        @Override public double[] getValues() { return series.getValues(); }
+        @Override public SortedMap<Double, Double> toMap() { return series.toMap(); }
+    }
+}
@@ -11,6 +11,8 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.Simulation;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
+
 /**
  * The UtilizationModel interface needs to be implemented in order to provide a
  * fine-grained control over resource usage by a Cloudlet.
@@ -23,7 +25,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Toolkit 2.0
  */
-public interface UtilizationModel {
+public interface UtilizationModel extends Serializable {
     /**
      * Defines the unit of the resource utilization.
      */
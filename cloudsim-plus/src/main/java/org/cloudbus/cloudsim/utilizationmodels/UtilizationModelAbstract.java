@@ -18,6 +18,8 @@ import java.util.Objects;
  * @since CloudSim Plus 1.2
  */
 public abstract class UtilizationModelAbstract implements UtilizationModel {
+    private static final long serialVersionUID = 1L;
+
     /**
      * A constant indicating that values lower or equal to this value
      * will be considered as zero.
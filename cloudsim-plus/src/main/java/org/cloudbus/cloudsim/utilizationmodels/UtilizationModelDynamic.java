@@ -23,8 +23,13 @@
  */
 package org.cloudbus.cloudsim.utilizationmodels;
 
+import org.cloudbus.cloudsim.core.SimulationCheckpoint;
 import org.cloudbus.cloudsim.util.Conversion;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -42,6 +47,8 @@ import java.util.function.Function;
  * @since CloudSim Plus 1.0
  */
 public class UtilizationModelDynamic extends UtilizationModelAbstract {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Indicates whether the utilization model is readonly.
      * It's set to true when using the
@@ -60,9 +67,11 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
     private double maxResourceUtilization;
 
     /**
+     * It's transient so that a non-serializable function doesn't prevent saving a {@link SimulationCheckpoint}.
+     * In such a case, the default function is reattached when the model is restored.
      * @see #setUtilizationUpdateFunction(Function)
      */
-    private Function<UtilizationModelDynamic, Double> utilizationUpdateFunction;
+    private transient Function<UtilizationModelDynamic, Double> utilizationUpdateFunction;
 
     /**
      * The last time the utilization was updated.
@@ -148,7 +157,7 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
         this.currentUtilizationTime = 0;
         this.setCurrentUtilization(initialUtilization);
 
-        utilizationUpdateFunction = modelInstance -> modelInstance.currentUtilization;
+        utilizationUpdateFunction = defaultUtilizationUpdateFunction();
     }
 
     /**
@@ -170,10 +179,28 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
          * that will cause an infinite loop, since the {@link #getUtilization(double)} will call
          * the given function to increase the current utilization and return the current value.
          */
-        this.utilizationUpdateFunction = modelInstance -> modelInstance.currentUtilization;
+        this.utilizationUpdateFunction = defaultUtilizationUpdateFunction();
         this.readOnly = true;
     }
 
+    /**
+     * Gets the default utilization update function, which doesn't change the current utilization.
+     * @return
+     */
+    private static Function<UtilizationModelDynamic, Double> defaultUtilizationUpdateFunction() {
+        return (Function<UtilizationModelDynamic, Double> & Serializable) modelInstance -> modelInstance.currentUtilization;
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        SimulationCheckpoint.writeFunction(out, this, "utilization update function", utilizationUpdateFunction);
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        utilizationUpdateFunction = SimulationCheckpoint.readFunction(in, defaultUtilizationUpdateFunction());
+    }
+
     /**
      * A copy constructor that creates a UtilizationModelDynamic based on a source object.
      *
@@ -20,6 +20,7 @@ import java.util.Objects;
  * </p>
  */
 public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The number of 5 minutes intervals inside one day (24 hours),
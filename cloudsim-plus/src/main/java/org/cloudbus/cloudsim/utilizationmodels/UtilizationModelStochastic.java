@@ -25,6 +25,7 @@ import java.util.Objects;
  * @since CloudSim Toolkit 2.0
  */
 public class UtilizationModelStochastic extends UtilizationModelAbstract {
+    private static final long serialVersionUID = 1L;
 
     /**
      * The random generator.
@@ -3,6 +3,7 @@ package org.cloudbus.cloudsim.vms;
 import org.cloudbus.cloudsim.core.Machine;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 
+import java.io.Serializable;
 import java.util.SortedMap;
 
 /**
@@ -12,7 +13,7 @@ import java.util.SortedMap;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.4
  */
-public interface UtilizationHistory {
+public interface UtilizationHistory extends Serializable {
     /**
      * An attribute that implements the Null Object Design Pattern for {@link UtilizationHistory}
      * objects.
@@ -60,6 +61,42 @@ public interface UtilizationHistory {
      */
     SortedMap<Double, Double> getHistory();
 
+    /**
+     * Gets the number of entries in the history.
+     * Along with {@link #getHistoryTime(int)} and {@link #getHistoryValue(int)},
+     * it enables going through the history without creating a map
+     * such as the one returned by {@link #getHistory()}.
+     *
+     * @return
+     */
+    int getHistorySize();
+
+    /**
+     * Gets the time a history entry was collected.
+     *
+     * @param index the index of the entry, where 0 is the oldest one
+     * @return
+     * @see #getHistorySize()
+     */
+    double getHistoryTime(int index);
+
+    /**
+     * Gets the CPU utilization percentage (between [0 and 1]) of a history entry.
+     *
+     * @param index the index of the entry, where 0 is the oldest one
+     * @return
+     * @see #getHistorySize()
+     */
+    double getHistoryValue(int index);
+
+    /**
+     * Gets the CPU utilization percentages (between [0 and 1]) in the history,
+     * from the oldest to the latest one.
+     *
+     * @return a new array with the utilization percentages
+     */
+    double[] getHistoryValues();
+
     /**
      * Computes the amount of power the VM is using, relative to the total Host's power consumption
      * (in watt-sec).
@@ -105,6 +142,7 @@ public interface UtilizationHistory {
 
     /**
      * Sets the maximum number of entries to store in the history.
+     * When the history is full, adding an entry removes the oldest one.
      * @param maxHistoryEntries the value to set
      */
     void setMaxHistoryEntries(int maxHistoryEntries);
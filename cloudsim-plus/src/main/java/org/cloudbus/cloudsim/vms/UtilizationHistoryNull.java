@@ -12,11 +12,17 @@ import java.util.SortedMap;
  * @see UtilizationHistory#NULL
  */
 final class UtilizationHistoryNull implements UtilizationHistory {
+    private static final long serialVersionUID = 1L;
+
     @Override public double getUtilizationMad() { return 0; }
     @Override public double getUtilizationMean() { return 0; }
     @Override public double getUtilizationVariance() { return 0; }
     @Override public void addUtilizationHistory(double time) {/**/}
     @Override public SortedMap<Double, Double> getHistory() { return Collections.emptySortedMap(); }
+    @Override public int getHistorySize() { return 0; }
+    @Override public double getHistoryTime(int index) { throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0"); }
+    @Override public double getHistoryValue(int index) { throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0"); }
+    @Override public double[] getHistoryValues() { return new double[0]; }
     @Override public double cpuUsageFromHostCapacity(double time) { return 0; }
     @Override public double powerConsumption(double time) { return 0; }
     @Override public boolean isEnabled() { return false; }
@@ -18,6 +18,8 @@ import org.cloudbus.cloudsim.resources.*;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudsimplus.autoscaling.HorizontalVmScaling;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
+import org.cloudsimplus.history.StateHistoryList;
+import org.cloudsimplus.history.StateHistorySink;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.VmDatacenterEventInfo;
 import org.cloudsimplus.listeners.VmHostEventInfo;
@@ -276,6 +278,24 @@ public interface Vm extends Machine, UniquelyIdentifiable, Comparable<Vm>, Custo
      */
     List<VmStateHistoryEntry> getStateHistory();
 
+    /**
+     * Gets the sink where the VM state history entries are stored.
+     * @return
+     * @see #getStateHistory()
+     */
+    StateHistorySink<VmStateHistoryEntry> getStateHistorySink();
+
+    /**
+     * Sets the sink where the VM state history entries are stored,
+     * which defines how much memory the history uses.
+     * By default, all entries are kept in memory by a {@link StateHistoryList}.
+     * It must be set before the simulation starts.
+     *
+     * @param stateHistorySink the sink to set
+     * @return
+     */
+    Vm setStateHistorySink(StateHistorySink<VmStateHistoryEntry> stateHistorySink);
+
     /**
      * Gets the CPU utilization percentage of all Clouddlets running on this
      * VM at the given time.
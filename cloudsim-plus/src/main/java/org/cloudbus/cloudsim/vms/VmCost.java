@@ -26,6 +26,8 @@ package org.cloudbus.cloudsim.vms;
 import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristics;
 import org.cloudbus.cloudsim.resources.Pe;
 
+import java.io.Serializable;
+
 /**
  * Computes the monetary cost to run a given VM,
  * including the {@link #getTotalCost() total cost}
@@ -35,7 +37,9 @@ import org.cloudbus.cloudsim.resources.Pe;
  * @author raysaoliveira
  * @since CloudSim Plus 1.0
  */
-public class VmCost {
+public class VmCost implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     /** @see #getVm()  */
     private Vm vm;
 
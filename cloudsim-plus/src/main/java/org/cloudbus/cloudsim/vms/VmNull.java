@@ -11,6 +11,7 @@ import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudsimplus.autoscaling.HorizontalVmScaling;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
+import org.cloudsimplus.history.StateHistorySink;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.VmDatacenterEventInfo;
 import org.cloudsimplus.listeners.VmHostEventInfo;
@@ -26,6 +27,8 @@ import java.util.List;
  * @see Vm#NULL
  */
 final class VmNull implements Vm {
+    private static final long serialVersionUID = 1L;
+
     @Override public void setId(long id) {/**/}
     @Override public long getId() {
         return -1;
@@ -98,6 +101,8 @@ final class VmNull implements Vm {
     @Override public List<VmStateHistoryEntry> getStateHistory() {
         return Collections.emptyList();
     }
+    @Override public StateHistorySink<VmStateHistoryEntry> getStateHistorySink() { return StateHistorySink.NULL; }
+    @Override public Vm setStateHistorySink(StateHistorySink<VmStateHistoryEntry> stateHistorySink) { return this; }
     @Override public double getCpuPercentUsage(double time) {
         return 0.0;
     }
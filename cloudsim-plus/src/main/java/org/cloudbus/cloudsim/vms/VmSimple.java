@@ -10,7 +10,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.CustomerEntityAbstract;
-import org.cloudbus.cloudsim.core.Machine;
+import org.cloudbus.cloudsim.core.DeferredEffects;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.*;
@@ -19,6 +19,8 @@ import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
 import org.cloudsimplus.autoscaling.HorizontalVmScaling;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 import org.cloudsimplus.autoscaling.VmScaling;
+import org.cloudsimplus.history.StateHistoryList;
+import org.cloudsimplus.history.StateHistorySink;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.VmDatacenterEventInfo;
 import org.cloudsimplus.listeners.VmHostEventInfo;
@@ -42,18 +44,17 @@ import static java.util.stream.Collectors.toList;
  * @since CloudSim Toolkit 1.0
  */
 public class VmSimple extends CustomerEntityAbstract implements Vm {
+    private static final long serialVersionUID = 1L;
+
     /**
-     * @see #setDefaultRamCapacity(long)
-     */
-    private static long defaultRamCapacity = 1024;
-    /**
-     * @see #setDefaultBwCapacity(long)
-     */
-    private static long defaultBwCapacity = 100;
-    /**
-     * @see #setDefaultStorageCapacity(long)
+     * The default RAM, Bandwidth and Storage capacities for creating VMs.
+     * They are constants, so that simulations running concurrently
+     * in different threads don't interfere with each other.
+     * VMs requiring different capacities must have them given in the constructor.
      */
-    private static long defaultStorageCapacity = 1024;
+    private static final long DEF_RAM_CAPACITY = 1024;
+    private static final long DEF_BW_CAPACITY = 100;
+    private static final long DEF_STORAGE_CAPACITY = 1024;
 
     /**
      * @see #getUtilizationHistory()
@@ -63,7 +64,7 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
     /**
      * @see #getStateHistory()
      */
-    private final List<VmStateHistoryEntry> stateHistory;
+    private StateHistorySink<VmStateHistoryEntry> stateHistory;
 
     private HorizontalVmScaling horizontalScaling;
     private boolean failed;
@@ -150,9 +151,9 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      * @see #setRam(long)
      * @see #setBw(long)
      * @see #setStorage(Storage)
-     * @see #setDefaultRamCapacity(long)
-     * @see #setDefaultBwCapacity(long)
-     * @see #setDefaultStorageCapacity(long)
+     * @see #getDefaultRamCapacity()
+     * @see #getDefaultBwCapacity()
+     * @see #getDefaultStorageCapacity()
      */
     public VmSimple(final double mipsCapacity, final long numberOfPes) {
         this(-1, mipsCapacity, numberOfPes);
@@ -177,9 +178,9 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      * @see #setRam(long)
      * @see #setBw(long)
      * @see #setStorage(Storage)
-     * @see #setDefaultRamCapacity(long)
-     * @see #setDefaultBwCapacity(long)
-     * @see #setDefaultStorageCapacity(long)
+     * @see #getDefaultRamCapacity()
+     * @see #getDefaultBwCapacity()
+     * @see #getDefaultStorageCapacity()
      */
     public VmSimple(final long id, final double mipsCapacity, final long numberOfPes) {
         this(id, (long) mipsCapacity, numberOfPes);
@@ -200,9 +201,9 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      * @see #setRam(long)
      * @see #setBw(long)
      * @see #setStorage(Storage)
-     * @see #setDefaultRamCapacity(long)
-     * @see #setDefaultBwCapacity(long)
-     * @see #setDefaultStorageCapacity(long)
+     * @see #getDefaultRamCapacity()
+     * @see #getDefaultBwCapacity()
+     * @see #getDefaultStorageCapacity()
      */
     public VmSimple(final long id, final long mipsCapacity, final long numberOfPes) {
         this.resources = new ArrayList<>(4);
@@ -220,13 +221,13 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
         setMips(mipsCapacity);
         setNumberOfPes(numberOfPes);
 
-        setRam(new Ram(defaultRamCapacity));
-        setBw(new Bandwidth(defaultBwCapacity));
-        setStorage(new Storage(defaultStorageCapacity));
+        setRam(new Ram(getDefaultRamCapacity()));
+        setBw(new Bandwidth(getDefaultBwCapacity()));
+        setStorage(new Storage(getDefaultStorageCapacity()));
 
         setSubmissionDelay(0);
         setVmm("Xen");
-        stateHistory = new LinkedList<>();
+        stateHistory = new StateHistoryList<>();
 
         this.onHostAllocationListeners = new HashSet<>();
         this.onHostDeallocationListeners = new HashSet<>();
@@ -255,6 +256,10 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
         }
         final double nextEventDelay = cloudletScheduler.updateProcessing(currentTime, mipsShare);
         notifyOnUpdateProcessingListeners();
+        if(host.getDatacenter().isEventDrivenHostsUpdate()) {
+            utilizationHistory.addUtilizationHistory(currentTime);
+            return getEventDrivenNextEventDelay(currentTime, nextEventDelay);
+        }
 
         /* If the current time is some value with the decimals greater than x.0
          * (such as 45.1) and the next event delay is any integer number such as 5,
@@ -270,6 +275,28 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
         return nextEventDelay - decimals;
     }
 
+    /**
+     * Gets the delay for the next update of the VM when its Host
+     * is just updated when due (see {@link Datacenter#isEventDrivenHostsUpdate()}).
+     * Like the default delay, the next update is anticipated to the integer time before the Cloudlet completion.
+     * But such a time is computed from the completion time instead of the current time decimals,
+     * so that it doesn't depend on when the VM was last updated.
+     * This way, updating the VM more often (such as when its Host is queried)
+     * doesn't change when it's updated next.
+     *
+     * @param currentTime the current simulation time
+     * @param nextEventDelay the delay for the completion of the next Cloudlet
+     * @return the delay for the next VM update
+     */
+    private double getEventDrivenNextEventDelay(final double currentTime, final double nextEventDelay) {
+        if(nextEventDelay == Double.MAX_VALUE) {
+            return nextEventDelay;
+        }
+
+        final double nextIntegerTime = Math.floor(currentTime + nextEventDelay);
+        return nextIntegerTime > currentTime ? nextIntegerTime - currentTime : nextEventDelay;
+    }
+
     @Override
     public double getCpuPercentUsage() {
         return getCpuPercentUsage(getSimulation().clock());
@@ -560,18 +587,28 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
          *       way, if one wants to get the history for a given time, he/she doesn't
          *       have to iterate over the entire list to find the desired entry.
          */
-        return Collections.unmodifiableList(stateHistory);
+        return stateHistory.getEntries();
+    }
+
+    @Override
+    public StateHistorySink<VmStateHistoryEntry> getStateHistorySink() {
+        return stateHistory;
+    }
+
+    @Override
+    public Vm setStateHistorySink(final StateHistorySink<VmStateHistoryEntry> stateHistorySink) {
+        this.stateHistory = requireNonNull(stateHistorySink);
+        return this;
     }
 
     @Override
     public void addStateHistoryEntry(final VmStateHistoryEntry entry) {
-        if (!stateHistory.isEmpty()) {
-            final VmStateHistoryEntry previousState = stateHistory.get(stateHistory.size() - 1);
-            if (previousState.getTime() == entry.getTime()) {
-                stateHistory.set(stateHistory.size() - 1, entry);
-                return;
-            }
+        final VmStateHistoryEntry previousState = stateHistory.getLast();
+        if (previousState != null && previousState.getTime() == entry.getTime()) {
+            stateHistory.replaceLast(entry);
+            return;
         }
+
         stateHistory.add(entry);
     }
 
@@ -722,7 +759,9 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      * Notifies all registered listeners when the processing of the Vm is updated in its {@link Host}.
      */
     public void notifyOnUpdateProcessingListeners() {
-        onUpdateProcessingListeners.forEach(l -> l.update(VmHostEventInfo.of(l, this)));
+        if(!onUpdateProcessingListeners.isEmpty()) {
+            DeferredEffects.run(() -> onUpdateProcessingListeners.forEach(l -> l.update(VmHostEventInfo.of(l, this))));
+        }
     }
 
     @Override
@@ -811,16 +850,7 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      * This value is used when the RAM capacity is not given in a VM constructor.
      */
     public static long getDefaultRamCapacity() {
-        return defaultRamCapacity;
-    }
-
-    /**
-     * Sets the Default RAM capacity (in MB) for creating VMs.
-     * This value is used when the RAM capacity is not given in a VM constructor.
-     */
-    public static void setDefaultRamCapacity(final long defaultCapacity) {
-        Machine.validateCapacity(defaultCapacity);
-        defaultRamCapacity = defaultCapacity;
+        return DEF_RAM_CAPACITY;
     }
 
     /**
@@ -828,16 +858,7 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      * This value is used when the BW capacity is not given in a VM constructor.
      */
     public static long getDefaultBwCapacity() {
-        return defaultBwCapacity;
-    }
-
-    /**
-     * Sets the Default Bandwidth capacity (in Mbps) for creating VMs.
-     * This value is used when the BW capacity is not given in a VM constructor.
-     */
-    public static void setDefaultBwCapacity(final long defaultCapacity) {
-        Machine.validateCapacity(defaultCapacity);
-        defaultBwCapacity = defaultCapacity;
+        return DEF_BW_CAPACITY;
     }
 
     /**
@@ -845,15 +866,6 @@ public class VmSimple extends CustomerEntityAbstract implements Vm {
      * This value is used when the Storage capacity is not given in a VM constructor.
      */
     public static long getDefaultStorageCapacity() {
-        return defaultStorageCapacity;
-    }
-
-    /**
-     * Sets the Default Storage capacity (in MB) for creating VMs.
-     * This value is used when the Storage capacity is not given in a VM constructor.
-     */
-    public static void setDefaultStorageCapacity(final long defaultCapacity) {
-        Machine.validateCapacity(defaultCapacity);
-        defaultStorageCapacity = defaultCapacity;
+        return DEF_STORAGE_CAPACITY;
     }
 }
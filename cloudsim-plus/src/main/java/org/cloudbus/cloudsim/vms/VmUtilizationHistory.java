@@ -1,25 +1,28 @@
 package org.cloudbus.cloudsim.vms;
 
-import org.cloudbus.cloudsim.util.MathUtil;
+import org.cloudbus.cloudsim.util.TimeSeriesRingBuffer;
 
 import java.util.Collections;
 import java.util.SortedMap;
-import java.util.TreeMap;
-import java.util.stream.Stream;
 
 /**
  * Stores resource utilization data for a specific {@link Vm}.
+ * The history is stored into a {@link TimeSeriesRingBuffer}, whose window
+ * is defined by the {@link #setMaxHistoryEntries(int) maximum number of history entries}.
+ * The utilization statistics (such as mean and MAD) are updated incrementally as entries are added,
+ * instead of being computed from all the entries each time they're requested.
  *
  * @author Anton Beloglazov
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.4
  */
 public class VmUtilizationHistory implements UtilizationHistory {
+    private static final long serialVersionUID = 1L;
+
     private boolean enabled;
-    private int maxHistoryEntries;
 
     /** @see #getHistory() */
-    private final SortedMap<Double, Double> history;
+    private final TimeSeriesRingBuffer history;
     private final Vm vm;
 
     /**
@@ -37,10 +40,9 @@ public class VmUtilizationHistory implements UtilizationHistory {
      *                in order to reduce memory usage
      */
     public VmUtilizationHistory(final Vm vm, final boolean enabled) {
-        this.history = new TreeMap<>();
+        this.history = new TimeSeriesRingBuffer();
         this.vm = vm;
         this.enabled = enabled;
-        this.setMaxHistoryEntries(Integer.MAX_VALUE);
     }
 
     /**
@@ -54,56 +56,18 @@ public class VmUtilizationHistory implements UtilizationHistory {
 
     @Override
     public double getUtilizationMad() {
-        if (history.isEmpty()) {
-            return 0;
-        }
-
-        final int maxEntries = getNumEntriesToComputeStats();
-        final double median = MathUtil.median(getHistory().values());
-        final double[] deviationSum = new double[maxEntries];
-        for (int i = 0; i < maxEntries; i++) {
-            deviationSum[i] = Math.abs(median - getHistory().get(i));
-        }
-
-        return MathUtil.median(deviationSum);
-    }
-
-    /**
-     * Gets the actual number of entries to be used to compute statistics.
-     * @return
-     */
-    private int getNumEntriesToComputeStats() {
-        return Math.min(getMaxHistoryEntries(), getHistory().size());
+        return history.getStatistics().getMad();
     }
 
     @Override
     public double getUtilizationMean() {
-        final int maxEntries = getNumEntriesToComputeStats();
-        final double usagePercentMean = getHistoryLimitedStream(maxEntries)
-            .mapToDouble(usagePercent -> usagePercent)
-            .average()
-            .orElse(0);
-
-        return usagePercentMean * vm.getMips();
-    }
-
-    private Stream<Double> getHistoryLimitedStream(final int maxEntries) {
-        return getHistory().values().stream().limit(maxEntries);
+        return history.getStatistics().getMean() * vm.getMips();
     }
 
     @Override
     public double getUtilizationVariance() {
-        if (history.isEmpty()) {
-            return 0;
-        }
-
-        final double mean = getUtilizationMean();
-        final int maxEntries = getNumEntriesToComputeStats();
-        return getHistoryLimitedStream(maxEntries)
-            .mapToDouble(usagePercent -> usagePercent * vm.getMips())
-            .map(usageValue -> usageValue - mean)
-            .map(usageValue -> usageValue * usageValue)
-            .average().orElse(0);
+        final double mips = vm.getMips();
+        return history.getStatistics().getVariance() * mips * mips;
     }
 
     @Override
@@ -156,26 +120,52 @@ public class VmUtilizationHistory implements UtilizationHistory {
 
     /**
      * Adds a CPU utilization percentage history value.
+     * If the history is full, the oldest entry is removed.
      *
      * @param time the time this utilization was collected
      * @param utilizationPercent the CPU utilization percentage to add
      */
     private void addUtilizationHistoryValue(final double time, final double utilizationPercent) {
-        history.put(time, utilizationPercent);
-        if (getHistory().size() > maxHistoryEntries) {
-            history.remove(maxHistoryEntries);
-        }
+        history.add(time, utilizationPercent);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The map is built from the history entries every time this method is called.
+     * To go through the history without creating a map, use {@link #getHistorySize()},
+     * {@link #getHistoryTime(int)} and {@link #getHistoryValue(int)} instead.</p>
+     *
+     * @return {@inheritDoc}
+     */
     @Override
     public SortedMap<Double, Double> getHistory() {
-        return Collections.unmodifiableSortedMap(history);
+        return Collections.unmodifiableSortedMap(history.toMap());
+    }
+
+    @Override
+    public int getHistorySize() {
+        return history.size();
+    }
+
+    @Override
+    public double getHistoryTime(final int index) {
+        return history.getTime(index);
+    }
+
+    @Override
+    public double getHistoryValue(final int index) {
+        return history.getValue(index);
+    }
+
+    @Override
+    public double[] getHistoryValues() {
+        return history.getValues();
     }
 
     @Override
     public double powerConsumption(final double time){
         //The % of CPU that is being used from the Host (considering all running VMs)
-        final double hostTotalCpuUsage = vm.getHost().getUtilizationHistory().get(time).getSum();
+        final double hostTotalCpuUsage = vm.getHost().getUtilizationHistorySum(time);
 
         /* Computes the % of the CPU the VM is using, relative to the Host's USED MIPS.
          * If the Host's USED MIPS is 500 and a VM is using 250 MIPS, this value represents
@@ -191,7 +181,7 @@ public class VmUtilizationHistory implements UtilizationHistory {
     @Override
     public double cpuUsageFromHostCapacity(final double time){
         //VM CPU usage relative to the VM capacity.
-        final double vmUsagePercent = history.get(time);
+        final double vmUsagePercent = history.getValue(time, 0);
         return vmUsagePercent * vm.getRelativeMipsCapacityPercent();
     }
 
@@ -212,12 +202,18 @@ public class VmUtilizationHistory implements UtilizationHistory {
 
     @Override
     public int getMaxHistoryEntries() {
-        return maxHistoryEntries;
+        return history.getWindow();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param maxHistoryEntries {@inheritDoc}
+     * @throws IllegalArgumentException when the value is not greater than 0
+     */
     @Override
     public void setMaxHistoryEntries(final int maxHistoryEntries) {
-        this.maxHistoryEntries = maxHistoryEntries;
+        history.setWindow(maxHistoryEntries);
     }
 
     @Override
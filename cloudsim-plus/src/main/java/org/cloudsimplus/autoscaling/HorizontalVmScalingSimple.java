@@ -24,11 +24,16 @@
 package org.cloudsimplus.autoscaling;
 
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.SimulationCheckpoint;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.VmHostEventInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -54,10 +59,16 @@ import java.util.function.Supplier;
  * @see HorizontalVmScaling
  */
 public class HorizontalVmScalingSimple extends VmScalingAbstract implements HorizontalVmScaling {
+    private static final long serialVersionUID = 1L;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(HorizontalVmScalingSimple.class.getSimpleName());
 
-    /** @see #getVmSupplier() */
-    private Supplier<Vm> vmSupplier;
+    /**
+     * It's transient so that a non-serializable supplier doesn't prevent saving a {@link SimulationCheckpoint}.
+     * In such a case, the default supplier is reattached when the object is restored.
+     * @see #getVmSupplier()
+     */
+    private transient Supplier<Vm> vmSupplier;
 
     /**
      * The last number of cloudlet creation requests
@@ -72,7 +83,25 @@ public class HorizontalVmScalingSimple extends VmScalingAbstract implements Hori
     public HorizontalVmScalingSimple(){
         super();
         this.overloadPredicate = FALSE_PREDICATE;
-        this.vmSupplier = () -> Vm.NULL;
+        this.vmSupplier = defaultVmSupplier();
+    }
+
+    /**
+     * Gets the default VM supplier, which just returns {@link Vm#NULL}.
+     * @return
+     */
+    private static Supplier<Vm> defaultVmSupplier() {
+        return (Supplier<Vm> & Serializable) () -> Vm.NULL;
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        SimulationCheckpoint.writeFunction(out, this, "VM supplier", vmSupplier);
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        vmSupplier = SimulationCheckpoint.readFunction(in, defaultVmSupplier());
     }
 
     @Override
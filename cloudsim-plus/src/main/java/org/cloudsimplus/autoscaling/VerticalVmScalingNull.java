@@ -40,6 +40,8 @@ import java.util.function.Function;
  * @since CloudSim Plus 1.2.0
  */
 final class VerticalVmScalingNull implements VerticalVmScaling {
+    private static final long serialVersionUID = 1L;
+
     @Override public Class<? extends ResourceManageable> getResourceClass() { return ResourceManageable.class; }
     @Override public VerticalVmScaling setResourceClass(Class<? extends ResourceManageable> resourceClass) { return this; }
     @Override public double getScalingFactor() {
@@ -46,6 +46,8 @@ import java.util.function.Function;
  * @since CloudSim Plus 1.1.0
  */
 public class VerticalVmScalingSimple extends VmScalingAbstract implements VerticalVmScaling {
+    private static final long serialVersionUID = 1L;
+
     private ResourceScaling resourceScaling;
     private double scalingFactor;
     private Class<? extends ResourceManageable> resourceClassToScale;
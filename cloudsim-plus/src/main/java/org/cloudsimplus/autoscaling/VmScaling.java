@@ -28,6 +28,8 @@ import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.VmHostEventInfo;
 
+import java.io.Serializable;
+
 /**
  * An interface to allow implementing <a href="https://en.wikipedia.org/wiki/Scalability#Horizontal_and_vertical_scaling">horizontal and vertical scaling</a>
  * of {@link Vm}s.
@@ -35,7 +37,7 @@ import org.cloudsimplus.listeners.VmHostEventInfo;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0.0
  */
-public interface VmScaling {
+public interface VmScaling extends Serializable {
     /**
      * An attribute that implements the Null Object Design Pattern for {@link VmScaling}
      * objects.
@@ -35,6 +35,8 @@ import java.util.Objects;
  * @since CloudSim Plus 1.1.0
  */
 public abstract class VmScalingAbstract implements VmScaling {
+    private static final long serialVersionUID = 1L;
+
     private double lastProcessingTime;
     private Vm vm;
 
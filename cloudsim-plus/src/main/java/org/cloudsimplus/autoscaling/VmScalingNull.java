@@ -33,6 +33,8 @@ import org.cloudsimplus.listeners.VmHostEventInfo;
  * @see VmScaling#NULL
  */
 final class VmScalingNull implements VmScaling {
+    private static final long serialVersionUID = 1L;
+
     @Override public Vm getVm() {
         return Vm.NULL;
     }
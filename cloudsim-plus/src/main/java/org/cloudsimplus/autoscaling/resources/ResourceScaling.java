@@ -26,6 +26,8 @@ package org.cloudsimplus.autoscaling.resources;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 
+import java.io.Serializable;
+
 /**
  * A {@link FunctionalInterface} to define how the capacity of the resource to be scaled by a {@link VerticalVmScaling}
  * will be resized, according to the defined {@link VerticalVmScaling#getScalingFactor() scaling factor}.
@@ -45,7 +47,7 @@ import org.cloudsimplus.autoscaling.VerticalVmScaling;
  * @see ResourceScalingInstantaneous
  */
 @FunctionalInterface
-public interface ResourceScaling {
+public interface ResourceScaling extends Serializable {
     /**
      * An attribute that implements the Null Object Design Pattern for {@link ResourceScaling}
      * objects.
@@ -42,6 +42,8 @@ import org.cloudsimplus.autoscaling.VerticalVmScaling;
  * @since CloudSim Plus 1.2.0
  */
 public class ResourceScalingGradual implements ResourceScaling {
+    private static final long serialVersionUID = 1L;
+
     @Override
     public double getResourceAmountToScale(VerticalVmScaling vmScaling) {
         return vmScaling.getResource().getCapacity() * vmScaling.getScalingFactor();
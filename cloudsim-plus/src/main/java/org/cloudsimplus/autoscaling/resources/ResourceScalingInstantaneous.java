@@ -55,6 +55,8 @@ import java.util.function.Function;
  * @since CloudSim Plus 1.2.0
  */
 public class ResourceScalingInstantaneous implements ResourceScaling {
+    private static final long serialVersionUID = 1L;
+
     private static final ResourceScaling GRADUAL = new ResourceScalingGradual();
 
     @Override
@@ -41,9 +41,9 @@ import java.util.function.Supplier;
  * A Builder class to create {@link Host} objects
  * using the default configurations defined in {@link Host} class.
  *
- * @see HostSimple#setDefaultRamCapacity(long)
- * @see HostSimple#setDefaultBwCapacity(long)
- * @see HostSimple#setDefaultStorageCapacity(long)
+ * @see HostSimple#getDefaultRamCapacity()
+ * @see HostSimple#getDefaultBwCapacity()
+ * @see HostSimple#getDefaultStorageCapacity()
  *
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
@@ -45,9 +45,9 @@ import java.util.function.Supplier;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  *
- * @see VmSimple#setDefaultRamCapacity(long)
- * @see VmSimple#setDefaultBwCapacity(long)
- * @see VmSimple#setDefaultStorageCapacity(long)
+ * @see VmSimple#getDefaultRamCapacity()
+ * @see VmSimple#getDefaultBwCapacity()
+ * @see VmSimple#getDefaultStorageCapacity()
  *
  */
 public class VmBuilder implements Builder {
@@ -25,10 +25,13 @@ package org.cloudsimplus.builders.tables;
 
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.hosts.HostStateHistoryEntry;
+import org.cloudsimplus.history.StateHistorySink;
 
 /**
  * Builds a table for printing {@link HostStateHistoryEntry} entries from the
- * {@link Host#getStateHistory()}.
+ * {@link Host#getStateHistory()}, which are read from the
+ * {@link Host#getStateHistorySink() Host state history sink}
+ * (either kept in memory or written to a file).
  * It defines a set of default columns but new ones can be added
  * dynamically using the {@code addColumn()} methods.
  *
@@ -54,6 +57,18 @@ public class HostHistoryTableBuilder extends TableBuilderAbstract<HostStateHisto
         this.host = host;
     }
 
+    /**
+     * Instantiates a builder to print the history of a Host, read from a given {@link StateHistorySink},
+     * using the a default {@link TextTable}.
+     *
+     * @param host the Host the history is related to
+     * @param stateHistory the sink to read the history entries from
+     */
+    public HostHistoryTableBuilder(final Host host, final StateHistorySink<HostStateHistoryEntry> stateHistory) {
+        super(stateHistory.getEntries());
+        this.host = host;
+    }
+
     /**
      * Instantiates a builder to print the history of a Host using the a
      * given {@link Table}.
@@ -140,6 +140,8 @@ import static java.util.stream.Collectors.toMap;
  *       the fault recovery. The cloner methods are fault recovery.
  */
 public class HostFaultInjection extends CloudSimEntity {
+    private static final long serialVersionUID = 1L;
+
     /**
      * Maximum number of seconds for a VM to recovery from a failure,
      * which is randomly selected based on this value.
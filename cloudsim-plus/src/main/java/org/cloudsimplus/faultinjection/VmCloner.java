@@ -26,6 +26,7 @@ package org.cloudsimplus.faultinjection;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -44,7 +45,7 @@ import java.util.function.UnaryOperator;
  * @author raysaoliveira
  * @since CloudSim Plus 1.2.3
  */
-public interface VmCloner {
+public interface VmCloner extends Serializable {
     VmCloner NULL = new VmCloner() {
         @Override public int getClonedVmsNumber() { return 0;}
         @Override public Map.Entry<Vm, List<Cloudlet>> clone(Vm sourceVm) { return new HashMap.SimpleEntry<>(Vm.NULL, Collections.EMPTY_LIST); }
@@ -41,6 +41,8 @@ import static java.util.Objects.requireNonNull;
  * @since CloudSim Plus 1.2.2
  */
 public class VmClonerSimple implements VmCloner {
+    private static final long serialVersionUID = 1L;
+
     private UnaryOperator<Vm> vmClonerFunction;
     private Function<Vm, List<Cloudlet>> cloudletsClonerFunction;
     private int maxClonesNumber;
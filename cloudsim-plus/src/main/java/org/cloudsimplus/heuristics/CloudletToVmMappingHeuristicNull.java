@@ -37,6 +37,8 @@ import java.util.List;
  * @see CloudletToVmMappingHeuristic#NULL
  */
 final class CloudletToVmMappingHeuristicNull extends HeuristicNull<CloudletToVmMappingSolution> implements CloudletToVmMappingHeuristic {
+    private static final long serialVersionUID = 1L;
+
     @Override public List<Cloudlet> getCloudletList() { return Collections.EMPTY_LIST; }
     @Override public List<Vm> getVmList() { return Collections.EMPTY_LIST; }
     @Override public void setCloudletList(List<Cloudlet> cloudletList) {/**/}
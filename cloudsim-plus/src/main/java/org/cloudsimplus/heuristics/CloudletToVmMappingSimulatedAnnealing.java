@@ -41,6 +41,8 @@ public class CloudletToVmMappingSimulatedAnnealing
       extends SimulatedAnnealing<CloudletToVmMappingSolution>
       implements CloudletToVmMappingHeuristic
 {
+    private static final long serialVersionUID = 1L;
+
     private CloudletToVmMappingSolution initialSolution;
 
     /** @see #getVmList() */
@@ -38,6 +38,8 @@ import java.util.stream.Collectors;
  * @since CloudSim Plus 1.0
  */
 public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudlet, Vm>> {
+    private static final long serialVersionUID = 1L;
+
     /**
      * When two double values are subtracted to check if they are equal zero,
      * there may be some precision issues. This value is used to check the absolute difference between the two values
@@ -23,6 +23,8 @@
  */
 package org.cloudsimplus.heuristics;
 
+import java.io.Serializable;
+
 /**
  * <p>Provides the methods to be used for implementation of heuristics
  * to find solution for complex problems where the solution space
@@ -47,7 +49,7 @@ package org.cloudsimplus.heuristics;
  * @param <S> the {@link HeuristicSolution class of solutions} the heuristic will deal with
  * @since CloudSim Plus 1.0
  */
-public interface Heuristic<S extends HeuristicSolution<?>> {
+public interface Heuristic<S extends HeuristicSolution<?>> extends Serializable {
 
     /**
      * A property that implements the Null Object Design Pattern for {@link Heuristic}
@@ -40,6 +40,8 @@ import java.lang.reflect.InvocationTargetException;
  * @since CloudSim Plus 1.0
  */
 public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  implements Heuristic<S> {
+    private static final long serialVersionUID = 1L;
+
 	/**
 	 * Reference to the generic class that will be used to instantiate objects.
 	 */
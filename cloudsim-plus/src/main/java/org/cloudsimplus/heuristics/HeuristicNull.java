@@ -30,6 +30,8 @@ package org.cloudsimplus.heuristics;
  * @author Manoel Campos da Silva Filho
  */
 class HeuristicNull<S extends HeuristicSolution<?>> implements Heuristic<S> {
+    private static final long serialVersionUID = 1L;
+
     @Override public double getAcceptanceProbability() { return 0.0; }
 	@Override public int getRandomValue(int maxValue) { return 0; }
 	@Override public boolean isToStopSearch() { return false; }
@@ -23,6 +23,8 @@
  */
 package org.cloudsimplus.heuristics;
 
+import java.io.Serializable;
+
 /**
  * A solution for a complex problem found using a {@link Heuristic} implementation.
  * A heuristic can generate multiple solutions until find an optimal or suboptimal
@@ -33,7 +35,7 @@ package org.cloudsimplus.heuristics;
  * Check {@link #getResult()} for more details.
  * @since CloudSim Plus 1.0
  */
-public interface HeuristicSolution<T> extends Comparable<HeuristicSolution<T>> {
+public interface HeuristicSolution<T> extends Comparable<HeuristicSolution<T>>, Serializable {
     /**
      * An attribute that implements the Null Object Design Pattern for {@link HeuristicSolution}
      * objects.
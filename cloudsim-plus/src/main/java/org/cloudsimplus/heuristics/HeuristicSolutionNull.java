@@ -31,6 +31,8 @@ package org.cloudsimplus.heuristics;
  * @see HeuristicSolution#NULL
  */
 final class HeuristicSolutionNull implements HeuristicSolution {
+    private static final long serialVersionUID = 1L;
+
     private static final Object OBJ = new Object();
     @Override public double getFitness() {
         return 0.0;
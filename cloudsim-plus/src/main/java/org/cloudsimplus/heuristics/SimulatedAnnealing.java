@@ -62,6 +62,8 @@ import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
  * @since CloudSim Plus 1.0
  */
 public abstract class SimulatedAnnealing<S extends HeuristicSolution<?>> extends HeuristicAbstract<S> {
+    private static final long serialVersionUID = 1L;
+
     /**
      * @see #getColdTemperature()
      */
@@ -0,0 +1,81 @@
+package org.cloudsimplus.history;
+
+import org.cloudbus.cloudsim.hosts.HostStateHistoryEntry;
+import org.cloudbus.cloudsim.vms.VmStateHistoryEntry;
+
+/**
+ * Defines how state history entries are converted to and from lines of a CSV file,
+ * used by a {@link StateHistoryCsvWriter}.
+ * Numbers are written so that they can be read back without losing precision.
+ *
+ * @param <T> the type of the history entries
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public interface StateHistoryCsvFormat<T> {
+    /**
+     * The format for {@link HostStateHistoryEntry} objects.
+     */
+    StateHistoryCsvFormat<HostStateHistoryEntry> HOST = new StateHistoryCsvFormat<HostStateHistoryEntry>() {
+        @Override
+        public String getHeader() {
+            return "time,allocatedMips,requestedMips,active";
+        }
+
+        @Override
+        public String format(final HostStateHistoryEntry entry) {
+            return entry.getTime() + "," + entry.getAllocatedMips() + "," + entry.getRequestedMips() + "," + entry.isActive();
+        }
+
+        @Override
+        public HostStateHistoryEntry parse(final String line) {
+            final String[] fields = line.split(",");
+            return new HostStateHistoryEntry(
+                Double.parseDouble(fields[0]), Double.parseDouble(fields[1]),
+                Double.parseDouble(fields[2]), Boolean.parseBoolean(fields[3]));
+        }
+    };
+
+    /**
+     * The format for {@link VmStateHistoryEntry} objects.
+     */
+    StateHistoryCsvFormat<VmStateHistoryEntry> VM = new StateHistoryCsvFormat<VmStateHistoryEntry>() {
+        @Override
+        public String getHeader() {
+            return "time,allocatedMips,requestedMips,inMigration";
+        }
+
+        @Override
+        public String format(final VmStateHistoryEntry entry) {
+            return entry.getTime() + "," + entry.getAllocatedMips() + "," + entry.getRequestedMips() + "," + entry.isInMigration();
+        }
+
+        @Override
+        public VmStateHistoryEntry parse(final String line) {
+            final String[] fields = line.split(",");
+            return new VmStateHistoryEntry(
+                Double.parseDouble(fields[0]), Double.parseDouble(fields[1]),
+                Double.parseDouble(fields[2]), Boolean.parseBoolean(fields[3]));
+        }
+    };
+
+    /**
+     * Gets the header line of the CSV file, with the name of the columns.
+     * @return
+     */
+    String getHeader();
+
+    /**
+     * Converts an entry to a CSV line.
+     * @param entry the entry to convert
+     * @return the CSV line (without the line separator)
+     */
+    String format(T entry);
+
+    /**
+     * Converts a CSV line back to an entry.
+     * @param line the CSV line to convert
+     * @return the entry
+     */
+    T parse(String line);
+}
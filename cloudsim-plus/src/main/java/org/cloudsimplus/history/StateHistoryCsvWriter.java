@@ -0,0 +1,300 @@
+package org.cloudsimplus.history;
+
+import org.cloudbus.cloudsim.core.Identifiable;
+import org.cloudbus.cloudsim.core.Simulation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toCollection;
+
+/**
+ * Appends the state history entries of all Hosts or VMs of a simulation to a single CSV file,
+ * using a single background thread, so that the simulation doesn't wait for the file writes.
+ * Each Host or VM gets its own {@link StateHistorySink} by calling {@link #getSink(Identifiable)},
+ * which keeps just the last entry in memory (since it may still be {@link StateHistorySink#replaceLast(Object) replaced}).
+ *
+ * <p>Each line of the file starts with an {@link #ENTITY_COLUMN} with the {@link Identifiable#getId() ID}
+ * of the entity the entry belongs to, followed by the columns of the {@link StateHistoryCsvFormat}.
+ * Therefore, the entities sharing a writer must have distinct IDs when their entries are added
+ * (such as the Hosts of a single Datacenter or the VMs of a single broker).
+ * The file is created (or truncated) when the object is instantiated and closed when the simulation finishes.
+ * {@link StateHistorySink#getEntries()} waits for pending writes and reads the entries back from the file.
+ * Sinks can be created and the writer closed from any thread.
+ * Hosts add their entries (and the ones of their VMs) as {@link org.cloudbus.cloudsim.core.DeferredEffects deferred effects},
+ * so that lines are written in the same order even when Hosts are updated in parallel.
+ * Since the writer holds a file and a thread, it isn't serializable
+ * and can't be used by Hosts or VMs of a simulation that will be checkpointed.</p>
+ *
+ * @param <T> the type of the history entries
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public class StateHistoryCsvWriter<T> implements AutoCloseable {
+    /**
+     * The name of the first column of the file, which identifies the sink an entry belongs to.
+     */
+    public static final String ENTITY_COLUMN = "entity";
+
+    private final Path file;
+    private final StateHistoryCsvFormat<T> format;
+    private final BufferedWriter writer;
+    private final ExecutorService executor;
+
+    /**
+     * The sink of each entity.
+     * It's just accessed while holding the lock of the writer.
+     */
+    private final Map<Identifiable, EntitySink> sinks;
+
+    /**
+     * The sinks in the order they were created, which is the order
+     * their last entries are written when the writer is closed.
+     * It's just accessed while holding the lock of the writer.
+     */
+    private final List<EntitySink> sinkList;
+
+    /**
+     * The first error that happened while writing entries, or null if there was no error.
+     */
+    private volatile IOException error;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a writer for the state history of entities from a given simulation,
+     * which is closed when the simulation finishes.
+     *
+     * @param simulation the simulation the entities belong to
+     * @param file the path of the file to write
+     * @param format the format used to convert entries to CSV lines,
+     *               such as {@link StateHistoryCsvFormat#HOST} or {@link StateHistoryCsvFormat#VM}
+     * @throws UncheckedIOException when the file cannot be created
+     */
+    public StateHistoryCsvWriter(final Simulation simulation, final Path file, final StateHistoryCsvFormat<T> format) {
+        this.file = requireNonNull(file);
+        this.format = requireNonNull(format);
+        this.sinks = new IdentityHashMap<>();
+        this.sinkList = new ArrayList<>();
+        try {
+            this.writer = Files.newBufferedWriter(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "StateHistoryCsvWriter-" + file.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        write(ENTITY_COLUMN + "," + format.getHeader());
+        simulation.addOnSimulationEndListener(info -> close());
+    }
+
+    /**
+     * Gets the path of the file the entries are written to.
+     * @return
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the sink that writes the state history entries of a given entity (a Host or VM),
+     * creating it the first time the method is called for the entity.
+     *
+     * @param entity the entity to get the sink
+     * @return the sink to be set to the entity
+     */
+    public synchronized StateHistorySink<T> getSink(final Identifiable entity) {
+        checkOpen();
+        return sinks.computeIfAbsent(requireNonNull(entity), this::newSink);
+    }
+
+    private EntitySink newSink(final Identifiable entity) {
+        final EntitySink sink = new EntitySink(entity);
+        sinkList.add(sink);
+        return sink;
+    }
+
+    /**
+     * Writes the last entry of each sink, waits for all pending writes and closes the file.
+     * It's called when the simulation finishes, but it can be called before
+     * to ensure the entries are written.
+     * After that, no entries can be added anymore.
+     *
+     * @throws UncheckedIOException when the file cannot be written
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        sinkList.forEach(EntitySink::writeLast);
+        closed = true;
+        try {
+            waitFor(() -> {
+                writer.close();
+                return null;
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Reads the entries of a given entity back from the file, after waiting for pending writes.
+     * The file is streamed, so that just the entries of the entity are kept in memory.
+     *
+     * @param entity the {@link #ENTITY_COLUMN} of the entries to read
+     * @return the entries written for the entity
+     */
+    private List<T> readEntries(final long entity) {
+        if (!closed) {
+            waitFor(() -> {
+                writer.flush();
+                return null;
+            });
+        }
+
+        final String prefix = entity + ",";
+        try (Stream<String> lines = Files.lines(file)) {
+            return lines.skip(1) //skips the header
+                        .filter(line -> line.startsWith(prefix))
+                        .map(line -> format.parse(line.substring(prefix.length())))
+                        .collect(toCollection(ArrayList::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(final String line) {
+        executor.execute(() -> {
+            try {
+                writer.write(line);
+                writer.newLine();
+            } catch (IOException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+        });
+    }
+
+    /**
+     * Runs an IO operation in the background thread, after the pending writes, and waits for it.
+     * @param operation the operation to run
+     */
+    private void waitFor(final Callable<Void> operation) {
+        try {
+            executor.submit(operation).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw new UncheckedIOException((IOException) e.getCause());
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+
+        checkError();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The state history file " + file + " was already closed.");
+        }
+
+        checkError();
+    }
+
+    private void checkError() {
+        if (error != null) {
+            throw new UncheckedIOException(error);
+        }
+    }
+
+    /**
+     * The {@link StateHistorySink} of a single entity, which writes entries to the file of the enclosing writer.
+     */
+    private final class EntitySink implements StateHistorySink<T> {
+        /**
+         * The entity whose {@link Identifiable#getId() ID} is written in the {@link #ENTITY_COLUMN}.
+         */
+        private final Identifiable entity;
+
+        /**
+         * The last entry added, which is not written yet.
+         */
+        private T last;
+
+        private EntitySink(final Identifiable entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public void add(final T entry) {
+            checkOpen();
+            writeLast();
+            last = requireNonNull(entry);
+        }
+
+        @Override
+        public void replaceLast(final T entry) {
+            checkOpen();
+            if (last == null) {
+                throw new IllegalStateException("There is no entry to replace.");
+            }
+
+            last = requireNonNull(entry);
+        }
+
+        @Override
+        public T getLast() {
+            return last;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>The entries are read from the file, after waiting for pending writes.
+         * This way, it should be called just after the simulation finishes,
+         * since every call goes through the entire file.</p>
+         *
+         * @return {@inheritDoc}
+         * @throws UncheckedIOException when the file cannot be written or read
+         */
+        @Override
+        public List<T> getEntries() {
+            final List<T> entries = readEntries(entity.getId());
+            if (last != null) {
+                entries.add(last);
+            }
+
+            return Collections.unmodifiableList(entries);
+        }
+
+        private void writeLast() {
+            if (last != null) {
+                write(entity.getId() + "," + format.format(last));
+                last = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.cloudsimplus.history;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link StateHistorySink} that keeps all entries in memory.
+ * It's the default sink for Hosts and VMs, but since its memory usage grows
+ * along the simulation, it may be replaced by a {@link StateHistoryRingBuffer}
+ * or a {@link StateHistoryCsvWriter} in long simulations.
+ *
+ * @param <T> the type of the history entries
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public class StateHistoryList<T> implements StateHistorySink<T>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final List<T> entries;
+
+    public StateHistoryList() {
+        this.entries = new ArrayList<>();
+    }
+
+    @Override
+    public void add(final T entry) {
+        entries.add(entry);
+    }
+
+    @Override
+    public void replaceLast(final T entry) {
+        if (entries.isEmpty()) {
+            throw new IllegalStateException("There is no entry to replace.");
+        }
+
+        entries.set(entries.size() - 1, entry);
+    }
+
+    @Override
+    public T getLast() {
+        return entries.isEmpty() ? null : entries.get(entries.size() - 1);
+    }
+
+    @Override
+    public List<T> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+}
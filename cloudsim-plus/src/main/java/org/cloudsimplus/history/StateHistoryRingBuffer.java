@@ -0,0 +1,106 @@
+package org.cloudsimplus.history;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * A {@link StateHistorySink} that keeps just the latest entries in memory,
+ * up to a given capacity. When it's full, adding an entry overwrites the oldest one.
+ * This way, the memory used by the history is fixed along the simulation.
+ *
+ * @param <T> the type of the history entries
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+public class StateHistoryRingBuffer<T> implements StateHistorySink<T>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] entries;
+
+    /**
+     * The position of the oldest entry inside the array.
+     */
+    private int head;
+
+    private int size;
+
+    /**
+     * Creates a history that keeps up to a given number of entries.
+     * @param capacity the maximum number of entries to keep
+     */
+    public StateHistoryRingBuffer(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0.");
+        }
+
+        this.entries = new Object[capacity];
+    }
+
+    /**
+     * Gets the maximum number of entries the history keeps.
+     * @return
+     */
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    @Override
+    public void add(final T entry) {
+        if (size == entries.length) {
+            entries[head] = entry;
+            head = (head + 1) % entries.length;
+            return;
+        }
+
+        entries[position(size++)] = entry;
+    }
+
+    @Override
+    public void replaceLast(final T entry) {
+        if (size == 0) {
+            throw new IllegalStateException("There is no entry to replace.");
+        }
+
+        entries[position(size - 1)] = entry;
+    }
+
+    @Override
+    public T getLast() {
+        return size == 0 ? null : get(size - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The returned list is a view of the entries, which reflects later changes in the history.</p>
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public List<T> getEntries() {
+        return new AbstractList<T>() {
+            @Override
+            public T get(final int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+
+                return StateHistoryRingBuffer.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private T get(final int index) {
+        return (T) entries[position(index)];
+    }
+
+    private int position(final int index) {
+        return (head + index) % entries.length;
+    }
+}
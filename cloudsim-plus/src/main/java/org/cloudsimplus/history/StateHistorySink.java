@@ -0,0 +1,66 @@
+package org.cloudsimplus.history;
+
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.util.List;
+
+/**
+ * A destination where state history entries of a {@link Host} or {@link Vm} are stored,
+ * which enables defining how much memory such a history uses.
+ * Entries are added in the order of time and can be read back by {@link #getEntries()}.
+ *
+ * @param <T> the type of the history entries
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see Host#setStateHistorySink(StateHistorySink)
+ * @see Vm#setStateHistorySink(StateHistorySink)
+ * @see StateHistoryList
+ * @see StateHistoryRingBuffer
+ * @see StateHistoryCsvWriter
+ */
+public interface StateHistorySink<T> extends AutoCloseable {
+    /**
+     * An attribute that implements the Null Object Design Pattern for {@link StateHistorySink}
+     * objects.
+     */
+    StateHistorySink NULL = new StateHistorySinkNull();
+
+    /**
+     * Adds an entry to the end of the history.
+     * @param entry the entry to add
+     */
+    void add(T entry);
+
+    /**
+     * Replaces the last entry added to the history,
+     * which is used when there is a new entry for the same time of the last one.
+     *
+     * @param entry the entry to replace the last one
+     * @throws IllegalStateException when the history is empty
+     */
+    void replaceLast(T entry);
+
+    /**
+     * Gets the last entry added to the history.
+     * @return the last entry or null if the history is empty
+     */
+    T getLast();
+
+    /**
+     * Gets a <b>read-only</b> list with the entries stored into the history,
+     * in the order they were added.
+     * Depending on the implementation, it may contain just part of the entries ever added.
+     *
+     * @return
+     */
+    List<T> getEntries();
+
+    /**
+     * Releases the resources used by the history, such as files.
+     * After that, no entries can be added anymore.
+     * It does nothing by default.
+     */
+    @Override
+    default void close() {/**/}
+}
@@ -0,0 +1,19 @@
+package org.cloudsimplus.history;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A class that implements the Null Object Design Pattern for {@link StateHistorySink}
+ * objects.
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ * @see StateHistorySink#NULL
+ */
+final class StateHistorySinkNull implements StateHistorySink<Object> {
+    @Override public void add(Object entry) {/**/}
+    @Override public void replaceLast(Object entry) {/**/}
+    @Override public Object getLast() { return null; }
+    @Override public List<Object> getEntries() { return Collections.emptyList(); }
+}
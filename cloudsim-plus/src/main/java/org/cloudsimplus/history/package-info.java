@@ -0,0 +1,14 @@
+/**
+ * Provides classes to store the state history of Hosts and VMs,
+ * such as the {@link org.cloudbus.cloudsim.hosts.HostStateHistoryEntry}
+ * and {@link org.cloudbus.cloudsim.vms.VmStateHistoryEntry}.
+ *
+ * <p>The history is stored into a {@link org.cloudsimplus.history.StateHistorySink},
+ * which may keep all entries in memory (the default),
+ * just the latest ones or write them to a file,
+ * in order to reduce memory usage in long simulations with lots of Hosts and VMs.</p>
+ *
+ * @author agent
+ * @since CloudSim Plus 4.4.0
+ */
+package org.cloudsimplus.history;
@@ -527,7 +527,7 @@ public abstract class ExperimentRunner<T extends Experiment> implements Runnable
 
         printSimulationParameters();
 
-        Log.setLevel(Level.OFF);
+        Log.setThreadLevel(Level.OFF);
         try {
             experimentsStartTime = System.currentTimeMillis();
             for (int i = 0; i < getSimulationRuns(); i++) {
@@ -539,7 +539,7 @@ public abstract class ExperimentRunner<T extends Experiment> implements Runnable
             System.out.println();
             experimentsFinishTime = (System.currentTimeMillis() - experimentsStartTime) / 1000;
         } finally {
-            Log.setLevel(Level.INFO);
+            Log.removeThreadLevel();
         }
 
         final Map<String, List<Double>> metricsMap = createMetricsMap();
@@ -24,8 +24,12 @@
 package org.cloudsimplus.util;
 
 import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
 
 /**
  * An utility class to enable changing logging
@@ -63,4 +67,66 @@ public final class Log {
         final Logger root = LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
         setLevel(root, level);
     }
+
+    /**
+     * Sets the logging {@link Level} just for the current thread,
+     * without changing the level of LOGGER instances,
+     * which is shared by all threads.
+     * This way, simulations running concurrently in different threads
+     * can have their own logging level.
+     *
+     * <p>The thread level can just restrict the messages logged by the thread:
+     * messages are logged only if enabled by both the thread level and the level of the LOGGER.
+     * To completely disable logging for the current thread, use {@link Level#OFF}.</p>
+     *
+     * @param level the logging level to set for the current thread
+     * @see #removeThreadLevel()
+     */
+    public static void setThreadLevel(final Level level){
+        ThreadLevelFilter.INSTANCE.level.set(level);
+    }
+
+    /**
+     * Gets the logging {@link Level} set for the current thread.
+     * @return the logging level of the current thread; or null if no level was set
+     * @see #setThreadLevel(Level)
+     */
+    public static Level getThreadLevel(){
+        return ThreadLevelFilter.INSTANCE.level.get();
+    }
+
+    /**
+     * Removes the logging {@link Level} set for the current thread,
+     * so that just the level of LOGGER instances applies.
+     * @see #setThreadLevel(Level)
+     */
+    public static void removeThreadLevel(){
+        ThreadLevelFilter.INSTANCE.level.remove();
+    }
+
+    /**
+     * A filter that denies log messages below the level set for the current thread.
+     * It's added to the logging context the first time a thread level is set.
+     */
+    private static final class ThreadLevelFilter extends TurboFilter {
+        private static final ThreadLevelFilter INSTANCE = newInstance();
+
+        private final ThreadLocal<Level> level = new ThreadLocal<>();
+
+        private static ThreadLevelFilter newInstance() {
+            final ThreadLevelFilter filter = new ThreadLevelFilter();
+            filter.start();
+            ((LoggerContext) LoggerFactory.getILoggerFactory()).addTurboFilter(filter);
+            return filter;
+        }
+
+        @Override
+        public FilterReply decide(
+            final Marker marker, final ch.qos.logback.classic.Logger logger,
+            final Level level, final String format, final Object[] params, final Throwable t)
+        {
+            final Level threadLevel = this.level.get();
+            return threadLevel == null || level == null || level.isGreaterOrEqual(threadLevel) ? FilterReply.NEUTRAL : FilterReply.DENY;
+        }
+    }
 }
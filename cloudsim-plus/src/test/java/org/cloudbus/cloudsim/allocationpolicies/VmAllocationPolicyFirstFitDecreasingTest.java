@@ -0,0 +1,132 @@
+package org.cloudbus.cloudsim.allocationpolicies;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class VmAllocationPolicyFirstFitDecreasingTest {
+    private static final int HOST_PES = 10;
+
+    /**
+     * The number of PEs of VMs, in the order they are submitted.
+     * Placing them in such an order into the first suitable Host uses 4 Hosts,
+     * while placing them by decreasing size uses just 3.
+     */
+    private static final int[] VM_PES = {4, 4, 4, 6, 6, 6};
+
+    @Test
+    public void testBatchCreationPacksVmsIntoFewerHosts() {
+        assertEquals(4, runSimulation(VmAllocationPolicyFirstFitDecreasing::new, false).hosts);
+        assertEquals(3, runSimulation(VmAllocationPolicyFirstFitDecreasing::new, true).hosts);
+        assertEquals(3, runSimulation(VmAllocationPolicyBestFitDecreasing::new, true).hosts);
+    }
+
+    @Test
+    public void testBatchCreationSendsSingleRequestAndAck() {
+        final SimulationResult individual = runSimulation(VmAllocationPolicyFirstFitDecreasing::new, false);
+        assertEquals(VM_PES.length, individual.createdVms);
+        assertEquals(VM_PES.length * 2, individual.createAckEvents);
+
+        final SimulationResult batch = runSimulation(VmAllocationPolicyFirstFitDecreasing::new, true);
+        assertEquals(VM_PES.length, batch.createdVms);
+        assertEquals(2, batch.createAckEvents);
+    }
+
+    @Test
+    public void testBatchCreationReturnsVmsNotPlaced() {
+        final DatacenterSimple dc = new DatacenterSimple(new CloudSim(), createHosts(1, HOST_PES), new VmAllocationPolicyFirstFitDecreasing());
+        final List<Vm> vmList = createVms(4, 6, 8);
+        final List<Vm> failedVms = dc.getVmAllocationPolicy().allocateHostsForVms(vmList);
+
+        //The largest VM is placed first, leaving no room for the other ones
+        assertEquals(vmList.subList(0, 2), failedVms.stream().sorted().collect(toList()));
+        assertEquals(dc.getHost(0), vmList.get(2).getHost());
+    }
+
+    @Test
+    public void testBestFitDecreasingSelectsTightestHost() {
+        final List<Host> hostList = createHosts(1, HOST_PES);
+        hostList.addAll(createHosts(1, 6));
+        hostList.addAll(createHosts(1, 4));
+
+        final VmAllocationPolicy firstFit = new VmAllocationPolicyFirstFitDecreasing();
+        new DatacenterSimple(new CloudSim(), hostList, firstFit);
+        final Vm vm = createVms(4).get(0);
+        assertEquals(hostList.get(0), firstFit.findHostForVm(vm).orElse(Host.NULL));
+
+        final VmAllocationPolicy bestFit = new VmAllocationPolicyBestFitDecreasing();
+        new DatacenterSimple(new CloudSim(), hostList, bestFit);
+        assertEquals(hostList.get(2), bestFit.findHostForVm(vm).orElse(Host.NULL));
+    }
+
+    private SimulationResult runSimulation(final Supplier<VmAllocationPolicy> policySupplier, final boolean batch) {
+        final CloudSim simulation = new CloudSim();
+        new DatacenterSimple(simulation, createHosts(VM_PES.length, HOST_PES), policySupplier.get());
+        final DatacenterBrokerSimple broker = new DatacenterBrokerSimple(simulation);
+        broker.setBatchVmCreationEnabled(batch);
+
+        final SimulationResult result = new SimulationResult();
+        simulation.addOnEventProcessingListener(evt -> {
+            if(evt.getTag() == CloudSimTags.VM_CREATE_ACK) {
+                result.createAckEvents++;
+            }
+        });
+
+        broker.submitVmList(createVms(VM_PES));
+        simulation.start();
+
+        final List<Vm> createdVms = broker.getVmCreatedList();
+        result.createdVms = createdVms.size();
+        result.hosts = createdVms.stream().map(Vm::getHost).distinct().count();
+        return result;
+    }
+
+    private List<Vm> createVms(final int... pesNumbers) {
+        final List<Vm> vmList = new ArrayList<>(pesNumbers.length);
+        for (final int pes : pesNumbers) {
+            final Vm vm = new VmSimple(1000, pes).setRam(512).setBw(1000).setSize(10000);
+            vm.setId(vmList.size());
+            vmList.add(vm);
+        }
+
+        return vmList;
+    }
+
+    private List<Host> createHosts(final int count, final int pesNumber) {
+        final List<Host> hostList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final List<Pe> peList = new ArrayList<>(pesNumber);
+            for (int j = 0; j < pesNumber; j++) {
+                peList.add(new PeSimple(1000));
+            }
+
+            hostList.add(new HostSimple(16384, 100000, 1000000, peList));
+        }
+
+        return hostList;
+    }
+
+    private static final class SimulationResult {
+        private int createdVms;
+        private long hosts;
+        private int createAckEvents;
+    }
+}
@@ -0,0 +1,300 @@
+package org.cloudbus.cloudsim.allocationpolicies.migration;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimulationCheckpoint;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.power.models.PowerModelLinear;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.selectionpolicies.VmSelectionPolicyMinimumUtilization;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class VmPlacementModelTest {
+    private static final double CHECKPOINT_TIME = 3;
+
+    @Test
+    public void testAddAndRemoveVmDoesNotChangeHosts() {
+        final List<Host> hostList = createHosts(2);
+        final CloudSim simulation = new CloudSim();
+        final DatacenterSimple dc = new DatacenterSimple(simulation, hostList);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final Host source = hostList.get(0);
+        final Host target = hostList.get(1);
+
+        final Vm vm = createVm(broker, 0, 2);
+        assertTrue(dc.getVmAllocationPolicy().allocateHostForVm(vm, source));
+        final long targetAvailableRam = target.getRam().getAvailableResource();
+
+        final VmPlacementModel model = new VmPlacementModel();
+        model.removeVm(source, vm);
+        model.addVm(target, vm);
+
+        assertTrue(model.getVmList(source).isEmpty());
+        assertEquals(1, model.getVmList(target).size());
+        assertTrue(model.isVmAdded(target, vm));
+        assertFalse(model.isVmAdded(source, vm));
+
+        assertEquals(1, source.getVmList().size());
+        assertTrue(target.getVmList().isEmpty());
+        assertEquals(targetAvailableRam, target.getRam().getAvailableResource());
+        assertSame(source, vm.getHost());
+    }
+
+    @Test
+    public void testIsSuitableForVmConsidersModelChanges() {
+        final List<Host> hostList = createHosts(2);
+        final CloudSim simulation = new CloudSim();
+        final DatacenterSimple dc = new DatacenterSimple(simulation, hostList);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final Host source = hostList.get(0);
+        final Host target = hostList.get(1);
+
+        final Vm placedVm = createVm(broker, 0, 4);
+        assertTrue(dc.getVmAllocationPolicy().allocateHostForVm(placedVm, source));
+
+        final VmPlacementModel model = new VmPlacementModel();
+        final Vm otherVm = createVm(broker, 1, 4);
+        assertTrue(model.isSuitableForVm(target, otherVm));
+        assertFalse(model.isSuitableForVm(source, otherVm));
+
+        model.addVm(target, placedVm);
+        assertFalse(model.isSuitableForVm(target, otherVm));
+
+        model.removeVm(source, placedVm);
+        assertTrue(model.isSuitableForVm(source, otherVm));
+
+        //Undoing the changes restores the previous capacity
+        model.removeVm(target, placedVm);
+        assertTrue(model.isSuitableForVm(target, otherVm));
+        assertTrue(model.getVmList(target).isEmpty());
+    }
+
+    @Test
+    public void testIsSuitableForVmAppliesHostPredicateToAvailableCapacities() {
+        final List<Host> hostList = createHosts(2);
+        final CloudSim simulation = new CloudSim();
+        final DatacenterSimple dc = new DatacenterSimple(simulation, hostList);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final Host host = hostList.get(0);
+        final Host otherHost = hostList.get(1);
+
+        final Vm placedVm = createVm(broker, 0, 2);
+        assertTrue(dc.getVmAllocationPolicy().allocateHostForVm(placedVm, host));
+
+        //Undoing a change keeps the Host in the model, with its current capacities
+        final VmPlacementModel model = new VmPlacementModel();
+        model.removeVm(host, placedVm);
+        model.addVm(host, placedVm);
+        for (int pes = 1; pes <= 6; pes++) {
+            final Vm vm = createVm(broker, pes, pes);
+            assertEquals(host.isSuitableForVm(vm), model.isSuitableForVm(host, vm), "VM with " + pes + " PEs");
+        }
+
+        /*A VM using all the free PEs in the model leaves no room for other VMs,
+         even if there are MIPS available.*/
+        final Vm otherVm = new VmSimple(10, 100, host.getFreePesNumber()).setRam(512).setBw(1000).setSize(10000);
+        otherVm.setBroker(broker);
+        model.addVm(host, otherVm);
+        final Vm smallVm = new VmSimple(11, 100, 1).setRam(512).setBw(1000).setSize(10000);
+        smallVm.setBroker(broker);
+        assertTrue(model.getUtilizationOfCpu(host) < 1);
+        assertFalse(model.isSuitableForVm(host, smallVm));
+
+        model.addVm(otherHost, otherVm);
+        otherHost.setFailed(true);
+        assertFalse(model.isSuitableForVm(otherHost, createVm(broker, 12, 1)));
+    }
+
+    /**
+     * Checks that a simulation using a migration policy, restored from a checkpoint
+     * taken before VMs are migrated, performs the same migrations of the checkpointed simulation.
+     * The placement model isn't saved, but created again after the simulation is restored.
+     */
+    @Test
+    public void testMigrationsAreTheSameAfterCheckpointRestore() throws IOException {
+        final Path file = Files.createTempFile("migration-checkpoint", ".bin");
+        try {
+            final CloudSim simulation = new CloudSim();
+            final MigrationRecorderPolicy policy = new MigrationRecorderPolicy();
+            createMigrationScenario(simulation, policy);
+            final String fileName = file.toString();
+            final List<Integer> migrationsAtCheckpoint = new ArrayList<>();
+            simulation.pause(CHECKPOINT_TIME);
+            simulation.addOnSimulationPauseListener(info -> {
+                migrationsAtCheckpoint.add(policy.migrations.size());
+                SimulationCheckpoint.save(simulation, Paths.get(fileName));
+                simulation.resume();
+            });
+            simulation.start();
+
+            final CloudSim restored = SimulationCheckpoint.restore(file);
+            restored.start();
+            final MigrationRecorderPolicy restoredPolicy = restored.getEntityList().stream()
+                .filter(entity -> entity instanceof Datacenter)
+                .map(entity -> (MigrationRecorderPolicy) ((Datacenter) entity).getVmAllocationPolicy())
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+
+            assertNotSame(policy, restoredPolicy);
+            assertEquals(Collections.singletonList(0), migrationsAtCheckpoint);
+            assertFalse(policy.migrations.isEmpty());
+            assertEquals(policy.migrations, restoredPolicy.migrations);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Runs a simulation where the CPU usage of VMs increases along the time,
+     * making Hosts overloaded, and checks that the planning of VM migrations
+     * doesn't change Hosts and VMs.
+     */
+    @Test
+    public void testOptimizedAllocationMapDoesNotChangeHostsAndVms() {
+        final CloudSim simulation = new CloudSim();
+        final List<Map<Vm, Host>> migrationMaps = new ArrayList<>();
+        final List<String> changedStates = new ArrayList<>();
+        final VmAllocationPolicyMigrationStaticThreshold policy =
+            new VmAllocationPolicyMigrationStaticThreshold(new VmSelectionPolicyMinimumUtilization(), 0.7) {
+                @Override
+                public Map<Vm, Host> getOptimizedAllocationMap(final List<? extends Vm> vmList) {
+                    final String previousState = getState(getHostList());
+                    final Map<Vm, Host> migrationMap = super.getOptimizedAllocationMap(vmList);
+                    final String currentState = getState(getHostList());
+                    if(!previousState.equals(currentState)) {
+                        changedStates.add(currentState);
+                    }
+
+                    migrationMap.forEach((vm, targetHost) -> assertNotSame(vm.getHost(), targetHost));
+                    migrationMaps.add(migrationMap);
+                    return migrationMap;
+                }
+            };
+        createMigrationScenario(simulation, policy);
+        simulation.start();
+
+        assertTrue(changedStates.isEmpty(), () -> "Hosts changed while planning migrations: " + changedStates);
+        assertTrue(migrationMaps.stream().anyMatch(map -> !map.isEmpty()));
+    }
+
+    /**
+     * Creates a scenario where the CPU usage of VMs increases along the time, making Hosts overloaded.
+     * @param simulation the simulation to create the scenario
+     * @param policy the policy that migrates VMs from overloaded and underloaded Hosts
+     */
+    private void createMigrationScenario(final CloudSim simulation, final VmAllocationPolicyMigrationStaticThreshold policy) {
+        policy.setUnderUtilizationThreshold(0.3);
+        final DatacenterSimple dc = new DatacenterSimple(simulation, createHosts(10), policy);
+        dc.setSchedulingInterval(5);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vmList = new ArrayList<>();
+        final List<Cloudlet> cloudletList = new ArrayList<>();
+        final Random random = new Random(7);
+        for (int i = 0; i < 20; i++) {
+            final Vm vm = createVm(broker, i, 1 + i % 3);
+            vmList.add(vm);
+
+            final double increment = 0.02 + random.nextDouble() * 0.1;
+            final UtilizationModelDynamic utilizationModel = new UtilizationModelDynamic(0.1 + random.nextDouble() * 0.5);
+            //The function is serializable so that it's saved into checkpoints
+            utilizationModel.setUtilizationUpdateFunction((Function<UtilizationModelDynamic, Double> & Serializable)
+                model -> Math.min(1, model.getUtilization() + model.getTimeSpan() * increment));
+            final Cloudlet cloudlet = new CloudletSimple(200_000, (int)vm.getNumberOfPes(), utilizationModel);
+            cloudlet.setUtilizationModelRam(new UtilizationModelFull());
+            cloudlet.setVm(vm);
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+    }
+
+    private String getState(final List<Host> hostList) {
+        final StringBuilder builder = new StringBuilder();
+        for (final Host host : hostList) {
+            builder.append(host.getId()).append(':')
+                   .append(host.getVmScheduler().getAvailableMips()).append(',')
+                   .append(host.getRam().getAvailableResource()).append(',')
+                   .append(host.getUtilizationOfCpuMips());
+            for (final Vm vm : host.getVmList()) {
+                builder.append(' ').append(vm.getId()).append(vm.isCreated()).append(vm.isInMigration());
+            }
+            builder.append(System.lineSeparator());
+        }
+
+        return builder.toString();
+    }
+
+    private Vm createVm(final DatacenterBroker broker, final int id, final int pesNumber) {
+        final Vm vm = new VmSimple(id, 1000, pesNumber).setRam(512).setBw(1000).setSize(10000);
+        vm.setBroker(broker);
+        return vm;
+    }
+
+    private List<Host> createHosts(final int count) {
+        final List<Host> hostList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int pesNumber = 4 + i % 3 * 2;
+            final List<Pe> peList = new ArrayList<>(pesNumber);
+            for (int j = 0; j < pesNumber; j++) {
+                peList.add(new PeSimple(1000));
+            }
+
+            final Host host = new HostSimple(16384, 100000, 1000000, peList);
+            host.setVmScheduler(new VmSchedulerTimeShared());
+            host.setPowerModel(new PowerModelLinear(200, 0.5));
+            hostList.add(host);
+        }
+
+        return hostList;
+    }
+
+    /**
+     * A policy that records the VM migrations it plans, as "time: VM id -> Host id" strings.
+     * It's a static class since it's saved into checkpoints.
+     */
+    private static final class MigrationRecorderPolicy extends VmAllocationPolicyMigrationStaticThreshold {
+        private final List<String> migrations = new ArrayList<>();
+
+        private MigrationRecorderPolicy() {
+            super(new VmSelectionPolicyMinimumUtilization(), 0.7);
+        }
+
+        @Override
+        public Map<Vm, Host> getOptimizedAllocationMap(final List<? extends Vm> vmList) {
+            final Map<Vm, Host> migrationMap = super.getOptimizedAllocationMap(vmList);
+            final double time = getDatacenter().getSimulation().clock();
+            migrationMap.forEach((vm, host) -> migrations.add(time + ": " + vm.getId() + " -> " + host.getId()));
+            return migrationMap;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.events.EventJournalMapped;
+import org.cloudbus.cloudsim.core.events.EventJournalReader;
+import org.cloudbus.cloudsim.core.events.EventJournalRecord;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class EventJournalReplayTest {
+    /**
+     * A region size small enough to require remapping the file many times.
+     */
+    private static final int REGION_SIZE = EventJournalMapped.MIN_REGION_SIZE;
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = Files.createTempFile("cloudsim-journal", ".bin");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testJournalRecordsAllProcessedEvents() throws IOException {
+        final CloudSim simulation = createSimulation();
+        final EventJournalMapped journal = new EventJournalMapped(file, REGION_SIZE);
+        simulation.setEventJournal(journal);
+        final List<String> expected = new ArrayList<>();
+        simulation.addOnEventProcessingListener(evt -> expected.add(toString(evt)));
+        simulation.start();
+
+        assertTrue(journal.isClosed());
+        assertTrue(Files.size(file) > REGION_SIZE, "The journal should be larger than a region to test remapping");
+        assertEquals(expected.size(), journal.getRecordedEvents());
+
+        final List<String> actual = new ArrayList<>();
+        try(EventJournalReader reader = new EventJournalReader(file)) {
+            reader.forEachRemaining(record -> actual.add(toString(record)));
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), new EventJournalReplay(file).forEach(record -> {}));
+    }
+
+    @Test
+    public void testDriveSimulationWithRecordedEvents() {
+        final CloudSim expected = createSimulation();
+        expected.setEventJournal(new EventJournalMapped(file));
+        expected.start();
+
+        final CloudSim replayed = createSimulation();
+        final double finishTime = new EventJournalReplay(file).drive(replayed);
+        assertEquals(expected.clock(), finishTime);
+        assertFalse(replayed.isRunning());
+        assertEquals(finishTimes(expected), finishTimes(replayed));
+    }
+
+    private CloudSim createSimulation() {
+        final CloudSim simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        final List<Host> hosts = new HostBuilder().setPes(8).setMips(1000).create(4).getHosts();
+        scenario.getDatacenterBuilder().setSchedulingInterval(1).create(hosts);
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().create();
+        brokerBuilder.getVmBuilder().setPes(2).setMips(1000).createAndSubmit(12);
+        brokerBuilder.getCloudletBuilder().setLength(100_000).setPEs(1).createAndSubmit(40);
+        return simulation;
+    }
+
+    private static String toString(final SimEvent evt) {
+        final Object data = evt.getData();
+        final String dataId = data instanceof Identifiable ? String.valueOf(((Identifiable) data).getId()) : "";
+        return String.format("%s %d %d %d %s %s %s",
+            evt.getTime(), evt.getTag(), evt.getSource().getId(), evt.getDestination().getId(), evt.getType(),
+            data == null ? "" : data.getClass().getName(), dataId);
+    }
+
+    private static String toString(final EventJournalRecord record) {
+        final String dataId = record.isDataIdentifiable() ? String.valueOf(record.getDataId()) : "";
+        return String.format("%s %d %d %d %s %s %s",
+            record.getTime(), record.getTag(), record.getSourceId(), record.getDestinationId(), record.getType(),
+            record.getDataClassName(), dataId);
+    }
+
+    private List<String> finishTimes(final CloudSim simulation) {
+        return simulation.getEntityList().stream()
+            .filter(entity -> entity instanceof DatacenterBroker)
+            .map(entity -> (DatacenterBroker) entity)
+            .flatMap(broker -> broker.getCloudletFinishedList().stream())
+            .map(cloudlet -> cloudlet.getId() + ":" + cloudlet.getFinishTime())
+            .collect(toList());
+    }
+}
@@ -0,0 +1,115 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.cloudsimplus.listeners.EventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class EventSubscriptionsTest {
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+
+    /**
+     * All processed events, collected by a listener notified for every event.
+     */
+    private List<SimEvent> allEvents;
+
+    @BeforeEach
+    public void setUp(){
+        simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        final List<Host> hosts = new HostBuilder().setPes(4).setMips(1000).create().getHosts();
+        scenario.getDatacenterBuilder().setSchedulingInterval(1).create(hosts);
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().create();
+        brokerBuilder.getVmBuilder().setPes(2).setMips(1000).createAndSubmit(2);
+        brokerBuilder.getCloudletBuilder().setLength(10000).setPEs(1).createAndSubmit(4);
+        broker = brokerBuilder.getBroker();
+
+        allEvents = new ArrayList<>();
+        simulation.addOnEventProcessingListener(allEvents::add);
+    }
+
+    @Test
+    public void testListenersAreNotifiedJustForSubscribedEvents() {
+        final List<SimEvent> tagEvents = new ArrayList<>();
+        final List<SimEvent> destEvents = new ArrayList<>();
+        final List<SimEvent> destAndTagEvents = new ArrayList<>();
+        simulation.addOnEventProcessingListener(CloudSimTags.CLOUDLET_RETURN, tagEvents::add);
+        simulation.addOnEventProcessingListener(broker, destEvents::add);
+        simulation.addOnEventProcessingListener(broker, CloudSimTags.VM_CREATE_ACK, destAndTagEvents::add);
+        simulation.start();
+
+        assertEquals(4, tagEvents.size());
+        assertEquals(2, destAndTagEvents.size());
+        assertEquals(filter(evt -> evt.getTag() == CloudSimTags.CLOUDLET_RETURN), tagEvents);
+        assertEquals(filter(evt -> evt.getDestination() == broker), destEvents);
+        assertEquals(
+            filter(evt -> evt.getDestination() == broker && evt.getTag() == CloudSimTags.VM_CREATE_ACK),
+            destAndTagEvents);
+    }
+
+    @Test
+    public void testRemovedListenerIsNotNotified() {
+        final List<SimEvent> events = new ArrayList<>();
+        final EventListener<SimEvent> listener = events::add;
+        simulation.addOnEventProcessingListener(CloudSimTags.CLOUDLET_RETURN, listener);
+        simulation.addOnEventProcessingListener(broker, listener);
+        assertTrue(simulation.removeOnEventProcessingListener(listener));
+        assertFalse(simulation.removeOnEventProcessingListener(listener));
+        simulation.start();
+
+        assertFalse(allEvents.isEmpty());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testSubscriptionsForSparseAndNegativeTags() {
+        final EventSubscriptions subscriptions = new EventSubscriptions();
+        final List<Integer> tags = new ArrayList<>();
+        final EventListener<SimEvent> listener1 = evt -> tags.add(evt.getTag());
+        final EventListener<SimEvent> listener2 = evt -> tags.add(-evt.getTag());
+        subscriptions.add(SimEntity.NULL, 10, listener1);
+        subscriptions.add(SimEntity.NULL, -5, listener2);
+        subscriptions.add(SimEntity.NULL, 1000, listener1);
+
+        for (final int tag : new int[]{-6, -5, 0, 10, 11, 1000, 1001}) {
+            subscriptions.notify(new CloudSimEvent(0, broker, tag));
+        }
+        assertEquals(Arrays.asList(5, 10, 1000), tags);
+
+        tags.clear();
+        assertTrue(subscriptions.remove(listener1));
+        subscriptions.notify(new CloudSimEvent(0, broker, 10));
+        subscriptions.notify(new CloudSimEvent(0, broker, -5));
+        assertEquals(Collections.singletonList(5), tags);
+
+        assertTrue(subscriptions.remove(listener2));
+        assertTrue(subscriptions.isEmpty());
+        subscriptions.add(SimEntity.NULL, 3, listener1);
+        subscriptions.notify(new CloudSimEvent(0, broker, 3));
+        assertEquals(Arrays.asList(5, 3), tags);
+    }
+
+    private List<SimEvent> filter(final Predicate<SimEvent> predicate) {
+        return allEvents.stream().filter(predicate).collect(toList());
+    }
+}
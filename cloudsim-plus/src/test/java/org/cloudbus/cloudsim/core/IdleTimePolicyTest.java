@@ -0,0 +1,91 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class IdleTimePolicyTest {
+    private static final double TERMINATION_TIME = 7200;
+    private static final double DYNAMIC_SUBMISSION_TIME = 3600;
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+    private int ticks;
+    private boolean dynamicCloudletSubmitted;
+
+    @Test
+    public void testFastForwardProcessesDynamicEventsAsWait() {
+        final List<Double> expected = runSimulation(IdleTimePolicy.WAIT, true);
+        final int waitTicks = ticks;
+        assertEquals(2, expected.size());
+        assertTrue(expected.get(1) > DYNAMIC_SUBMISSION_TIME);
+
+        assertEquals(expected, runSimulation(IdleTimePolicy.FAST_FORWARD, true));
+        assertEquals(waitTicks, ticks, 2);
+    }
+
+    @Test
+    public void testFastForwardWithoutListenersJumpsToTerminationTime() {
+        assertEquals(1, runSimulation(IdleTimePolicy.FAST_FORWARD, false).size());
+        assertEquals(TERMINATION_TIME, simulation.clock(), 1);
+    }
+
+    @Test
+    public void testFastForwardSkippingTicksNotifiesListenersJustOnce() {
+        runSimulation(IdleTimePolicy.FAST_FORWARD_SKIPPING_TICKS, true);
+        assertTrue(ticks < 20, "Idle ticks should have been skipped but " + ticks + " were notified");
+        assertEquals(TERMINATION_TIME, simulation.clock(), 2);
+    }
+
+    /**
+     * Runs a simulation that terminates at a given time and
+     * whose single Cloudlet finishes long before that.
+     *
+     * @param policy the idle time policy to use
+     * @param submitDynamicCloudlet true to add an onClockTick listener that submits
+     *                              a Cloudlet when the clock reaches a given time
+     * @return the finish time of finished Cloudlets
+     */
+    private List<Double> runSimulation(final IdleTimePolicy policy, final boolean submitDynamicCloudlet) {
+        simulation = new CloudSim();
+        simulation.setIdleTimePolicy(policy);
+        simulation.terminateAt(TERMINATION_TIME);
+        ticks = 0;
+        dynamicCloudletSubmitted = false;
+
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        final List<Host> hosts = new HostBuilder().setPes(2).setMips(1000).create().getHosts();
+        scenario.getDatacenterBuilder().setSchedulingInterval(1).create(hosts);
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().create();
+        brokerBuilder.getVmBuilder().setPes(2).setMips(1000).createAndSubmit(1);
+        brokerBuilder.getCloudletBuilder().setLength(10000).setPEs(1).createAndSubmit(1);
+        broker = brokerBuilder.getBroker();
+
+        if(submitDynamicCloudlet) {
+            simulation.addOnClockTickListener(info -> {
+                ticks++;
+                if (!dynamicCloudletSubmitted && info.getTime() >= DYNAMIC_SUBMISSION_TIME) {
+                    dynamicCloudletSubmitted = true;
+                    broker.submitCloudlet(new CloudletSimple(1, 10000, 1));
+                }
+            });
+        }
+
+        simulation.start();
+        return broker.getCloudletFinishedList().stream().map(Cloudlet::getFinishTime).collect(toList());
+    }
+}
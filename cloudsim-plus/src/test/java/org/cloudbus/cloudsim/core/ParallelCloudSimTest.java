@@ -0,0 +1,385 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.network.topologies.BriteNetworkTopology;
+import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
+import org.cloudbus.cloudsim.network.topologies.TopologicalGraph;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class ParallelCloudSimTest {
+    private static final int LOGICAL_PROCESSES = 4;
+    private static final int PING_TAG = 999_999;
+    private static final int RELAY_TAG = 999_998;
+    private static final int REPORT_TAG = 999_997;
+    private static final double PING_LATENCY = 0.5;
+    private static final int PINGS = 40;
+
+    @Test
+    public void testEntitiesHaveConsecutiveIdsAcrossLogicalProcesses() {
+        final ParallelCloudSim instance = new ParallelCloudSim(2);
+        final CloudSim lp1 = instance.createLogicalProcess();
+        final CloudSim lp2 = instance.createLogicalProcess();
+        final PingEntity entity1 = new PingEntity(lp2, false);
+        final PingEntity entity2 = new PingEntity(lp1, false);
+
+        assertSame(lp1.getCloudInfoService(), lp2.getCloudInfoService());
+        assertEquals(0, lp1.getCloudInfoService().getId());
+        assertEquals(1, entity1.getId());
+        assertEquals(2, entity2.getId());
+        assertEquals(2, instance.getLogicalProcesses().size());
+    }
+
+    @Test
+    public void testResultsAreTheSameRegardlessOfTheParallelism() {
+        final List<String> expected = runParallelSimulation(1).results;
+        assertEquals(LOGICAL_PROCESSES * 6 + LOGICAL_PROCESSES * PINGS * 2, expected.size());
+        assertEquals(expected, runParallelSimulation(LOGICAL_PROCESSES).results);
+        assertEquals(expected, runParallelSimulation(LOGICAL_PROCESSES * 2).results);
+    }
+
+    /**
+     * Checks that the results and the order events are processed by each logical process
+     * are the same as creating all the entities in a single CloudSim instance.
+     * Since all logical processes notify their own entities about the end of the simulation,
+     * {@link CloudSimTags#END_OF_SIMULATION} events are not compared.
+     */
+    @Test
+    public void testResultsAreTheSameAsSequentialSimulation() {
+        final Scenario expected = runSequentialSimulation();
+        final Scenario parallel = runParallelSimulation(LOGICAL_PROCESSES);
+        assertEquals(expected.results, parallel.results);
+        assertEquals(LOGICAL_PROCESSES, expected.events.size());
+        for (int i = 0; i < LOGICAL_PROCESSES; i++) {
+            assertFalse(expected.events.get(i).isEmpty());
+            assertEquals(expected.events.get(i), parallel.events.get(i), "Events of logical process " + i);
+        }
+    }
+
+    @Test
+    public void testLookaheadIsComputedFromNetworkDelay() {
+        final ParallelCloudSim instance = new ParallelCloudSim(2);
+        createScenario(i -> instance.createLogicalProcess());
+        instance.start();
+        assertEquals(PING_LATENCY, instance.getLookahead(), 0.0001);
+        assertTrue(instance.getWindows() > PINGS);
+    }
+
+    @Test
+    public void testSendEventBeforeLookaheadThrowsException() {
+        final ParallelCloudSim instance = new ParallelCloudSim(2).setLookahead(1);
+        final Scenario scenario = createScenario(i -> instance.createLogicalProcess());
+        scenario.pingEntities.get(0).delay = 0.1;
+        assertThrows(IllegalStateException.class, instance::start);
+    }
+
+    @Test
+    public void testZeroDelayBetweenLogicalProcessesIsRejectedBeforeRunning() {
+        final ParallelCloudSim instance = new ParallelCloudSim(2);
+        final Scenario scenario = createScenario(i -> instance.createLogicalProcess());
+        final NetworkTopology topology = new ZeroDelayNetworkTopology(
+            instance.getLogicalProcesses().get(0).getNetworkTopology(),
+            scenario.pingEntities.get(0), scenario.pingEntities.get(2));
+        instance.getLogicalProcesses().forEach(lp -> lp.setNetworkTopology(topology));
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class, instance::start);
+        assertTrue(exception.getMessage().contains("network delay"));
+        assertEquals(0, instance.getWindows());
+        scenario.pingEntities.forEach(entity -> assertTrue(entity.received.isEmpty()));
+    }
+
+    /**
+     * Checks that brokers using the default Datacenter selection see the Datacenters
+     * from all logical processes, getting the same results as a sequential simulation,
+     * regardless of the parallelism.
+     * Since the default selection gets the first Datacenter, which belongs to the first logical process,
+     * just the broker of such a logical process creates VMs.
+     */
+    @Test
+    public void testResultsWithDefaultDatacenterSelectionAreTheSameRegardlessOfTheParallelism() {
+        final Scenario expected = runSequentialSimulation(false);
+        assertEquals(LOGICAL_PROCESSES, expected.datacenters.size());
+        assertEquals(LOGICAL_PROCESSES * PINGS * 2 + LOGICAL_PROCESSES + 2, expected.results.size());
+        assertTrue(expected.results.contains("0: " + expected.datacenters.get(0).getName()));
+        assertEquals(expected.results, runParallelSimulation(1, false).results);
+        assertEquals(expected.results, runParallelSimulation(LOGICAL_PROCESSES, false).results);
+        assertEquals(expected.results, runParallelSimulation(LOGICAL_PROCESSES * 2, false).results);
+    }
+
+    private Scenario runSequentialSimulation() {
+        return runSequentialSimulation(true);
+    }
+
+    /**
+     * Runs a simulation where the entities of each logical process are created in a single CloudSim instance.
+     * @param bindBrokers whether each broker must use the Datacenter of its logical process
+     *                    or the default Datacenter selection
+     * @return the scenario with the simulation results
+     */
+    private Scenario runSequentialSimulation(final boolean bindBrokers) {
+        final CloudSim simulation = new CloudSim();
+        final Scenario scenario = createScenario(i -> simulation, bindBrokers);
+        final Map<Long, Integer> logicalProcessByEntity = new HashMap<>();
+        for (int i = 0; i < LOGICAL_PROCESSES; i++) {
+            scenario.events.add(new ArrayList<>());
+            for (final SimEntity entity : scenario.entities.get(i)) {
+                logicalProcessByEntity.put(entity.getId(), i);
+            }
+        }
+
+        //The CIS belongs to the first logical process
+        logicalProcessByEntity.put(simulation.getCloudInfoService().getId(), 0);
+        simulation.addOnEventProcessingListener(evt -> {
+            final Integer lp = logicalProcessByEntity.get(evt.getDestination().getId());
+            if(lp != null) {
+                addEvent(scenario.events.get(lp), evt);
+            }
+        });
+
+        simulation.start();
+        scenario.collectResults();
+        return scenario;
+    }
+
+    private Scenario runParallelSimulation(final int parallelism) {
+        return runParallelSimulation(parallelism, true);
+    }
+
+    /**
+     * Runs a simulation with a given parallelism.
+     * @param bindBrokers whether each broker must use the Datacenter of its logical process
+     *                    or the default Datacenter selection
+     * @return the scenario with the simulation results
+     */
+    private Scenario runParallelSimulation(final int parallelism, final boolean bindBrokers) {
+        final ParallelCloudSim instance = new ParallelCloudSim(parallelism);
+        final Scenario scenario = createScenario(i -> instance.createLogicalProcess(), bindBrokers);
+        for (final CloudSim lp : instance.getLogicalProcesses()) {
+            final List<String> events = new ArrayList<>();
+            scenario.events.add(events);
+            lp.addOnEventProcessingListener(evt -> {
+                if(evt.getDestination() != SimEntity.NULL) {
+                    addEvent(events, evt);
+                }
+            });
+        }
+
+        instance.start();
+        scenario.collectResults();
+        return scenario;
+    }
+
+    private void addEvent(final List<String> events, final SimEvent evt) {
+        if(evt.getTag() != CloudSimTags.END_OF_SIMULATION) {
+            events.add(evt.getTime() + ": " + evt.getSource().getId() + " -> " + evt.getDestination().getId() + " tag " + evt.getTag());
+        }
+    }
+
+    /**
+     * Creates a scenario where each logical process has a Datacenter, a broker and a ping entity.
+     * Ping entities keep sending an event to the ping entity of the next logical process
+     * and reporting every received ping to the ping entity of the first logical process.
+     *
+     * @param simulationSupplier a function that gets the simulation where
+     *                           the entities of a given logical process will be created
+     * @return the created scenario
+     */
+    private Scenario createScenario(final IntFunction<CloudSim> simulationSupplier) {
+        return createScenario(simulationSupplier, true);
+    }
+
+    /**
+     * Creates a scenario where each logical process has a Datacenter, a broker and a ping entity.
+     * Ping entities keep sending an event to the ping entity of the next logical process
+     * and reporting every received ping to the ping entity of the first logical process.
+     *
+     * @param simulationSupplier a function that gets the simulation where
+     *                           the entities of a given logical process will be created
+     * @param bindBrokers whether each broker must use the Datacenter of its logical process
+     *                    or the default Datacenter selection (where just the first broker creates VMs)
+     * @return the created scenario
+     */
+    private Scenario createScenario(final IntFunction<CloudSim> simulationSupplier, final boolean bindBrokers) {
+        final Scenario scenario = new Scenario();
+        final Set<CloudSim> simulations = new LinkedHashSet<>();
+        for (int i = 0; i < LOGICAL_PROCESSES; i++) {
+            final CloudSim simulation = simulationSupplier.apply(i);
+            simulations.add(simulation);
+
+            final SimulationScenarioBuilder builder = new SimulationScenarioBuilder(simulation);
+            final List<Host> hosts = new HostBuilder().setPes(4).setMips(1000).create().getHosts();
+            final Datacenter dc = builder.getDatacenterBuilder().setSchedulingInterval(1).create(hosts).getDatacenters().get(0);
+
+            final BrokerBuilderDecorator brokerBuilder = builder.getBrokerBuilder().create();
+            final DatacenterBroker broker = brokerBuilder.getBroker();
+            if(bindBrokers) {
+                broker.setDatacenterSupplier(() -> dc);
+            }
+
+            if(bindBrokers || i == 0) {
+                brokerBuilder.getVmBuilder().setPes(2).setMips(1000).createAndSubmit(2);
+                brokerBuilder.getCloudletBuilder().setLength(5000 * (i + 1)).setPEs(1).createAndSubmit(4);
+            }
+
+            scenario.datacenters.add(dc);
+
+            final PingEntity pingEntity = new PingEntity(simulation, true);
+            pingEntity.relay = i % 2 == 1;
+            scenario.brokers.add(broker);
+            scenario.pingEntities.add(pingEntity);
+            final List<SimEntity> entities = new ArrayList<>();
+            entities.add(dc);
+            entities.add(broker);
+            entities.add(pingEntity);
+            scenario.entities.add(entities);
+        }
+
+        final NetworkTopology topology = new BriteNetworkTopology();
+        for (int i = 0; i < LOGICAL_PROCESSES; i++) {
+            final PingEntity entity = scenario.pingEntities.get(i);
+            entity.next = scenario.pingEntities.get((i + 1) % LOGICAL_PROCESSES);
+            entity.collector = scenario.pingEntities.get(0);
+            topology.addLink(entity.getId(), entity.next.getId(), 1000, PING_LATENCY);
+        }
+
+        simulations.forEach(simulation -> simulation.setNetworkTopology(topology));
+        return scenario;
+    }
+
+    /**
+     * The entities created for a simulation, one set for each logical process, and the simulation results.
+     */
+    private static final class Scenario {
+        private final List<Datacenter> datacenters = new ArrayList<>();
+        private final List<DatacenterBroker> brokers = new ArrayList<>();
+        private final List<PingEntity> pingEntities = new ArrayList<>();
+        private final List<List<SimEntity>> entities = new ArrayList<>();
+
+        /**
+         * The events processed by each logical process.
+         */
+        private final List<List<String>> events = new ArrayList<>();
+
+        /**
+         * Strings representing the simulation results.
+         */
+        private final List<String> results = new ArrayList<>();
+
+        private void collectResults() {
+            brokers.get(0).getSimulation().getCloudInfoService().getDatacenterList().forEach(dc -> results.add(dc.getName()));
+            brokers.stream()
+                .flatMap(broker -> broker.<Vm>getVmCreatedList().stream())
+                .forEach(vm -> results.add(vm.getId() + ": " + vm.getHost().getDatacenter().getName()));
+            brokers.stream()
+                .flatMap(broker -> broker.<Cloudlet>getCloudletFinishedList().stream())
+                .forEach(cloudlet -> results.add(cloudlet.getId() + ": " + cloudlet.getFinishTime()));
+            pingEntities.forEach(entity -> results.addAll(entity.received));
+        }
+    }
+
+    /**
+     * A {@link NetworkTopology} that has no delay between a given pair of entities.
+     * It's required since a {@link BriteNetworkTopology} ignores links with zero latency.
+     */
+    private static final class ZeroDelayNetworkTopology implements NetworkTopology {
+        private final NetworkTopology topology;
+        private final SimEntity entity1;
+        private final SimEntity entity2;
+
+        private ZeroDelayNetworkTopology(final NetworkTopology topology, final SimEntity entity1, final SimEntity entity2) {
+            this.topology = topology;
+            this.entity1 = entity1;
+            this.entity2 = entity2;
+        }
+
+        @Override public void addLink(long srcId, long destId, double bw, double lat) { topology.addLink(srcId, destId, bw, lat); }
+        @Override public void mapNode(long cloudSimEntityID, int briteID) { topology.mapNode(cloudSimEntityID, briteID); }
+        @Override public void unmapNode(long cloudSimEntityID) { topology.unmapNode(cloudSimEntityID); }
+        @Override public boolean isNodeMapped(long cloudSimEntityID) { return topology.isNodeMapped(cloudSimEntityID); }
+        @Override public boolean isNetworkEnabled() { return topology.isNetworkEnabled(); }
+        @Override public TopologicalGraph getTopologycalGraph() { return topology.getTopologycalGraph(); }
+
+        @Override
+        public double getDelay(final long srcID, final long destID) {
+            final boolean pair =
+                srcID == entity1.getId() && destID == entity2.getId() ||
+                srcID == entity2.getId() && destID == entity1.getId();
+            return pair ? 0 : topology.getDelay(srcID, destID);
+        }
+    }
+
+    /**
+     * An entity that sends an event to the next entity in a ring of logical processes
+     * every time it receives one, also reporting it to a collector entity.
+     * Relay entities send the report in a later tick at the same time,
+     * so that the collector receives reports sent at different points of the same time.
+     */
+    private static final class PingEntity extends CloudSimEntity {
+        private final boolean initiator;
+        private final List<String> received = new ArrayList<>();
+        private PingEntity next;
+        private PingEntity collector;
+        private boolean relay;
+        private double delay = 1;
+
+        private PingEntity(final Simulation simulation, final boolean initiator) {
+            super(simulation);
+            this.initiator = initiator;
+        }
+
+        @Override
+        protected void startEntity() {
+            if(initiator) {
+                send(next, delay, PING_TAG, 0);
+            }
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            switch (evt.getTag()) {
+                case PING_TAG: processPing((int) evt.getData() + 1); break;
+                case RELAY_TAG: send(collector, 1, REPORT_TAG); break;
+                case REPORT_TAG:
+                    received.add(getName() + " received report from " + evt.getSource().getId() + " at " + getSimulation().clock());
+                break;
+            }
+        }
+
+        private void processPing(final int pings) {
+            received.add(getName() + " received ping " + pings + " at " + getSimulation().clock());
+            if(relay) {
+                schedule(this, 0, RELAY_TAG);
+            } else {
+                send(collector, 1, REPORT_TAG);
+            }
+
+            if(pings < PINGS) {
+                if(delay < PING_LATENCY) {
+                    schedule(next, delay, PING_TAG, pings);
+                } else {
+                    send(next, delay, PING_TAG, pings);
+                }
+            }
+        }
+    }
+}
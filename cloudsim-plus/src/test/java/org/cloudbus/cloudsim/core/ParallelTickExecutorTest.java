@@ -0,0 +1,211 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.events.EventPool;
+import org.cloudbus.cloudsim.core.events.EventPoolSimple;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class ParallelTickExecutorTest {
+    private static final int DATACENTERS = 4;
+    private static final int CLOUDLETS_BY_BROKER = 6;
+    private static final int PING_TAG = 999_999;
+
+    @Test
+    public void testResultsAreTheSameRegardlessOfTheParallelism() {
+        final List<String> expected = runSimulation(1, EventPool.NULL, 2);
+        assertEquals(DATACENTERS * CLOUDLETS_BY_BROKER + 2, expected.size());
+        assertEquals(expected, runSimulation(DATACENTERS, EventPool.NULL, 2));
+        assertEquals(expected, runSimulation(DATACENTERS * 2, EventPool.NULL, 2));
+        assertEquals(expected, runSimulation(DATACENTERS, new EventPoolSimple(), 2));
+    }
+
+    /**
+     * Checks the results when brokers request more VMs than a Datacenter can host,
+     * making brokers to interact with Datacenters where VMs from other brokers are placed.
+     */
+    @Test
+    public void testResultsAreTheSameWhenBrokersAndDatacentersInteract() {
+        final List<String> expected = runSimulation(1, EventPool.NULL, 3);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, runSimulation(DATACENTERS, EventPool.NULL, 3));
+        assertEquals(expected, runSimulation(DATACENTERS * 2, new EventPoolSimple(), 3));
+    }
+
+    /**
+     * Checks the results when each broker is bound to a different Datacenter,
+     * making Datacenters to run in parallel.
+     */
+    @Test
+    public void testResultsAreTheSameWhenBrokersAreBoundToDifferentDatacenters() {
+        final List<String> expected = runSimulation(1, EventPool.NULL, 2, true);
+        assertEquals(DATACENTERS * CLOUDLETS_BY_BROKER + 2, expected.size());
+        assertEquals(expected, runSimulation(DATACENTERS, EventPool.NULL, 2, true));
+        assertEquals(expected, runSimulation(DATACENTERS * 2, new EventPoolSimple(), 2, true));
+    }
+
+    /**
+     * Checks each Datacenter runs with the broker bound to it,
+     * in parallel with the other Datacenters and with the entities outside the cloud infrastructure.
+     */
+    @Test
+    public void testDatacentersRunInParallelWithTheBrokersBoundToThem() {
+        final CloudSim simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        final List<CloudSimEntity> entities = new ArrayList<>();
+        final List<List<CloudSimEntity>> expected = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            final List<Host> hosts = new HostBuilder().setPes(4).setMips(1000).create().getHosts();
+            final Datacenter dc = scenario.getDatacenterBuilder().create(hosts).getDatacenters().get(i);
+            final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().create();
+            final DatacenterBroker broker = brokerBuilder.getBroker();
+            broker.setDatacenterSupplier(() -> dc);
+            brokerBuilder.getVmBuilder().setPes(2).setMips(1000).createAndSubmit(2);
+            brokerBuilder.getCloudletBuilder().setLength(10000).setPEs(1).createAndSubmit(2);
+
+            final PingEntity pingEntity = new PingEntity(simulation);
+            entities.addAll(Arrays.asList((CloudSimEntity) dc, pingEntity, (CloudSimEntity) broker));
+            expected.add(Arrays.asList((CloudSimEntity) dc, (CloudSimEntity) broker));
+            expected.add(Collections.singletonList(pingEntity));
+        }
+
+        final ParallelTickExecutor executor = new ParallelTickExecutor(simulation, 2);
+        final List<List<CloudSimEntity>> groups = new ArrayList<>();
+        final List<List<CloudSimEntity>> groupsWithCis = new ArrayList<>();
+        simulation.addOnClockTickListener(info -> {
+            if(groups.isEmpty() && info.getTime() >= 1) {
+                groups.addAll(executor.partition(entities));
+
+                final List<CloudSimEntity> entitiesWithCis = new ArrayList<>(entities);
+                entitiesWithCis.add(simulation.getCloudInfoService());
+                groupsWithCis.addAll(executor.partition(entitiesWithCis));
+            }
+        });
+
+        try {
+            simulation.start();
+            assertEquals(expected, groups);
+            assertEquals(3, groupsWithCis.size(), "The CIS should run with all Datacenters and brokers");
+            assertEquals(1, executor.partition(entities.subList(1, 2)).size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSetTickParallelismAfterStartThrowsException() {
+        final CloudSim simulation = new CloudSim();
+        assertThrows(IllegalArgumentException.class, () -> simulation.setTickParallelism(0));
+        simulation.setTickParallelism(2);
+        assertEquals(2, simulation.getTickParallelism());
+
+        simulation.start();
+        assertThrows(IllegalStateException.class, () -> simulation.setTickParallelism(1));
+    }
+
+    /**
+     * Runs a simulation with multiple Datacenters and brokers, and a pair of entities
+     * exchanging events, making entities to process the events of each tick using a given parallelism.
+     * @param vmsByBroker the number of VMs each broker requests
+     * @return a list of strings representing the simulation results.
+     */
+    private List<String> runSimulation(final int parallelism, final EventPool pool, final int vmsByBroker) {
+        return runSimulation(parallelism, pool, vmsByBroker, false);
+    }
+
+    /**
+     * Runs a simulation with multiple Datacenters and brokers, and a pair of entities
+     * exchanging events, making entities to process the events of each tick using a given parallelism.
+     * @param vmsByBroker the number of VMs each broker requests
+     * @param bindBrokers true to make each broker to create VMs just into its own Datacenter,
+     *                    false to make brokers to select Datacenters in the order they were created
+     * @return a list of strings representing the simulation results.
+     */
+    private List<String> runSimulation(
+        final int parallelism, final EventPool pool, final int vmsByBroker, final boolean bindBrokers)
+    {
+        final CloudSim simulation = new CloudSim();
+        simulation.setTickParallelism(parallelism);
+        simulation.setEventPool(pool);
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+
+        final List<DatacenterBroker> brokers = new ArrayList<>();
+        for (int i = 0; i < DATACENTERS; i++) {
+            final List<Host> hosts = new HostBuilder().setPes(4).setMips(1000).create().getHosts();
+            final Datacenter dc = scenario.getDatacenterBuilder().setSchedulingInterval(1 + i).create(hosts).getDatacenters().get(i);
+
+            final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().create();
+            if(bindBrokers) {
+                brokerBuilder.getBroker().setDatacenterSupplier(() -> dc);
+            }
+
+            brokerBuilder.getVmBuilder().setPes(2).setMips(1000).createAndSubmit(vmsByBroker);
+            brokerBuilder.getCloudletBuilder().setLength(5000 * (i + 1)).setPEs(1).createAndSubmit(CLOUDLETS_BY_BROKER);
+            brokers.add(brokerBuilder.getBroker());
+        }
+
+        final PingEntity ping1 = new PingEntity(simulation);
+        final PingEntity ping2 = new PingEntity(simulation);
+        ping1.peer = ping2;
+        ping2.peer = ping1;
+
+        simulation.start();
+
+        final List<String> results = new ArrayList<>();
+        for (final DatacenterBroker broker : brokers) {
+            for (final Cloudlet cloudlet : broker.<Cloudlet>getCloudletFinishedList()) {
+                results.add(String.format(
+                    "%s %d: %s %.4f %.4f", broker.getName(), cloudlet.getId(),
+                    cloudlet.getVm().getHost().getDatacenter().getName(),
+                    cloudlet.getExecStartTime(), cloudlet.getFinishTime()));
+            }
+        }
+
+        results.add(ping1.getName() + " received " + ping1.received);
+        results.add(ping2.getName() + " received " + ping2.received);
+        return results;
+    }
+
+    /**
+     * An entity that sends an event back to its peer every time it receives one,
+     * running in parallel with the entities of the cloud infrastructure.
+     */
+    private static final class PingEntity extends CloudSimEntity {
+        private PingEntity peer;
+        private int received;
+
+        private PingEntity(final Simulation simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startEntity() {
+            if(peer != null) {
+                send(peer, 1, PING_TAG);
+            }
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if(evt.getTag() == PING_TAG && ++received < 10) {
+                send(peer, 1, PING_TAG);
+            }
+        }
+    }
+}
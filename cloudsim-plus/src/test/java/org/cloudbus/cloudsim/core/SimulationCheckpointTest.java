@@ -0,0 +1,136 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class SimulationCheckpointTest {
+    private static final double CHECKPOINT_TIME = 15;
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = Files.createTempFile("cloudsim-checkpoint", ".bin");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testRestoredSimulationContinuesFromCheckpoint() {
+        final CloudSim expected = createSimulation();
+        expected.start();
+
+        final CloudSim simulation = createSimulation();
+        /*The listener is saved into the checkpoint too,
+        * thus it just captures a String instead of the non-serializable Path.*/
+        final String fileName = file.toString();
+        simulation.pause(CHECKPOINT_TIME);
+        simulation.addOnSimulationPauseListener(info -> {
+            SimulationCheckpoint.save(simulation, Paths.get(fileName));
+            simulation.resume();
+        });
+        simulation.start();
+
+        final CloudSim restored = SimulationCheckpoint.restore(file);
+        assertEquals(CHECKPOINT_TIME, restored.clock());
+        assertTrue(restored.isRunning());
+        assertFalse(restored.isPaused());
+        assertEquals(simulation.getEntityList().size(), restored.getEntityList().size());
+
+        restored.start();
+        assertEquals(expected.clock(), restored.clock());
+        assertEquals(finishTimes(expected), finishTimes(restored));
+        assertEquals(finishTimes(simulation), finishTimes(restored));
+    }
+
+    @Test
+    public void testSaveNotStartedSimulation() {
+        final CloudSim expected = createSimulation();
+        SimulationCheckpoint.save(expected, file);
+        expected.start();
+
+        final CloudSim restored = SimulationCheckpoint.restore(file);
+        restored.start();
+        assertEquals(finishTimes(expected), finishTimes(restored));
+    }
+
+    @Test
+    public void testSaveRunningSimulation() {
+        final CloudSim simulation = createSimulation();
+        simulation.addOnClockTickListener(info ->
+            assertThrows(IllegalStateException.class, () -> SimulationCheckpoint.save(simulation, file)));
+        simulation.terminateAt(5);
+        simulation.start();
+    }
+
+    @Test
+    public void testFunctionsAreSavedJustWhenSerializable() {
+        final CloudSim simulation = createSimulation();
+        SimulationCheckpoint.save(simulation, file);
+        final Function<Cloudlet, Vm> defaultMapper = brokers(SimulationCheckpoint.restore(file)).get(0).getVmMapper();
+        assertTrue(defaultMapper instanceof Serializable);
+
+        final Function<Cloudlet, Vm> nonSerializableMapper = cloudlet -> Vm.NULL;
+        brokers(simulation).get(0).setVmMapper(nonSerializableMapper);
+        SimulationCheckpoint.save(simulation, file);
+        final Function<Cloudlet, Vm> mapper = brokers(SimulationCheckpoint.restore(file)).get(0).getVmMapper();
+        assertNotNull(mapper);
+        assertTrue(mapper instanceof Serializable, "The default VM mapper should be reattached");
+    }
+
+    private CloudSim createSimulation() {
+        final CloudSim simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        final List<Host> hosts = new HostBuilder().setPes(4).setMips(1000).create(2).getHosts();
+        scenario.getDatacenterBuilder().setSchedulingInterval(1).create(hosts);
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().create();
+        brokerBuilder.getVmBuilder().setPes(2).setMips(1000).createAndSubmit(3);
+        brokerBuilder.getCloudletBuilder().setLength(20000).setPEs(1).createAndSubmit(8);
+        return simulation;
+    }
+
+    /**
+     * Gets the id and finish time of the Cloudlets finished by all brokers in a simulation.
+     * Brokers are got from the simulation entities since
+     * a restored simulation has new instances of them.
+     */
+    private List<String> finishTimes(final CloudSim simulation) {
+        return brokers(simulation).stream()
+            .flatMap(broker -> broker.getCloudletFinishedList().stream())
+            .map(cloudlet -> cloudlet.getId() + ":" + cloudlet.getFinishTime())
+            .collect(toList());
+    }
+
+    private List<DatacenterBroker> brokers(final CloudSim simulation) {
+        return simulation.getEntityList().stream()
+            .filter(entity -> entity instanceof DatacenterBroker)
+            .map(entity -> (DatacenterBroker) entity)
+            .collect(toList());
+    }
+}
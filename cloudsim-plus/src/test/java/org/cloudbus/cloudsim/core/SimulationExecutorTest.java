@@ -0,0 +1,103 @@
+package org.cloudbus.cloudsim.core;
+
+import ch.qos.logback.classic.Level;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.cloudsimplus.util.Log;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.joining;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class SimulationExecutorTest {
+    private static final int SIMULATIONS = 64;
+
+    /**
+     * Runs many simulations concurrently, each one with a different Host RAM capacity
+     * (which changes the number of VMs placed into each Host),
+     * then checks the results are the same as running them sequentially.
+     */
+    @Test
+    public void testConcurrentResultsAreEqualToSequentialOnes() {
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < SIMULATIONS; i++) {
+            expected.add(runSimulation(i));
+        }
+
+        try(SimulationExecutor executor = new SimulationExecutor(8).setLogLevel(Level.OFF)) {
+            assertEquals(expected, executor.run(SIMULATIONS, SimulationExecutorTest::runSimulation));
+            assertEquals(expected, executor.run(SIMULATIONS, SimulationExecutorTest::runSimulation));
+        }
+    }
+
+    @Test
+    public void testDefaultConfigurationIsRestoredForEachSimulation() {
+        try(SimulationExecutor executor = new SimulationExecutor(1)) {
+            final List<Level> levels = executor.run(3, i -> {
+                final Level level = Log.getThreadLevel();
+                Log.setThreadLevel(Level.OFF);
+                return level;
+            });
+
+            levels.forEach(level -> assertNull(level));
+        }
+    }
+
+    @Test
+    public void testLogLevelJustAppliesToSimulationThreads() {
+        final Logger logger = LoggerFactory.getLogger(SimulationExecutorTest.class.getSimpleName());
+        final boolean infoEnabled = logger.isInfoEnabled();
+        try(SimulationExecutor executor = new SimulationExecutor(2).setLogLevel(Level.OFF)) {
+            executor.run(2, i -> logger.isErrorEnabled()).forEach(enabled -> assertFalse(enabled));
+        }
+
+        assertEquals(infoEnabled, logger.isInfoEnabled());
+    }
+
+    @Test
+    public void testFailedSimulationExceptionIsRethrown() {
+        try(SimulationExecutor executor = new SimulationExecutor(2)) {
+            assertThrows(ArithmeticException.class, () -> executor.run(4, i -> 1 / (i - 2)));
+        }
+    }
+
+    @Test
+    public void testRunAfterClose() {
+        final SimulationExecutor executor = new SimulationExecutor(2);
+        executor.close();
+        assertThrows(IllegalStateException.class, () -> executor.run(1, i -> i));
+    }
+
+    private static String runSimulation(final int index) {
+        final long ram = 1024 * (2 + index % 4);
+        final CloudSim simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        final HostBuilder hostBuilder = new HostBuilder().setPes(8).setMips(1000);
+        hostBuilder.setHostCreationFunction(peList ->
+            new HostSimple(ram, HostSimple.getDefaultBwCapacity(), HostSimple.getDefaultStorageCapacity(), peList));
+        final List<Host> hosts = hostBuilder.create(4).getHosts();
+        scenario.getDatacenterBuilder().setSchedulingInterval(1).create(hosts);
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().create();
+        brokerBuilder.getVmBuilder().setPes(1).setMips(1000).createAndSubmit(16);
+        brokerBuilder.getCloudletBuilder().setLength(10_000 + index * 1000).setPEs(1).createAndSubmit(32);
+        simulation.start();
+
+        final DatacenterBroker broker = brokerBuilder.getBrokers().get(0);
+        return broker.getCloudletFinishedList().stream()
+            .map(cloudlet -> cloudlet.getId() + ":" + cloudlet.getVm().getId() + ":" + cloudlet.getFinishTime())
+            .collect(joining(","));
+    }
+}
@@ -0,0 +1,106 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class DeferredQueueTest {
+    private SimEntity entity1;
+    private SimEntity entity2;
+    private DeferredQueue instance;
+
+    @BeforeEach
+    public void setUp(){
+        final CloudSim simulation = new CloudSim();
+        entity1 = simulation.getCloudInfoService();
+        entity2 = new DatacenterBrokerSimple(simulation);
+        instance = new DeferredQueue();
+    }
+
+    @Test
+    public void testOutOfOrderEventsAreSortedByTime() {
+        final SimEvent evt1 = addEvent(entity1, 2, 1);
+        final SimEvent evt2 = addEvent(entity1, 1, 2);
+        final SimEvent evt3 = addEvent(entity2, 0, 1);
+        final SimEvent evt4 = addEvent(entity1, 2, 1);
+        final SimEvent evt5 = addEvent(entity1, 1, 1);
+
+        assertEquals(5, instance.size());
+        assertSame(evt3, instance.first());
+        assertEquals(asList(evt3, evt2, evt5, evt1, evt4), instance.stream().collect(toList()));
+        assertEquals(asList(evt2, evt5, evt1, evt4), instance.stream(entity1).collect(toList()));
+    }
+
+    @Test
+    public void testFindFirstByTag() {
+        addEvent(entity1, 0, 1);
+        final SimEvent evt2 = addEvent(entity1, 1, 2);
+        addEvent(entity1, 2, 2);
+        final SimEvent evt4 = addEvent(entity2, 3, 2);
+
+        assertSame(evt2, instance.findFirst(entity1, new PredicateType(2)));
+        assertSame(evt2, instance.findFirst(entity1, evt -> evt.getTag() == 2));
+        assertSame(evt4, instance.findFirst(entity2, new PredicateType(2)));
+        assertSame(SimEvent.NULL, instance.findFirst(entity2, new PredicateType(1)));
+        assertEquals(4, instance.size());
+    }
+
+    @Test
+    public void testRemoveFirst() {
+        final SimEvent evt1 = addEvent(entity1, 0, 1);
+        final SimEvent evt2 = addEvent(entity1, 1, 2);
+        final SimEvent evt3 = addEvent(entity1, 2, 2);
+
+        assertSame(evt2, instance.removeFirst(entity1, new PredicateType(2)));
+        assertSame(evt1, instance.removeFirst(entity1, Simulation.ANY_EVT));
+        assertSame(SimEvent.NULL, instance.removeFirst(entity2, Simulation.ANY_EVT));
+        assertEquals(singletonList(evt3), instance.stream().collect(toList()));
+        assertEquals(1, instance.size());
+    }
+
+    @Test
+    public void testRemove() {
+        final SimEvent evt1 = addEvent(entity1, 0, 1);
+        final SimEvent evt2 = addEvent(entity1, 0, 1);
+
+        assertTrue(instance.remove(evt2));
+        assertFalse(instance.remove(evt2));
+        assertSame(evt1, instance.findFirst(entity1, new PredicateType(1)));
+        assertTrue(instance.remove(evt1));
+        assertTrue(instance.isEmpty());
+        assertSame(SimEvent.NULL, instance.findFirst(entity1, new PredicateType(1)));
+    }
+
+    @Test
+    public void testDrainedMailboxesAreRemoved() {
+        final SimEvent evt1 = addEvent(entity1, 0, 1);
+        addEvent(entity2, 0, 1);
+        addEvent(entity2, 1, 2);
+        assertEquals(2, instance.getMailboxesNumber());
+
+        assertSame(evt1, instance.removeFirst(entity1, Simulation.ANY_EVT));
+        assertEquals(1, instance.getMailboxesNumber());
+
+        assertEquals(2, instance.removeAll(entity2));
+        assertEquals(0, instance.getMailboxesNumber());
+        assertTrue(instance.isEmpty());
+        assertEquals(0, instance.removeAll(entity2));
+    }
+
+        private SimEvent addEvent(final SimEntity dest, final double delay, final int tag) {
+        final SimEvent evt = new CloudSimEvent(delay, entity1, dest, tag, null);
+        instance.addEvent(evt);
+        return evt;
+    }
+}
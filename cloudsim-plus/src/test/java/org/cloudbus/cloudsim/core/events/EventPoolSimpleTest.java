@@ -0,0 +1,246 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class EventPoolSimpleTest {
+    private static final int FIRST_TAG = -1001;
+    private static final int SECOND_TAG = -1002;
+    private static final int THIRD_TAG = -1003;
+
+    private SimEntity entity;
+
+    @BeforeEach
+    public void setUp(){
+        entity = new CloudSim().getCloudInfoService();
+    }
+
+    @Test
+    public void testReleasedEventIsReused() {
+        final EventPoolSimple pool = new EventPoolSimple();
+        final SimEvent evt1 = acquire(pool, 1);
+        pool.release(evt1);
+        assertEquals(1, pool.getAvailableEvents());
+
+        final SimEvent evt2 = acquire(pool, 2);
+        assertSame(evt1, evt2);
+        assertEquals(2, evt2.getTag());
+        assertEquals(-1, evt2.getSerial());
+        assertEquals(1, pool.getCreatedEvents());
+        assertEquals(0, pool.getAvailableEvents());
+    }
+
+    @Test
+    public void testUseAfterReleaseInDebugMode() {
+        final EventPoolSimple pool = new EventPoolSimple(true);
+        final SimEvent evt1 = acquire(pool, 1);
+        pool.release(evt1);
+        assertEquals(0, pool.getAvailableEvents());
+        assertThrows(IllegalStateException.class, evt1::getTag);
+        assertThrows(IllegalStateException.class, () -> pool.release(evt1));
+
+        final SimEvent evt2 = acquire(pool, 2);
+        assertNotSame(evt1, evt2);
+        assertEquals(2, pool.getCreatedEvents());
+        assertThrows(IllegalStateException.class, evt1::getTime);
+    }
+
+    @Test
+    public void testHandleOfRecycledEventIsInvalid() {
+        final EventPoolSimple pool = new EventPoolSimple();
+        final SimEvent evt1 = acquire(pool, 1);
+        final SimEventHandle handle = SimEventHandle.of(evt1);
+        assertTrue(handle.isValid());
+        assertSame(evt1, handle.getEvent());
+
+        pool.release(evt1);
+        final SimEvent evt2 = acquire(pool, 2);
+        assertSame(evt1, evt2);
+        assertFalse(handle.isValid());
+        assertSame(SimEvent.NULL, handle.getEvent());
+        assertTrue(SimEventHandle.of(evt2).isValid());
+        assertFalse(SimEventHandle.NULL.isValid());
+    }
+
+    @Test
+    public void testCancellingRecycledEventIsNoop() {
+        final CloudSim simulation = new CloudSim();
+        simulation.setEventPool(new EventPoolSimple());
+        final List<Integer> receivedTags = new ArrayList<>();
+        final CloudSimEntity sender = new CloudSimEntity(simulation) {
+            private SimEventHandle firstEvent = SimEventHandle.NULL;
+
+            @Override
+            protected void startEntity() {
+                firstEvent = scheduleNow(this, FIRST_TAG);
+            }
+
+            @Override
+            public void processEvent(final SimEvent evt) {
+                switch (evt.getTag()) {
+                    case FIRST_TAG:
+                        schedule(this, 1, SECOND_TAG);
+                    break;
+                    case SECOND_TAG:
+                        //The event object of the first message is recycled for the third one
+                        schedule(this, 1, THIRD_TAG);
+                        assertFalse(cancelEvent(firstEvent));
+                    break;
+                    case THIRD_TAG: break;
+                    default: return;
+                }
+
+                receivedTags.add(evt.getTag());
+            }
+        };
+
+        simulation.start();
+        assertEquals(Arrays.asList(FIRST_TAG, SECOND_TAG, THIRD_TAG), receivedTags);
+    }
+
+    @Test
+    public void testCancellingSameTimeEventFromHandler() {
+        final CloudSim simulation = new CloudSim();
+        simulation.setEventPool(new EventPoolSimple());
+        final List<Integer> receivedTags = new ArrayList<>();
+        final List<Boolean> cancellations = new ArrayList<>();
+        new CloudSimEntity(simulation) {
+            private SimEventHandle secondEvent = SimEventHandle.NULL;
+
+            @Override
+            protected void startEntity() {
+                //Both events happen at the same time, so they are removed together from the future queue
+                schedule(this, 1, FIRST_TAG);
+                secondEvent = schedule(this, 1, SECOND_TAG);
+            }
+
+            @Override
+            public void processEvent(final SimEvent evt) {
+                receivedTags.add(evt.getTag());
+                if(evt.getTag() == FIRST_TAG) {
+                    cancellations.add(cancelEvent(secondEvent));
+                    cancellations.add(cancelEvent(secondEvent));
+                }
+            }
+        };
+
+        simulation.start();
+        assertEquals(Arrays.asList(true, false), cancellations);
+        assertFalse(receivedTags.contains(SECOND_TAG));
+        assertTrue(receivedTags.contains(FIRST_TAG));
+    }
+
+    @Test
+    public void testEventSentToFinishedEntityIsReleased() {
+        final CloudSim simulation = new CloudSim();
+        final List<Integer> releasedTags = new ArrayList<>();
+        simulation.setEventPool(new EventPoolSimple(){
+            @Override
+            public synchronized void release(final SimEvent evt) {
+                releasedTags.add(evt.getTag());
+                super.release(evt);
+            }
+        });
+
+        final CloudSimEntity receiver = new CloudSimEntity(simulation) {
+            @Override protected void startEntity() { shutdownEntity(); }
+            @Override public void processEvent(final SimEvent evt) {/**/}
+        };
+
+        new CloudSimEntity(simulation) {
+            @Override
+            protected void startEntity() {
+                schedule(receiver, 1, FIRST_TAG);
+                schedule(receiver, 2, SECOND_TAG);
+            }
+
+            @Override public void processEvent(final SimEvent evt) {/**/}
+        };
+
+        simulation.start();
+        assertTrue(releasedTags.contains(FIRST_TAG));
+        assertTrue(releasedTags.contains(SECOND_TAG));
+    }
+
+    @Test
+    public void testPoolIsThreadSafeJustWhenEntitiesRunInParallel() {
+        assertFalse(startSimulation(1).isThreadSafe());
+        assertTrue(startSimulation(2).isThreadSafe());
+    }
+
+    private EventPoolSimple startSimulation(final int tickParallelism) {
+        final CloudSim simulation = new CloudSim();
+        final EventPoolSimple pool = new EventPoolSimple();
+        simulation.setEventPool(pool);
+        simulation.setTickParallelism(tickParallelism);
+        simulation.start();
+        return pool;
+    }
+
+    @Test
+    public void testReleaseEventNotFromThePool() {
+        final EventPoolSimple pool = new EventPoolSimple();
+        final SimEvent evt = new CloudSimEvent(0, entity, 1);
+        pool.release(evt);
+        pool.release(acquire(new EventPoolSimple(), 1));
+        pool.release(SimEvent.NULL);
+        assertEquals(0, pool.getAvailableEvents());
+        assertEquals(1, evt.getTag());
+    }
+
+    @Test
+    public void testSimulationResultsAreTheSameUsingThePool() {
+        final List<Double> expected = runSimulation(EventPool.NULL);
+        assertEquals(4, expected.size());
+        assertEquals(expected, runSimulation(new EventPoolSimple(true)));
+
+        final EventPoolSimple pool = new EventPoolSimple();
+        assertEquals(expected, runSimulation(pool));
+        assertTrue(pool.getAvailableEvents() > 0);
+    }
+
+    /**
+     * Runs a simulation using a given event pool.
+     * @return the finish time of each Cloudlet
+     */
+    private List<Double> runSimulation(final EventPool pool) {
+        final CloudSim simulation = new CloudSim();
+        simulation.setEventPool(pool);
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        final List<Host> hosts = new HostBuilder().setPes(4).setMips(1000).create().getHosts();
+        scenario.getDatacenterBuilder().setSchedulingInterval(2).create(hosts);
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().create();
+        brokerBuilder.getVmBuilder().setPes(2).setMips(1000).createAndSubmit(2);
+        brokerBuilder.getCloudletBuilder().setLength(10000).setPEs(1).createAndSubmit(4);
+
+        simulation.start();
+        assertThrows(IllegalStateException.class, () -> simulation.setEventPool(EventPool.NULL));
+
+        final DatacenterBroker broker = brokerBuilder.getBroker();
+        return broker.getCloudletFinishedList().stream().map(Cloudlet::getFinishTime).collect(toList());
+    }
+
+    private SimEvent acquire(final EventPool pool, final int tag) {
+        return pool.acquire(SimEvent.Type.SEND, 0, entity, entity, tag, null);
+    }
+}
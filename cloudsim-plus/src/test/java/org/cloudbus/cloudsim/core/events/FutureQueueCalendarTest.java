@@ -0,0 +1,181 @@
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks if the {@link FutureQueueCalendar} keeps the same event ordering
+ * of the {@link FutureQueueSimple}.
+ *
+ * @author agent
+ */
+public class FutureQueueCalendarTest {
+    private static final int EVENTS = 5000;
+
+    private SimEntity entity;
+    private Random random;
+    private FutureQueueSimple expected;
+    private FutureQueueCalendar instance;
+
+    @BeforeEach
+    public void setUp(){
+        entity = new CloudSim().getCloudInfoService();
+        random = new Random(1);
+        expected = new FutureQueueSimple();
+        instance = new FutureQueueCalendar();
+    }
+
+    @Test
+    public void testFirstWhenEmpty() {
+        assertThrows(NoSuchElementException.class, instance::first);
+    }
+
+    @Test
+    public void testIterationOrder() {
+        for (int i = 0; i < EVENTS; i++) {
+            addToBothQueues(newEvent(randomTime()), random.nextInt(10) == 0);
+        }
+
+        assertEquals(expected.size(), instance.size());
+        assertSameOrder(expected.stream().collect(toList()), instance.stream().collect(toList()));
+    }
+
+    @Test
+    public void testRemoveFirstInterleavedWithAdd() {
+        final List<SimEvent> expectedOrder = new ArrayList<>();
+        final List<SimEvent> actualOrder = new ArrayList<>();
+        double clock = 0;
+        for (int i = 0; i < EVENTS; i++) {
+            addToBothQueues(newEvent(clock + randomTime()), random.nextInt(10) == 0);
+            if(random.nextBoolean()){
+                clock = removeFirst(expected, expectedOrder);
+                removeFirst(instance, actualOrder);
+            }
+        }
+
+        while (!expected.isEmpty()) {
+            removeFirst(expected, expectedOrder);
+            removeFirst(instance, actualOrder);
+        }
+
+        assertTrue(instance.isEmpty());
+        assertSameOrder(expectedOrder, actualOrder);
+    }
+
+    @Test
+    public void testRemoveEventsWithSameTime() {
+        final List<SimEvent> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final SimEvent evt = newEvent(1);
+            addToBothQueues(evt, i % 2 == 0);
+            events.add(evt);
+        }
+
+        for (final SimEvent evt : events) {
+            assertTrue(expected.remove(evt));
+            assertTrue(instance.remove(evt));
+            assertFalse(expected.remove(evt));
+            assertFalse(instance.remove(evt));
+        }
+
+        assertTrue(expected.isEmpty());
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testRemoveIf() {
+        for (int i = 0; i < EVENTS; i++) {
+            addToBothQueues(newEvent(randomTime()), false);
+        }
+
+        assertTrue(instance.removeIf(evt -> evt.getTag() % 3 == 0));
+        expected.removeIf(evt -> evt.getTag() % 3 == 0);
+        assertSameOrder(expected.stream().collect(toList()), instance.stream().collect(toList()));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        for (int i = 0; i < EVENTS; i++) {
+            addToBothQueues(newEvent(randomTime()), false);
+        }
+
+        for (final Iterator<SimEvent> it = instance.iterator(); it.hasNext(); ) {
+            if(it.next().getTag() % 2 == 0){
+                it.remove();
+            }
+        }
+
+        expected.removeIf(evt -> evt.getTag() % 2 == 0);
+        assertEquals(expected.size(), instance.size());
+        assertSameOrder(expected.stream().collect(toList()), instance.stream().collect(toList()));
+    }
+
+    @Test
+    public void testDrainFirstEventsAtSameTime() {
+        for (int i = 0; i < EVENTS; i++) {
+            addToBothQueues(newEvent(randomTime()), random.nextInt(10) == 0);
+        }
+
+        final List<SimEvent> expectedOrder = new ArrayList<>();
+        final List<SimEvent> actualOrder = new ArrayList<>();
+        while (!expected.isEmpty()) {
+            final int previousSize = actualOrder.size();
+            final double time = instance.first().getTime();
+            expected.drainFirstEventsAtSameTime(expectedOrder);
+            final int count = instance.drainFirstEventsAtSameTime(actualOrder);
+            assertEquals(actualOrder.size() - previousSize, count);
+            actualOrder.subList(previousSize, actualOrder.size()).forEach(evt -> assertEquals(time, evt.getTime()));
+        }
+
+        assertTrue(instance.isEmpty());
+        assertSameOrder(expectedOrder, actualOrder);
+    }
+
+    private double removeFirst(final FutureQueue queue, final List<SimEvent> removedEvents) {
+        final SimEvent evt = queue.first();
+        assertTrue(queue.remove(evt));
+        removedEvents.add(evt);
+        return evt.getTime();
+    }
+
+    private void assertSameOrder(final List<SimEvent> expectedOrder, final List<SimEvent> actualOrder) {
+        assertEquals(expectedOrder.size(), actualOrder.size());
+        for (int i = 0; i < expectedOrder.size(); i++) {
+            assertSame(expectedOrder.get(i), actualOrder.get(i), "Events at position " + i + " are different");
+        }
+    }
+
+    private void addToBothQueues(final SimEvent evt, final boolean first) {
+        if(first) {
+            expected.addEventFirst(evt);
+            instance.addEventFirst(evt);
+            return;
+        }
+
+        expected.addEvent(evt);
+        instance.addEvent(evt);
+    }
+
+    /**
+     * Gets a random time with a few possible values,
+     * so that there are many events for the same time.
+     */
+    private double randomTime() {
+        return random.nextInt(100) * (random.nextBoolean() ? 0.5 : 10);
+    }
+
+    private SimEvent newEvent(final double delay) {
+        return new CloudSimEvent(delay, entity, random.nextInt(1000));
+    }
+}
@@ -0,0 +1,137 @@
+package org.cloudbus.cloudsim.core.metrics;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.events.CloudSimEvent;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class SimulationMetricsSimpleTest {
+    private static final int CLOUDLETS = 40;
+
+    @Test
+    public void testMetricsAreNotCollectedByDefault() {
+        final CloudSim simulation = createSimulation();
+        assertSame(SimulationMetrics.NULL, simulation.getMetrics());
+        simulation.start();
+        assertEquals(0, simulation.getMetrics().getProcessedEvents());
+    }
+
+    @Test
+    public void testCollectMetrics() {
+        final CloudSim simulation = createSimulation();
+        final SimulationMetricsSimple metrics = new SimulationMetricsSimple();
+        simulation.setMetrics(metrics);
+        final AtomicLong processedEvents = new AtomicLong();
+        simulation.addOnEventProcessingListener(evt -> processedEvents.incrementAndGet());
+        simulation.start();
+
+        assertEquals(processedEvents.get(), metrics.getProcessedEvents());
+        assertEquals(simulation.clock(), metrics.getSimulationTime());
+        assertTrue(metrics.getTicks() > 0);
+        assertTrue(metrics.getWallClockTime() > 0);
+        assertTrue(metrics.getSimulationSpeed() > 0);
+        assertTrue(metrics.getMaxFutureQueueSize() > 0);
+        assertTrue(metrics.getMeanFutureQueueSize() <= metrics.getMaxFutureQueueSize());
+
+        assertEquals(CLOUDLETS, metrics.getTagStats().get(CloudSimTags.CLOUDLET_SUBMIT).getEvents());
+        assertEquals(CLOUDLETS, metrics.getTagStats().get(CloudSimTags.CLOUDLET_RETURN).getEvents());
+
+        final long tagEvents = metrics.getTagStats().values().stream().mapToLong(EventProcessingStats::getEvents).sum();
+        final long entityEvents = metrics.getEntityStats().values().stream().mapToLong(EventProcessingStats::getEvents).sum();
+        final long classEvents = metrics.getEntityClassStats().values().stream().mapToLong(EventProcessingStats::getEvents).sum();
+        assertEquals(tagEvents, entityEvents);
+        assertEquals(tagEvents, classEvents);
+        assertTrue(metrics.getEntityClassStats().containsKey(DatacenterSimple.class));
+        assertTrue(metrics.getEntityClassStats().containsKey(DatacenterBrokerSimple.class));
+    }
+
+    @Test
+    public void testTagStatsForTagsOutOfOrder() {
+        final SimulationMetricsSimple metrics = new SimulationMetricsSimple();
+        final EventProcessingStats entityStats = metrics.getEntityStats(SimEntity.NULL);
+        final int[] tags = {50, -1, 200, 50, 0, -1};
+        for (final int tag : tags) {
+            metrics.notifyEventProcessed(entityStats, new CloudSimEvent(SimEntity.NULL, tag), 10);
+        }
+
+        assertEquals(List.of(-1, 0, 50, 200), List.copyOf(metrics.getTagStats().keySet()));
+        assertEquals(2, metrics.getTagStats().get(-1).getEvents());
+        assertEquals(2, metrics.getTagStats().get(50).getEvents());
+        assertEquals(1, metrics.getTagStats().get(200).getEvents());
+        assertEquals(tags.length, entityStats.getEvents());
+        assertSame(entityStats, metrics.getEntityStats(SimEntity.NULL));
+    }
+
+    @Test
+    public void testSetMetricsAfterStart() {
+        final CloudSim simulation = createSimulation();
+        simulation.start();
+        assertThrows(IllegalStateException.class, () -> simulation.setMetrics(new SimulationMetricsSimple()));
+    }
+
+    @Test
+    public void testWriteCsv() {
+        final CloudSim simulation = createSimulation();
+        final SimulationMetricsSimple metrics = new SimulationMetricsSimple();
+        simulation.setMetrics(metrics);
+        simulation.start();
+
+        final StringBuilder csv = new StringBuilder();
+        metrics.write(csv, SimulationMetricsSimple.Format.CSV);
+        final String[] lines = csv.toString().split(System.lineSeparator());
+        assertEquals(SimulationMetricsSimple.CSV_HEADER, lines[0]);
+        assertTrue(csv.toString().contains(",tag,CLOUDLET_SUBMIT,events," + CLOUDLETS + System.lineSeparator()));
+        assertTrue(csv.toString().contains(",simulation,,processedEvents," + metrics.getProcessedEvents() + System.lineSeparator()));
+    }
+
+    @Test
+    public void testPeriodicJsonDump() throws IOException {
+        final Path file = Files.createTempFile("cloudsim-metrics", ".json");
+        try {
+            final CloudSim simulation = createSimulation();
+            final SimulationMetricsSimple metrics = new SimulationMetricsSimple().setPeriodicDump(file, SimulationMetricsSimple.Format.JSON, 1e-9);
+            simulation.setMetrics(metrics);
+            simulation.start();
+
+            final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            assertTrue(lines.size() > 1, "There should be a line for each dump");
+            lines.forEach(line -> assertTrue(line.startsWith("{") && line.endsWith("}")));
+            final String last = lines.get(lines.size() - 1);
+            assertTrue(last.contains("\"processedEvents\":" + metrics.getProcessedEvents() + ","));
+            assertTrue(last.contains("{\"tag\":" + CloudSimTags.CLOUDLET_SUBMIT + ",\"name\":\"CLOUDLET_SUBMIT\",\"events\":" + CLOUDLETS + ","));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private CloudSim createSimulation() {
+        final CloudSim simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        final List<Host> hosts = new HostBuilder().setPes(8).setMips(1000).create(4).getHosts();
+        scenario.getDatacenterBuilder().setSchedulingInterval(1).create(hosts);
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().create();
+        brokerBuilder.getVmBuilder().setPes(2).setMips(1000).createAndSubmit(12);
+        brokerBuilder.getCloudletBuilder().setLength(10_000).setPEs(1).createAndSubmit(CLOUDLETS);
+        return simulation;
+    }
+}
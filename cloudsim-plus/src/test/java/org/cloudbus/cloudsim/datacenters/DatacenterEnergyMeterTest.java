@@ -0,0 +1,195 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimulationCheckpoint;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.power.models.PowerModelLinear;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class DatacenterEnergyMeterTest {
+    private static final int HOSTS = 4;
+    private static final int PES = 4;
+    private static final double MAX_POWER = 100;
+    private static final double STATIC_POWER_PERCENT = 0.5;
+    private static final double DELTA = 0.000001;
+    private static final double CHECKPOINT_TIME = 15;
+
+    @Test
+    public void testHostsAndRacksEnergyAddUpToDatacenterEnergy() {
+        final DatacenterEnergyMeter meter = new DatacenterEnergyMeter();
+        final DatacenterSimple dc = runSimulation(meter, datacenter -> {});
+
+        double hostsEnergy = 0;
+        for (final Host host : dc.getHostList()) {
+            hostsEnergy += meter.getHostEnergy(host);
+        }
+
+        final double energy = dc.getPower();
+        assertEquals(hostsEnergy, energy, DELTA);
+        assertEquals(energy, meter.getRackEnergy(0) + meter.getRackEnergy(1), DELTA);
+        assertEquals(0, meter.getRackEnergy(2));
+    }
+
+    @Test
+    public void testIdleHostConsumesStaticPower() {
+        final DatacenterEnergyMeter meter = new DatacenterEnergyMeter();
+        final DatacenterSimple dc = runSimulation(meter, datacenter -> {});
+
+        //The last Host has no VM, since there is one VM less than the number of Hosts
+        final Host idleHost = dc.getHost(HOSTS - 1);
+        final double clock = dc.getSimulation().clock();
+        final double staticPower = MAX_POWER * STATIC_POWER_PERCENT;
+        assertEquals(staticPower * clock, meter.getHostEnergy(idleHost), DELTA);
+
+        final double busyHostEnergy = meter.getHostEnergy(dc.getHost(0));
+        assertTrue(busyHostEnergy > staticPower * clock);
+        assertTrue(busyHostEnergy < MAX_POWER * clock);
+    }
+
+    @Test
+    public void testEventDrivenHostsUpdateKeepsEnergy() {
+        final DatacenterEnergyMeter expectedMeter = new DatacenterEnergyMeter();
+        final DatacenterSimple expected = runSimulation(expectedMeter, datacenter -> {});
+
+        final DatacenterEnergyMeter actualMeter = new DatacenterEnergyMeter();
+        final DatacenterSimple actual = runSimulation(actualMeter, datacenter -> datacenter.setEventDrivenHostsUpdate(true));
+
+        //Finish times may be slightly different when the event-driven update is enabled
+        final double delta = expected.getPower() * 0.01;
+        assertEquals(expected.getPower(), actual.getPower(), delta);
+        for (int i = 0; i < HOSTS; i++) {
+            assertEquals(
+                expectedMeter.getHostEnergy(expected.getHost(i)),
+                actualMeter.getHostEnergy(actual.getHost(i)), delta);
+        }
+    }
+
+    @Test
+    public void testSetHostRack() {
+        final DatacenterEnergyMeter meter = new DatacenterEnergyMeter();
+        final DatacenterSimple dc = runSimulation(meter, datacenter -> {});
+        assertEquals(0, meter.getHostRack(dc.getHost(0)));
+        assertEquals(1, meter.getHostRack(dc.getHost(1)));
+        assertEquals(DatacenterEnergyMeter.NO_RACK, meter.getHostRack(Host.NULL));
+    }
+
+    @Test
+    public void testSetHostRackBeforeSettingPowerSupply() {
+        final DatacenterEnergyMeter meter = new DatacenterEnergyMeter();
+        final Host host = createHost();
+        meter.setHostRack(host, 2);
+        assertEquals(2, meter.getHostRack(host));
+        assertEquals(0, meter.getRackEnergy(2));
+    }
+
+    /**
+     * Checks if the energy metered by a simulation restored from a checkpoint
+     * is the same of the original simulation, which keeps running after the checkpoint is saved.
+     */
+    @Test
+    public void testEnergyIsKeptAfterCheckpointRestore() throws IOException {
+        final Path file = Files.createTempFile("energy-checkpoint", ".bin");
+        try {
+            /*The listener is saved into the checkpoint too,
+             * thus it just captures a String instead of the non-serializable Path.*/
+            final String fileName = file.toString();
+            final DatacenterSimple expected = runSimulation(new DatacenterEnergyMeter(), datacenter -> {
+                final CloudSim simulation = (CloudSim) datacenter.getSimulation();
+                simulation.pause(CHECKPOINT_TIME);
+                simulation.addOnSimulationPauseListener(info -> {
+                    SimulationCheckpoint.save(simulation, Paths.get(fileName));
+                    simulation.resume();
+                });
+            });
+
+            final CloudSim restored = SimulationCheckpoint.restore(file);
+            restored.start();
+            final DatacenterSimple actual = restored.getEntityList().stream()
+                .filter(entity -> entity instanceof DatacenterSimple)
+                .map(entity -> (DatacenterSimple) entity)
+                .findFirst().orElseThrow(IllegalStateException::new);
+            final DatacenterEnergyMeter actualMeter = (DatacenterEnergyMeter) actual.getPowerSupply();
+            final DatacenterEnergyMeter expectedMeter = (DatacenterEnergyMeter) expected.getPowerSupply();
+            assertEquals(expected.getSimulation().clock(), restored.clock());
+            assertEquals(expected.getPower(), actual.getPower(), DELTA);
+            assertEquals(expectedMeter.getRackEnergy(0), actualMeter.getRackEnergy(0), DELTA);
+            for (int i = 0; i < HOSTS; i++) {
+                assertEquals(expectedMeter.getHostEnergy(expected.getHost(i)), actualMeter.getHostEnergy(actual.getHost(i)), DELTA);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Runs a simulation where each Host but the last one runs a VM,
+     * whose Cloudlets finish at different times.
+     * Hosts are alternately assigned to racks 0 and 1.
+     */
+    private DatacenterSimple runSimulation(final DatacenterEnergyMeter meter, final Consumer<DatacenterSimple> setup) {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            hostList.add(createHost());
+        }
+
+        final DatacenterSimple dc = new DatacenterSimple(simulation, hostList);
+        dc.setPowerSupply(meter);
+        setup.accept(dc);
+        for (int i = 0; i < HOSTS; i++) {
+            meter.setHostRack(hostList.get(i), i % 2);
+        }
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vmList = new ArrayList<>(HOSTS - 1);
+        final List<Cloudlet> cloudletList = new ArrayList<>();
+        for (int i = 0; i < HOSTS - 1; i++) {
+            final Vm vm = new VmSimple(1000, PES).setRam(512).setBw(1000).setSize(10000);
+            vmList.add(vm);
+            for (int j = 0; j <= i; j++) {
+                final Cloudlet cloudlet = new CloudletSimple(10_000 * (i + 1), 1, new UtilizationModelFull());
+                cloudlet.setVm(vm);
+                cloudletList.add(cloudlet);
+            }
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+        return dc;
+    }
+
+    private Host createHost() {
+        final List<Pe> peList = new ArrayList<>(PES);
+        for (int i = 0; i < PES; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        final Host host = new HostSimple(16384, 100000, 1000000, peList);
+        host.setPowerModel(new PowerModelLinear(MAX_POWER, STATIC_POWER_PERCENT));
+        return host;
+    }
+}
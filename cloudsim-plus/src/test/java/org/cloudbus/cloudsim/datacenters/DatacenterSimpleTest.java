@@ -0,0 +1,280 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.hosts.HostStateHistoryEntry;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.listeners.HostUpdatesVmsProcessingEventInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class DatacenterSimpleTest {
+    private static final int HOSTS = 20;
+    private static final int VMS = 40;
+    private static final int CLOUDLETS = 120;
+
+    /**
+     * The maximum difference between Cloudlets finish times when running with and without
+     * the event-driven Hosts update. Finish times are detected when Hosts are updated,
+     * which may happen at slightly different times, since fewer processing updates are scheduled.
+     */
+    private static final double FINISH_TIME_DELTA = 0.5;
+
+    @Test
+    public void testEventDrivenHostsUpdateIsDisabledByDefault() {
+        final DatacenterSimple dc = new DatacenterSimple(new CloudSim(), new ArrayList<>());
+        assertFalse(dc.isEventDrivenHostsUpdate());
+        assertTrue(dc.setEventDrivenHostsUpdate(true).isEventDrivenHostsUpdate());
+        assertFalse(dc.setEventDrivenHostsUpdate(false).isEventDrivenHostsUpdate());
+    }
+
+    @Test
+    public void testEventDrivenHostsUpdateKeepsCloudletsFinishTimes() {
+        final AtomicInteger allHostsUpdates = new AtomicInteger();
+        final List<Cloudlet> expected = runSimulation(dc -> {}, allHostsUpdates);
+
+        final AtomicInteger dueHostsUpdates = new AtomicInteger();
+        final List<Cloudlet> actual = runSimulation(dc -> dc.setEventDrivenHostsUpdate(true), dueHostsUpdates);
+
+        assertEquals(CLOUDLETS, actual.size());
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = actual.get(i);
+            assertEquals(expected.get(i).getId(), cloudlet.getId());
+            assertEquals(expected.get(i).getVm().getId(), cloudlet.getVm().getId());
+            assertEquals(expected.get(i).getExecStartTime(), cloudlet.getExecStartTime());
+            assertEquals(expected.get(i).getFinishTime(), cloudlet.getFinishTime(), FINISH_TIME_DELTA);
+        }
+
+        assertTrue(dueHostsUpdates.get() < allHostsUpdates.get(),
+            "The event-driven update should update Hosts fewer times than updating all of them");
+    }
+
+    /**
+     * Checks Cloudlets finish at the same times they used to finish before the event-driven Hosts update was introduced,
+     * when all Hosts are updated. The Cloudlets are submitted at times with decimals,
+     * so that the next update of VMs is anticipated to the integer time before the Cloudlets completion.
+     */
+    @Test
+    public void testCloudletsFinishTimesAreKeptWhenAllHostsAreUpdated() {
+        final double[] expectedFinishTimes = {
+            3.9299999999999997, 4.994000000000001, 5.8100000000000005, 7.33, 9.766,
+            11.205999999999998, 12.023999999999997, 13.536, 15.536, 17.33
+        };
+
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hostList = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            hostList.add(createHost(info -> {}));
+        }
+
+        new DatacenterSimple(simulation, hostList);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vmList = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            vmList.add(new VmSimple(1000, 2).setRam(512).setBw(1000).setSize(10000));
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>();
+        for (int i = 0; i < expectedFinishTimes.length; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(2_500 + 1_250 * i, 1, new UtilizationModelFull());
+            cloudlet.setSubmissionDelay(0.3 * i);
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+
+        for (int i = 0; i < expectedFinishTimes.length; i++) {
+            final Cloudlet cloudlet = cloudletList.get(i);
+            assertEquals(expectedFinishTimes[i], cloudlet.getFinishTime(), "Cloudlet " + cloudlet.getId());
+            assertEquals(cloudlet.getLength(), cloudlet.getFinishedLengthSoFar());
+        }
+    }
+
+    /**
+     * Checks that a Host not updated by the event-driven Hosts update is brought
+     * up to date when its state is queried.
+     */
+    @Test
+    public void testEventDrivenHostsUpdateUpdatesQueriedHost() {
+        final List<Double> laggingQueryTimes = new ArrayList<>();
+        final List<Cloudlet> actual = runSimulation(dc -> {
+            final Host host = dc.getHost(0);
+            host.enableStateHistory();
+            dc.setEventDrivenHostsUpdate(true);
+            final Simulation simulation = dc.getSimulation();
+            simulation.addOnClockTickListener(info -> {
+                final List<HostStateHistoryEntry> history = host.getStateHistory();
+                if(!host.getVmList().isEmpty() && history.get(history.size() - 1).getTime() != simulation.clock()) {
+                    laggingQueryTimes.add(simulation.clock());
+                }
+            });
+        }, new AtomicInteger());
+
+        assertEquals(emptyList(), laggingQueryTimes);
+        assertEquals(CLOUDLETS, actual.size());
+    }
+
+    @Test
+    public void testSetHostCountForParallelUpdateInvalid() {
+        final DatacenterSimple dc = new DatacenterSimple(new CloudSim(), new ArrayList<>());
+        assertEquals(Integer.MAX_VALUE, dc.getHostCountForParallelUpdate());
+        assertThrows(IllegalArgumentException.class, () -> dc.setHostCountForParallelUpdate(0));
+    }
+
+    @Test
+    public void testParallelHostsUpdateKeepsResultsAndListenersOrder() {
+        final List<Long> expectedUpdatedHosts = new ArrayList<>();
+        final List<Cloudlet> expected = runSimulation(dc -> {}, expectedUpdatedHosts);
+
+        final List<Long> actualUpdatedHosts = new ArrayList<>();
+        final List<Cloudlet> actual = runSimulation(dc -> dc.setHostCountForParallelUpdate(1), actualUpdatedHosts);
+
+        assertEquals(expectedUpdatedHosts, actualUpdatedHosts);
+        assertEquals(toString(expected), toString(actual));
+    }
+
+    @Test
+    public void testParallelAndEventDrivenHostsUpdateKeepsResults() {
+        final List<Cloudlet> expected = runSimulation(dc -> dc.setEventDrivenHostsUpdate(true), new AtomicInteger());
+        final List<Cloudlet> actual = runSimulation(
+            dc -> dc.setEventDrivenHostsUpdate(true).setHostCountForParallelUpdate(1), new AtomicInteger());
+        assertEquals(toString(expected), toString(actual));
+    }
+
+    /**
+     * Checks a batch of VMs is acknowledged to the entity requesting their creation,
+     * instead of the broker of the VMs, including when the batch is empty.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testVmListCreationIsAcknowledgedToTheSender() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterSimple dc = new DatacenterSimple(simulation, singletonList(createHost(info -> {})));
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final Vm vm = new VmSimple(1000, 1);
+        vm.setBroker(broker);
+
+        final List<List<Vm>> acks = new ArrayList<>();
+        new CloudSimEntity(simulation) {
+            @Override
+            protected void startEntity() {
+                send(dc, 0, CloudSimTags.VM_CREATE_ACK, new ArrayList<Vm>());
+                send(dc, 1, CloudSimTags.VM_CREATE_ACK, singletonList(vm));
+            }
+
+            @Override
+            public void processEvent(final SimEvent evt) {
+                if(evt.getTag() == CloudSimTags.VM_CREATE_ACK) {
+                    acks.add((List<Vm>) evt.getData());
+                }
+            }
+        };
+
+        simulation.start();
+        assertEquals(2, acks.size());
+        assertTrue(acks.get(0).isEmpty());
+        assertEquals(singletonList(vm), acks.get(1));
+        assertTrue(vm.isCreated());
+    }
+
+    private static List<String> toString(final List<Cloudlet> cloudlets) {
+        return cloudlets.stream()
+            .map(cloudlet -> cloudlet.getId() + " " + cloudlet.getVm().getId() + " " + cloudlet.getFinishTime())
+            .collect(toList());
+    }
+
+    private List<Cloudlet> runSimulation(final Consumer<DatacenterSimple> setup, final AtomicInteger hostUpdates) {
+        return runSimulation(setup, info -> hostUpdates.incrementAndGet());
+    }
+
+    /**
+     * Runs a simulation, storing the IDs of the updated Hosts, in the order they were notified.
+     * The list is not thread-safe, so that notifications from concurrent threads would make the test fail.
+     */
+    private List<Cloudlet> runSimulation(final Consumer<DatacenterSimple> setup, final List<Long> updatedHosts) {
+        final Thread simulationThread = Thread.currentThread();
+        return runSimulation(setup, info -> {
+            assertSame(simulationThread, Thread.currentThread());
+            updatedHosts.add(info.getHost().getId());
+        });
+    }
+
+    private List<Cloudlet> runSimulation(
+        final Consumer<DatacenterSimple> setup,
+        final EventListener<HostUpdatesVmsProcessingEventInfo> onHostUpdate)
+    {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            hostList.add(createHost(onHostUpdate));
+        }
+
+        final DatacenterSimple dc = new DatacenterSimple(simulation, hostList);
+        setup.accept(dc);
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vmList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vmList.add(new VmSimple(1000, 2).setRam(512).setBw(1000).setSize(10000));
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(10_000 * (1 + i % 7), 1, new UtilizationModelFull());
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+
+        return broker.getCloudletFinishedList().stream()
+            .sorted(comparingLong(Cloudlet::getId))
+            .collect(toList());
+    }
+
+    private Host createHost(final EventListener<HostUpdatesVmsProcessingEventInfo> onHostUpdate) {
+        final List<Pe> peList = new ArrayList<>(8);
+        for (int i = 0; i < 8; i++) {
+            peList.add(new PeSimple(1000));
+        }
+
+        final Host host = new HostSimple(16384, 100000, 1000000, peList)
+            .setRamProvisioner(new ResourceProvisionerSimple())
+            .setBwProvisioner(new ResourceProvisionerSimple())
+            .setVmScheduler(new VmSchedulerTimeShared());
+        host.addOnUpdateProcessingListener(onHostUpdate);
+        return host;
+    }
+}
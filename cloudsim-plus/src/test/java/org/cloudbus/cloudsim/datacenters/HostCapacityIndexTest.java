@@ -0,0 +1,215 @@
+package org.cloudbus.cloudsim.datacenters;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicyBestFit;
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class HostCapacityIndexTest {
+    private static final int HOSTS = 30;
+    private static final int VMS = 80;
+
+    @Test
+    public void testIndexIsDisabledByDefault() {
+        final DatacenterSimple dc = new DatacenterSimple(new CloudSim(), new ArrayList<>());
+        assertFalse(dc.isHostCapacityIndexEnabled());
+        assertSame(HostCapacityIndex.NULL, dc.getHostCapacityIndex());
+        assertSame(HostCapacityIndex.NULL, dc.getVmAllocationPolicy().getHostCapacityIndex());
+
+        dc.setHostCapacityIndexEnabled(true);
+        assertTrue(dc.isHostCapacityIndexEnabled());
+        assertSame(dc.getHostCapacityIndex(), dc.getVmAllocationPolicy().getHostCapacityIndex());
+
+        final VmAllocationPolicy policy = new VmAllocationPolicyBestFit();
+        dc.setVmAllocationPolicy(policy);
+        assertSame(dc.getHostCapacityIndex(), policy.getHostCapacityIndex());
+
+        dc.setHostCapacityIndexEnabled(false);
+        assertSame(HostCapacityIndex.NULL, policy.getHostCapacityIndex());
+    }
+
+    @Test
+    public void testWorstFitWithIndexKeepsPlacement() {
+        assertEquals(
+            runSimulation(VmAllocationPolicySimple::new, false),
+            runSimulation(VmAllocationPolicySimple::new, true));
+    }
+
+    @Test
+    public void testBestFitWithIndexKeepsPlacement() {
+        assertEquals(
+            runSimulation(VmAllocationPolicyBestFit::new, false),
+            runSimulation(VmAllocationPolicyBestFit::new, true));
+    }
+
+    @Test
+    public void testIndexFollowsVmsCreationAndDestruction() {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterSimple dc = new DatacenterSimple(simulation, createHosts());
+        dc.setHostCapacityIndexEnabled(true);
+        final HostCapacityIndex index = dc.getHostCapacityIndex();
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final Comparator<Host> worstFit = Comparator.comparing(Host::isActive).thenComparingLong(Host::getFreePesNumber);
+        final Comparator<Host> bestFit = Comparator.comparing(Host::isActive).reversed().thenComparingLong(Host::getFreePesNumber);
+        final Random random = new Random(1);
+        final List<Vm> createdVms = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            if(!createdVms.isEmpty() && random.nextDouble() < 0.4) {
+                dc.getVmAllocationPolicy().deallocateHostForVm(createdVms.remove(random.nextInt(createdVms.size())));
+                continue;
+            }
+
+            final Vm vm = createVm(random.nextInt(12));
+            vm.setBroker(broker);
+            final Optional<Host> expectedWorst = dc.getHostList().stream().filter(host -> host.isSuitableForVm(vm)).max(worstFit);
+            final Optional<Host> expectedBest = dc.getHostList().stream().filter(host -> host.isSuitableForVm(vm)).min(bestFit);
+            assertEquals(expectedWorst, index.findWorstFit(vm));
+            assertEquals(expectedBest, index.findBestFit(vm));
+
+            final Optional<Host> host = random.nextBoolean() ? expectedWorst : expectedBest;
+            if(host.isPresent() && dc.getVmAllocationPolicy().allocateHostForVm(vm, host.get())) {
+                createdVms.add(vm);
+            }
+        }
+    }
+
+    @Test
+    public void testIndexFollowsHostChanges() {
+        final List<Host> hostList = createHosts();
+        final DatacenterSimple dc = new DatacenterSimple(new CloudSim(), hostList);
+        dc.setHostCapacityIndexEnabled(true);
+        final HostCapacityIndex index = dc.getHostCapacityIndex();
+        assertEquals(HOSTS, index.size());
+
+        final Vm vm = createVm(0);
+        final Host largest = index.findWorstFit(vm).orElse(Host.NULL);
+        assertEquals(hostList.stream().mapToLong(Host::getFreePesNumber).max().orElse(-1), largest.getFreePesNumber());
+
+        largest.setFailed(true);
+        assertNotEquals(largest, index.findWorstFit(vm).orElse(Host.NULL));
+
+        final Host inactive = index.findBestFit(vm).orElse(Host.NULL);
+        inactive.setActive(false);
+        assertNotEquals(inactive, index.findBestFit(vm).orElse(Host.NULL));
+
+        dc.removeHost(largest);
+        assertEquals(HOSTS - 1, index.size());
+    }
+
+    /**
+     * Checks that the index finds the right Host when RAM is the scarcest resource,
+     * i.e., most Hosts have free PEs but not enough RAM for the VMs.
+     */
+    @Test
+    public void testIndexFindsHostWhenRamIsTheScarcestResource() {
+        final int hostWithRam = 13;
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final List<Pe> peList = new ArrayList<>();
+            for (int j = 0; j < 8; j++) {
+                peList.add(new PeSimple(1000));
+            }
+
+            hostList.add(new HostSimple(i == hostWithRam ? 8192 : 1024, 100000, 1000000, peList));
+        }
+
+        final CloudSim simulation = new CloudSim();
+        final DatacenterSimple dc = new DatacenterSimple(simulation, hostList);
+        dc.setHostCapacityIndexEnabled(true);
+        final HostCapacityIndex index = dc.getHostCapacityIndex();
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final Vm vm = new VmSimple(1000, 1).setRam(4096).setBw(1000).setSize(10000);
+        vm.setBroker(broker);
+        assertEquals(hostList.get(hostWithRam), index.findBestFit(vm).orElse(Host.NULL));
+        assertEquals(hostList.get(hostWithRam), index.findWorstFit(vm).orElse(Host.NULL));
+
+        //All Hosts have free PEs, but none of them has enough RAM
+        final Vm largeVm = new VmSimple(1000, 1).setRam(16384).setBw(1000).setSize(10000);
+        largeVm.setBroker(broker);
+        assertEquals(Optional.empty(), index.findBestFit(largeVm));
+        assertEquals(Optional.empty(), index.findWorstFit(largeVm));
+    }
+
+    /**
+     * Runs a simulation where VMs are submitted at different times, so that some of them are placed
+     * after other ones finish, and returns the Host ID where each VM was placed.
+     */
+    private List<Long> runSimulation(final Supplier<VmAllocationPolicy> policySupplier, final boolean indexEnabled) {
+        final CloudSim simulation = new CloudSim();
+        final DatacenterSimple dc = new DatacenterSimple(simulation, createHosts(), policySupplier.get());
+        dc.setHostCapacityIndexEnabled(indexEnabled);
+
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vmList = new ArrayList<>(VMS);
+        final List<Cloudlet> cloudletList = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            final Vm vm = createVm(i);
+            vm.setSubmissionDelay(i % 4 * 15);
+            vmList.add(vm);
+
+            final Cloudlet cloudlet = new CloudletSimple(10_000 * (1 + i % 3), (int)vm.getNumberOfPes(), new UtilizationModelFull());
+            cloudlet.setVm(vm);
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+
+        return broker.getVmCreatedList().stream()
+            .sorted(comparingLong(Vm::getId))
+            .map(vm -> vm.getId() * 1000 + vm.getHost().getId())
+            .collect(toList());
+    }
+
+    private Vm createVm(final int i) {
+        return new VmSimple(1000, 1 + i % 4).setRam(512 * (1 + i % 3)).setBw(1000).setSize(10000);
+    }
+
+    /**
+     * Creates Hosts with different number of PEs and RAM,
+     * so that some Hosts with free PEs don't have enough RAM for some VMs.
+     */
+    private List<Host> createHosts() {
+        final List<Host> hostList = new ArrayList<>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final int pesNumber = 2 + i % 5 * 2;
+            final List<Pe> peList = new ArrayList<>(pesNumber);
+            for (int j = 0; j < pesNumber; j++) {
+                peList.add(new PeSimple(1000));
+            }
+
+            hostList.add(new HostSimple(1024 * (1 + i % 3), 100000, 1000000, peList));
+        }
+
+        return hostList;
+    }
+}
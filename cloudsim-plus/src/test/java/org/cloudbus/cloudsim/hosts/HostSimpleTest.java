@@ -8,7 +8,12 @@
 package org.cloudbus.cloudsim.hosts;
 
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
 import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
 import org.cloudbus.cloudsim.mocks.CloudSimMocker;
 import org.cloudbus.cloudsim.mocks.MocksHelper;
 import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
@@ -21,6 +26,13 @@ import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerSpaceShared;
 import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
 import org.cloudbus.cloudsim.util.Conversion;
+import org.cloudbus.cloudsim.util.MathUtil;
+import org.cloudbus.cloudsim.util.StreamingStatistics;
+import org.cloudbus.cloudsim.util.TimeSeries;
+import org.cloudbus.cloudsim.util.TimeSeriesRingBuffer;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
 import org.cloudbus.cloudsim.vms.UtilizationHistory;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.VmSimple;
@@ -32,6 +44,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -146,6 +159,8 @@ public class HostSimpleTest {
         for (int i = 0; i < result.length; i++) {
             assertEquals(expected[i], result[i], "Utilization History at position " + i);
         }
+
+        assertArrayEquals(expected, host.getUtilizationHistorySumValues());
     }
 
     private List<Vm> createMockVmsWithUtilizationHistory(final int vmsNumber) {
@@ -155,8 +170,8 @@ public class HostSimpleTest {
             final Vm vm = EasyMock.createMock(Vm.class);
 
             /*
-            A history map where keys are times and values are CPU utilization percentage for that time.
-            The map will be created as below:
+            A history where each entry has a time and the CPU utilization percentage for that time.
+            The history will be created as below:
 
             vm	time 0	time 1	time 2	time 3
             0	0	    0	    0	    0
@@ -165,17 +180,18 @@ public class HostSimpleTest {
             3	0	    1	    1	    1
             avg 0	    0.75    0.5	    0.25
             */
-            final SortedMap<Double, Double> history = new TreeMap<>();
-            for (double j = 0; j < i + 1; j++) {
-                history.put(j, j == 0 ? 0 : 1.0);
-            }
-
-
             final UtilizationHistory vmUtilizationHistory = EasyMock.createMock(UtilizationHistory.class);
             EasyMock.expect(vmUtilizationHistory.getVm()).andReturn(vm).anyTimes();
-            EasyMock.expect(vmUtilizationHistory.getHistory()).andReturn(history).anyTimes();
+            EasyMock.expect(vmUtilizationHistory.getHistorySize()).andReturn(i + 1).anyTimes();
+            EasyMock.expect(vmUtilizationHistory.getMaxHistoryEntries()).andReturn(Integer.MAX_VALUE).anyTimes();
+            for (int j = 0; j < i + 1; j++) {
+                EasyMock.expect(vmUtilizationHistory.getHistoryTime(j)).andReturn((double)j).anyTimes();
+                EasyMock.expect(vmUtilizationHistory.getHistoryValue(j)).andReturn(j == 0 ? 0 : 1.0).anyTimes();
+            }
+
             EasyMock.expect(vm.getUtilizationHistory()).andReturn(vmUtilizationHistory).anyTimes();
             EasyMock.expect(vm.getTotalMipsCapacity()).andReturn(TOTAL_HOST_MIPS/vmsNumber).anyTimes();
+            EasyMock.expect(vm.getRelativeMipsCapacityPercent()).andReturn(1.0/vmsNumber).anyTimes();
 
             EasyMock.replay(vm);
             EasyMock.replay(vmUtilizationHistory);
@@ -548,4 +564,214 @@ public class HostSimpleTest {
         assertEquals(0, host.getVmList().size());
         assertEquals(HOST_MIPS * 2, host.getVmScheduler().getAvailableMips());
     }
+
+    @Test
+    public void testBusyPesNumberFollowsVmsAllocation() {
+        final HostSimple host = createHostSimple(4, new VmSchedulerSpaceShared());
+        final Vm vm0 = createVm(1, HOST_MIPS, HALF_STORAGE);
+        final Vm vm1 = createVm(2, HOST_MIPS, A_QUARTER_STORAGE);
+        vm0.setRam(RAM / 4);
+        vm1.setRam(RAM / 4);
+
+        assertEquals(0, host.getBusyPesNumber());
+        assertTrue(host.createVm(vm0));
+        assertEquals(1, host.getBusyPesNumber());
+        assertTrue(host.createVm(vm1));
+        assertEquals(3, host.getBusyPesNumber());
+        assertEquals(host.getBusyPeList().size(), host.getBusyPesNumber());
+
+        host.destroyVm(vm0);
+        assertEquals(host.getBusyPeList().size(), host.getBusyPesNumber());
+        host.destroyAllVms();
+        assertEquals(host.getBusyPeList().size(), host.getBusyPesNumber());
+    }
+
+    /**
+     * Checks if the utilization totals kept by the Host along a simulation
+     * are equal to the ones computed from its VMs.
+     */
+    @Test
+    public void testUtilizationTotalsMatchVmsUsage() {
+        final List<String> mismatches = new ArrayList<>();
+        final int[] checks = {0};
+        final List<Host> hostList = runUtilizationSimulation(
+            host -> host.addOnUpdateProcessingListener(info -> {
+                checks[0]++;
+                checkUtilizationTotals(host, mismatches);
+            }),
+            hosts -> {});
+
+        assertTrue(checks[0] > 0);
+        assertEquals(Collections.emptyList(), mismatches);
+        hostList.forEach(host -> checkUtilizationTotals(host, mismatches));
+        assertEquals(Collections.emptyList(), mismatches);
+    }
+
+    /**
+     * Checks if the utilization totals read between Host processing updates
+     * (such as right after Cloudlets are submitted to the Datacenter)
+     * are equal to the ones computed from its VMs.
+     */
+    @Test
+    public void testUtilizationTotalsMatchVmsUsageBetweenUpdates() {
+        final List<String> mismatches = new ArrayList<>();
+        final int[] checks = {0};
+        runUtilizationSimulation(host -> {}, hosts -> {
+            checks[0]++;
+            hosts.forEach(host -> checkUtilizationTotals(host, mismatches));
+        });
+
+        assertTrue(checks[0] > 0);
+        assertEquals(Collections.emptyList(), mismatches);
+    }
+
+    /**
+     * Checks if the Host utilization history series, which is merged incrementally from the
+     * VMs utilization history, is equal to the one recomputed from the entire VMs history,
+     * even after the oldest VM history entries are removed.
+     * It also checks if the streaming statistics of the series are equal to the ones computed by {@link MathUtil}.
+     */
+    @Test
+    public void testUtilizationHistorySumSeriesMatchesRecomputation() {
+        final int maxHistoryEntries = 10;
+        final List<String> mismatches = new ArrayList<>();
+        final int[] checks = {0};
+        runUtilizationSimulation(
+            host -> host.addOnUpdateProcessingListener(info -> {
+                if(host.getVmList().isEmpty()) {
+                    return;
+                }
+
+                checks[0] += host.getVmList().get(0).getUtilizationHistory().getHistorySize() == maxHistoryEntries ? 1 : 0;
+                checkUtilizationHistorySumSeries(host, mismatches);
+            }),
+            vm -> {
+                vm.getUtilizationHistory().enable();
+                vm.getUtilizationHistory().setMaxHistoryEntries(maxHistoryEntries);
+            },
+            hosts -> {});
+
+        assertTrue(checks[0] > 0, "VM history entries should have been removed");
+        assertEquals(Collections.emptyList(), mismatches);
+    }
+
+    @Test
+    public void testUtilizationHistorySumSeriesIsReadOnly() {
+        final HostSimple host = createHostSimple(0, 1);
+        assertFalse(host.getUtilizationHistorySumSeries() instanceof TimeSeriesRingBuffer);
+    }
+
+    private static void checkUtilizationHistorySumSeries(final Host host, final List<String> mismatches) {
+        final SortedMap<Double, Double> allEntries = new TreeMap<>();
+        for (final Vm vm : host.getVmList()) {
+            for (final double time : vm.getUtilizationHistory().getHistory().keySet()) {
+                allEntries.merge(time, vm.getUtilizationHistory().cpuUsageFromHostCapacity(time), Double::sum);
+            }
+        }
+
+        final TimeSeries series = host.getUtilizationHistorySumSeries();
+        final List<Double> times = new ArrayList<>(allEntries.keySet());
+        final SortedMap<Double, Double> expected = new TreeMap<>(
+            allEntries.tailMap(times.get(Math.max(0, times.size() - series.getWindow()))));
+        final SortedMap<Double, Double> actual = series.toMap();
+        if(!expected.keySet().equals(actual.keySet())) {
+            mismatches.add(host + " history times " + actual.keySet() + " != " + expected.keySet());
+            return;
+        }
+
+        for (final double time : expected.keySet()) {
+            if(Math.abs(expected.get(time) - actual.get(time)) > 0.000000000001) {
+                mismatches.add(host + " history sum at " + time + ": " + actual.get(time) + " != " + expected.get(time));
+            }
+        }
+
+        final double[] values = series.getValues();
+        final StreamingStatistics statistics = series.getStatistics();
+        if(statistics.getMedian() != MathUtil.median(values)) {
+            mismatches.add(host + " median " + statistics.getMedian() + " != " + MathUtil.median(values));
+        }
+
+        if(statistics.getMad() != MathUtil.mad(values)) {
+            mismatches.add(host + " MAD " + statistics.getMad() + " != " + MathUtil.mad(values));
+        }
+
+        if(values.length > 2 && statistics.getIqr() != MathUtil.iqr(values.clone())) {
+            mismatches.add(host + " IQR " + statistics.getIqr() + " != " + MathUtil.iqr(values.clone()));
+        }
+    }
+
+    private List<Host> runUtilizationSimulation(final Consumer<Host> hostSetup, final Consumer<List<Host>> onDatacenterEvent) {
+        return runUtilizationSimulation(hostSetup, vm -> {}, onDatacenterEvent);
+    }
+
+    /**
+     * Runs a simulation with VMs running Cloudlets with constant and dynamic CPU utilization models.
+     * Some Cloudlets are submitted later, at times the Hosts are updated
+     * due to the Datacenter scheduling interval.
+     * @param hostSetup a {@link Consumer} to set each Host up before the simulation starts
+     * @param vmSetup a {@link Consumer} to set each VM up before the simulation starts
+     * @param onDatacenterEvent a {@link Consumer} called with the list of Hosts
+     *                          after the Datacenter processes each event
+     * @return the Hosts of the simulation
+     */
+    private List<Host> runUtilizationSimulation(
+        final Consumer<Host> hostSetup, final Consumer<Vm> vmSetup, final Consumer<List<Host>> onDatacenterEvent)
+    {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hostList = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final HostSimple host = createHostSimple(i, 4, HOST_MIPS, RAM * 4, BW * 4, STORAGE * 4);
+            hostSetup.accept(host);
+            hostList.add(host);
+        }
+
+        new DatacenterSimple(simulation, hostList) {
+            @Override
+            public void processEvent(final SimEvent evt) {
+                super.processEvent(evt);
+                onDatacenterEvent.accept(hostList);
+            }
+        }.setSchedulingInterval(1);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vmList = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final Vm vm = createVm(1 + i % 2, HOST_MIPS / 2, A_QUARTER_STORAGE).setRam(RAM / 2).setBw(BW / 2);
+            vmSetup.accept(vm);
+            vmList.add(vm);
+        }
+
+        final List<Cloudlet> cloudletList = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            final UtilizationModel cpuModel = i % 2 == 0 ? new UtilizationModelFull() : new UtilizationModelDynamic(0.5);
+            final Cloudlet cloudlet = new CloudletSimple(5_000 * (1 + i % 5), 1, cpuModel);
+            cloudlet.setSubmissionDelay(i % 3 == 0 ? 10 : 0);
+            cloudletList.add(cloudlet);
+        }
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+        return hostList;
+    }
+
+    private static void checkUtilizationTotals(final Host host, final List<String> mismatches) {
+        final double cpuMips = host.getVmList().stream().mapToDouble(Vm::getTotalCpuMipsUsage).sum();
+        final long ram = host.getVmList().stream().mapToLong(host.getRamProvisioner()::getAllocatedResourceForVm).sum();
+        final long bw = host.getVmList().stream().mapToLong(host.getBwProvisioner()::getAllocatedResourceForVm).sum();
+        if(Math.abs(cpuMips - host.getUtilizationOfCpuMips()) > 0.000001) {
+            mismatches.add(host + " CPU MIPS " + host.getUtilizationOfCpuMips() + " != " + cpuMips);
+        }
+
+        if(ram != host.getUtilizationOfRam()) {
+            mismatches.add(host + " RAM " + host.getUtilizationOfRam() + " != " + ram);
+        }
+
+        if(bw != host.getUtilizationOfBw()) {
+            mismatches.add(host + " BW " + host.getUtilizationOfBw() + " != " + bw);
+        }
+
+        if(host.getBusyPeList().size() != host.getBusyPesNumber()) {
+            mismatches.add(host + " busy PEs " + host.getBusyPesNumber() + " != " + host.getBusyPeList().size());
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package org.cloudbus.cloudsim.selectionpolicies;
+
+import org.cloudbus.cloudsim.vms.UtilizationHistory;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudbus.cloudsim.vms.VmUtilizationHistory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A VM whose utilization history is defined directly.
+ *
+ * @author agent
+ */
+final class HistoryVm extends VmSimple {
+    private final List<Double> times = new ArrayList<>();
+    private final List<Double> values = new ArrayList<>();
+    private final UtilizationHistory history = new VmUtilizationHistory(this) {
+        @Override
+        public int getHistorySize() {
+            return values.size();
+        }
+
+        @Override
+        public double getHistoryTime(final int index) {
+            return times.get(index);
+        }
+
+        @Override
+        public double getHistoryValue(final int index) {
+            return values.get(index);
+        }
+    };
+
+    HistoryVm(final long id, final double... history) {
+        super(id, 1000, 1);
+        for (final double value : history) {
+            add(times.size(), value, Integer.MAX_VALUE);
+        }
+    }
+
+    void add(final double time, final double value, final int maxEntries) {
+        times.add(time);
+        values.add(value);
+        if (values.size() > maxEntries) {
+            times.remove(0);
+            values.remove(0);
+        }
+    }
+
+    void replaceLatest(final double value) {
+        values.set(values.size() - 1, value);
+    }
+
+    @Override
+    public UtilizationHistory getUtilizationHistory() {
+        return history;
+    }
+}
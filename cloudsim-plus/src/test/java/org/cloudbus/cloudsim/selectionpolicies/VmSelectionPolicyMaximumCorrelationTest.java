@@ -1,12 +1,32 @@
 package org.cloudbus.cloudsim.selectionpolicies;
 
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
 import org.cloudbus.cloudsim.util.MathUtil;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class VmSelectionPolicyMaximumCorrelationTest {
 
@@ -33,4 +53,161 @@ public class VmSelectionPolicyMaximumCorrelationTest {
         }
     }
 
+    @Test
+    public void testGetVmToMigrateWithoutHistoryUsesFallback() {
+        final Vm vm = new VmSimple(0, 1000, 1);
+        final VmSelectionPolicyMaximumCorrelation policy = new VmSelectionPolicyMaximumCorrelation(host -> vm);
+        assertSame(vm, policy.getVmToMigrate(Host.NULL, Arrays.asList(new VmSimple(1, 1000, 1), vm)));
+        assertSame(Vm.NULL, policy.getVmToMigrate(Host.NULL, new ArrayList<>()));
+    }
+
+    @Test
+    public void testGetVmToMigrateFromListDelegatesToHostSelection() {
+        final Vm vm = new VmSimple(0, 1000, 1);
+        final VmSelectionPolicy policy = host -> vm;
+        assertSame(vm, policy.getVmToMigrate(Host.NULL, Arrays.asList(new VmSimple(1, 1000, 1), vm)));
+        assertSame(Vm.NULL, policy.getVmToMigrate(Host.NULL, Collections.singletonList(new VmSimple(1, 1000, 1))),
+            "A VM not in the list of migratable VMs must not be selected");
+    }
+
+    /**
+     * Adds entries to the history of VMs (removing the oldest ones after some time),
+     * replaces entries and changes the list of VMs,
+     * checking that the selected VM and the correlation coefficients kept between calls
+     * match the ones computed by fitting a linear regression for each VM.
+     */
+    @Test
+    public void testSelectionMatchesRegressionAcrossSuccessiveCalls() {
+        final Host host = createHosts(1).get(0);
+        final VmSelectionPolicyMaximumCorrelation policy =
+            new VmSelectionPolicyMaximumCorrelation(sourceHost -> fail("The fallback policy must not be used"));
+        final Random random = new Random(5);
+        final List<HistoryVm> vms = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            vms.add(new HistoryVm(i));
+        }
+
+        VmUtilizationGramMatrix matrix = null;
+        for (int time = 0; time < 200; time++) {
+            for (final HistoryVm vm : vms) {
+                vm.add(time, random.nextDouble(), 30);
+            }
+
+            if (time % 13 == 0) {
+                vms.get(time % vms.size()).replaceLatest(random.nextDouble());
+            }
+
+            final List<Vm> vmList = new ArrayList<>(vms.subList(0, time % 19 == 0 ? 3 : vms.size()));
+            if (time < vmList.size()) {
+                continue;
+            }
+
+            final Vm selected = policy.getVmToMigrate(host, vmList);
+            if (matrix == null) {
+                matrix = policy.getGramMatrices().get(host);
+            }
+            assertSame(matrix, policy.getGramMatrices().get(host), "The sums must be kept between calls");
+
+            final List<Double> expected = MathUtil.correlationCoefficients(getUtilizationMatrix(vmList));
+            final double[] coefficients = matrix.correlationCoefficients(vmList);
+            for (int i = 0; i < vmList.size(); i++) {
+                assertEquals(expected.get(i), coefficients[i], 1e-6);
+            }
+
+            final double max = expected.stream().mapToDouble(Double::doubleValue).max().orElse(0);
+            assertEquals(max, expected.get(vmList.indexOf(selected)), 1e-6, "At time " + time);
+        }
+    }
+
+    @Test
+    public void testSumsOfUnusedHostsAreDiscarded() {
+        final List<Host> hostList = createHosts(3);
+        final Host host0 = hostList.get(0);
+        final Host host1 = hostList.get(1);
+        final Host host2 = hostList.get(2);
+        final List<Vm> vmList = Arrays.asList(
+            new HistoryVm(0, 1, 2, 2, 4, 3, 6),
+            new HistoryVm(1, 14, 23, 30, 50, 39, 67),
+            new HistoryVm(2, 4, 4, 7, 7, 10, 10));
+        final Map<Host, VmUtilizationGramMatrix> gramMatrices = vmSelectionPolicyMaximumCorrelation.getGramMatrices();
+
+        assertSame(vmList.get(1), vmSelectionPolicyMaximumCorrelation.getVmToMigrate(host0, vmList));
+        assertTrue(gramMatrices.containsKey(host0));
+
+        //A Host with less than 2 VMs to select has no correlation to compute
+        vmSelectionPolicyMaximumCorrelation.getVmToMigrate(host0, vmList.subList(0, 1));
+        assertTrue(gramMatrices.isEmpty());
+
+        vmSelectionPolicyMaximumCorrelation.getVmToMigrate(host0, vmList);
+        vmSelectionPolicyMaximumCorrelation.getVmToMigrate(host1, vmList);
+        assertEquals(2, gramMatrices.size());
+
+        //Hosts removed from the Datacenter are discarded when sums for another Host are created
+        host0.getDatacenter().removeHost(host0);
+        assertSame(Datacenter.NULL, host0.getDatacenter());
+        vmSelectionPolicyMaximumCorrelation.getVmToMigrate(host2, vmList);
+        assertFalse(gramMatrices.containsKey(host0));
+        assertEquals(2, gramMatrices.size());
+    }
+
+    @Test
+    public void testSumsAreNotSerialized() throws IOException, ClassNotFoundException {
+        final Host host = createHosts(1).get(0);
+        final List<Vm> vmList = Arrays.asList(
+            new HistoryVm(0, 1, 2, 2, 4, 3, 6),
+            new HistoryVm(1, 14, 23, 30, 50, 39, 67),
+            new HistoryVm(2, 4, 4, 7, 7, 10, 10));
+        final VmSelectionPolicyMaximumCorrelation policy =
+            new VmSelectionPolicyMaximumCorrelation(new VmSelectionPolicyMinimumUtilization());
+        assertSame(vmList.get(1), policy.getVmToMigrate(host, vmList));
+        assertFalse(policy.getGramMatrices().isEmpty());
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(policy);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final VmSelectionPolicyMaximumCorrelation restored = (VmSelectionPolicyMaximumCorrelation) in.readObject();
+            assertTrue(restored.getGramMatrices().isEmpty());
+            assertSame(vmList.get(1), restored.getVmToMigrate(host, vmList));
+        }
+    }
+
+    /**
+     * Gets the first entries of the utilization history of each VM,
+     * limited to the size of the shortest history.
+     */
+    private double[][] getUtilizationMatrix(final List<Vm> vmList) {
+        final int size = vmList.stream().mapToInt(vm -> vm.getUtilizationHistory().getHistorySize()).min().orElse(0);
+        final double[][] utilization = new double[vmList.size()][size];
+        for (int i = 0; i < vmList.size(); i++) {
+            for (int j = 0; j < size; j++) {
+                utilization[i][j] = vmList.get(i).getUtilizationHistory().getHistoryValue(j);
+            }
+        }
+
+        return utilization;
+    }
+
+    /**
+     * Creates Hosts in a Datacenter, each one with a VM, so that they aren't idle.
+     */
+    private List<Host> createHosts(final int count) {
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hostList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            hostList.add(new HostSimple(16384, 100000, 1000000, Collections.singletonList(new PeSimple(1000))));
+        }
+
+        final DatacenterSimple dc = new DatacenterSimple(simulation, hostList);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+        for (final Host host : hostList) {
+            final Vm vm = new VmSimple(1000, 1).setRam(512).setBw(1000).setSize(10000);
+            vm.setBroker(broker);
+            assertTrue(dc.getVmAllocationPolicy().allocateHostForVm(vm, host));
+        }
+
+        return hostList;
+    }
 }
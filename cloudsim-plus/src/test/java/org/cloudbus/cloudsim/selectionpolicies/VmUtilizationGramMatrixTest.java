@@ -0,0 +1,81 @@
+package org.cloudbus.cloudsim.selectionpolicies;
+
+import org.cloudbus.cloudsim.vms.Vm;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class VmUtilizationGramMatrixTest {
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void testCorrelationCoefficientsMatchRegression() {
+        final List<Vm> vmList = new ArrayList<>();
+        for (final double[] history : VmSelectionPolicyMaximumCorrelationTest.DATA) {
+            vmList.add(new HistoryVm(vmList.size(), history));
+        }
+
+        final double[] coefficients = new VmUtilizationGramMatrix().correlationCoefficients(vmList);
+        assertArrayEquals(VmSelectionPolicyMaximumCorrelationTest.CORRELATION, coefficients, 0.00001);
+    }
+
+    @Test
+    public void testNotEnoughHistory() {
+        final VmUtilizationGramMatrix matrix = new VmUtilizationGramMatrix();
+        final List<Vm> singleVm = Arrays.asList(new HistoryVm(0, 1, 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> matrix.correlationCoefficients(singleVm));
+
+        final List<Vm> shortHistories = Arrays.asList(new HistoryVm(0, 1), new HistoryVm(1, 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> matrix.correlationCoefficients(shortHistories));
+    }
+
+    @Test
+    public void testLinearlyDependentHistories() {
+        final List<Vm> vmList = Arrays.asList(
+            new HistoryVm(0, 1, 2, 3, 4),
+            new HistoryVm(1, 2, 4, 6, 8),
+            new HistoryVm(2, 1, 3, 2, 5));
+        assertThrows(IllegalArgumentException.class, () -> new VmUtilizationGramMatrix().correlationCoefficients(vmList));
+    }
+
+    /**
+     * Adds entries to the history of VMs (removing the oldest ones after some time),
+     * replaces entries and changes the list of VMs,
+     * checking that the incrementally updated coefficients match the ones computed from scratch.
+     */
+    @Test
+    public void testIncrementalUpdatesMatchFullComputation() {
+        final Random random = new Random(3);
+        final List<HistoryVm> vms = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            vms.add(new HistoryVm(i));
+        }
+
+        final VmUtilizationGramMatrix matrix = new VmUtilizationGramMatrix();
+        for (int time = 0; time < 300; time++) {
+            for (final HistoryVm vm : vms) {
+                vm.add(time, random.nextDouble(), 50);
+            }
+
+            if (time % 17 == 0) {
+                vms.get(time % vms.size()).replaceLatest(random.nextDouble());
+            }
+
+            final List<Vm> vmList = new ArrayList<>(vms.subList(0, time % 23 == 0 ? 4 : vms.size()));
+            if (time < vmList.size()) {
+                continue;
+            }
+
+            final double[] expected = new VmUtilizationGramMatrix().correlationCoefficients(vmList);
+            assertArrayEquals(expected, matrix.correlationCoefficients(vmList), DELTA);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.cloudbus.cloudsim.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class StreamingLinearRegressionTest {
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void testSlidingWindowMatchesLoess() {
+        final int window = 10;
+        final Random random = new Random(1);
+        final StreamingLinearRegression regression = new StreamingLinearRegression(window);
+        final List<Double> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final double value = random.nextDouble();
+            regression.add(value);
+            values.add(value);
+            if (values.size() > window) {
+                values.remove(0);
+            }
+
+            if (values.size() < 3) {
+                continue;
+            }
+
+            final double[] reversed = new double[values.size()];
+            for (int j = 0; j < reversed.length; j++) {
+                reversed[j] = values.get(values.size() - 1 - j);
+            }
+
+            assertEquals(values.size(), regression.getCount());
+            assertArrayEquals(MathUtil.getLoessParameterEstimates(reversed), regression.getParameterEstimates(), DELTA);
+            if (values.size() == window) {
+                assertArrayEquals(MathUtil.getRobustLoessParameterEstimates(reversed), regression.getParameterEstimates(), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void testPredict() {
+        final StreamingLinearRegression regression = new StreamingLinearRegression(3);
+        assertTrue(Double.isNaN(regression.getSlope()));
+
+        //The latest value is at position 1, so values decreasing along the time have a positive slope
+        regression.add(30);
+        regression.add(20);
+        regression.add(10);
+        assertEquals(10, regression.getSlope(), DELTA);
+        assertEquals(0, regression.getIntercept(), DELTA);
+        assertEquals(50, regression.predict(5), DELTA);
+
+        regression.add(10);
+        assertEquals(5, regression.getSlope(), DELTA);
+
+        regression.clear();
+        assertEquals(0, regression.getCount());
+    }
+}
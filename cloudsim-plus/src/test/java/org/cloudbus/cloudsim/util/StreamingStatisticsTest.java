@@ -0,0 +1,87 @@
+package org.cloudbus.cloudsim.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author agent
+ */
+public class StreamingStatisticsTest {
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void testStatisticsMatchMathUtil() {
+        assertMatchMathUtil(MathUtilTest.DATA1);
+        assertMatchMathUtil(MathUtilTest.DATA2);
+        assertMatchMathUtil(MathUtilTest.DATA3);
+        assertMatchMathUtil(MathUtilTest.DATA4);
+    }
+
+    @Test
+    public void testEmptyStatistics() {
+        final StreamingStatistics statistics = new StreamingStatistics();
+        assertEquals(0, statistics.getCount());
+        assertEquals(0, statistics.getMean());
+        assertEquals(0, statistics.getVariance());
+        assertEquals(0, statistics.getMedian());
+        assertEquals(0, statistics.getMad());
+        assertEquals(0, statistics.getIqr());
+    }
+
+    @Test
+    public void testSlidingWindowMatchesMathUtil() {
+        final int window = 20;
+        final Random random = new Random(1);
+        final StreamingStatistics statistics = new StreamingStatistics();
+        final List<Double> values = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final double value = Math.round(random.nextDouble() * 100) / 100.0;
+            statistics.add(value);
+            values.add(value);
+            if (values.size() > window) {
+                statistics.remove(values.remove(0));
+            }
+
+            final double[] data = values.stream().mapToDouble(Double::doubleValue).toArray();
+            assertEquals(values.size(), statistics.getCount());
+            assertEquals(MathUtil.mean(values), statistics.getMean(), DELTA);
+            assertEquals(variance(data), statistics.getVariance(), DELTA);
+            assertEquals(MathUtil.median(data), statistics.getMedian(), DELTA);
+            assertEquals(MathUtil.mad(data), statistics.getMad(), DELTA);
+            if (data.length > 2) {
+                assertEquals(MathUtil.iqr(data), statistics.getIqr(), DELTA);
+            }
+        }
+    }
+
+    private static void assertMatchMathUtil(final double[] data) {
+        final StreamingStatistics statistics = new StreamingStatistics();
+        for (final double value : data) {
+            statistics.add(value);
+        }
+
+        assertEquals(MathUtil.median(data), statistics.getMedian(), DELTA);
+        assertEquals(MathUtil.mad(data), statistics.getMad(), DELTA);
+        assertEquals(variance(data), statistics.getVariance(), DELTA);
+        assertEquals(MathUtil.iqr(data.clone()), statistics.getIqr(), DELTA);
+    }
+
+    private static double variance(final double[] data) {
+        double mean = 0;
+        for (final double value : data) {
+            mean += value / data.length;
+        }
+
+        double sum = 0;
+        for (final double value : data) {
+            sum += (value - mean) * (value - mean);
+        }
+
+        return sum / data.length;
+    }
+}
@@ -0,0 +1,159 @@
+package org.cloudbus.cloudsim.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class TimeSeriesRingBufferTest {
+    @Test
+    public void testAddKeepsEntriesOrderedByTime() {
+        final TimeSeriesRingBuffer series = new TimeSeriesRingBuffer();
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i * 10);
+        }
+
+        assertEquals(100, series.size());
+        assertEquals(0, series.getTime(0));
+        assertEquals(990, series.getValue(99));
+        assertEquals(500, series.getValue(50.0, -1));
+        assertEquals(-1, series.getValue(50.5, -1));
+    }
+
+    @Test
+    public void testAddExistingTimeReplacesValue() {
+        final TimeSeriesRingBuffer series = new TimeSeriesRingBuffer();
+        series.add(1, 10);
+        series.add(2, 20);
+        series.add(1, 15);
+
+        assertEquals(2, series.size());
+        assertArrayEquals(new double[]{15, 20}, series.getValues());
+    }
+
+    @Test
+    public void testAddEarlierTimeInsertsInOrder() {
+        final TimeSeriesRingBuffer series = new TimeSeriesRingBuffer(3);
+        series.add(1, 10);
+        series.add(3, 30);
+        series.add(2, 20);
+        assertArrayEquals(new double[]{10, 20, 30}, series.getValues());
+
+        //An entry older than all the ones in a full series is discarded
+        series.add(0, 0);
+        assertArrayEquals(new double[]{10, 20, 30}, series.getValues());
+
+        series.add(2.5, 25);
+        assertArrayEquals(new double[]{20, 25, 30}, series.getValues());
+    }
+
+    @Test
+    public void testFullSeriesRemovesOldestEntries() {
+        final TimeSeriesRingBuffer series = new TimeSeriesRingBuffer(4);
+        for (int i = 0; i < 10; i++) {
+            series.add(i, i);
+        }
+
+        assertEquals(4, series.size());
+        assertArrayEquals(new double[]{6, 7, 8, 9}, series.getValues());
+        assertEquals(6, series.getTime(0));
+        assertEquals(-1, series.indexOf(5));
+        assertEquals(3, series.indexOf(9));
+    }
+
+    @Test
+    public void testSetWindowRemovesOldestEntries() {
+        final TimeSeriesRingBuffer series = new TimeSeriesRingBuffer();
+        for (int i = 0; i < 20; i++) {
+            series.add(i, i);
+        }
+
+        series.setWindow(2);
+        assertArrayEquals(new double[]{18, 19}, series.getValues());
+
+        series.add(20, 20);
+        assertArrayEquals(new double[]{19, 20}, series.getValues());
+        assertThrows(IllegalArgumentException.class, () -> series.setWindow(0));
+    }
+
+    @Test
+    public void testStatisticsFollowAddedAndRemovedEntries() {
+        final TimeSeriesRingBuffer series = new TimeSeriesRingBuffer(3);
+        series.add(1, 1);
+        final StreamingStatistics statistics = series.getStatistics();
+        assertEquals(1, statistics.getCount());
+
+        series.add(2, 2);
+        series.add(3, 3);
+        series.add(4, 10);
+        series.add(4, 4);
+        assertEquals(3, statistics.getCount());
+        assertEquals(3, statistics.getMean(), 1e-9);
+        assertEquals(3, statistics.getMedian());
+
+        series.setWindow(2);
+        assertEquals(3.5, statistics.getMedian());
+
+        series.clear();
+        assertEquals(0, statistics.getCount());
+    }
+
+    @Test
+    public void testRegressionFollowsLatestValues() {
+        final TimeSeriesRingBuffer series = new TimeSeriesRingBuffer(4);
+        for (int i = 0; i < 6; i++) {
+            series.add(i, i);
+        }
+
+        assertEquals(-1, series.getRegression(3).getSlope(), 1e-9);
+
+        //Replacing the latest value
+        series.add(5, 11);
+        assertArrayEquals(new double[]{14, -4}, series.getRegression(3).getParameterEstimates(), 1e-9);
+
+        //Removing the oldest entries inside the regression window
+        series.setWindow(2);
+        series.add(6, 12);
+        assertEquals(2, series.getRegression(3).getCount());
+        assertEquals(-1, series.getRegression(3).getSlope(), 1e-9);
+
+        series.clear();
+        assertEquals(0, series.getRegression(3).getCount());
+    }
+
+    @Test
+    public void testCountUntilLastNonZero() {
+        final TimeSeriesRingBuffer series = new TimeSeriesRingBuffer();
+        assertEquals(0, series.countUntilLastNonZero());
+        series.add(1, 0);
+        series.add(2, 5);
+        series.add(3, 0);
+        assertEquals(2, series.countUntilLastNonZero());
+    }
+
+    @Test
+    public void testToMap() {
+        final TimeSeriesRingBuffer series = new TimeSeriesRingBuffer(2);
+        series.add(1, 10);
+        series.add(2, 20);
+        series.add(3, 30);
+
+        final SortedMap<Double, Double> map = series.toMap();
+        assertEquals(2, map.size());
+        assertEquals(20, map.get(2.0));
+        assertEquals(30, map.get(3.0));
+    }
+
+    @Test
+    public void testGetTimeInvalidIndex() {
+        final TimeSeriesRingBuffer series = new TimeSeriesRingBuffer();
+        series.add(1, 10);
+        series.clear();
+        assertTrue(series.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> series.getTime(0));
+    }
+}
@@ -0,0 +1,177 @@
+package org.cloudsimplus.history;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.hosts.HostStateHistoryEntry;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudbus.cloudsim.vms.VmStateHistoryEntry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class StateHistoryCsvWriterTest {
+    @Test
+    public void testEntriesAreReadBackFromFile() throws IOException {
+        final Path file = Files.createTempFile("host-history", ".csv");
+        try {
+            final CloudSim simulation = new CloudSim();
+            final StateHistoryCsvWriter<HostStateHistoryEntry> writer =
+                new StateHistoryCsvWriter<>(simulation, file, StateHistoryCsvFormat.HOST);
+            final Host host0 = createHost(7);
+            final Host host1 = createHost(3);
+            final StateHistorySink<HostStateHistoryEntry> history0 = writer.getSink(host0);
+            final StateHistorySink<HostStateHistoryEntry> history1 = writer.getSink(host1);
+            assertSame(history0, writer.getSink(host0));
+            for (int i = 0; i < 100; i++) {
+                history0.add(new HostStateHistoryEntry(i, i * 10.5, i * 20.25, i % 2 == 0));
+                if(i % 2 == 0) {
+                    history1.add(new HostStateHistoryEntry(i, i, i, true));
+                }
+            }
+
+            history0.replaceLast(new HostStateHistoryEntry(99, 1, 2, false));
+
+            List<HostStateHistoryEntry> entries = history0.getEntries();
+            assertEquals(100, entries.size());
+            assertEquals(99, history0.getLast().getTime());
+            assertEquals(50, history1.getEntries().size());
+
+            writer.close();
+            entries = history0.getEntries();
+            assertEquals(100, entries.size());
+            assertEquals(50 * 10.5, entries.get(50).getAllocatedMips());
+            assertEquals(50 * 20.25, entries.get(50).getRequestedMips());
+            assertTrue(entries.get(50).isActive());
+            assertEquals(1, entries.get(99).getAllocatedMips());
+            assertEquals(98, history1.getEntries().get(49).getTime());
+            final List<String> lines = Files.readAllLines(file);
+            assertEquals(151, lines.size(), "The file must have a header and a line for each entry");
+            assertEquals(100, lines.stream().filter(line -> line.startsWith("7,")).count(), "Lines must be identified by the Host ID");
+            assertEquals(50, lines.stream().filter(line -> line.startsWith("3,")).count(), "Lines must be identified by the Host ID");
+            assertThrows(IllegalStateException.class, () -> history0.add(new HostStateHistoryEntry(100, 0, 0, true)));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testWriterIsClosedWhenSimulationEnds() throws IOException {
+        final Path file = Files.createTempFile("host-history", ".csv");
+        try {
+            final CloudSim simulation = new CloudSim();
+            final StateHistoryCsvWriter<HostStateHistoryEntry> writer =
+                new StateHistoryCsvWriter<>(simulation, file, StateHistoryCsvFormat.HOST);
+            final List<Host> hostList = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                final Host host = createHost();
+                host.setStateHistorySink(writer.getSink(host));
+                host.enableStateHistory();
+                hostList.add(host);
+            }
+
+            new DatacenterSimple(simulation, hostList).setSchedulingInterval(1);
+            final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+            broker.submitVmList(Collections.singletonList(new VmSimple(1000, 1)));
+            broker.submitCloudletList(Collections.singletonList(new CloudletSimple(10_000, 1, new UtilizationModelFull())));
+            simulation.start();
+
+            final List<HostStateHistoryEntry> entries = hostList.get(0).getStateHistory();
+            assertFalse(entries.isEmpty());
+            assertNull(hostList.get(0).getStateHistorySink().getLast(), "The last entry must have been written when the simulation ended");
+            assertEquals(
+                1 + entries.size() + hostList.get(1).getStateHistory().size(), Files.readAllLines(file).size(),
+                "The file must have a header and a line for each entry of all Hosts");
+            assertThrows(IllegalStateException.class, () -> writer.getSink(createHost()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testLinesAreInTheSameOrderWhenHostsAreUpdatedInParallel() throws IOException {
+        final List<String> expected = runSimulationWritingHistory(false);
+        final List<String> actual = runSimulationWritingHistory(true);
+        assertTrue(expected.size() > 1);
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * Runs a simulation writing the history of all Hosts to a single file.
+     * @param parallel true to update Hosts in parallel, false to update them sequentially
+     * @return the lines of the file
+     */
+    private static List<String> runSimulationWritingHistory(final boolean parallel) throws IOException {
+        final Path file = Files.createTempFile("host-history", ".csv");
+        try {
+            final CloudSim simulation = new CloudSim();
+            final StateHistoryCsvWriter<HostStateHistoryEntry> writer =
+                new StateHistoryCsvWriter<>(simulation, file, StateHistoryCsvFormat.HOST);
+            final List<Host> hostList = new ArrayList<>();
+            final List<Vm> vmList = new ArrayList<>();
+            final List<Cloudlet> cloudletList = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final Host host = createHost();
+                host.setStateHistorySink(writer.getSink(host));
+                host.enableStateHistory();
+                hostList.add(host);
+                vmList.add(new VmSimple(1000, 1));
+                cloudletList.add(new CloudletSimple(1000 * (i + 1), 1, new UtilizationModelFull()));
+            }
+
+            final DatacenterSimple dc = new DatacenterSimple(simulation, hostList);
+            dc.setSchedulingInterval(1);
+            if(parallel) {
+                dc.setHostCountForParallelUpdate(1);
+            }
+
+            final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+            broker.submitVmList(vmList);
+            broker.submitCloudletList(cloudletList);
+            simulation.start();
+            return Files.readAllLines(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testVmFormat() {
+        final VmStateHistoryEntry entry = new VmStateHistoryEntry(1.5, 100, 200.75, true);
+        final VmStateHistoryEntry parsed = StateHistoryCsvFormat.VM.parse(StateHistoryCsvFormat.VM.format(entry));
+        assertEquals(entry.getTime(), parsed.getTime());
+        assertEquals(entry.getAllocatedMips(), parsed.getAllocatedMips());
+        assertEquals(entry.getRequestedMips(), parsed.getRequestedMips());
+        assertEquals(entry.isInMigration(), parsed.isInMigration());
+    }
+
+    private static Host createHost() {
+        final List<Pe> peList = Collections.singletonList(new PeSimple(1000));
+        return new HostSimple(2048, 10_000, 100_000, peList);
+    }
+
+    private static Host createHost(final long id) {
+        final Host host = createHost();
+        host.setId(id);
+        return host;
+    }
+}
@@ -0,0 +1,41 @@
+package org.cloudsimplus.history;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent
+ */
+public class StateHistoryRingBufferTest {
+    @Test
+    public void testKeepsJustLatestEntries() {
+        final StateHistoryRingBuffer<Integer> history = new StateHistoryRingBuffer<>(3);
+        assertNull(history.getLast());
+        assertEquals(Collections.emptyList(), history.getEntries());
+
+        for (int i = 1; i <= 5; i++) {
+            history.add(i);
+        }
+
+        assertEquals(Arrays.asList(3, 4, 5), history.getEntries());
+        assertEquals(5, history.getLast());
+
+        history.replaceLast(6);
+        assertEquals(Arrays.asList(3, 4, 6), history.getEntries());
+    }
+
+    @Test
+    public void testReplaceLastWhenEmpty() {
+        final StateHistoryRingBuffer<Integer> history = new StateHistoryRingBuffer<>(3);
+        assertThrows(IllegalStateException.class, () -> history.replaceLast(1));
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new StateHistoryRingBuffer<>(0));
+    }
+}